@@ -0,0 +1,63 @@
+package dev.earlydreamer.kirini.security;
+
+import dev.earlydreamer.kirini.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JWT 검증 (JwtProvider.parseToken)
+ * - cacheSize=0: 매번 서명 검증 + 클레임 파싱
+ * - cacheSize=10000: 검증된 토큰 캐시 적중
+ * 사용자 64명의 토큰을 돌아가며 검증
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    private static final int TOKENS = 64;
+
+    @Param({ "0", "10000" })
+    private int cacheSize;
+
+    private JwtProvider provider;
+    private final String[] tokens = new String[TOKENS];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtProvider();
+        ReflectionTestUtils.setField(provider, "secret",
+                "a2lyaW5pLWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1obWFjLXNoYTI1Ng==");
+        ReflectionTestUtils.setField(provider, "expirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "cacheSize", cacheSize);
+        provider.init();
+
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = provider.generateToken(1_000 + i, i == 0 ? User.Authority.ADMIN : User.Authority.NORMAL);
+        }
+    }
+
+    @Benchmark
+    public JwtUser parseToken() {
+        next = (next + 1) & (TOKENS - 1);
+        return provider.parseToken(tokens[next]);
+    }
+}
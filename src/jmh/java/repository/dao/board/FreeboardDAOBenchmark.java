@@ -0,0 +1,174 @@
+package repository.dao.board;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dto.board.FreeboardDTO;
+import util.db.JdbcTemplate;
+import util.db.KeysetPage;
+
+/**
+ * 자유게시판 DAO 왕복 (쿼리 + 매핑, 메모리 H2 MySQL 모드)
+ * - 사용자 1,000명 / 게시글 20,000건 (공지 20건, 본문 300~1,500자, 작성자는 일부에 몰림)
+ * - offsetPage: 기존 LIMIT/OFFSET 목록, cursorPage: 같은 위치를 키셋 커서로 조회
+ *   (page 값이 클수록 OFFSET이 건너뛰는 행이 늘어나는 차이를 비교)
+ * - 조회수를 올리는 상세 조회는 ReadCountAggregator가 기본 DB로 반영하려 하므로 제외
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FreeboardDAOBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int POSTS = 20_000;
+    private static final int NOTICES = 20;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "1", "50", "500" })
+    private int page;
+
+    private JdbcConnectionPool pool;
+    private FreeboardDAO dao;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        pool = JdbcConnectionPool.create(
+                "jdbc:h2:mem:freeboard_bench;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER", "sa", "");
+        try (Connection conn = pool.getConnection()) {
+            createSchema(conn);
+            seed(conn);
+        }
+        dao = new FreeboardDAO(new JdbcTemplate(pool::getConnection));
+
+        // page번째 페이지를 가리키는 커서 (앞 페이지를 실제로 넘겨 가며 구함)
+        KeysetPage<FreeboardDTO> current = null;
+        for (int i = 1; i < page; i++) {
+            current = dao.getFreeboardsByCursor(current != null ? current.getNextCursor() : null, PAGE_SIZE);
+        }
+        cursor = current != null ? current.getNextCursor() : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        pool.dispose();
+    }
+
+    @Benchmark
+    public List<FreeboardDTO> offsetPage() throws SQLException {
+        return dao.getAllFreeboards(page, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public KeysetPage<FreeboardDTO> cursorPage() throws SQLException {
+        return dao.getFreeboardsByCursor(cursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public int totalCount() throws SQLException {
+        return dao.getTotalCount();
+    }
+
+    private static void createSchema(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE user ("
+                    + "user_uid BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "user_id VARCHAR(50) NULL, "
+                    + "user_password VARCHAR(255) NOT NULL, "
+                    + "user_name VARCHAR(50) NOT NULL, "
+                    + "user_email VARCHAR(100) NOT NULL, "
+                    + "user_authority VARCHAR(20) NOT NULL, "
+                    + "user_point INT NOT NULL DEFAULT 0, "
+                    + "user_status VARCHAR(20) NOT NULL DEFAULT 'active')");
+            stmt.execute("CREATE TABLE freeboard ("
+                    + "freeboard_uid BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "freeboard_title VARCHAR(50) NOT NULL, "
+                    + "freeboard_contents TEXT NOT NULL, "
+                    + "freeboard_read INT NOT NULL DEFAULT 0, "
+                    + "freeboard_recommend INT NOT NULL DEFAULT 0, "
+                    + "freeboard_writetime DATETIME NOT NULL, "
+                    + "freeboard_modify_time DATETIME NULL, "
+                    + "freeboard_author_ip VARCHAR(45) NOT NULL, "
+                    + "freeboard_notify VARCHAR(20) NOT NULL DEFAULT 'common', "
+                    + "freeboard_deleted VARCHAR(20) NOT NULL DEFAULT 'maintained', "
+                    + "freeboard_comment_count INT NOT NULL DEFAULT 0, "
+                    + "user_uid BIGINT NOT NULL)");
+            stmt.execute("CREATE INDEX idx_freeboard_list "
+                    + "ON freeboard (freeboard_deleted, freeboard_notify, freeboard_writetime)");
+        }
+    }
+
+    private static void seed(Connection conn) throws SQLException {
+        Random random = new Random(42);
+
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 1; i <= USERS; i++) {
+            users.add(new Object[] { "user" + i, "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenc",
+                    "회원" + i, "user" + i + "@kirini.test", i <= 3 ? "admin" : "normal" });
+        }
+        JdbcTemplate.batchUpdate(conn, "INSERT INTO user (user_id, user_password, user_name, user_email, "
+                + "user_authority) VALUES (?, ?, ?, ?, ?)", users);
+
+        String sql = "INSERT INTO freeboard (freeboard_title, freeboard_contents, freeboard_read, "
+                + "freeboard_recommend, freeboard_writetime, freeboard_modify_time, freeboard_author_ip, "
+                + "freeboard_notify, freeboard_deleted, freeboard_comment_count, user_uid) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String sentence = "타건감이 좋아서 한참 썼는데 스테빌 소리가 조금 거슬리네요. ";
+        LocalDateTime base = LocalDateTime.of(2025, 6, 1, 0, 0);
+        List<Object[]> batch = new ArrayList<>(1_000);
+        for (int i = 0; i < POSTS; i++) {
+            LocalDateTime writetime = base.minusMinutes((long) (POSTS - i) * 13 + random.nextInt(13));
+            // 작성자의 절반은 상위 5% 회원
+            long author = random.nextBoolean() ? 1 + random.nextInt(USERS / 20) : 1 + random.nextInt(USERS);
+            batch.add(new Object[] {
+                    "자유게시판 글 " + i,
+                    sentence.repeat(8 + random.nextInt(40)),
+                    random.nextInt(5_000),
+                    random.nextInt(50),
+                    Timestamp.valueOf(writetime),
+                    random.nextInt(5) == 0 ? Timestamp.valueOf(writetime.plusMinutes(random.nextInt(600))) : null,
+                    "10.0." + random.nextInt(256) + "." + random.nextInt(256),
+                    i % (POSTS / NOTICES) == 0 ? "notification" : "common",
+                    random.nextInt(50) == 0 ? "deleted" : "maintained",
+                    random.nextInt(30),
+                    author });
+            if (batch.size() == 1_000) {
+                JdbcTemplate.batchUpdate(conn, sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            JdbcTemplate.batchUpdate(conn, sql, batch);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package repository.dao.board;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dto.board.FreeboardDTO;
+
+/**
+ * 자유게시판 목록 행 매핑 (FreeboardDAO.createPostFromResultSet)
+ * - DB 없이 메모리 결과셋(H2 SimpleResultSet)으로 한 페이지 분량을 매핑해 매핑 비용만 측정
+ * - 컬럼 이름 조회, Timestamp -> LocalDateTime 변환, 대기 중 조회수/추천 수 합산 포함
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FreeboardRowMappingBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private SimpleResultSet rs;
+
+    @Setup
+    public void setUp() {
+        rs = new SimpleResultSet();
+        rs.setAutoClose(false);
+        // POST_SELECT 컬럼 (f.*, user_name, comment_count)
+        rs.addColumn("freeboard_uid", Types.BIGINT, 19, 0);
+        rs.addColumn("freeboard_title", Types.VARCHAR, 50, 0);
+        rs.addColumn("freeboard_contents", Types.VARCHAR, 65535, 0);
+        rs.addColumn("freeboard_read", Types.INTEGER, 10, 0);
+        rs.addColumn("freeboard_recommend", Types.INTEGER, 10, 0);
+        rs.addColumn("freeboard_writetime", Types.TIMESTAMP, 0, 0);
+        rs.addColumn("freeboard_modify_time", Types.TIMESTAMP, 0, 0);
+        rs.addColumn("freeboard_author_ip", Types.VARCHAR, 45, 0);
+        rs.addColumn("freeboard_notify", Types.VARCHAR, 20, 0);
+        rs.addColumn("freeboard_deleted", Types.VARCHAR, 20, 0);
+        rs.addColumn("freeboard_comment_count", Types.INTEGER, 10, 0);
+        rs.addColumn("user_uid", Types.BIGINT, 19, 0);
+        rs.addColumn("user_name", Types.VARCHAR, 50, 0);
+        rs.addColumn("comment_count", Types.INTEGER, 10, 0);
+
+        LocalDateTime base = LocalDateTime.of(2025, 5, 1, 9, 0);
+        for (int i = 0; i < pageSize; i++) {
+            Timestamp writetime = Timestamp.valueOf(base.minusMinutes(i * 37L));
+            rs.addRow(100_000L - i,
+                    "키보드 윤활 후기 #" + i,
+                    "스위치 윤활과 스테빌라이저 튜닝 과정을 정리했습니다. ".repeat(10),
+                    300 + i * 11,
+                    i % 17,
+                    writetime,
+                    i % 3 == 0 ? Timestamp.valueOf(base.minusMinutes(i * 37L - 5)) : null,
+                    "10.0." + (i % 200) + "." + (i % 250),
+                    i == 0 ? "notification" : "common",
+                    "maintained",
+                    i % 9,
+                    1_000L + i % 50,
+                    "작성자" + (i % 50),
+                    i % 9);
+        }
+    }
+
+    @Benchmark
+    public List<FreeboardDTO> mapPage() throws SQLException {
+        rs.beforeFirst();
+        List<FreeboardDTO> posts = new ArrayList<>(pageSize);
+        while (rs.next()) {
+            posts.add(FreeboardDAO.createPostFromResultSet(rs));
+        }
+        return posts;
+    }
+}
@@ -0,0 +1,59 @@
+package util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 입력값 정리 유틸리티 (게시글/댓글 저장, 파일 업로드 시 호출)
+ * - escapeXSS: SecurityUtil.escapeXSS (게시글 본문 크기 입력)
+ * - sanitizeFilename: FileUtil.sanitizeFilename (업로드 파일명)
+ * - input=plain: 치환할 문자가 거의 없는 입력, markup: HTML/특수문자가 많은 입력
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextSanitizerBenchmark {
+
+    @Param({ "plain", "markup" })
+    private String input;
+
+    private String contents;
+    private String filename;
+
+    @Setup
+    public void setUp() {
+        if ("plain".equals(input)) {
+            contents = "오늘 새로 산 키보드 후기입니다. 타건감이 조약돌 같고 소리도 조용한 편이에요. ".repeat(20);
+            filename = "키보드_사진_2025-05-01.jpg";
+        } else {
+            contents = "<p>키캡 비교 <b>\"PBT\"</b> vs 'ABS'</p><script>alert('x')</script> ".repeat(20);
+            filename = "C:\\Users\\업로드\\..\\내 키보드 (최종) #2 [수정]!.jpeg";
+        }
+    }
+
+    @Benchmark
+    public String escapeXSS() {
+        return SecurityUtil.escapeXSS(contents);
+    }
+
+    @Benchmark
+    public String sanitizeFilename() {
+        return FileUtil.sanitizeFilename(filename);
+    }
+}
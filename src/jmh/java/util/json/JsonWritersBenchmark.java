@@ -0,0 +1,235 @@
+package util.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import dto.board.NewsDTO;
+
+/**
+ * 소식 목록 응답 직렬화 비교
+ * - streaming: JsonWriters (미리 구성한 작성기, UTF-8 바이트 직접 출력)
+ * - sharedGson: 기존 RequestRouter (공용 Gson -> String -> 바이트)
+ * - gsonPerCall: 기존 FreeboardController 업로드 응답처럼 요청마다 Gson 생성
+ * - stringBuilder: 기존 NewsController.convertToJsonWithoutLocalDateTime (DTO -> Map -> StringBuilder)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonWritersBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private Map<String, Object> response;
+    private Gson sharedGson;
+    private final CountingOutputStream sink = new CountingOutputStream();
+
+    @Setup
+    public void setUp() {
+        List<NewsDTO> items = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2025, 5, 1, 9, 0);
+        for (int i = 0; i < pageSize; i++) {
+            NewsDTO news = new NewsDTO();
+            news.setNewsId(10_000 + i);
+            news.setNewsTitle("키보드 신제품 소식 #" + i + " - \"한정판\" <출시>");
+            news.setNewsContents("본문 내용입니다. 스위치, 키캡, 보강판 정보와 함께\n가격 및 출시 일정을 안내합니다. ".repeat(8));
+            news.setNewsRead(1_000 + i * 7);
+            news.setNewsRecommend(i % 13);
+            news.setNewsWritetime(base.minusHours(i));
+            news.setNewsModifyTime(base.minusHours(i).plusMinutes(5));
+            news.setNewsAuthorIp("192.168.0." + (i % 255));
+            news.setNewsNotify(i == 0 ? "notification" : "common");
+            news.setNewsDeleted("maintained");
+            news.setUserId(42 + i % 5);
+            news.setUserName("작성자" + (i % 5));
+            news.setCommentCount(i % 9);
+            items.add(news);
+        }
+        response = new LinkedHashMap<>();
+        response.put("status", "success");
+        response.put("data", items);
+        response.put("currentPage", 1);
+        response.put("pageSize", pageSize);
+        response.put("totalCount", 12_345);
+        sharedGson = newGson();
+    }
+
+    @Benchmark
+    public long streaming() throws IOException {
+        sink.reset();
+        JsonWriters.write(sink, response);
+        return sink.count;
+    }
+
+    @Benchmark
+    public long sharedGson() throws IOException {
+        sink.reset();
+        sink.write(sharedGson.toJson(response).getBytes(StandardCharsets.UTF_8));
+        return sink.count;
+    }
+
+    @Benchmark
+    public long gsonPerCall() throws IOException {
+        sink.reset();
+        sink.write(newGson().toJson(response).getBytes(StandardCharsets.UTF_8));
+        return sink.count;
+    }
+
+    @Benchmark
+    public long stringBuilder() throws IOException {
+        sink.reset();
+        sink.write(LegacyNewsJson.toJson(response, sharedGson).getBytes(StandardCharsets.UTF_8));
+        return sink.count;
+    }
+
+    private static Gson newGson() {
+        return new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+                .create();
+    }
+
+    /**
+     * 응답 스트림 대용 (바이트 수만 셈)
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        void reset() {
+            count = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    /**
+     * 기존 NewsController의 StringBuilder 직렬화 (비교 기준으로만 보존)
+     */
+    private static final class LegacyNewsJson {
+
+        static String toJson(Object data, Gson gson) {
+            if (data == null) {
+                return "null";
+            }
+            if (data instanceof Map) {
+                StringBuilder sb = new StringBuilder("{");
+                boolean first = true;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) data).entrySet()) {
+                    if (!first) {
+                        sb.append(",");
+                    }
+                    first = false;
+                    sb.append("\"").append(entry.getKey()).append("\":");
+                    Object value = entry.getValue();
+                    if (value instanceof String) {
+                        sb.append("\"").append(escape((String) value)).append("\"");
+                    } else if (value instanceof Number || value instanceof Boolean) {
+                        sb.append(value);
+                    } else if (value instanceof List) {
+                        sb.append(listToJson((List<?>) value, gson));
+                    } else if (value instanceof Map) {
+                        sb.append(toJson(value, gson));
+                    } else if (value == null) {
+                        sb.append("null");
+                    } else {
+                        sb.append(gson.toJson(value));
+                    }
+                }
+                return sb.append("}").toString();
+            }
+            if (data instanceof List) {
+                return listToJson((List<?>) data, gson);
+            }
+            return gson.toJson(data);
+        }
+
+        static String listToJson(List<?> list, Gson gson) {
+            StringBuilder sb = new StringBuilder("[");
+            boolean first = true;
+            for (Object item : list) {
+                if (!first) {
+                    sb.append(",");
+                }
+                first = false;
+                if (item instanceof NewsDTO) {
+                    sb.append(toJson(newsToMap((NewsDTO) item), gson));
+                } else {
+                    sb.append(toJson(item, gson));
+                }
+            }
+            return sb.append("]").toString();
+        }
+
+        static Map<String, Object> newsToMap(NewsDTO news) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("newsId", news.getNewsId());
+            map.put("newsTitle", news.getNewsTitle());
+            map.put("newsContents", news.getNewsContents());
+            map.put("newsRead", news.getNewsRead());
+            map.put("newsRecommend", news.getNewsRecommend());
+            if (news.getNewsWritetime() != null) {
+                map.put("newsWritetime", news.getNewsWritetime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            }
+            if (news.getNewsModifyTime() != null) {
+                map.put("newsModifyTime", news.getNewsModifyTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            }
+            map.put("newsAuthorIp", news.getNewsAuthorIp());
+            map.put("newsNotify", news.getNewsNotify());
+            map.put("newsDeleted", news.getNewsDeleted());
+            map.put("userId", news.getUserId());
+            return map;
+        }
+
+        static String escape(String str) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < str.length(); i++) {
+                char ch = str.charAt(i);
+                switch (ch) {
+                    case '"': sb.append("\\\""); break;
+                    case '\\': sb.append("\\\\"); break;
+                    case '\n': sb.append("\\n"); break;
+                    case '\r': sb.append("\\r"); break;
+                    case '\t': sb.append("\\t"); break;
+                    default: sb.append(ch);
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
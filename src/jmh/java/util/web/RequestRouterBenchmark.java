@@ -0,0 +1,124 @@
+package util.web;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * RequestRouter.handle 디스패치 + JSON 응답 출력
+ * - 실제 컨트롤러와 비슷한 경로 구성 (고정 경로, 경로 변수, 정규식 세그먼트, 캐시 경로)
+ * - fixedJson / pathVariableJson / regexJson: 매칭 후 작은 응답 맵을 JsonWriters로 출력
+ * - cachedJsonHit: getJsonCached 경로의 캐시 적중 (핸들러 없이 저장된 바이트 전송)
+ * - miss: 어떤 경로에도 맞지 않는 요청
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestRouterBenchmark {
+
+    private RequestRouter router;
+    private MockHttpServletRequest fixedRequest;
+    private MockHttpServletRequest pathVariableRequest;
+    private MockHttpServletRequest regexRequest;
+    private MockHttpServletRequest cachedRequest;
+    private MockHttpServletRequest missRequest;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Setup
+    public void setUp() throws ServletException, IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", "success");
+        result.put("message", "처리되었습니다.");
+        result.put("id", 12345L);
+
+        router = new RequestRouter("benchmark");
+        router.getJson("/", (req, res) -> result)
+                .getJson("/list", (req, res) -> result)
+                .getJson("/since", (req, res) -> result)
+                .getJson("/facets", (req, res) -> result)
+                .getJson("/recommend", (req, res) -> result)
+                .getJson("/api/questions", (req, res) -> result)
+                .getJson("/api/questions/{id:long}", (req, res) -> result)
+                .getJson("/api/answers/([0-9]+)", (req, res) -> result)
+                .getJsonCached("/view", ResponseCache.Board.FREEBOARD, (req, res) -> result)
+                .getJsonCached("/comments", ResponseCache.Board.FREEBOARD, (req, res) -> result)
+                .postJson("/create", (req, res) -> result)
+                .postJson("/delete", (req, res) -> result)
+                .postJson("/addComment", (req, res) -> result)
+                .postJson("/recommend", (req, res) -> result)
+                .postJson("/api/questions", (req, res) -> result);
+
+        fixedRequest = request("/list");
+        pathVariableRequest = request("/api/questions/98765");
+        regexRequest = request("/api/answers/4321");
+        cachedRequest = request("/view");
+        cachedRequest.setParameter("id", "777");
+        missRequest = request("/api/unknown/path");
+
+        // 첫 요청으로 캐시를 채워 둠
+        router.handle(cachedRequest, new MockHttpServletResponse());
+    }
+
+    private static MockHttpServletRequest request(String pathInfo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/freeboard.do" + pathInfo);
+        request.setServletPath("/freeboard.do");
+        request.setPathInfo(pathInfo);
+        return request;
+    }
+
+    // 출력 스트림을 flush하면 커밋 상태가 되어 reset이 거부되므로 먼저 해제
+    private void reset() {
+        response.setCommitted(false);
+        response.reset();
+    }
+
+    @Benchmark
+    public boolean fixedJson() throws ServletException, IOException {
+        reset();
+        return router.handle(fixedRequest, response);
+    }
+
+    @Benchmark
+    public boolean pathVariableJson() throws ServletException, IOException {
+        reset();
+        return router.handle(pathVariableRequest, response);
+    }
+
+    @Benchmark
+    public boolean regexJson() throws ServletException, IOException {
+        reset();
+        return router.handle(regexRequest, response);
+    }
+
+    @Benchmark
+    public boolean cachedJsonHit() throws ServletException, IOException {
+        reset();
+        return router.handle(cachedRequest, response);
+    }
+
+    @Benchmark
+    public boolean miss() throws ServletException, IOException {
+        return router.handle(missRequest, response);
+    }
+}
@@ -0,0 +1,484 @@
+package loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import util.SecurityUtil;
+
+/**
+ * 부하 테스트용 합성 데이터 생성기 (H2)
+ * - 레거시 스키마(kirini-ERD-1.sql): user, freeboard, freeboard_comment, news, keyboard_category,
+ *   keyboard_information, keyboard_tag, keyboard_taglist, keyboard_score, log_recommend, chatboard, user_activity
+ * - Spring(JPA) 스키마: account, freeboard, freeboard_comment (테이블은 Hibernate가 만든 것을 사용)
+ * - scale 1.0 기준 레거시 약 700만 행 (사용자 10만, 자유게시판 100만, 댓글 300만, 추천 200만 ...)
+ *
+ * 분포
+ * - 작성자: 사용자 Zipf(1.1) -> 소수의 헤비 포스터가 글/댓글 대부분을 작성
+ * - 댓글/추천 대상: 게시글 Zipf(1.0) -> 인기 글에 몰림 (LoadDriver 상세 조회도 같은 분포)
+ * - 작성 시각: 게시글 ID 순서대로 2024년부터 1년에 고르게 배치, 댓글은 게시글 작성 후 3일 이내
+ *
+ * 삽입은 ID 구간(CHUNK)마다 작업을 나눠 스레드별 커넥션으로 JDBC 배치 실행
+ * 구간마다 시드가 정해져 있어 스레드 수와 관계없이 같은 데이터가 만들어짐
+ * 이미 데이터가 있는 DB(freeboard 행 존재)는 건너뜀 (다시 만들려면 DB 파일 삭제)
+ *
+ * 단독 실행: ./gradlew generateDataset -Pargs="--scale=0.1"
+ */
+public final class DatasetGenerator {
+
+    /** 생성한 모든 사용자의 비밀번호 (LoadDriver 로그인용) */
+    public static final String PASSWORD = "loadtest1234!";
+
+    private static final long SEED = 20250501L;
+    private static final int CHUNK = 20_000;
+    private static final int BATCH = 1_000;
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long SPAN_SECONDS = 365L * 24 * 3600;
+
+    private static final String[] TITLES = {
+            "윤활 후기", "스위치 추천 부탁드립니다", "키캡 교체했어요", "타건 영상 올립니다", "보강판 비교",
+            "무접점 vs 기계식", "입문용 키보드 질문", "커스텀 키보드 완성", "소음 줄이는 방법", "배열 고민 중"
+    };
+    private static final String[] SENTENCES = {
+            "타건감이 생각보다 조약돌 같아서 만족스럽습니다. ",
+            "스테빌라이저에서 잡소리가 나서 윤활을 다시 했어요. ",
+            "PBT 키캡으로 바꾸니 소리가 한결 묵직해졌습니다. ",
+            "알루미늄 하우징이라 무게감이 있고 흔들림이 없어요. ",
+            "리니어 스위치는 처음인데 손가락이 덜 피곤하네요. ",
+            "텐키리스 배열로 바꾸고 책상이 훨씬 넓어졌습니다. ",
+            "펌웨어 업데이트 후 디바운스 문제가 해결됐어요. ",
+            "가격 대비 마감이 좋아서 입문용으로 추천합니다. "
+    };
+
+    /**
+     * 생성 규모 (테이블별 행 수)
+     */
+    public record Scale(int users, int posts, int comments, int news, int keyboards, int tags, int taglist,
+            int scores, int recommends, int chats) {
+
+        private static final int CATEGORIES = 20;
+
+        public static Scale of(double factor) {
+            return new Scale(rows(100_000, factor), rows(1_000_000, factor), rows(3_000_000, factor),
+                    rows(100_000, factor), rows(5_000, factor), rows(200, factor), rows(25_000, factor),
+                    rows(300_000, factor), rows(2_000_000, factor), rows(500_000, factor));
+        }
+
+        private static int rows(int base, double factor) {
+            return (int) Math.max(10, Math.round(base * factor));
+        }
+    }
+
+    private final Scale scale;
+    private final int threads;
+    private final Zipf authors;
+    private final Zipf hotPosts;
+    private final Zipf hotNews;
+    private final Zipf hotKeyboards;
+
+    public DatasetGenerator(Scale scale, int threads) {
+        this.scale = scale;
+        this.threads = Math.max(1, threads);
+        this.authors = new Zipf(scale.users(), 1.1, true);
+        this.hotPosts = new Zipf(scale.posts(), 1.0, true);
+        this.hotNews = new Zipf(scale.news(), 1.0, true);
+        this.hotKeyboards = new Zipf(scale.keyboards(), 0.9, true);
+    }
+
+    public Scale getScale() {
+        return scale;
+    }
+
+    /**
+     * 인기 글 분포로 자유게시판 글 ID 선택 (댓글/추천 대상과 같은 분포)
+     */
+    public int hotPost(SplittableRandom random) {
+        return hotPosts.next(random);
+    }
+
+    /**
+     * 레거시 스키마 생성 (테이블이 없을 때) 및 데이터 채우기
+     */
+    public void generateLegacy(String url, String user, String password) throws SQLException {
+        if (hasRows(url, user, password, "freeboard")) {
+            System.out.println("[dataset] 레거시 DB에 이미 데이터가 있어 생성을 건너뜀: " + url);
+            return;
+        }
+        createLegacySchema(url, user, password);
+        long started = System.nanoTime();
+        String passwordHash = SecurityUtil.hashPassword(PASSWORD);
+        int users = scale.users();
+        int posts = scale.posts();
+
+        insert(url, user, password, "user", "INSERT INTO user (user_uid, user_id, user_password, user_name, "
+                + "user_email, user_introduce, user_authority, user_point, user_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                users, (id, r) -> new Object[] { id, "user" + id, passwordHash, "회원" + id, email(id),
+                        r.nextInt(4) == 0 ? sentence(r) : null, authority(id).toLowerCase(), r.nextInt(10_000), "active" });
+
+        insert(url, user, password, "freeboard", "INSERT INTO freeboard (freeboard_uid, freeboard_title, "
+                + "freeboard_contents, freeboard_read, freeboard_recommend, freeboard_writetime, freeboard_modify_time, "
+                + "freeboard_author_ip, freeboard_notify, freeboard_deleted, freeboard_comment_count, user_uid) "
+                + "VALUES (?, ?, ?, ?, 0, ?, ?, ?, ?, ?, 0, ?)",
+                posts, (id, r) -> new Object[] { id, title(r, id), contents(r), readCount(r), postTime(id, posts),
+                        modifyTime(r, postTime(id, posts)), ip(r), id % 5_000 == 0 ? "notification" : "common",
+                        r.nextInt(100) == 0 ? "deleted" : "maintained", authors.next(r) });
+
+        insert(url, user, password, "freeboard_comment", "INSERT INTO freeboard_comment (freeboard_comment_uid, "
+                + "freeboard_comment_contents, freeboard_comment_writetime, freeboard_comment_modifytime, "
+                + "freeboard_comment_author_ip, freeboard_uid, user_uid) VALUES (?, ?, ?, NULL, ?, ?, ?)",
+                scale.comments(), (id, r) -> {
+                    int post = hotPosts.next(r);
+                    return new Object[] { id, sentence(r), commentTime(r, postTime(post, posts)), ip(r), post,
+                            authors.next(r) };
+                });
+
+        insert(url, user, password, "news", "INSERT INTO news (news_uid, news_title, news_contents, news_read, "
+                + "news_recommend, news_writetime, news_modify_time, news_author_ip, news_deleted, news_comment_count, "
+                + "user_uid) VALUES (?, ?, ?, ?, 0, ?, NULL, ?, ?, 0, ?)",
+                scale.news(), (id, r) -> new Object[] { id, "[소식] " + title(r, id), contents(r), readCount(r),
+                        postTime(id, scale.news()), ip(r), r.nextInt(200) == 0 ? "deleted" : "maintained",
+                        1 + r.nextInt(Math.min(users, 10)) });
+
+        String[] categoryTypes = { "switch", "layout", "connect" };
+        insert(url, user, password, "keyboard_category", "INSERT INTO keyboard_category (keyboard_category_uid, "
+                + "keyboard_category_name, category_type) VALUES (?, ?, ?)",
+                Scale.CATEGORIES, (id, r) -> new Object[] { id, "분류" + id, categoryTypes[(int) (id % 3)] });
+
+        insert(url, user, password, "keyboard_information", "INSERT INTO keyboard_information "
+                + "(keyboard_information_uid, keyboard_information_name, keyboard_information_price, "
+                + "keyboard_category_uid, keyboard_score_avg, keyboard_score_count) VALUES (?, ?, ?, ?, 0, 0)",
+                scale.keyboards(), (id, r) -> new Object[] { id, "키보드 모델 " + id, 30_000 + r.nextInt(50) * 10_000,
+                        1 + r.nextInt(Scale.CATEGORIES) });
+
+        insert(url, user, password, "keyboard_tag", "INSERT INTO keyboard_tag (tag_uid, tag_name, tag_approve) "
+                + "VALUES (?, ?, ?)",
+                scale.tags(), (id, r) -> new Object[] { id, "태그" + id, r.nextInt(10) == 0 ? "waiting" : "approved" });
+
+        Zipf popularTags = new Zipf(scale.tags(), 1.0, false);
+        insert(url, user, password, "keyboard_taglist", "INSERT INTO keyboard_taglist (taglist_uid, tag_type, tag_uid, "
+                + "keyboard_information_uid) VALUES (?, ?, ?, ?)",
+                scale.taglist(), (id, r) -> new Object[] { id, r.nextInt(5) == 0 ? "admin" : "user",
+                        popularTags.next(r), 1 + r.nextInt(scale.keyboards()) });
+
+        insert(url, user, password, "keyboard_score", "INSERT INTO keyboard_score (keyboard_score_uid, score_value, "
+                + "score_review, score_writetime, keyboard_information_uid, user_uid) VALUES (?, ?, ?, ?, ?, ?)",
+                scale.scores(), (id, r) -> new Object[] { id, 1 + Math.min(4, (int) Math.abs(r.nextGaussian() * 1.2 + 3)),
+                        r.nextInt(3) == 0 ? sentence(r) : null, postTime(id, scale.scores()), hotKeyboards.next(r),
+                        authors.next(r) });
+
+        // (게시판, 글, 사용자) 유니크 키에 걸리는 중복 추천은 INSERT IGNORE로 버림
+        insert(url, user, password, "log_recommend", "INSERT IGNORE INTO log_recommend (log_recommend_uid, "
+                + "log_recommend_boardtype, log_recommend_post_id, log_recommend_date, user_uid) VALUES (?, ?, ?, ?, ?)",
+                scale.recommends(), (id, r) -> {
+                    boolean news = r.nextInt(10) == 0;
+                    int target = news ? hotNews.next(r) : hotPosts.next(r);
+                    LocalDateTime written = news ? postTime(target, scale.news()) : postTime(target, posts);
+                    return new Object[] { id, news ? "news" : "freeboard", target, commentTime(r, written),
+                            1 + r.nextInt(users) };
+                });
+
+        insert(url, user, password, "chatboard", "INSERT INTO chatboard (chatboard_uid, chatboard_title, "
+                + "chatboard_writetime, chatboard_modify_time, chatboard_author_ip, chatboard_deleted, user_uid) "
+                + "VALUES (?, ?, ?, NULL, ?, 'maintained', ?)",
+                scale.chats(), (id, r) -> new Object[] { id, sentence(r).substring(0, 20), postTime(id, scale.chats()),
+                        ip(r), authors.next(r) });
+
+        // 비정규화 카운터, 사용자별 작성 글 색인
+        execute(url, user, password,
+                "UPDATE freeboard f SET "
+                        + "freeboard_comment_count = (SELECT COUNT(*) FROM freeboard_comment c WHERE c.freeboard_uid = f.freeboard_uid), "
+                        + "freeboard_recommend = (SELECT COUNT(*) FROM log_recommend r "
+                        + "WHERE r.log_recommend_boardtype = 'freeboard' AND r.log_recommend_post_id = f.freeboard_uid)",
+                "UPDATE news n SET news_recommend = (SELECT COUNT(*) FROM log_recommend r "
+                        + "WHERE r.log_recommend_boardtype = 'news' AND r.log_recommend_post_id = n.news_uid)",
+                "UPDATE keyboard_information k SET "
+                        + "keyboard_score_count = (SELECT COUNT(*) FROM keyboard_score s "
+                        + "WHERE s.keyboard_information_uid = k.keyboard_information_uid), "
+                        + "keyboard_score_avg = COALESCE((SELECT AVG(CAST(s.score_value AS DOUBLE)) FROM keyboard_score s "
+                        + "WHERE s.keyboard_information_uid = k.keyboard_information_uid), 0)",
+                "INSERT INTO user_activity (user_uid, board_type, post_uid, activity_writetime) "
+                        + "SELECT user_uid, 'freeboard', freeboard_uid, freeboard_writetime FROM freeboard "
+                        + "WHERE freeboard_deleted <> 'deleted'",
+                "INSERT INTO user_activity (user_uid, board_type, post_uid, activity_writetime) "
+                        + "SELECT user_uid, 'news', news_uid, news_writetime FROM news WHERE news_deleted <> 'deleted'",
+                "INSERT INTO user_activity (user_uid, board_type, post_uid, activity_writetime) "
+                        + "SELECT user_uid, 'chatboard', chatboard_uid, chatboard_writetime FROM chatboard "
+                        + "WHERE chatboard_deleted <> 'deleted'");
+
+        // ID를 직접 넣었으므로 애플리케이션이 새로 INSERT할 다음 값을 맞춤
+        restartIdentity(url, user, password, Map.of(
+                "user", "user_uid", "freeboard", "freeboard_uid", "freeboard_comment", "freeboard_comment_uid",
+                "news", "news_uid", "keyboard_category", "keyboard_category_uid",
+                "keyboard_information", "keyboard_information_uid", "keyboard_tag", "tag_uid",
+                "keyboard_taglist", "taglist_uid", "keyboard_score", "keyboard_score_uid",
+                "log_recommend", "log_recommend_uid"));
+        restartIdentity(url, user, password, Map.of("chatboard", "chatboard_uid"));
+
+        System.out.printf("[dataset] 레거시 데이터 생성 완료 (%d초)%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+    }
+
+    /**
+     * Spring(JPA) 스키마에 사용자/자유게시판/댓글 채우기 (테이블은 Hibernate ddl-auto로 만들어진 상태여야 함)
+     */
+    public void generateSpring(String url, String user, String password) throws SQLException {
+        if (hasRows(url, user, password, "freeboard")) {
+            System.out.println("[dataset] Spring DB에 이미 데이터가 있어 생성을 건너뜀: " + url);
+            return;
+        }
+        long started = System.nanoTime();
+        // BCrypt는 느리므로 한 번만 계산해 모든 계정에 사용
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        int posts = scale.posts();
+
+        insert(url, user, password, "account", "INSERT INTO account (account_uid, account_id, account_password, "
+                + "account_name, account_email, account_introduce, account_authority, account_point, account_status) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'ACTIVE')",
+                scale.users(), (id, r) -> new Object[] { id, "user" + id, passwordHash, "회원" + id, email(id),
+                        r.nextInt(4) == 0 ? sentence(r) : null, authority(id), r.nextInt(10_000) });
+
+        insert(url, user, password, "freeboard", "INSERT INTO freeboard (freeboard_uid, freeboard_title, "
+                + "freeboard_contents, freeboard_read, freeboard_recommend, freeboard_writetime, freeboard_modify_time, "
+                + "freeboard_author_ip, freeboard_notify, freeboard_deleted, account_uid) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                posts, (id, r) -> new Object[] { id, title(r, id), contents(r), readCount(r), r.nextInt(50),
+                        postTime(id, posts), modifyTime(r, postTime(id, posts)), ip(r),
+                        id % 5_000 == 0 ? "NOTIFICATION" : "COMMON", r.nextInt(100) == 0 ? "DELETED" : "MAINTAINED",
+                        authors.next(r) });
+
+        insert(url, user, password, "freeboard_comment", "INSERT INTO freeboard_comment (freeboard_comment_uid, "
+                + "freeboard_comment_contents, freeboard_comment_writetime, freeboard_comment_modifytime, "
+                + "freeboard_comment_author_ip, freeboard_uid, account_uid) VALUES (?, ?, ?, NULL, ?, ?, ?)",
+                scale.comments(), (id, r) -> {
+                    int post = hotPosts.next(r);
+                    return new Object[] { id, sentence(r), commentTime(r, postTime(post, posts)), ip(r), post,
+                            authors.next(r) };
+                });
+
+        restartIdentity(url, user, password, Map.of("account", "account_uid", "freeboard", "freeboard_uid",
+                "freeboard_comment", "freeboard_comment_uid"));
+
+        System.out.printf("[dataset] Spring 데이터 생성 완료 (%d초)%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+    }
+
+    // ---- 값 생성 ----
+
+    static String email(long id) {
+        return "user" + id + "@kirini.test";
+    }
+
+    private static String authority(long id) {
+        return id <= 10 ? "ADMIN" : id % 50 == 0 ? "ARMBAND" : "NORMAL";
+    }
+
+    private static LocalDateTime postTime(long id, int total) {
+        return START.plusSeconds(id * SPAN_SECONDS / total);
+    }
+
+    private static LocalDateTime commentTime(SplittableRandom r, LocalDateTime written) {
+        return written.plusMinutes(1 + r.nextInt(3 * 24 * 60));
+    }
+
+    private static LocalDateTime modifyTime(SplittableRandom r, LocalDateTime written) {
+        return r.nextInt(5) == 0 ? written.plusMinutes(1 + r.nextInt(600)) : null;
+    }
+
+    private static int readCount(SplittableRandom r) {
+        // 대부분 수십~수백, 일부 수천 이상
+        return (int) Math.exp(r.nextDouble() * 9);
+    }
+
+    private static String title(SplittableRandom r, long id) {
+        return TITLES[r.nextInt(TITLES.length)] + " #" + id;
+    }
+
+    private static String sentence(SplittableRandom r) {
+        return SENTENCES[r.nextInt(SENTENCES.length)];
+    }
+
+    private static String contents(SplittableRandom r) {
+        int count = 2 + r.nextInt(20);
+        StringBuilder sb = new StringBuilder(count * 32);
+        for (int i = 0; i < count; i++) {
+            sb.append(sentence(r));
+        }
+        return sb.toString();
+    }
+
+    private static String ip(SplittableRandom r) {
+        return "10." + r.nextInt(256) + "." + r.nextInt(256) + "." + r.nextInt(256);
+    }
+
+    // ---- 삽입 ----
+
+    @FunctionalInterface
+    private interface RowWriter {
+        Object[] row(long id, SplittableRandom random);
+    }
+
+    private void insert(String url, String user, String password, String table, String sql, int rows, RowWriter writer)
+            throws SQLException {
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 1; from <= rows; from += CHUNK) {
+                int first = from;
+                int last = Math.min(rows, from + CHUNK - 1);
+                futures.add(pool.submit(() -> {
+                    insertChunk(url, user, password, table, sql, first, last, writer);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new SQLException(table + " 생성 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(table + " 생성 중단", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        System.out.printf("[dataset] %-22s %,12d행 %,8dms%n", table, rows,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private static void insertChunk(String url, String user, String password, String table, String sql,
+            int first, int last, RowWriter writer) throws SQLException {
+        SplittableRandom random = new SplittableRandom(SEED ^ ((long) table.hashCode() << 32) ^ first);
+        try (Connection conn = DriverManager.getConnection(url, user, password);
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            conn.setAutoCommit(false);
+            for (int id = first; id <= last; id++) {
+                Object[] values = writer.row(id, random);
+                for (int i = 0; i < values.length; i++) {
+                    pstmt.setObject(i + 1, values[i]);
+                }
+                pstmt.addBatch();
+                if ((id - first + 1) % BATCH == 0) {
+                    pstmt.executeBatch();
+                }
+            }
+            pstmt.executeBatch();
+            conn.commit();
+        }
+    }
+
+    private static void execute(String url, String user, String password, String... statements) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url, user, password); Statement stmt = conn.createStatement()) {
+            for (String sql : statements) {
+                long started = System.nanoTime();
+                stmt.execute(sql);
+                System.out.printf("[dataset] %s... %,dms%n", sql.substring(0, Math.min(40, sql.length())),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            }
+        }
+    }
+
+    private static void restartIdentity(String url, String user, String password, Map<String, String> columns)
+            throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url, user, password); Statement stmt = conn.createStatement()) {
+            for (Map.Entry<String, String> entry : columns.entrySet()) {
+                long next;
+                try (ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(" + entry.getValue() + "), 0) + 1 FROM "
+                        + entry.getKey())) {
+                    rs.next();
+                    next = rs.getLong(1);
+                }
+                stmt.execute("ALTER TABLE " + entry.getKey() + " ALTER COLUMN " + entry.getValue() + " RESTART WITH " + next);
+            }
+        }
+    }
+
+    private static boolean hasRows(String url, String user, String password, String table) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url, user, password); Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                return rs.next() && rs.getLong(1) > 0;
+            } catch (SQLException e) {
+                // 테이블 없음
+                return false;
+            }
+        }
+    }
+
+    /**
+     * kirini-ERD-1.sql을 문장 단위로 실행 (H2 MySQL 모드)
+     * DB 생성/선택, 예시 데이터 INSERT/SELECT는 건너뛰고, H2가 지원하지 않는 문장(FULLTEXT 인덱스 등)은 경고 후 계속
+     */
+    private static void createLegacySchema(String url, String user, String password) throws SQLException {
+        String script;
+        try (InputStream in = DatasetGenerator.class.getClassLoader().getResourceAsStream("kirini-ERD-1.sql")) {
+            if (in == null) {
+                throw new SQLException("kirini-ERD-1.sql 을 클래스패스에서 찾을 수 없음");
+            }
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SQLException("kirini-ERD-1.sql 읽기 실패", e);
+        }
+
+        StringBuilder withoutComments = new StringBuilder(script.length());
+        for (String line : script.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                withoutComments.append(line).append('\n');
+            }
+        }
+
+        try (Connection conn = DriverManager.getConnection(url, user, password); Statement stmt = conn.createStatement()) {
+            for (String raw : withoutComments.toString().split(";")) {
+                String sql = raw.trim();
+                String lower = sql.toLowerCase();
+                if (sql.isEmpty() || lower.startsWith("drop database") || lower.startsWith("create database")
+                        || lower.startsWith("use ") || lower.startsWith("insert") || lower.startsWith("select")) {
+                    continue;
+                }
+                // MySQL 테이블 정의 안의 UNIQUE KEY 이름 (cols) -> 제약 조건 형식
+                sql = sql.replaceAll("UNIQUE KEY\\s+(`\\w+`|\\w+)\\s*\\(", "CONSTRAINT $1 UNIQUE (");
+                try {
+                    stmt.execute(sql);
+                } catch (SQLException e) {
+                    System.out.println("[dataset] 스키마 문장 건너뜀 (" + e.getMessage().split("\n")[0] + "): "
+                            + sql.substring(0, Math.min(60, sql.length())).replace('\n', ' '));
+                }
+            }
+        }
+    }
+
+    /**
+     * 단독 실행: 레거시 DB(DB_URL 환경 변수)에 데이터 생성
+     * 인자: --scale=1.0 --threads=코어 수
+     */
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> options = LoadDriver.parseOptions(args);
+        String url = System.getenv("DB_URL");
+        if (url == null) {
+            System.err.println("DB_URL 환경 변수가 필요합니다 (./gradlew generateDataset 로 실행)");
+            System.exit(1);
+        }
+        Scale scale = Scale.of(Double.parseDouble(options.getOrDefault("scale", "1.0")));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        new DatasetGenerator(scale, threads).generateLegacy(url, System.getenv("DB_USER"), System.getenv("DB_PASSWORD"));
+    }
+}
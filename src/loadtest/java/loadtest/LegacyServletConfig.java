@@ -0,0 +1,13 @@
+package loadtest;
+
+import org.springframework.boot.web.servlet.ServletComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 부하 테스트에서 레거시 서블릿(@WebServlet)을 Spring Boot 내장 톰캣에 함께 등록
+ * 레거시 경로(/freeboard/*, /news/*, *.do ...)와 /api/** 를 같은 프로세스에서 호출하기 위함
+ */
+@Configuration
+@ServletComponentScan(basePackages = "presentation.controller")
+public class LegacyServletConfig {
+}
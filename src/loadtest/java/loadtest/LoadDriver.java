@@ -0,0 +1,433 @@
+package loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+
+import dev.earlydreamer.kirini.KiriniSpringApplication;
+
+/**
+ * 프로세스 내 부하 드라이버
+ * 1. 레거시 DB(DB_URL 환경 변수)와 Spring DB에 DatasetGenerator로 데이터 생성 (이미 있으면 재사용)
+ * 2. Spring Boot + 레거시 서블릿을 임의 포트로 기동
+ * 3. 클라이언트마다 레거시 세션 로그인 / JWT 발급 후 읽기·쓰기 혼합 시나리오를 반복
+ * 4. 작업별 처리량과 p50/p99/p999 지연 시간 출력, build/results/loadtest/ 에 JSON 저장
+ *
+ * 시나리오 (가중치 %, 쓰기 약 15%)
+ * - 레거시: 자유게시판 목록 18 / 상세 18 / 소식 목록 6 / 키보드 목록 6 / 댓글 등록 4 / 추천 4
+ * - /api/freeboard: 목록 17 / 상세 20 / 글 등록 7
+ * - 목록 페이지는 앞 페이지일수록, 상세는 인기 글일수록 자주 요청 (Zipf, 데이터 생성과 같은 분포)
+ * - 읽기는 비로그인 요청 (레거시 응답 캐시 대상), 쓰기는 로그인 세션/토큰 사용
+ *
+ * rate=0 이면 닫힌 루프 (응답을 받으면 바로 다음 요청)
+ * rate>0 이면 클라이언트마다 정해진 간격으로 요청하고, 밀린 요청은 예정 시각부터 지연을 잼
+ * (서버가 느려져 요청이 밀린 시간까지 지연에 포함 - coordinated omission 보정)
+ *
+ * 실행: ./gradlew loadTest -Pargs="--scale=0.1 --clients=64 --duration=60"
+ * 인자: --scale=1.0 --clients=64 --rate=0 --warmup=15 --duration=60 --threads=코어 수
+ *       --spring-url=jdbc:h2:file:./build/loadtest/spring
+ */
+public final class LoadDriver {
+
+    private static final String JWT_SECRET = "a2lyaW5pLWxvYWR0ZXN0LXNlY3JldC1rZXktZm9yLWhtYWMtc2hhMjU2";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private enum Operation {
+        LEGACY_FREEBOARD_LIST(18),
+        LEGACY_FREEBOARD_VIEW(18),
+        LEGACY_NEWS_LIST(6),
+        LEGACY_KEYBOARD_LIST(6),
+        LEGACY_COMMENT(4),
+        LEGACY_RECOMMEND(4),
+        API_FREEBOARD_LIST(17),
+        API_FREEBOARD_VIEW(20),
+        API_FREEBOARD_CREATE(7);
+
+        static final Operation[] VALUES = values();
+
+        final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    // 가중치 누적값 -> 작업 (0..99)
+    private static final Operation[] MIX = new Operation[100];
+
+    static {
+        int index = 0;
+        for (Operation operation : Operation.VALUES) {
+            for (int i = 0; i < operation.weight; i++) {
+                MIX[index++] = operation;
+            }
+        }
+        if (index != MIX.length) {
+            throw new IllegalStateException("시나리오 가중치 합이 100이 아님: " + index);
+        }
+    }
+
+    /**
+     * 작업별 지연 시간 표본 (클라이언트 하나가 단독으로 사용)
+     */
+    private static final class Samples {
+        long[] nanos = new long[1024];
+        int size;
+        long errors;
+
+        void add(long value) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+        }
+    }
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final DatasetGenerator dataset;
+    private final Zipf listPages = new Zipf(200, 1.2, false);
+
+    private LoadDriver(HttpClient http, String baseUrl, DatasetGenerator dataset) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String legacyUrl = System.getenv("DB_URL");
+        if (legacyUrl == null) {
+            System.err.println("DB_URL 등 레거시 DB 환경 변수가 필요합니다 (./gradlew loadTest 로 실행)");
+            System.exit(1);
+        }
+        String dbUser = System.getenv("DB_USER");
+        String dbPassword = System.getenv("DB_PASSWORD");
+        String springUrl = options.getOrDefault("spring-url", "jdbc:h2:file:./build/loadtest/spring") + ";DB_CLOSE_DELAY=-1";
+        double scaleFactor = Double.parseDouble(options.getOrDefault("scale", "1.0"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "64"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "0"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "15"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        // 요청마다 남는 INFO 로그(DB 로그 핸들러 포함)가 측정을 왜곡하지 않도록 경고 이상만
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        DatasetGenerator dataset = new DatasetGenerator(DatasetGenerator.Scale.of(scaleFactor), threads);
+        dataset.generateLegacy(legacyUrl, dbUser, dbPassword);
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", springUrl);
+        properties.put("spring.jpa.hibernate.ddl-auto", "update");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("security.jwt.secret", JWT_SECRET);
+        properties.put("server.tomcat.threads.max", Math.max(200, clients));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(KiriniSpringApplication.class,
+                LegacyServletConfig.class).properties(properties).run(args)) {
+            dataset.generateSpring(springUrl, "sa", "");
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(TIMEOUT)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            LoadDriver driver = new LoadDriver(http, "http://localhost:" + port, dataset);
+            Map<String, Object> report = driver.run(clients, rate, warmupSeconds, durationSeconds);
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("scale", scaleFactor);
+            config.put("dataset", dataset.getScale());
+            config.put("clients", clients);
+            config.put("rate", rate);
+            config.put("warmupSeconds", warmupSeconds);
+            config.put("durationSeconds", durationSeconds);
+            config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+            config.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+            config.put("javaVersion", System.getProperty("java.version"));
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("config", config);
+            result.putAll(report);
+            writeReport(result);
+        }
+    }
+
+    private Map<String, Object> run(int clients, double rate, int warmupSeconds, int durationSeconds) {
+        List<Client> sessions = new ArrayList<>(clients);
+        int loginFailures = 0;
+        for (int i = 0; i < clients; i++) {
+            // 헤비 포스터가 몰린 앞번호를 피해 사용자를 고르게 배정
+            long userId = 1 + (long) i * dataset.getScale().users() / clients;
+            Client client = new Client(DatasetGenerator.email(userId), new SplittableRandom(i));
+            if (!client.login()) {
+                loginFailures++;
+            }
+            sessions.add(client);
+        }
+        if (loginFailures > 0) {
+            System.out.println("[load] 로그인 실패 클라이언트 " + loginFailures + "개 (쓰기 요청은 오류로 집계됨)");
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long interval = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * clients / rate) : 0;
+        System.out.printf("[load] 클라이언트 %d, %s, 예열 %d초 + 측정 %d초%n", clients,
+                rate > 0 ? "목표 " + rate + " req/s" : "닫힌 루프", warmupSeconds, durationSeconds);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Client client : sessions) {
+                executor.submit(() -> client.loop(start, measureFrom, end, interval));
+            }
+        }
+
+        return summarize(sessions, durationSeconds, loginFailures);
+    }
+
+    /**
+     * 가상 사용자 (레거시 세션 쿠키, JWT, 작업별 표본)
+     */
+    private final class Client {
+        private final String email;
+        private final SplittableRandom random;
+        private final Samples[] samples = new Samples[Operation.VALUES.length];
+        private String sessionCookie;
+        private String accessToken;
+
+        Client(String email, SplittableRandom random) {
+            this.email = email;
+            this.random = random;
+            for (int i = 0; i < samples.length; i++) {
+                samples[i] = new Samples();
+            }
+        }
+
+        boolean login() {
+            boolean ok = true;
+            try {
+                HttpResponse<String> legacy = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login/login"))
+                        .timeout(TIMEOUT)
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("email=" + encode(email)
+                                + "&password=" + encode(DatasetGenerator.PASSWORD)))
+                        .build(), HttpResponse.BodyHandlers.ofString());
+                sessionCookie = legacy.headers().firstValue("Set-Cookie")
+                        .map(cookie -> cookie.split(";", 2)[0])
+                        .orElse(null);
+                ok = sessionCookie != null && legacy.body().contains("\"success\":true");
+            } catch (IOException | RuntimeException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            try {
+                HttpResponse<String> api = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                        .timeout(TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + email + "\",\"password\":\""
+                                + DatasetGenerator.PASSWORD + "\"}"))
+                        .build(), HttpResponse.BodyHandlers.ofString());
+                if (api.statusCode() == 200) {
+                    accessToken = JsonParser.parseString(api.body()).getAsJsonObject()
+                            .getAsJsonObject("data").get("accessToken").getAsString();
+                } else {
+                    ok = false;
+                }
+            } catch (IOException | RuntimeException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return ok;
+        }
+
+        void loop(long start, long measureFrom, long end, long interval) {
+            // 열린 루프에서는 클라이언트마다 시작 시점을 흩어 요청이 한꺼번에 몰리지 않게 함
+            long intended = interval > 0 ? start + random.nextLong(interval) : start;
+            while (!Thread.currentThread().isInterrupted()) {
+                long now = System.nanoTime();
+                if (interval > 0) {
+                    if (intended > now) {
+                        LockSupport.parkNanos(intended - now);
+                    }
+                } else {
+                    intended = now;
+                }
+                if (intended >= end) {
+                    return;
+                }
+
+                Operation operation = MIX[random.nextInt(MIX.length)];
+                boolean ok;
+                try {
+                    HttpResponse<Void> response = http.send(request(operation), HttpResponse.BodyHandlers.discarding());
+                    ok = response.statusCode() >= 200 && response.statusCode() < 300;
+                } catch (IOException e) {
+                    ok = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long done = System.nanoTime();
+
+                if (intended >= measureFrom) {
+                    Samples target = samples[operation.ordinal()];
+                    target.add(done - intended);
+                    if (!ok) {
+                        target.errors++;
+                    }
+                }
+                if (interval > 0) {
+                    intended += interval;
+                }
+            }
+        }
+
+        private HttpRequest request(Operation operation) {
+            return switch (operation) {
+                case LEGACY_FREEBOARD_LIST -> get("/freeboard/list?page=" + listPages.next(random));
+                case LEGACY_FREEBOARD_VIEW -> get("/freeboard/view?id=" + dataset.hotPost(random));
+                case LEGACY_NEWS_LIST -> get("/news/list?page=" + listPages.next(random));
+                case LEGACY_KEYBOARD_LIST -> get("/keyboard/list?page=" + listPages.next(random));
+                case LEGACY_COMMENT -> legacyPost("/freeboard/addComment", "{\"freeboardUid\":" + dataset.hotPost(random)
+                        + ",\"freeboardCommentContents\":\"부하 테스트 댓글입니다.\"}");
+                case LEGACY_RECOMMEND -> legacyPost("/freeboard/recommend", "{\"freeboardUid\":" + dataset.hotPost(random)
+                        + ",\"type\":\"like\"}");
+                case API_FREEBOARD_LIST -> get("/api/freeboard?page=" + listPages.next(random) + "&size=10");
+                case API_FREEBOARD_VIEW -> get("/api/freeboard/" + dataset.hotPost(random));
+                case API_FREEBOARD_CREATE -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/freeboard"))
+                        .timeout(TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"title\":\"부하 테스트 글\",\"contents\":\"부하 테스트 본문입니다.\"}"))
+                        .build();
+            };
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET().build();
+        }
+
+        private HttpRequest legacyPost(String path, String json) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json));
+            if (sessionCookie != null) {
+                builder.header("Cookie", sessionCookie);
+            }
+            return builder.build();
+        }
+    }
+
+    private static Map<String, Object> summarize(List<Client> clients, int durationSeconds, int loginFailures) {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        Samples total = new Samples();
+        System.out.printf("%n%-24s %10s %8s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (Operation operation : Operation.VALUES) {
+            Samples merged = new Samples();
+            for (Client client : clients) {
+                Samples samples = client.samples[operation.ordinal()];
+                for (int i = 0; i < samples.size; i++) {
+                    merged.add(samples.nanos[i]);
+                    total.add(samples.nanos[i]);
+                }
+                merged.errors += samples.errors;
+            }
+            total.errors += merged.errors;
+            operations.put(operation.name(), print(operation.name(), merged, durationSeconds));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("total", print("TOTAL", total, durationSeconds));
+        result.put("loginFailures", loginFailures);
+        result.put("operations", operations);
+        return result;
+    }
+
+    private static Map<String, Object> print(String name, Samples samples, int durationSeconds) {
+        long[] sorted = Arrays.copyOf(samples.nanos, samples.size);
+        Arrays.sort(sorted);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", sorted.length);
+        stats.put("errors", samples.errors);
+        stats.put("throughput", (double) sorted.length / durationSeconds);
+        stats.put("p50Ms", percentileMillis(sorted, 0.50));
+        stats.put("p99Ms", percentileMillis(sorted, 0.99));
+        stats.put("p999Ms", percentileMillis(sorted, 0.999));
+        stats.put("maxMs", sorted.length > 0 ? sorted[sorted.length - 1] / 1_000_000.0 : 0.0);
+        System.out.printf("%-24s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", name, sorted.length, samples.errors,
+                stats.get("throughput"), stats.get("p50Ms"), stats.get("p99Ms"), stats.get("p999Ms"), stats.get("maxMs"));
+        return stats;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private static void writeReport(Map<String, Object> report) throws IOException {
+        Path dir = Path.of("build", "results", "loadtest");
+        Files.createDirectories(dir);
+        Path file = dir.resolve("loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + ".json");
+        Files.writeString(file, new GsonBuilder().setPrettyPrinting().create().toJson(report), StandardCharsets.UTF_8);
+        System.out.println("\n[load] 결과 저장: " + file.toAbsolutePath());
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * --key=value 형식 인자 파싱 (그 외 인자는 무시)
+     */
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+}
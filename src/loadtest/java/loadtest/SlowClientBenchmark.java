@@ -0,0 +1,286 @@
+package loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.google.gson.GsonBuilder;
+
+import dev.earlydreamer.kirini.KiriniSpringApplication;
+
+/**
+ * 느린 클라이언트가 많을 때 플랫폼 스레드 풀과 가상 스레드의 처리량 비교
+ * - 느린 클라이언트: 소켓으로 POST /login/login 본문을 조금씩 나눠 보냄
+ *   (서블릿이 본문을 읽는 동안 요청 스레드를 붙잡음 - 느린 업로드/모바일 회선과 같은 상황)
+ * - 빠른 클라이언트: 닫힌 루프로 레거시 자유게시판 목록과 /api/freeboard 목록을 번갈아 요청, 처리량과 지연 측정
+ * - 모드별로 앱을 새로 띄움 (platform: 톰캣 기본 풀 200, virtual: spring.threads.virtual.enabled=true)
+ *   같은 JVM에서 차례로 실행하므로 뒤 모드가 JIT/DB 캐시 면에서 약간 유리함 (--mode 로 하나씩 실행 가능)
+ *
+ * 실행: ./gradlew slowClientBenchmark -Pargs="--scale=0.1 --slow-clients=1000"
+ * 인자: --mode=both|platform|virtual --slow-clients=1000 --fast-clients=32 --slow-body-ms=2000
+ *       --warmup=10 --duration=30 --scale=1.0 --threads=코어 수 --spring-url=jdbc:h2:file:./build/loadtest/spring
+ */
+public final class SlowClientBenchmark {
+
+    private static final String JWT_SECRET = "a2lyaW5pLWxvYWR0ZXN0LXNlY3JldC1rZXktZm9yLWhtYWMtc2hhMjU2";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final int SLOW_BODY_CHUNKS = 20;
+
+    /**
+     * 빠른 클라이언트 하나의 측정 구간 지연 시간 표본과 오류 수
+     */
+    private record FastResult(long[] nanos, long errors) { }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadDriver.parseOptions(args);
+        String legacyUrl = System.getenv("DB_URL");
+        if (legacyUrl == null) {
+            System.err.println("DB_URL 등 레거시 DB 환경 변수가 필요합니다 (./gradlew slowClientBenchmark 로 실행)");
+            System.exit(1);
+        }
+        String springUrl = options.getOrDefault("spring-url", "jdbc:h2:file:./build/loadtest/spring") + ";DB_CLOSE_DELAY=-1";
+        String mode = options.getOrDefault("mode", "both");
+        double scaleFactor = Double.parseDouble(options.getOrDefault("scale", "1.0"));
+        int slowClients = Integer.parseInt(options.getOrDefault("slow-clients", "1000"));
+        int fastClients = Integer.parseInt(options.getOrDefault("fast-clients", "32"));
+        int slowBodyMillis = Integer.parseInt(options.getOrDefault("slow-body-ms", "2000"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        DatasetGenerator dataset = new DatasetGenerator(DatasetGenerator.Scale.of(scaleFactor), threads);
+        dataset.generateLegacy(legacyUrl, System.getenv("DB_USER"), System.getenv("DB_PASSWORD"));
+
+        Map<String, Object> runs = new LinkedHashMap<>();
+        for (String run : "both".equals(mode) ? List.of("platform", "virtual") : List.of(mode)) {
+            boolean virtual = "virtual".equals(run);
+            Map<String, Object> properties = new LinkedHashMap<>();
+            properties.put("server.port", 0);
+            properties.put("spring.datasource.url", springUrl);
+            properties.put("spring.jpa.hibernate.ddl-auto", "update");
+            properties.put("spring.jpa.show-sql", false);
+            properties.put("logging.level.root", "WARN");
+            properties.put("security.jwt.secret", JWT_SECRET);
+            properties.put("spring.threads.virtual.enabled", virtual);
+            // 연결 수 제한은 두 모드 모두 느린 클라이언트보다 크게 (스레드 수만 차이 나도록)
+            properties.put("server.tomcat.max-connections", Math.max(8192, slowClients + fastClients * 2));
+            properties.put("server.tomcat.accept-count", slowClients + fastClients);
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(KiriniSpringApplication.class,
+                    LegacyServletConfig.class).properties(properties).run(args)) {
+                dataset.generateSpring(springUrl, "sa", "");
+                int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+                System.out.printf("%n[slow] %s 모드: 느린 클라이언트 %d (본문 %dms), 빠른 클라이언트 %d%n",
+                        run, slowClients, slowBodyMillis, fastClients);
+                runs.put(run, measure(port, slowClients, fastClients, slowBodyMillis, warmupSeconds, durationSeconds));
+            }
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("scale", scaleFactor);
+        config.put("slowClients", slowClients);
+        config.put("fastClients", fastClients);
+        config.put("slowBodyMillis", slowBodyMillis);
+        config.put("warmupSeconds", warmupSeconds);
+        config.put("durationSeconds", durationSeconds);
+        config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        config.put("javaVersion", System.getProperty("java.version"));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("config", config);
+        result.put("runs", runs);
+        writeReport(result);
+    }
+
+    private static Map<String, Object> measure(int port, int slowClients, int fastClients, int slowBodyMillis,
+                                               int warmupSeconds, int durationSeconds) throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        LongAdder slowCompleted = new LongAdder();
+        LongAdder slowErrors = new LongAdder();
+        List<Future<FastResult>> fastResults = new ArrayList<>(fastClients);
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String baseUrl = "http://localhost:" + port;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < slowClients; i++) {
+                int id = i;
+                executor.submit(() -> slowLoop(port, id, slowBodyMillis, measureFrom, end, slowCompleted, slowErrors));
+            }
+            for (int i = 0; i < fastClients; i++) {
+                SplittableRandom random = new SplittableRandom(i);
+                fastResults.add(executor.submit(() -> fastLoop(http, baseUrl, random, measureFrom, end)));
+            }
+        }
+
+        List<long[]> samples = new ArrayList<>(fastClients);
+        long errors = 0;
+        for (Future<FastResult> future : fastResults) {
+            FastResult fastResult = future.get();
+            samples.add(fastResult.nanos());
+            errors += fastResult.errors();
+        }
+        long[] merged = samples.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        Map<String, Object> fast = new LinkedHashMap<>();
+        fast.put("count", merged.length);
+        fast.put("errors", errors);
+        fast.put("throughput", (double) merged.length / durationSeconds);
+        fast.put("p50Ms", percentileMillis(merged, 0.50));
+        fast.put("p99Ms", percentileMillis(merged, 0.99));
+        fast.put("maxMs", merged.length > 0 ? merged[merged.length - 1] / 1_000_000.0 : 0.0);
+        Map<String, Object> slow = new LinkedHashMap<>();
+        slow.put("completed", slowCompleted.sum());
+        slow.put("errors", slowErrors.sum());
+        slow.put("throughput", (double) slowCompleted.sum() / durationSeconds);
+
+        System.out.printf("[slow] 빠른 요청 %.1f req/s (p50 %.2fms, p99 %.2fms, 오류 %d), 느린 요청 %.1f req/s (오류 %d)%n",
+                fast.get("throughput"), fast.get("p50Ms"), fast.get("p99Ms"), errors,
+                slow.get("throughput"), slowErrors.sum());
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("fast", fast);
+        result.put("slow", slow);
+        return result;
+    }
+
+    /**
+     * 본문을 SLOW_BODY_CHUNKS 조각으로 나눠 보내는 로그인 요청을 반복 (존재하지 않는 계정이라 쓰기 없음)
+     */
+    private static void slowLoop(int port, int id, int bodyMillis, long measureFrom, long end,
+                                 LongAdder completed, LongAdder errors) {
+        byte[] body = ("email=" + "slow" + id + "%40loadtest.invalid&password=" + DatasetGenerator.PASSWORD)
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] head = ("POST /login/login HTTP/1.1\r\nHost: localhost\r\n"
+                + "Content-Type: application/x-www-form-urlencoded\r\n"
+                + "Content-Length: " + body.length + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        long pause = Math.max(1, bodyMillis / SLOW_BODY_CHUNKS);
+        // 모든 느린 클라이언트가 같은 순간에 몰리지 않도록 시작 시점을 흩음
+        sleep(new SplittableRandom(id).nextLong(Math.max(1, bodyMillis)));
+        byte[] buffer = new byte[8192];
+        while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+            boolean ok;
+            try (Socket socket = new Socket("localhost", port)) {
+                socket.setSoTimeout((int) TIMEOUT.toMillis());
+                OutputStream out = socket.getOutputStream();
+                out.write(head);
+                out.flush();
+                for (int i = 0; i < SLOW_BODY_CHUNKS; i++) {
+                    int from = body.length * i / SLOW_BODY_CHUNKS;
+                    int to = body.length * (i + 1) / SLOW_BODY_CHUNKS;
+                    out.write(body, from, to - from);
+                    out.flush();
+                    sleep(pause);
+                }
+                InputStream in = socket.getInputStream();
+                int first = in.read(buffer);
+                ok = first > 12 && buffer[9] == '2';
+                while (in.read(buffer) >= 0) {
+                    // Connection: close 이므로 응답 끝까지 읽고 닫음
+                }
+            } catch (IOException e) {
+                ok = false;
+            }
+            if (System.nanoTime() >= measureFrom) {
+                (ok ? completed : errors).increment();
+            }
+        }
+    }
+
+    private static FastResult fastLoop(HttpClient http, String baseUrl, SplittableRandom random, long measureFrom,
+                                       long end) {
+        long[] samples = new long[1024];
+        int size = 0;
+        long errors = 0;
+        boolean legacy = random.nextBoolean();
+        while (!Thread.currentThread().isInterrupted()) {
+            long begin = System.nanoTime();
+            if (begin >= end) {
+                break;
+            }
+            int page = 1 + random.nextInt(20);
+            String path = legacy ? "/freeboard/list?page=" + page : "/api/freeboard?page=" + page + "&size=10";
+            legacy = !legacy;
+            boolean ok;
+            try {
+                HttpResponse<Void> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .timeout(TIMEOUT).GET().build(), HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() >= 200 && response.statusCode() < 300;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (begin >= measureFrom) {
+                if (size == samples.length) {
+                    samples = Arrays.copyOf(samples, size * 2);
+                }
+                samples[size++] = System.nanoTime() - begin;
+                if (!ok) {
+                    errors++;
+                }
+            }
+        }
+        return new FastResult(Arrays.copyOf(samples, size), errors);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private static void writeReport(Map<String, Object> report) throws IOException {
+        Path dir = Path.of("build", "results", "loadtest");
+        Files.createDirectories(dir);
+        Path file = dir.resolve("slow-clients-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + ".json");
+        Files.writeString(file, new GsonBuilder().setPrettyPrinting().create().toJson(report), StandardCharsets.UTF_8);
+        System.out.println("\n[slow] 결과 저장: " + file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,53 @@
+package loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 표본 추출 (순위 k의 확률 ∝ 1 / k^exponent)
+ * - 누적 분포를 생성 시 한 번 계산하고 추출은 이진 탐색 (상태가 없어 여러 스레드에서 공유 가능)
+ * - scatter=true면 순위를 곱셈 순열로 1..n 에 흩어 ID로 반환 (인기 항목이 앞번호에 몰리지 않음)
+ *   scatter=false면 순위를 그대로 반환 (앞 페이지일수록 자주 보는 목록 페이지 등)
+ */
+final class Zipf {
+
+    // n보다 큰 소수 (n < 2^31 이면 n과 서로소이므로 rank -> rank * P mod n 은 순열)
+    private static final long SCATTER = 2_147_483_647L;
+
+    private final int n;
+    private final double[] cdf;
+    private final boolean scatter;
+
+    Zipf(int n, double exponent, boolean scatter) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        this.n = n;
+        this.scatter = scatter;
+        this.cdf = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cdf[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    /**
+     * @return 1..n 범위 값
+     */
+    int next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        int rank = Math.min(index, n - 1);
+        return scatter ? (int) (rank * SCATTER % n) + 1 : rank + 1;
+    }
+
+    int size() {
+        return n;
+    }
+}
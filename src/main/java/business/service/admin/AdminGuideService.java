@@ -5,6 +5,7 @@ import java.util.List;
 
 import dto.keyboard.GuideDTO;
 import repository.dao.admin.AdminGuideDAO;
+import util.search.SearchIndexManager;
 
 /**
  * 관리자용 키보드 용어집 관리 서비스 클래스
@@ -25,7 +26,11 @@ public class AdminGuideService {
      */
     public boolean addGuide(GuideDTO guide) {
         try {
-            return guideDAO.addGuide(guide);
+            boolean result = guideDAO.addGuide(guide);
+            if (result) {
+                SearchIndexManager.invalidate(SearchIndexManager.Collection.GUIDE);
+            }
+            return result;
         } catch (SQLException e) {
             System.err.println("키보드 용어 등록 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
@@ -41,7 +46,11 @@ public class AdminGuideService {
      */
     public boolean updateGuide(GuideDTO guide) {
         try {
-            return guideDAO.updateGuide(guide);
+            boolean result = guideDAO.updateGuide(guide);
+            if (result) {
+                SearchIndexManager.refresh(SearchIndexManager.Collection.GUIDE, guide.getId());
+            }
+            return result;
         } catch (SQLException e) {
             System.err.println("키보드 용어 수정 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
@@ -57,7 +66,11 @@ public class AdminGuideService {
      */
     public boolean deleteGuide(long guideId) {
         try {
-            return guideDAO.deleteGuide(guideId);
+            boolean result = guideDAO.deleteGuide(guideId);
+            if (result) {
+                SearchIndexManager.remove(SearchIndexManager.Collection.GUIDE, guideId);
+            }
+            return result;
         } catch (SQLException e) {
             System.err.println("키보드 용어 삭제 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
@@ -10,6 +10,8 @@ import dto.keyboard.KeyboardTagDTO;
 import repository.dao.admin.AdminKeyboardDAO;
 import repository.dao.database.KeyboardInfoDAO;
 import util.logging.LoggerConfig;
+import util.search.KeyboardFacetCache;
+import util.search.SearchIndexManager;
 
 /**
  * 관리자용 키보드 정보 관리 서비스 클래스
@@ -86,6 +88,13 @@ public class AdminKeyboardService {
         try {
             boolean result = adminKeyboardDAO.addKeyboardInfo(keyboardInfo);
             if (result) {
+                if (keyboardInfo.getId() > 0) {
+                    SearchIndexManager.refresh(SearchIndexManager.Collection.KEYBOARD, keyboardInfo.getId());
+                    KeyboardFacetCache.refresh(keyboardInfo.getId());
+                } else {
+                    SearchIndexManager.invalidate(SearchIndexManager.Collection.KEYBOARD);
+                    KeyboardFacetCache.invalidate();
+                }
                 LoggerConfig.logBusinessAction(AdminKeyboardService.class, "addKeyboardInfo", 
                                        "키보드 정보 추가", "이름: " + keyboardInfo.getName() + ", 가격: " + keyboardInfo.getPrice(), null);
             }
@@ -106,6 +115,8 @@ public class AdminKeyboardService {
         try {
             boolean result = adminKeyboardDAO.updateKeyboardInfo(keyboardInfo);
             if (result) {
+                SearchIndexManager.refresh(SearchIndexManager.Collection.KEYBOARD, keyboardInfo.getId());
+                KeyboardFacetCache.refresh(keyboardInfo.getId());
                 LoggerConfig.logBusinessAction(AdminKeyboardService.class, "updateKeyboardInfo", 
                                        "키보드 정보 수정", "ID: " + keyboardInfo.getId() + ", 이름: " + keyboardInfo.getName(), null);
             }
@@ -126,6 +137,8 @@ public class AdminKeyboardService {
         try {
             boolean result = adminKeyboardDAO.deleteKeyboardInfo(keyboardId);
             if (result) {
+                SearchIndexManager.remove(SearchIndexManager.Collection.KEYBOARD, keyboardId);
+                KeyboardFacetCache.remove(keyboardId);
                 LoggerConfig.logBusinessAction(AdminKeyboardService.class, "deleteKeyboardInfo", 
                                        "키보드 정보 삭제", "ID: " + keyboardId, null);
             }
@@ -6,7 +6,9 @@ import java.util.List;
 import dto.admin.AdminDeleteLogDTO;
 import repository.dao.admin.AdminContentRecoveryDAO;
 import repository.dao.admin.AdminDeleteLogDAO;
+import util.chat.ChatFeed;
 import util.logging.LoggerConfig;
+import util.search.SearchIndexManager;
 
 /**
  * 삭제된 게시물/댓글 로그 관리를 위한 서비스 클래스
@@ -105,7 +107,19 @@ public class AdminLogService {
      */
     public boolean recoverDeletedPost(String boardType, long postId) {
         try {
-            return recoveryDAO.recoverDeletedPost(boardType, postId);        
+            boolean recovered = recoveryDAO.recoverDeletedPost(boardType, postId);
+            if (recovered) {
+                // 복원된 게시글을 검색 색인에 다시 추가
+                if ("freeboard".equals(boardType)) {
+                    SearchIndexManager.refresh(SearchIndexManager.Collection.FREEBOARD, postId);
+                } else if ("news".equals(boardType)) {
+                    SearchIndexManager.refresh(SearchIndexManager.Collection.NEWS, postId);
+                } else if ("chatboard".equals(boardType)) {
+                    // 복원된 메시지가 최근 목록에 들어갈 수 있으므로 채팅 버퍼를 다시 채움
+                    ChatFeed.seedQuietly();
+                }
+            }
+            return recovered;
         } catch (SQLException e) {
             logError("SQL", e, "recoverDeletedPost", "boardType: " + boardType + ", postId: " + postId);
             return false;
@@ -5,6 +5,7 @@ import java.util.List;
 
 import dto.board.ChatboardDTO;
 import repository.dao.board.ChatboardDAO;
+import util.chat.ChatFeed;
 
 public class ChatboardService {
     private final ChatboardDAO chatboardDAO;
@@ -14,16 +15,33 @@ public class ChatboardService {
     }
     
     /**
-     * 모든 채팅 메시지 조회
+     * 모든 채팅 메시지 조회 (메모리 버퍼에서 조회, 버퍼가 비어 있을 때만 DB 조회)
      */
     public List<ChatboardDTO> getAllChats() {
+        ChatFeed.Snapshot snapshot = getChatSnapshot();
+        return snapshot != null ? snapshot.getChats() : null;
+    }
+    
+    /**
+     * 채팅 목록과 마지막 변경 순번 조회 (이후 변경분은 getChatsSince 또는 SSE로 수신)
+     */
+    public ChatFeed.Snapshot getChatSnapshot() {
         try {
-            return chatboardDAO.getAllChats();
+            return ChatFeed.getSnapshot();
         } catch (SQLException e) {
             return null;
         }
     }
     
+    /**
+     * 지정한 순번 이후의 채팅 변경분 조회
+     * 
+     * @return 변경 이벤트 목록, 변경분을 알 수 없어 목록을 다시 받아야 하면 null
+     */
+    public List<ChatFeed.Event> getChatsSince(long seq) {
+        return ChatFeed.eventsSince(seq);
+    }
+    
     /**
      * 채팅 ID로 작성자 확인
      */
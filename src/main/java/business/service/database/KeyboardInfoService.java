@@ -2,12 +2,15 @@ package business.service.database;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import dto.keyboard.KeyboardInfoDTO;
 import dto.keyboard.KeyboardScoreDTO;
 import dto.keyboard.KeyboardTagDTO;
 import repository.dao.database.KeyboardInfoDAO;
+import util.db.KeysetPage;
 
 /**
  * 키보드 정보 서비스 클래스
@@ -30,6 +33,22 @@ public class KeyboardInfoService {
             return null;
         }
     }
+    
+    /**
+     * 키보드 정보 목록 커서 조회 (COUNT 없이 다음 페이지 커서만 반환)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @return 조회 실패 시 null
+     * @throws IllegalArgumentException 잘못된 커서인 경우
+     */
+    public KeysetPage<KeyboardInfoDTO> getKeyboardInfosByCursor(String cursor, int pageSize) {
+        try {
+            return keyboardInfoDAO.getKeyboardInfosByCursor(cursor, pageSize);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
       /**
      * 키보드 상세 정보 조회
      */
@@ -282,6 +301,20 @@ public class KeyboardInfoService {
         }
     }
     
+    /**
+     * 현재 검색 조건에서 필터 값별 키보드 수 (필터 사이드바용)
+     * @return 항목(MANUFACTURER/SWITCH_TYPE/LAYOUT_TYPE/CONNECT_TYPE) -> (값 -> 키보드 수), 오류 시 빈 맵
+     */
+    public Map<String, Map<String, Integer>> getFacetCounts(String keyword, String manufacturer,
+            String switchType, String layoutType, String connectType) {
+        try {
+            return keyboardInfoDAO.getFacetCounts(keyword, manufacturer, switchType, layoutType, connectType);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return Collections.emptyMap();
+        }
+    }
+    
     /**
      * 제조사 목록 조회
      */
@@ -1,8 +1,5 @@
 package business.service.freeboard;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -10,7 +7,9 @@ import dto.board.AttachmentDTO;
 import dto.board.FreeboardCommentDTO;
 import dto.board.FreeboardDTO;
 import repository.dao.board.FreeboardDAO;
-import util.db.DBConnectionUtil;
+import util.db.KeysetPage;
+import util.db.ReactionEngine;
+import util.web.AttachmentStore;
 
 public class FreeboardService {
     private final FreeboardDAO freeboardDAO;
@@ -31,6 +30,22 @@ public class FreeboardService {
         }
     }
     
+    /**
+     * 게시글 목록 커서 조회 (COUNT 없이 다음 페이지 커서만 반환)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @return 조회 실패 시 null
+     * @throws IllegalArgumentException 잘못된 커서인 경우
+     */
+    public KeysetPage<FreeboardDTO> getFreeboardsByCursor(String cursor, int pageSize) {
+        try {
+            return freeboardDAO.getFreeboardsByCursor(cursor, pageSize);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+    
     /**
      * 게시글 상세 조회
      */
@@ -43,6 +58,17 @@ public class FreeboardService {
         }
     }
     
+    /**
+     * 조회수 증가 (캐시된 상세 응답을 보낸 경우, 세션 중복 방지와 increaseReadCount=false 파라미터 반영)
+     */
+    public void updateReadCount(long postId, jakarta.servlet.http.HttpServletRequest request) {
+        try {
+            freeboardDAO.updateReadCount(postId, request);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+    
     /**
      * 게시글 등록
      */
@@ -231,22 +257,18 @@ public class FreeboardService {
             }
             
             // 첨부파일 존재 여부 확인
-            // TODO: 첨부파일 테이블에서 확인 로직 추가
+            List<String> filePaths = freeboardDAO.getAttachmentPaths(postId, filename);
+            if (filePaths.isEmpty()) {
+                return false;
+            }
             
             // DB에서 첨부파일 정보 삭제 및 로그 기록
             boolean dbDeleteResult = freeboardDAO.deleteAttachByFilename(postId, filename, reason, adminId);
             
             if (dbDeleteResult) {
-                // 실제 파일 시스템에서 파일 삭제
-                // 파일 경로 구성 (실제 경로는 프로젝트 설정에 맞게 수정 필요)
-                String uploadDir = "/uploads/freeboard";
-                String filePath = uploadDir + "/" + postId + "/" + filename;
-                
-                java.io.File file = new java.io.File(filePath);
-                if (file.exists()) {
-                    return file.delete();
-                }
-                return true; // 파일이 이미 없는 경우에도 성공으로 간주
+                // 같은 내용을 다른 글에서도 참조하면 파일은 남겨 둠
+                filePaths.forEach(AttachmentStore::release);
+                return true;
             }
             
             return false;
@@ -411,7 +433,9 @@ public class FreeboardService {
             e.printStackTrace();
             return false;
         }
-    }    /**
+    }
+
+    /**
      * 게시글 추천 처리 (좋아요/좋아요 취소 토글)
      * @param postId 게시글 ID
      * @param userId 사용자 ID
@@ -419,150 +443,28 @@ public class FreeboardService {
      * @return 처리 성공 여부
      */
     public boolean handleRecommendation(long postId, long userId, String type) {
+        if (!"like".equalsIgnoreCase(type)) {
+            // 현재는 "like" 타입만 지원, 필요시 다른 타입 처리 로직 추가
+            return false;
+        }
         try {
-            if (!"like".equalsIgnoreCase(type)) {
-                // 현재는 "like" 타입만 지원, 필요시 다른 타입 처리 로직 추가
-                return false; 
-            }
-            
-            // 기존 freeboard 테이블의 freeboard_recommend 컬럼에 직접 +1/-1 하는 방식으로 구현
-            // 사용자별 추천 상태는 log_recommend 테이블을 통해 관리
-            
-            // 이미 추천했는지 확인
-            boolean hasRecommended = false;
-            try {
-                // log_recommend 테이블에서 조회
-                String sql = "SELECT COUNT(*) FROM log_recommend " +
-                             "WHERE log_recommend_boardtype = 'freeboard' " +
-                             "AND log_recommend_post_id = ? AND user_uid = ?";
-                
-                Connection conn = DBConnectionUtil.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql);
-                pstmt.setLong(1, postId);
-                pstmt.setLong(2, userId);
-                ResultSet rs = pstmt.executeQuery();
-                
-                if (rs.next()) {
-                    hasRecommended = rs.getInt(1) > 0;
-                }
-                
-                rs.close();
-                pstmt.close();
-                conn.close();
-            } catch (SQLException e) {
-                e.printStackTrace();
-                return false;
-            }
-            
-            if (hasRecommended) {
-                // 이미 추천한 상태면 추천 취소
-                try {
-                    Connection conn = DBConnectionUtil.getConnection();
-                    conn.setAutoCommit(false);
-                    
-                    // 1. 추천 로그 삭제
-                    String deleteSql = "DELETE FROM log_recommend " +
-                                     "WHERE log_recommend_boardtype = 'freeboard' " +
-                                     "AND log_recommend_post_id = ? AND user_uid = ?";
-                    
-                    PreparedStatement pstmt = conn.prepareStatement(deleteSql);
-                    pstmt.setLong(1, postId);
-                    pstmt.setLong(2, userId);
-                    int deleteResult = pstmt.executeUpdate();
-                    
-                    // 2. freeboard 테이블의 추천 수 감소
-                    String updateSql = "UPDATE freeboard SET freeboard_recommend = " +
-                                     "GREATEST(0, freeboard_recommend - 1) " +
-                                     "WHERE freeboard_uid = ?";
-                    
-                    pstmt = conn.prepareStatement(updateSql);
-                    pstmt.setLong(1, postId);
-                    int updateResult = pstmt.executeUpdate();
-                    
-                    if (deleteResult > 0 && updateResult > 0) {
-                        conn.commit();
-                        pstmt.close();
-                        conn.close();
-                        return true;
-                    } else {
-                        conn.rollback();
-                        pstmt.close();
-                        conn.close();
-                        return false;
-                    }
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                    return false;
-                }
-            } else {
-                // 아직 추천하지 않은 상태면 추천 추가
-                try {
-                    Connection conn = DBConnectionUtil.getConnection();
-                    conn.setAutoCommit(false);
-                    
-                    // 1. 추천 로그 추가
-                    String insertSql = "INSERT INTO log_recommend " +
-                                     "(log_recommend_boardtype, log_recommend_post_id, log_recommend_date, user_uid) " +
-                                     "VALUES ('freeboard', ?, NOW(), ?)";
-                    
-                    PreparedStatement pstmt = conn.prepareStatement(insertSql);
-                    pstmt.setLong(1, postId);
-                    pstmt.setLong(2, userId);
-                    int insertResult = pstmt.executeUpdate();
-                    
-                    // 2. freeboard 테이블의 추천 수 증가
-                    String updateSql = "UPDATE freeboard SET freeboard_recommend = freeboard_recommend + 1 " +
-                                     "WHERE freeboard_uid = ?";
-                    
-                    pstmt = conn.prepareStatement(updateSql);
-                    pstmt.setLong(1, postId);
-                    int updateResult = pstmt.executeUpdate();
-                    
-                    if (insertResult > 0 && updateResult > 0) {
-                        conn.commit();
-                        pstmt.close();
-                        conn.close();
-                        return true;
-                    } else {
-                        conn.rollback();
-                        pstmt.close();
-                        conn.close();
-                        return false;
-                    }
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                    return false;
-                }
-            }
-        } catch (Exception e) {
+            // 사용자별 추천 상태는 log_recommend, 추천 수는 ReactionEngine이 모아 일괄 반영
+            ReactionEngine.toggle(ReactionEngine.Target.FREEBOARD, postId, userId);
+            return true;
+        } catch (SQLException e) {
             e.printStackTrace();
             return false;
         }
-    }    /**
+    }
+
+    /**
      * 게시글의 추천 수 조회
      * @param postId 게시글 ID
      * @return 추천 수
      */
     public int getPostLikeCount(long postId) {
         try {
-            // freeboard 테이블에서 직접 추천 수를 가져옴
-            String sql = "SELECT freeboard_recommend FROM freeboard WHERE freeboard_uid = ?";
-            
-            Connection conn = DBConnectionUtil.getConnection();
-            PreparedStatement pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, postId);
-            ResultSet rs = pstmt.executeQuery();
-            
-            int likeCount = 0;
-            if (rs.next()) {
-                likeCount = rs.getInt("freeboard_recommend");
-            }
-            
-            rs.close();
-            pstmt.close();
-            conn.close();
-            
-            return likeCount;
+            return freeboardDAO.getFreeboardRecommendCount(postId);
         } catch (SQLException e) {
             e.printStackTrace();
             return 0;
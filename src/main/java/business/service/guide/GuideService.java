@@ -6,10 +6,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import dto.keyboard.GuideDTO;
 import util.db.DBConnectionUtil;
+import util.search.SearchIndexManager;
 
 /**
  * 키보드 용어집 기능을 위한 서비스 클래스
@@ -45,23 +49,43 @@ public class GuideService {
     
     /**
      * 키워드로 키보드 용어집을 검색합니다.
+     * 전문 검색 색인(SearchIndexManager)에서 점수 순 ID를 구한 뒤 해당 용어만 조회합니다.
      * @param keyword 검색할 키워드
-     * @return 검색된 키보드 용어집 리스트
+     * @return 검색된 키보드 용어집 리스트 (관련도 순)
      */
     public List<GuideDTO> searchGuidesByKeyword(String keyword) {
         List<GuideDTO> guides = new ArrayList<>();
-        String sql = "SELECT * FROM keyboard_glossary WHERE keyboard_glossary_title LIKE ? OR keyboard_glossary_summary LIKE ?";
         
-        try (Connection conn = DBConnectionUtil.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try {
+            List<Long> ids = SearchIndexManager.searchIds(SearchIndexManager.Collection.GUIDE, keyword, null);
+            if (ids.isEmpty()) {
+                return guides;
+            }
             
-            String searchParam = "%" + keyword + "%";
-            pstmt.setString(1, searchParam);
-            pstmt.setString(2, searchParam);
+            String sql = "SELECT * FROM keyboard_glossary WHERE keyboard_glossary_uid IN ("
+                    + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
             
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    guides.add(convertToDTO(rs));
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                
+                for (int i = 0; i < ids.size(); i++) {
+                    pstmt.setLong(i + 1, ids.get(i));
+                }
+                
+                Map<Long, GuideDTO> guidesById = new HashMap<>();
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        GuideDTO guide = convertToDTO(rs);
+                        guidesById.put(guide.getGuideId(), guide);
+                    }
+                }
+                
+                // 색인 점수 순서 유지
+                for (Long id : ids) {
+                    GuideDTO guide = guidesById.get(id);
+                    if (guide != null) {
+                        guides.add(guide);
+                    }
                 }
             }
             
@@ -6,6 +6,7 @@ import java.util.List;
 import dto.board.NewsDTO;
 import dto.board.NewsCommentDTO;
 import repository.dao.board.NewsDAO;
+import util.db.KeysetPage;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
@@ -57,6 +58,22 @@ public class NewsService {
         }
     }
     
+    /**
+     * 소식 목록 커서 조회 (COUNT 없이 다음 페이지 커서만 반환)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @return 조회 실패 시 null
+     * @throws IllegalArgumentException 잘못된 커서인 경우
+     */
+    public KeysetPage<NewsDTO> getNewsByCursor(String cursor, int pageSize) {
+        try {
+            return newsDAO.getNewsByCursor(cursor, pageSize);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+    
     /**
      * 소식 상세 조회
      */
@@ -93,6 +110,17 @@ public class NewsService {
         }
     }
     
+    /**
+     * 조회수 증가 (세션 기반 중복 방지, 캐시된 상세 응답을 보낼 때 사용)
+     */
+    public void updateReadCount(long newsId, jakarta.servlet.http.HttpServletRequest request) {
+        try {
+            newsDAO.updateReadCount(newsId, request);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+    
     /**
      * 소식 검색
      */
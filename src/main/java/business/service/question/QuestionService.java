@@ -8,6 +8,7 @@ import dto.board.AttachmentDTO;
 import dto.board.QuestionDTO;
 import dto.user.UserDTO;
 import repository.dao.board.QuestionDAO;
+import util.db.KeysetPage;
 
 public class QuestionService {
     private final QuestionDAO questionDAO;
@@ -88,6 +89,22 @@ public class QuestionService {
         }
     }
     
+    /**
+     * 질문 목록 커서 조회 (COUNT 없이 다음 페이지 커서만 반환)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @return 조회 실패 시 null
+     * @throws IllegalArgumentException 잘못된 커서인 경우
+     */
+    public KeysetPage<QuestionDTO> getQuestionsByCursor(String cursor, int pageSize) {
+        try {
+            return questionDAO.getQuestionsByCursor(cursor, pageSize);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+    
     /**
      * 전체 질문 수 조회
      */
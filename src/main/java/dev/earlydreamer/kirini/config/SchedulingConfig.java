@@ -0,0 +1,13 @@
+package dev.earlydreamer.kirini.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 설정
+ * - 조회수 버퍼 flush 등
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
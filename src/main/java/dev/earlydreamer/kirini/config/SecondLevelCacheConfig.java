@@ -0,0 +1,86 @@
+package dev.earlydreamer.kirini.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import dev.earlydreamer.kirini.domain.CacheRegions;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 설정 (프로세스 내 Caffeine JCache)
+ * - 캐시 사용 여부/통계는 application.properties 의 spring.jpa.properties.hibernate.* 로 켜고,
+ *   여기서는 영역마다 TTL과 최대 항목 수를 정해 미리 만든 CacheManager 를 Hibernate 에 넘김
+ * - 설정 키: kirini.cache.ttl-seconds.{영역} (0이면 만료 없음), kirini.cache.max-entries.{영역}
+ * - 엔티티 영역은 READ_WRITE 전략이라 JPA로 수정/삭제하면 커밋 시 함께 갱신됨
+ *   (JdbcTemplate 등 JPA를 거치지 않는 쓰기는 SecondLevelCacheService 로 직접 무효화해야 함)
+ * - 레거시 JDBC DAO(FreeboardDAO, ReadCountAggregator, AdminKeyboardDAO, KeyboardInfoDAO)의 쓰기는
+ *   2차 캐시를 전혀 무효화하지 않으므로, 그 테이블을 담는 영역은 TTL이 곧 최대 지연 시간
+ *   -> SHARED_REGIONS 는 만료 없음(0)이나 MAX_SHARED_TTL_SECONDS 보다 긴 값을 상한으로 고정
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // 영역별 기본값 {TTL 초, 최대 항목 수}
+    private static final Map<String, long[]> DEFAULTS = new LinkedHashMap<>();
+
+    // JPA 밖(레거시 JDBC DAO)에서도 쓰는 테이블을 담는 영역 (쿼리 결과 기본 영역은 어떤 테이블이든 담을 수 있어 포함)
+    private static final Set<String> SHARED_REGIONS = Set.of(
+            CacheRegions.KEYBOARD_INFORMATION,
+            CacheRegions.KEYBOARD_CATEGORY,
+            CacheRegions.KEYBOARD_TAG,
+            CacheRegions.FREEBOARD_LIST,
+            CacheRegions.DEFAULT_QUERY);
+    private static final long MAX_SHARED_TTL_SECONDS = 300;
+
+    static {
+        DEFAULTS.put(CacheRegions.ACCOUNT, new long[]{600, 10_000});
+        DEFAULTS.put(CacheRegions.KEYBOARD_INFORMATION, new long[]{300, 5_000});
+        DEFAULTS.put(CacheRegions.KEYBOARD_CATEGORY, new long[]{300, 500});
+        DEFAULTS.put(CacheRegions.KEYBOARD_TAG, new long[]{300, 5_000});
+        DEFAULTS.put(CacheRegions.FREEBOARD_LIST, new long[]{30, 1_000});
+        DEFAULTS.put(CacheRegions.DEFAULT_QUERY, new long[]{60, 1_000});
+        // 변경 시각이 먼저 사라지면 오래된 쿼리 결과가 유효한 것으로 보일 수 있으므로 만료 없음
+        DEFAULTS.put(CacheRegions.UPDATE_TIMESTAMPS, new long[]{0, 10_000});
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(Environment env) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        DEFAULTS.forEach((region, defaults) -> {
+            long ttlSeconds = env.getProperty("kirini.cache.ttl-seconds." + region, Long.class, defaults[0]);
+            if (CacheRegions.UPDATE_TIMESTAMPS.equals(region)) {
+                ttlSeconds = 0;
+            } else if (SHARED_REGIONS.contains(region) && (ttlSeconds <= 0 || ttlSeconds > MAX_SHARED_TTL_SECONDS)) {
+                ttlSeconds = MAX_SHARED_TTL_SECONDS;
+            }
+            long maxEntries = env.getProperty("kirini.cache.max-entries." + region, Long.class, defaults[1]);
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setStatisticsEnabled(true);
+            configuration.setMaximumSize(OptionalLong.of(Math.max(1, maxEntries)));
+            if (ttlSeconds > 0) {
+                configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            }
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, configuration);
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", secondLevelCacheManager);
+    }
+}
@@ -41,6 +41,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/freeboard/**").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/freeboard/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/freeboard/**").authenticated()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().permitAll()
                 )
                 .authenticationManager(authenticationManager)
@@ -0,0 +1,40 @@
+package dev.earlydreamer.kirini.controller;
+
+import dev.earlydreamer.kirini.dto.response.ApiResponse;
+import dev.earlydreamer.kirini.security.JwtProvider;
+import dev.earlydreamer.kirini.service.SecondLevelCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 운영 통계 조회 API (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/stats")
+@RequiredArgsConstructor
+public class AdminStatsController {
+
+    private final JwtProvider jwtProvider;
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    /**
+     * 검증 토큰 캐시 통계 (캐시 크기 조정용)
+     */
+    @GetMapping("/jwt-cache")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> jwtCache() {
+        return ResponseEntity.ok(ApiResponse.success("토큰 캐시 통계입니다.", jwtProvider.getTokenCacheStats()));
+    }
+
+    /**
+     * Hibernate 2차 캐시/쿼리 캐시 통계 (영역별 TTL 조정용)
+     */
+    @GetMapping("/second-level-cache")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> secondLevelCache() {
+        return ResponseEntity.ok(ApiResponse.success("2차 캐시 통계입니다.", secondLevelCacheService.getStats()));
+    }
+}
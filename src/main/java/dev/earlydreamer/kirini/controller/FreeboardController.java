@@ -44,9 +44,13 @@ public class FreeboardController {
     @GetMapping
     public ResponseEntity<ApiResponse<FreeboardListResponse>> getList(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
     ) {
-        FreeboardListResponse response = freeboardService.getList(page, size);
+        // cursor 파라미터가 있으면(빈 값이면 첫 페이지) 전체 건수 없이 커서 방식으로 조회
+        FreeboardListResponse response = cursor != null
+                ? freeboardService.getSlice(cursor, Math.min(Math.max(size, 1), 100))
+                : freeboardService.getList(page, size);
         return ResponseEntity.ok(ApiResponse.success("게시글 목록 조회에 성공했습니다.", response));
     }
 
@@ -0,0 +1,23 @@
+package dev.earlydreamer.kirini.domain;
+
+/**
+ * Hibernate 2차 캐시 영역 이름
+ * - 영역별 TTL/최대 항목 수는 kirini.cache.ttl-seconds.{영역}, kirini.cache.max-entries.{영역}으로 설정
+ */
+public final class CacheRegions {
+
+    public static final String ACCOUNT = "account";
+    public static final String KEYBOARD_INFORMATION = "keyboard-information";
+    public static final String KEYBOARD_CATEGORY = "keyboard-category";
+    public static final String KEYBOARD_TAG = "keyboard-tag";
+
+    /** 자유게시판 목록 앞쪽 페이지 쿼리 캐시 (레거시 FreeboardDAO 쓰기로는 무효화되지 않으므로 TTL 상한 있음) */
+    public static final String FREEBOARD_LIST = "freeboard-list";
+
+    /** 테이블별 마지막 변경 시각 (쿼리 캐시 무효화 판단용, 만료시키면 안 됨) */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+    public static final String DEFAULT_QUERY = "default-query-results-region";
+
+    private CacheRegions() {
+    }
+}
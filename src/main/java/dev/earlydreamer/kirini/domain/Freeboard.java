@@ -16,7 +16,9 @@ import java.util.List;
                 @Index(name = "idx_freeboard_uid", columnList = "freeboard_uid"),
                 @Index(name = "idx_account_uid", columnList = "account_uid"),
                 @Index(name = "idx_freeboard_notify", columnList = "freeboard_notify"),
-                @Index(name = "idx_freeboard_deleted", columnList = "freeboard_deleted")
+                @Index(name = "idx_freeboard_deleted", columnList = "freeboard_deleted"),
+                @Index(name = "idx_freeboard_list",
+                        columnList = "freeboard_deleted, freeboard_notify, freeboard_writetime, freeboard_uid")
         })
 @Getter
 @Setter
@@ -1,19 +1,28 @@
 package dev.earlydreamer.kirini.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
 
+/**
+ * 자유게시판 목록 응답
+ * - 페이지 번호 방식: currentPage/totalPages/totalCount 포함 (COUNT 쿼리 필요)
+ * - 커서 방식(Slice): hasNext/nextCursor만 포함, 전체 건수는 계산하지 않음
+ */
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class FreeboardListResponse {
     private List<FreeboardResponse> items;
-    private int currentPage;
-    private int totalPages;
+    private Integer currentPage;
+    private Integer totalPages;
     private int pageSize;
-    private long totalCount;
+    private Long totalCount;
+    private Boolean hasNext;
+    private String nextCursor;
 
     public static FreeboardListResponse from(Page<FreeboardResponse> page) {
         return FreeboardListResponse.builder()
@@ -24,5 +33,16 @@ public class FreeboardListResponse {
                 .totalCount(page.getTotalElements())
                 .build();
     }
-}
 
+    /**
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public static FreeboardListResponse slice(List<FreeboardResponse> items, int pageSize, String nextCursor) {
+        return FreeboardListResponse.builder()
+                .items(items)
+                .pageSize(pageSize)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package dev.earlydreamer.kirini.dto.response;
 
 import dev.earlydreamer.kirini.domain.Freeboard;
+import dev.earlydreamer.kirini.repository.FreeboardSummary;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -19,19 +20,53 @@ public class FreeboardResponse {
     private Freeboard.NotifyType notifyType;
     private Freeboard.DeleteStatus deleteStatus;
     private Integer accountId;
+    private String authorName;
+    // 목록(요약 조회)에서만 채움
+    private Long commentCount;
 
     public static FreeboardResponse from(Freeboard entity) {
+        return from(entity, 0);
+    }
+
+    /**
+     * @param pendingReadCount 아직 DB에 반영되지 않은 조회수 증가분
+     */
+    public static FreeboardResponse from(Freeboard entity, long pendingReadCount) {
+        int storedReadCount = entity.getReadCount() == null ? 0 : entity.getReadCount();
         return FreeboardResponse.builder()
                 .id(entity.getId())
                 .title(entity.getTitle())
                 .contents(entity.getContents())
-                .readCount(entity.getReadCount())
+                .readCount(storedReadCount + (int) pendingReadCount)
                 .recommendCount(entity.getRecommendCount())
                 .writeTime(entity.getWriteTime())
                 .modifyTime(entity.getModifyTime())
                 .notifyType(entity.getNotifyType())
                 .deleteStatus(entity.getDeleteStatus())
                 .accountId(entity.getUser() != null ? entity.getUser().getId() : null)
+                .authorName(entity.getUser() != null ? entity.getUser().getName() : null)
+                .build();
+    }
+
+    /**
+     * 목록용 (본문 없이 요약 컬럼만)
+     *
+     * @param pendingReadCount 아직 DB에 반영되지 않은 조회수 증가분
+     */
+    public static FreeboardResponse from(FreeboardSummary summary, long pendingReadCount) {
+        int storedReadCount = summary.readCount() == null ? 0 : summary.readCount();
+        return FreeboardResponse.builder()
+                .id(summary.id())
+                .title(summary.title())
+                .readCount(storedReadCount + (int) pendingReadCount)
+                .recommendCount(summary.recommendCount())
+                .writeTime(summary.writeTime())
+                .modifyTime(summary.modifyTime())
+                .notifyType(summary.notifyType())
+                .deleteStatus(summary.deleteStatus())
+                .accountId(summary.accountId())
+                .authorName(summary.authorName())
+                .commentCount(summary.commentCount())
                 .build();
     }
 }
@@ -1,26 +1,90 @@
 package dev.earlydreamer.kirini.repository;
 
+import dev.earlydreamer.kirini.domain.CacheRegions;
 import dev.earlydreamer.kirini.domain.Freeboard;
 import dev.earlydreamer.kirini.domain.Freeboard.DeleteStatus;
+import dev.earlydreamer.kirini.domain.Freeboard.NotifyType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FreeboardRepository extends JpaRepository<Freeboard, Integer> {
 
-    Page<Freeboard> findByDeleteStatus(DeleteStatus deleteStatus, Pageable pageable);
+    /**
+     * 목록 요약 컬럼 (작성자는 내부 조인, 댓글 수는 상관 서브쿼리)
+     */
+    String SUMMARY_SELECT = "select new dev.earlydreamer.kirini.repository.FreeboardSummary("
+            + "f.id, f.title, f.readCount, f.recommendCount, f.writeTime, f.modifyTime, f.notifyType, f.deleteStatus, "
+            + "u.id, u.name, (select count(c) from FreeboardComment c where c.freeboard = f)) "
+            + "from Freeboard f join f.user u ";
 
+    String LIST_ORDER = "order by f.notifyType desc, f.writeTime desc, f.id desc";
+
+    String COUNT_BY_STATUS = "select count(f) from Freeboard f where f.deleteStatus = :status";
+
+    /**
+     * 페이지 번호 방식 목록 (요약 1회 + COUNT 1회)
+     */
+    @Query(value = SUMMARY_SELECT + "where f.deleteStatus = :status " + LIST_ORDER, countQuery = COUNT_BY_STATUS)
+    Page<FreeboardSummary> findSummaries(@Param("status") DeleteStatus status, Pageable pageable);
+
+    /**
+     * findSummaries 와 같은 조회에 쿼리 캐시 적용 (목록 앞쪽 페이지용, COUNT 쿼리 포함)
+     * 게시글/작성자/댓글을 JPA로 쓰면 해당 테이블 변경 시각이 갱신되어 캐시된 결과는 자동으로 무시됨
+     */
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.FREEBOARD_LIST)
+    }, forCounting = true)
+    @Query(value = SUMMARY_SELECT + "where f.deleteStatus = :status " + LIST_ORDER, countQuery = COUNT_BY_STATUS)
+    Page<FreeboardSummary> findCachedSummaries(@Param("status") DeleteStatus status, Pageable pageable);
+
+    /**
+     * 상세 조회 (작성자를 같은 쿼리로 함께 읽음)
+     */
+    @EntityGraph(attributePaths = "user")
     Optional<Freeboard> findByIdAndDeleteStatus(Integer id, DeleteStatus status);
 
-    @Modifying
-    @Query("update Freeboard f set f.readCount = f.readCount + 1 where f.id = :id")
-    int increaseReadCount(@Param("id") Integer id);
+    /**
+     * 키셋 목록 첫 페이지 (공지 우선, 최신순, COUNT 쿼리 없음)
+     * 정렬은 idx_freeboard_list(freeboard_deleted, freeboard_notify, freeboard_writetime, freeboard_uid)를 따름
+     * 커서 없는 첫 페이지라 요청이 몰리므로 쿼리 캐시 적용
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.FREEBOARD_LIST)
+    })
+    @Query(SUMMARY_SELECT + "where f.deleteStatus = :status " + LIST_ORDER)
+    List<FreeboardSummary> findSummariesFirst(@Param("status") DeleteStatus status, Pageable pageable);
+
+    /**
+     * 키셋 목록 다음 페이지 (커서 행 다음부터)
+     * 공지 여부는 enum 대소 비교 대신, 커서와 같은 구분이면 (작성 시각, ID)로 이어 읽고
+     * 정렬상 커서 구분보다 뒤에 오는 구분(notIn에 없는 값)은 전부 포함
+     *
+     * @param notIn 커서의 공지 구분과 그보다 앞에 정렬되는 구분
+     */
+    @Query(SUMMARY_SELECT + "where f.deleteStatus = :status and ("
+            + "(f.notifyType = :notifyType and (f.writeTime < :writeTime or (f.writeTime = :writeTime and f.id < :id))) "
+            + "or f.notifyType not in :notIn) " + LIST_ORDER)
+    List<FreeboardSummary> findSummariesAfter(@Param("status") DeleteStatus status,
+                                              @Param("notifyType") NotifyType notifyType,
+                                              @Param("writeTime") LocalDateTime writeTime,
+                                              @Param("id") Integer id,
+                                              @Param("notIn") Collection<NotifyType> notIn,
+                                              Pageable pageable);
 }
 
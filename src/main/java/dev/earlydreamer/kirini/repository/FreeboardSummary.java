@@ -0,0 +1,25 @@
+package dev.earlydreamer.kirini.repository;
+
+import dev.earlydreamer.kirini.domain.Freeboard.DeleteStatus;
+import dev.earlydreamer.kirini.domain.Freeboard.NotifyType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자유게시판 목록용 요약 프로젝션
+ * 본문(TEXT) 없이 목록에 필요한 컬럼과 작성자, 댓글 수만 한 번의 쿼리로 읽음
+ */
+public record FreeboardSummary(
+        Integer id,
+        String title,
+        Integer readCount,
+        Integer recommendCount,
+        LocalDateTime writeTime,
+        LocalDateTime modifyTime,
+        NotifyType notifyType,
+        DeleteStatus deleteStatus,
+        Integer accountId,
+        String authorName,
+        Long commentCount
+) {
+}
@@ -2,16 +2,21 @@ package dev.earlydreamer.kirini.security;
 
 import dev.earlydreamer.kirini.domain.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Map;
 
+@Slf4j
 @Component
 public class JwtProvider {
 
@@ -21,11 +26,39 @@ public class JwtProvider {
     @Value("${security.jwt.expiration-ms:3600000}")
     private long expirationMs;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    // 검증된 토큰 캐시 크기 (0이면 매번 서명 검증)
+    @Value("${security.jwt.cache-size:10000}")
+    private int cacheSize;
+
+    // 서명 키와 파서는 시작 시 한 번만 생성 (JwtParser는 스레드 안전)
+    private Key signingKey;
+    private JwtParser parser;
+    private JwtTokenCache tokenCache;
+    private RuntimeException keyError;
+
+    @PostConstruct
+    void init() {
+        tokenCache = new JwtTokenCache(cacheSize);
+        try {
+            signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+            parser = Jwts.parserBuilder()
+                    .setSigningKey(signingKey)
+                    .build();
+        } catch (RuntimeException e) {
+            // 기존처럼 토큰 발급/검증 시점에 실패하도록 두고 기동은 계속
+            keyError = e;
+            log.warn("JWT 서명 키 생성 실패 (security.jwt.secret 확인 필요): {}", e.getMessage());
+        }
+    }
+
+    private void requireKey() {
+        if (keyError != null) {
+            throw keyError;
+        }
     }
 
     public String generateToken(Integer accountId, User.Authority authority) {
+        requireKey();
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMs);
         return Jwts.builder()
@@ -33,19 +66,38 @@ public class JwtProvider {
                 .claim("auth", authority != null ? authority.name() : User.Authority.NORMAL.name())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 토큰 검증 후 사용자 정보 반환
+     * 이미 검증한 토큰은 만료 전까지 캐시에서 바로 반환
+     */
     public JwtUser parseToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        JwtUser cached = tokenCache.get(token, System.currentTimeMillis());
+        if (cached != null) {
+            return cached;
+        }
+
+        requireKey();
+        long start = System.nanoTime();
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } finally {
+            tokenCache.recordVerify(System.nanoTime() - start);
+        }
         Integer accountId = Integer.valueOf(claims.getSubject());
         String auth = claims.get("auth", String.class);
-        return new JwtUser(accountId, User.Authority.valueOf(auth));
+        JwtUser jwtUser = new JwtUser(accountId, User.Authority.valueOf(auth));
+
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            tokenCache.put(token, jwtUser, expiration.getTime());
+        }
+        return jwtUser;
     }
 
     public String refresh(String token) {
@@ -56,4 +108,11 @@ public class JwtProvider {
     public long getExpirationMs() {
         return expirationMs;
     }
+
+    /**
+     * 검증 토큰 캐시 통계 (적중/미스, 검증 소요 시간)
+     */
+    public Map<String, Object> getTokenCacheStats() {
+        return tokenCache.getStats();
+    }
 }
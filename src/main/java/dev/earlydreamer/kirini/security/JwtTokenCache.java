@@ -0,0 +1,133 @@
+package dev.earlydreamer.kirini.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서명 검증을 마친 토큰 캐시 (토큰 -> JwtUser, 크기 제한 LRU)
+ * - 토큰의 만료 시각이 지나면 조회 시 버리고 다시 검증하게 함
+ * - 크기가 0이면 캐시하지 않음 (항상 검증)
+ * - 적중/미스 수와 검증 소요 시간을 getStats()로 제공
+ */
+public class JwtTokenCache {
+
+    private record Entry(JwtUser user, long expiresAtMillis) {
+    }
+
+    private final int maxSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder verifyNanos = new LongAdder();
+    private final LongAccumulator maxVerifyNanos = new LongAccumulator(Math::max, 0);
+
+    public JwtTokenCache(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        // 접근 순서 유지 (가장 오래 쓰지 않은 토큰부터 제거)
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > JwtTokenCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 사용자 (없거나 만료되었으면 null)
+     */
+    public JwtUser get(String token, long nowMillis) {
+        if (maxSize == 0) {
+            misses.increment();
+            return null;
+        }
+        lock.lock();
+        try {
+            Entry entry = entries.get(token);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAtMillis() <= nowMillis) {
+                entries.remove(token);
+                expired.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.user();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 검증된 토큰 저장 (만료 시각까지만 유효)
+     */
+    public void put(String token, JwtUser user, long expiresAtMillis) {
+        if (maxSize == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.put(token, new Entry(user, expiresAtMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 서명 검증 소요 시간 기록
+     */
+    public void recordVerify(long nanos) {
+        verifications.increment();
+        verifyNanos.add(nanos);
+        maxVerifyNanos.accumulate(nanos);
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long verifyCount = verifications.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxSize", maxSize);
+        stats.put("size", size);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("expired", expired.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("verifications", verifyCount);
+        stats.put("verifyAvgMicros", verifyCount == 0 ? 0.0 : verifyNanos.sum() / 1000.0 / verifyCount);
+        stats.put("verifyMaxMicros", maxVerifyNanos.get() / 1000.0);
+        return stats;
+    }
+}
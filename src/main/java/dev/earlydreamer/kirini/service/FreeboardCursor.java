@@ -0,0 +1,40 @@
+package dev.earlydreamer.kirini.service;
+
+import dev.earlydreamer.kirini.domain.Freeboard.NotifyType;
+import dev.earlydreamer.kirini.exception.BusinessException;
+import dev.earlydreamer.kirini.repository.FreeboardSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 자유게시판 목록 키셋 커서 (공지 여부, 작성 시각, ID)
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출
+ */
+record FreeboardCursor(NotifyType notifyType, LocalDateTime writeTime, Integer id) {
+
+    static FreeboardCursor of(FreeboardSummary summary) {
+        return new FreeboardCursor(summary.notifyType(), summary.writeTime(), summary.id());
+    }
+
+    String encode() {
+        String raw = notifyType.name() + "|" + writeTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static FreeboardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new FreeboardCursor(NotifyType.valueOf(parts[0]), LocalDateTime.parse(parts[1]),
+                    Integer.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("잘못된 커서입니다.", "INVALID_CURSOR");
+        }
+    }
+}
@@ -10,20 +10,30 @@ import dev.earlydreamer.kirini.dto.response.FreeboardListResponse;
 import dev.earlydreamer.kirini.dto.response.FreeboardResponse;
 import dev.earlydreamer.kirini.exception.BusinessException;
 import dev.earlydreamer.kirini.repository.FreeboardRepository;
+import dev.earlydreamer.kirini.repository.FreeboardSummary;
 import dev.earlydreamer.kirini.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class FreeboardService {
 
     private final FreeboardRepository freeboardRepository;
     private final UserRepository userRepository;
+    private final ReadCountBuffer readCountBuffer;
+
+    // 이 페이지까지는 목록 쿼리 캐시 사용 (0이면 사용 안 함)
+    @Value("${kirini.cache.freeboard-list-pages:3}")
+    private int cachedListPages;
 
     @Transactional
     public FreeboardResponse create(Integer accountId, FreeboardCreateRequest request, String authorIp) {
@@ -58,19 +68,60 @@ public class FreeboardService {
         Freeboard freeboard = freeboardRepository.findByIdAndDeleteStatus(id, DeleteStatus.MAINTAINED)
                 .orElseThrow(() -> new BusinessException("게시글을 찾을 수 없습니다."));
 
-        freeboardRepository.increaseReadCount(id);
-        // 동시성 단순화: 증가 후 다시 조회 없이 엔티티 readCount 수동 증가
-        freeboard.setReadCount(freeboard.getReadCount() == null ? 1 : freeboard.getReadCount() + 1);
-        return FreeboardResponse.from(freeboard);
+        // 조회수는 버퍼에 모았다가 주기적으로 일괄 반영, 응답에는 대기 중인 증가분까지 포함
+        readCountBuffer.increment(id);
+        return FreeboardResponse.from(freeboard, readCountBuffer.getPending(id));
     }
 
     public FreeboardListResponse getList(int page, int size) {
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size);
-        Page<FreeboardResponse> result = freeboardRepository.findByDeleteStatus(DeleteStatus.MAINTAINED, pageable)
-                .map(FreeboardResponse::from);
+        // 본문 없이 요약 컬럼, 작성자, 댓글 수를 한 쿼리로 읽음 (게시글마다 작성자/댓글을 따로 읽지 않음)
+        Page<FreeboardSummary> rows = page <= cachedListPages
+                ? freeboardRepository.findCachedSummaries(DeleteStatus.MAINTAINED, pageable)
+                : freeboardRepository.findSummaries(DeleteStatus.MAINTAINED, pageable);
+        Page<FreeboardResponse> result = rows
+                .map(summary -> FreeboardResponse.from(summary, readCountBuffer.getPending(summary.id())));
         return FreeboardListResponse.from(result);
     }
 
+    /**
+     * 커서 기반 목록 (공지 우선, 최신순)
+     * OFFSET/COUNT 없이 커서 다음 행부터 size + 1개를 읽어 다음 페이지 여부만 판단
+     *
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+     */
+    public FreeboardListResponse getSlice(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<FreeboardSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = freeboardRepository.findSummariesFirst(DeleteStatus.MAINTAINED, limit);
+        } else {
+            FreeboardCursor after = FreeboardCursor.decode(cursor.trim());
+            rows = freeboardRepository.findSummariesAfter(DeleteStatus.MAINTAINED, after.notifyType(),
+                    after.writeTime(), after.id(), notifyTypesUpTo(after.notifyType()), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<FreeboardSummary> page = hasNext ? rows.subList(0, size) : rows;
+        List<FreeboardResponse> items = new ArrayList<>(page.size());
+        for (FreeboardSummary summary : page) {
+            items.add(FreeboardResponse.from(summary, readCountBuffer.getPending(summary.id())));
+        }
+        String nextCursor = hasNext ? FreeboardCursor.of(page.get(page.size() - 1)).encode() : null;
+        return FreeboardListResponse.slice(items, size, nextCursor);
+    }
+
+    // 내림차순 정렬(문자열 enum)에서 주어진 구분과 그보다 앞에 오는 구분
+    private static List<NotifyType> notifyTypesUpTo(NotifyType notifyType) {
+        List<NotifyType> types = new ArrayList<>();
+        for (NotifyType type : NotifyType.values()) {
+            if (type.name().compareTo(notifyType.name()) >= 0) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
     @Transactional
     public FreeboardResponse update(Integer id, Integer accountId, FreeboardUpdateRequest request, User.Authority authority) {
         // accountId/authority는 인증에서 가져온 값
@@ -0,0 +1,141 @@
+package dev.earlydreamer.kirini.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 자유게시판 조회수 쓰기 지연(write-behind) 버퍼
+ * - 상세 조회마다 UPDATE하지 않고 게시글별 증가분을 메모리에 모았다가 주기적으로 배치 UPDATE
+ * - 조회 응답에는 DB 값 + 반영 대기 중인 증가분을 더해서 내려줌
+ *   (커밋과 inFlight 해제 사이의 아주 짧은 순간에는 증가분만큼 크게 보일 수 있으며 다음 조회에서 바로 맞춰짐)
+ * - JPA를 거치지 않는 UPDATE라 반영 후 목록 쿼리 캐시를 직접 비움 (그대로 두면 대기분이 빠진 만큼 조회수가 줄어 보임)
+ */
+@Slf4j
+@Component
+public class ReadCountBuffer {
+
+    private static final String UPDATE_SQL =
+            "update freeboard set freeboard_read = coalesce(freeboard_read, 0) + ? where freeboard_uid = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SecondLevelCacheService secondLevelCacheService;
+    private final int maxPendingKeys;
+
+    private final ConcurrentHashMap<Integer, Long> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, Long> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ReadCountBuffer(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           SecondLevelCacheService secondLevelCacheService,
+                           @Value("${kirini.read-count.max-pending-keys:10000}") int maxPendingKeys) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.secondLevelCacheService = secondLevelCacheService;
+        this.maxPendingKeys = Math.max(1, maxPendingKeys);
+    }
+
+    /**
+     * 조회수 1 증가 (대기 키 상한을 넘으면 새 게시글은 바로 반영)
+     */
+    public void increment(Integer freeboardId) {
+        if (pending.size() >= maxPendingKeys && !pending.containsKey(freeboardId)) {
+            jdbcTemplate.update(UPDATE_SQL, 1L, freeboardId);
+            secondLevelCacheService.evictFreeboardList();
+            return;
+        }
+        pending.merge(freeboardId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분
+     */
+    public long getPending(Integer freeboardId) {
+        return pending.getOrDefault(freeboardId, 0L) + inFlight.getOrDefault(freeboardId, 0L);
+    }
+
+    /**
+     * 모인 증가분을 한 번의 배치 UPDATE로 반영 (실패 시 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${kirini.read-count.flush-interval-ms:3000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            // 조회 합계(pending + inFlight)에서 잠시라도 빠지지 않도록 inFlight에 먼저 더한 뒤 pending에서 같은 양만 뺌
+            // (그 사이 들어온 증가분은 pending에 남아 다음 flush 대상이 됨)
+            List<Object[]> batch = new ArrayList<>();
+            for (Integer id : pending.keySet()) {
+                Long delta = pending.get(id);
+                if (delta == null || delta == 0) {
+                    continue;
+                }
+                inFlight.merge(id, delta, Long::sum);
+                pending.merge(id, -delta, (a, b) -> a + b == 0 ? null : a + b);
+                batch.add(new Object[]{delta, id});
+            }
+            // 행 잠금 순서를 일정하게 유지
+            batch.sort(Comparator.comparingInt(row -> (Integer) row[1]));
+
+            // inFlight는 커밋 직후(afterCommit)에 바로 해제해 DB 값과 inFlight가 겹쳐 더해지는 구간을 줄임
+            boolean[] committed = {false};
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            committed[0] = true;
+                            batch.forEach(row -> releaseInFlight((Integer) row[1], (Long) row[0]));
+                        }
+                    });
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+                });
+                secondLevelCacheService.evictFreeboardList();
+            } catch (RuntimeException e) {
+                log.warn("조회수 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+                if (!committed[0]) {
+                    // 실패한 증가분은 pending으로 먼저 되돌린 뒤 inFlight에서 뺌
+                    batch.forEach(row -> pending.merge((Integer) row[1], (Long) row[0], (a, b) -> a + b == 0 ? null : a + b));
+                }
+            } finally {
+                if (!committed[0]) {
+                    batch.forEach(row -> releaseInFlight((Integer) row[1], (Long) row[0]));
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void releaseInFlight(Integer id, long delta) {
+        inFlight.computeIfPresent(id, (k, v) -> v - delta == 0 ? null : v - delta);
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("종료 시 조회수 반영 실패: {}건 유실", pending.size());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package dev.earlydreamer.kirini.service;
+
+import dev.earlydreamer.kirini.domain.CacheRegions;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 무효화 및 통계 조회
+ * - JPA를 거치지 않은 쓰기(조회수 배치 UPDATE 등) 뒤에 관련 쿼리 캐시를 비움
+ */
+@Service
+public class SecondLevelCacheService {
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * 자유게시판 목록 쿼리 캐시 비우기
+     */
+    public void evictFreeboardList() {
+        sessionFactory.getCache().evictQueryRegion(CacheRegions.FREEBOARD_LIST);
+    }
+
+    /**
+     * 2차 캐시/쿼리 캐시 적중 통계 (영역별 포함)
+     */
+    public Map<String, Object> getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        stats.put("secondLevelHits", statistics.getSecondLevelCacheHitCount());
+        stats.put("secondLevelMisses", statistics.getSecondLevelCacheMissCount());
+        stats.put("secondLevelPuts", statistics.getSecondLevelCachePutCount());
+        stats.put("queryHits", statistics.getQueryCacheHitCount());
+        stats.put("queryMisses", statistics.getQueryCacheMissCount());
+        stats.put("queryPuts", statistics.getQueryCachePutCount());
+        stats.put("timestampHits", statistics.getUpdateTimestampsCacheHitCount());
+        stats.put("timestampMisses", statistics.getUpdateTimestampsCacheMissCount());
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            // 쿼리 캐시 영역은 처음 사용될 때 만들어지므로 그 전에는 목록에 없음
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(region);
+            if (regionStats != null) {
+                regions.put(region, toMap(regionStats));
+            }
+        }
+        stats.put("regions", regions);
+        return stats;
+    }
+
+    private static Map<String, Object> toMap(CacheRegionStatistics regionStats) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("hits", regionStats.getHitCount());
+        map.put("misses", regionStats.getMissCount());
+        map.put("puts", regionStats.getPutCount());
+        map.put("elementsInMemory", regionStats.getElementCountInMemory());
+        return map;
+    }
+}
@@ -14,6 +14,7 @@ public class QuestionDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String status; // maintained, deleted
+    private int answerCount; // 답변 수 (inquiry_comment_count)
     
     // 기본 생성자
     public QuestionDTO() {
@@ -107,4 +108,12 @@ public class QuestionDTO {
     public void setStatus(String status) {
         this.status = status;
     }
-}
\ No newline at end of file
+    
+    public int getAnswerCount() {
+        return answerCount;
+    }
+    
+    public void setAnswerCount(int answerCount) {
+        this.answerCount = answerCount;
+    }
+}
@@ -9,6 +9,7 @@ public class KeyboardInfoDTO {    private long keyboardId;
     private String description;
     private String imageUrl;
     private double averageScore;
+    private int scoreCount; // 별점 수
     private String switchType;
     private String layoutType;
     private String connectType;
@@ -52,6 +53,10 @@ public class KeyboardInfoDTO {    private long keyboardId;
         return averageScore;
     }
     
+    public int getScoreCount() {
+        return scoreCount;
+    }
+    
     public String getSwitchType() {
         return switchType;
     }
@@ -98,6 +103,10 @@ public class KeyboardInfoDTO {    private long keyboardId;
         this.averageScore = averageScore;
     }
     
+    public void setScoreCount(int scoreCount) {
+        this.scoreCount = scoreCount;
+    }
+    
     public void setSwitchType(String switchType) {
         this.switchType = switchType;
     }
@@ -1,7 +1,6 @@
 package presentation.controller.admin;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.sql.Date;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -13,7 +12,6 @@ import business.service.admin.AdminKeyboardService;
 import business.service.admin.AdminLogService;
 import business.service.admin.AdminReportService;
 import business.service.admin.AdminUserService;
-import com.google.gson.Gson;
 import dto.admin.AdminDeleteLogDTO;
 import dto.admin.AdminReportDTO;
 import dto.admin.AdminUserPenaltyDTO;
@@ -27,8 +25,23 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import presentation.controller.page.Controller;
+import util.chat.ChatFeed;
+import util.chat.ChatStreamHub;
+import util.db.AggregateLoader;
+import util.db.CommentCounter;
+import util.db.DBConnectionUtil;
+import util.db.ReactionEngine;
+import util.db.ReadCountAggregator;
+import util.db.SqlProfiler;
+import util.db.UserActivity;
+import util.json.JsonWriters;
 import util.logging.LoggerConfig;
+import util.search.KeyboardFacetCache;
+import util.search.SearchIndexManager;
+import util.web.AttachmentSender;
+import util.web.AttachmentStore;
 import util.web.RequestRouter;
+import util.web.ResponseCache;
 
 /**
  * 관리자 전용 페이지 컨트롤러
@@ -44,7 +57,6 @@ public class AdminPageController extends HttpServlet implements Controller {
     private AdminGuideService guideService;
     private AdminKeyboardService keyboardService;
     private util.web.RequestRouter router;
-    private final Gson gson = new Gson();
 
     /**
      * 서비스 객체 초기화
@@ -124,10 +136,7 @@ public class AdminPageController extends HttpServlet implements Controller {
     }
 
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonWriters.send(response, data);
     }    /**
      * GET 요청 처리
      */
@@ -224,6 +233,65 @@ public class AdminPageController extends HttpServlet implements Controller {
                 case "/keyboard/tag":
                     sendJsonResponse(response, keyboardService.getAllKeyboardTags());
                     break;
+
+                // 시스템 상태 모니터링
+                case "/system/db-pool":
+                    sendJsonResponse(response, DBConnectionUtil.getPoolStats());
+                    break;
+                case "/system/sql": {
+                    // 총 실행 시간이 긴 템플릿 순 (limit 기본 50)
+                    int limit = 50;
+                    try {
+                        limit = Integer.parseInt(request.getParameter("limit"));
+                    } catch (NumberFormatException e) {
+                        // 기본값 사용
+                    }
+                    sendJsonResponse(response, DBConnectionUtil.getSqlStats(limit));
+                    break;
+                }
+                case "/system/log-writer":
+                    sendJsonResponse(response, LoggerConfig.getLogWriterStats());
+                    break;
+                case "/system/read-count":
+                    sendJsonResponse(response, ReadCountAggregator.getStats());
+                    break;
+                case "/system/reactions":
+                    sendJsonResponse(response, ReactionEngine.getStats());
+                    break;
+                case "/system/response-cache":
+                    sendJsonResponse(response, ResponseCache.getStats());
+                    break;
+                case "/system/search-index":
+                    sendJsonResponse(response, SearchIndexManager.getStats());
+                    break;
+                case "/system/comment-count":
+                    sendJsonResponse(response, CommentCounter.getStats());
+                    break;
+                case "/system/chat-feed": {
+                    Map<String, Object> stats = new HashMap<>();
+                    stats.put("buffer", ChatFeed.getStats());
+                    stats.put("stream", ChatStreamHub.getStats());
+                    sendJsonResponse(response, stats);
+                    break;
+                }
+                case "/system/user-activity":
+                    sendJsonResponse(response, UserActivity.getStats());
+                    break;
+                case "/system/keyboard-facets":
+                    sendJsonResponse(response, KeyboardFacetCache.getStats());
+                    break;
+                case "/system/routes":
+                    sendJsonResponse(response, RequestRouter.getAllStats());
+                    break;
+                case "/system/downloads":
+                    sendJsonResponse(response, AttachmentSender.getStats());
+                    break;
+                case "/system/uploads":
+                    sendJsonResponse(response, AttachmentStore.getStats());
+                    break;
+                case "/system/aggregate-loads":
+                    sendJsonResponse(response, AggregateLoader.getStats());
+                    break;
                 default:
                     response.sendError(HttpServletResponse.SC_NOT_FOUND);
                     break;
@@ -383,6 +451,54 @@ public class AdminPageController extends HttpServlet implements Controller {
                     break;
                 }
 
+                // 검색 색인 재구성 (collection 파라미터가 없으면 전체)
+                case "/system/search-index/rebuild": {
+                    String collection = request.getParameter("collection");
+                    if (collection == null || collection.isEmpty()) {
+                        result.put("success", true);
+                        result.put("indexed", SearchIndexManager.rebuildAll());
+                        break;
+                    }
+                    try {
+                        SearchIndexManager.Collection target = SearchIndexManager.Collection.valueOf(collection.toUpperCase());
+                        result.put("success", true);
+                        result.put("indexed", Map.of(target.name(), SearchIndexManager.rebuild(target)));
+                    } catch (IllegalArgumentException e) {
+                        result.put("success", false);
+                        result.put("message", "알 수 없는 색인입니다: " + collection);
+                        response.setStatus(400);
+                    }
+                    break;
+                }
+
+                // SQL 실행 통계 초기화
+                case "/system/sql/reset": {
+                    SqlProfiler.reset();
+                    result.put("success", true);
+                    break;
+                }
+
+                // 게시글 댓글 수를 실제 댓글 수와 즉시 대조
+                case "/system/comment-count/reconcile": {
+                    result.put("success", true);
+                    result.put("fixed", CommentCounter.reconcileAll());
+                    break;
+                }
+
+                // 채팅 버퍼를 DB에서 다시 채움 (구독자에게는 reset 이벤트 전송)
+                case "/system/chat-feed/reseed": {
+                    result.put("success", true);
+                    result.put("messages", ChatFeed.seed());
+                    break;
+                }
+
+                // 내가 쓴 글 색인을 게시판 테이블 기준으로 다시 맞춤
+                case "/system/user-activity/rebuild": {
+                    result.put("success", true);
+                    result.put("rows", UserActivity.rebuild());
+                    break;
+                }
+
                 // 키보드 관련 요청 - 이미 존재하는 핸들러 호출
                 case "/keyboard/add":
                 case "/keyboard/update":
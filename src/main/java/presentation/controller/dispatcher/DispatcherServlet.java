@@ -1,5 +1,6 @@
 package presentation.controller.dispatcher;
 
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.annotation.MultipartConfig; // 이 부분 추가
@@ -8,15 +9,31 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import presentation.controller.mapper.HandlerMapping;
 import presentation.controller.page.Controller;
+import util.config.AppConfig;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 
-@WebServlet("*.do")
+/**
+ * 레거시 *.do 요청 디스패처
+ *
+ * 설정 키 (AppConfig): dispatcher.virtual-threads
+ * - true면 컨트롤러 호출을 가상 스레드로 넘기고 컨테이너 스레드는 비동기 모드로 바로 반환
+ *   (JDBC 대기 중에도 컨테이너 스레드 풀이 동시 처리 수를 제한하지 않음)
+ * - 이미 가상 스레드에서 실행 중이거나(spring.threads.virtual.enabled) 필터 체인이 비동기를 지원하지 않으면 그대로 처리
+ */
+@WebServlet(urlPatterns = "*.do", asyncSupported = true)
 @MultipartConfig // 이 부분 추가
 public class DispatcherServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
+
+    private static final boolean VIRTUAL_THREADS =
+            AppConfig.getBoolean("dispatcher.virtual-threads", "DISPATCHER_VIRTUAL_THREADS", false);
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY =
+            Thread.ofVirtual().name("dispatcher-", 0).factory();
+
     private HandlerMapping handlerMapping;
     
     @Override
@@ -27,6 +44,25 @@ public class DispatcherServlet extends HttpServlet {
     @Override
     protected void service(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
+        if (VIRTUAL_THREADS && !Thread.currentThread().isVirtual() && request.isAsyncSupported()) {
+            AsyncContext asyncContext = request.startAsync();
+            asyncContext.setTimeout(0); // 처리 시간 제한은 동기 처리와 같게 (컨테이너 비동기 타임아웃 사용 안 함)
+            VIRTUAL_THREAD_FACTORY.newThread(() -> {
+                try {
+                    dispatch(request, response);
+                } catch (ServletException | IOException e) {
+                    System.out.println("요청 처리 중 오류 발생: " + e.getMessage());
+                } finally {
+                    asyncContext.complete();
+                }
+            }).start();
+            return;
+        }
+        dispatch(request, response);
+    }
+
+    private void dispatch(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
         // 1. 요청 URI에서 명령어 추출
         String requestURI = request.getRequestURI();
         String command = extractCommand(requestURI);
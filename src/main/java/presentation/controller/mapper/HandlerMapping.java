@@ -2,6 +2,7 @@ package presentation.controller.mapper;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import presentation.controller.admin.AdminPageController;
 import presentation.controller.page.Controller;
@@ -16,20 +17,35 @@ import presentation.controller.page.user.UserProfileController;
 import presentation.controller.page.user.UserRegisterController;
 
 public class HandlerMapping {
-    private static HandlerMapping instance;
-    private Map<String, Controller> controllerMap;
+    // 최초 생성 이후에는 잠금 없이 volatile 읽기만 함
+    private static volatile HandlerMapping instance;
+    // 컨트롤러 생성(DAO/서비스 초기화 포함)이 잠금 안에서 실행되므로 모니터 대신 ReentrantLock 사용
+    // (가상 스레드가 기다리는 동안 캐리어 스레드를 붙잡지 않음)
+    private static final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Controller> controllerMap;
     
     private HandlerMapping() {
         controllerMap = new HashMap<>();
         initializeControllers();
     }
     
-    public static synchronized HandlerMapping getInstance() {
-        if (instance == null) {
-            instance = new HandlerMapping();
+    public static HandlerMapping getInstance() {
+        HandlerMapping mapping = instance;
+        if (mapping != null) {
+            return mapping;
         }
-        return instance;
-    }    private void initializeControllers() {
+        lock.lock();
+        try {
+            if (instance == null) {
+                instance = new HandlerMapping();
+            }
+            return instance;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void initializeControllers() {
         // 사용자 관련 컨트롤러
         controllerMap.put("login", new UserLoginController());
         controllerMap.put("signup", new UserRegisterController());
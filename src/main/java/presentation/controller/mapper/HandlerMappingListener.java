@@ -3,6 +3,12 @@ package presentation.controller.mapper;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import jakarta.servlet.annotation.WebListener;
+import util.chat.ChatFeed;
+import util.chat.ChatStreamHub;
+import util.db.CommentCounter;
+import util.db.DBConnectionUtil;
+import util.db.ReadCountAggregator;
+import util.logging.LoggerConfig;
 
 @WebListener
 public class HandlerMappingListener implements ServletContextListener {
@@ -12,10 +18,21 @@ public class HandlerMappingListener implements ServletContextListener {
         // 핸들러 매핑 초기화
         HandlerMapping.getInstance();
         System.out.println("핸들러 매핑이 초기화되었습니다.");
+        
+        // 익명 게시판 최근 메시지 버퍼 초기화 (실패 시 첫 조회 때 다시 시도)
+        ChatFeed.seedQuietly();
+        
+        // 댓글 수 카운터 주기 대조 작업 시작
+        CommentCounter.start();
     }
     
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
-        // 종료 시 필요한 정리 작업
+        // 종료 시 필요한 정리 작업 (SSE 연결을 닫고, 대기 중인 조회수와 로그를 먼저 저장한 뒤 커넥션 풀 종료)
+        ChatStreamHub.shutdown();
+        CommentCounter.shutdown();
+        ReadCountAggregator.shutdown();
+        LoggerConfig.shutdown();
+        DBConnectionUtil.shutdown();
     }
 }
@@ -2,8 +2,8 @@ package presentation.controller.page.board;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,14 +21,18 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
+import util.chat.ChatFeed;
+import util.chat.ChatStreamHub;
+import util.json.JsonWriters;
 import util.web.IpUtil;
 import util.web.RequestRouter;
 
 /**
  * 익명 게시판 관련 요청을 처리하는 컨트롤러
  * URL 패턴: /chatboard.do 형식 지원
+ * 변경분 수신: /chatboard/since?seq=N (폴링), /chatboard/stream (SSE, Last-Event-ID 지원)
  */
-@WebServlet({"/chatboard/*", "/chatboard.do"})
+@WebServlet(urlPatterns = {"/chatboard/*", "/chatboard.do"}, asyncSupported = true)
 public class ChatboardController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
     private ChatboardService chatboardService;
@@ -58,12 +62,17 @@ public class ChatboardController extends HttpServlet implements Controller {
         });
         
         router.getJson("/list", (req, res) -> {
-            List<ChatboardDTO> chatList = chatboardService.getAllChats();
+            ChatFeed.Snapshot snapshot = chatboardService.getChatSnapshot();
             Map<String, Object> result = new HashMap<>();
-            result.put("chatList", chatList);
+            result.put("chatList", snapshot != null ? snapshot.getChats() : null);
+            if (snapshot != null) {
+                result.put("lastSeq", snapshot.getLastSeq());
+            }
             return result;
         });
         
+        router.getJson("/since", (req, res) -> buildSinceResult(req));
+        
         // POST 요청 JSON 라우터 설정
         router.postJson("/post", (req, res) -> {
             // 로그인 확인
@@ -131,10 +140,7 @@ public class ChatboardController extends HttpServlet implements Controller {
      * JSON 응답 전송
      */
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(new Gson().toJson(data));
-        out.flush();
+        JsonWriters.send(response, data);
     }
     
     @Override
@@ -142,6 +148,12 @@ public class ChatboardController extends HttpServlet implements Controller {
         // API 요청인지 먼저 확인 (pathInfo 있는 요청은 API 요청으로 간주)
         String pathInfo = request.getPathInfo();
         
+        // SSE 스트림은 비동기로 응답하므로 JSON 라우터를 거치지 않음
+        if ("/stream".equals(pathInfo)) {
+            streamChats(request, response);
+            return;
+        }
+        
         // pathInfo가 있으면 API 요청으로 간주하고 Router를 통해 처리 시도
         if (pathInfo != null) {
             boolean handled = router.handleGetJson(request, response);
@@ -167,6 +179,12 @@ public class ChatboardController extends HttpServlet implements Controller {
         if (action == null || action.equals("list")) {
             // 채팅 목록 조회
             getAllChats(request, response);
+        } else if (action.equals("since")) {
+            // 지정한 순번 이후 변경분 조회
+            sendJsonResponse(response, buildSinceResult(request));
+        } else if (action.equals("stream")) {
+            // 변경분 SSE 스트림
+            streamChats(request, response);
         } else {
             response.sendError(HttpServletResponse.SC_NOT_FOUND);
         }
@@ -214,16 +232,77 @@ public class ChatboardController extends HttpServlet implements Controller {
      * 모든 채팅 메시지 조회
      */
     private void getAllChats(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
-        List<ChatboardDTO> chatList = chatboardService.getAllChats();
+        ChatFeed.Snapshot snapshot = chatboardService.getChatSnapshot();
         
         // JSON 응답으로 채팅 데이터 반환
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
-        result.put("chatList", chatList);
+        result.put("chatList", snapshot != null ? snapshot.getChats() : null);
+        if (snapshot != null) {
+            result.put("lastSeq", snapshot.getLastSeq());
+        }
         
         sendJsonResponse(response, result);
     }
     
+    /**
+     * 지정한 순번(seq) 이후 변경분 조회 결과
+     * 변경분을 알 수 없으면 resync=true와 함께 전체 목록을 반환
+     */
+    private Map<String, Object> buildSinceResult(HttpServletRequest request) {
+        Map<String, Object> result = new HashMap<>();
+        long seq;
+        try {
+            seq = Long.parseLong(request.getParameter("seq"));
+        } catch (NumberFormatException e) {
+            result.put("success", false);
+            result.put("message", "잘못된 순번입니다.");
+            return result;
+        }
+        
+        List<ChatFeed.Event> events = chatboardService.getChatsSince(seq);
+        if (events != null) {
+            result.put("success", true);
+            result.put("resync", false);
+            result.put("events", events);
+            result.put("lastSeq", events.isEmpty() ? seq : events.get(events.size() - 1).getSeq());
+            return result;
+        }
+        
+        ChatFeed.Snapshot snapshot = chatboardService.getChatSnapshot();
+        result.put("success", snapshot != null);
+        result.put("resync", true);
+        if (snapshot != null) {
+            result.put("chatList", snapshot.getChats());
+            result.put("lastSeq", snapshot.getLastSeq());
+        }
+        return result;
+    }
+    
+    /**
+     * 채팅 변경분 SSE 스트림
+     * 재연결 시 브라우저가 보내는 Last-Event-ID(또는 lastEventId 파라미터) 이후 변경분부터 전송
+     */
+    private void streamChats(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String lastEventId = request.getHeader("Last-Event-ID");
+        if (lastEventId == null) {
+            lastEventId = request.getParameter("lastEventId");
+        }
+        long since = -1;
+        if (lastEventId != null) {
+            try {
+                since = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                since = -1;
+            }
+        }
+        
+        if (!ChatStreamHub.subscribe(request, response, since)) {
+            response.setHeader("Retry-After", "10");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+    }
+    
     /**
      * 채팅 메시지 등록
      */    private void postChat(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
@@ -446,16 +525,10 @@ public class ChatboardController extends HttpServlet implements Controller {
      */
     private void sendJsonResponse(HttpServletResponse response, boolean success, String message) 
             throws IOException {
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        
-        // GSON 라이브러리 사용
-        JsonObject jsonResponse = new JsonObject();
-        jsonResponse.addProperty("success", success);
-        jsonResponse.addProperty("message", message);
-        
-        Gson gson = new Gson();
-        response.getWriter().write(gson.toJson(jsonResponse));
+        Map<String, Object> jsonResponse = new LinkedHashMap<>();
+        jsonResponse.put("success", success);
+        jsonResponse.put("message", message);
+        JsonWriters.send(response, jsonResponse);
     }
     
     /**
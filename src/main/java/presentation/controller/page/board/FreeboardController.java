@@ -2,12 +2,8 @@ package presentation.controller.page.board;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.PrintWriter;
 import java.lang.reflect.Type;
-import java.net.URLEncoder;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -42,9 +38,14 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.Part;
 import presentation.controller.page.Controller;
-import util.FileUtil;
 import util.config.AppConfig;
+import util.db.Keyset;
+import util.db.KeysetPage;
+import util.json.JsonWriters;
+import util.web.AttachmentSender;
+import util.web.AttachmentStore;
 import util.web.IpUtil;
+import util.web.ResponseCache;
 
 /**
  * 자유게시판 관련 요청을 처리하는 컨트롤러
@@ -275,7 +276,7 @@ public class FreeboardController extends HttpServlet implements Controller {
             }
         });
 
-        router.getJson("/list", (req, res) -> {
+        router.getJsonCached("/list", ResponseCache.Board.FREEBOARD, (req, res) -> {
             int page = 1;
             int pageSize = 10;
             
@@ -291,6 +292,11 @@ public class FreeboardController extends HttpServlet implements Controller {
                 // 잘못된 파라미터가 넘어온 경우 기본값 사용
             }
             
+            // cursor 파라미터가 있으면 키셋 페이징 (전체 건수 조회 없음, 빈 값이면 첫 페이지)
+            if (req.getParameter("cursor") != null) {
+                return getFreeboardsByCursor(req, res, pageSize);
+            }
+            
             List<FreeboardDTO> freeboardList = freeboardService.getAllFreeboards(page, pageSize);
             int totalCount = freeboardService.getTotalCount();
             int totalPages = (int) Math.ceil((double) totalCount / pageSize);
@@ -305,7 +311,7 @@ public class FreeboardController extends HttpServlet implements Controller {
             return result;
         });
 
-        router.getJson("/view", (req, res) -> {
+        router.getJsonCached("/view", ResponseCache.Board.FREEBOARD, (req, res) -> {
             try {
                 String idParam = req.getParameter("id");
                 if (idParam == null || idParam.trim().isEmpty()) {
@@ -345,9 +351,9 @@ public class FreeboardController extends HttpServlet implements Controller {
                 errorResult.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
                 return errorResult;
             }
-        });
+        }, this::countCachedView);
 
-        router.getJson("/comments", (req, res) -> {
+        router.getJsonCached("/comments", ResponseCache.Board.FREEBOARD, (req, res) -> {
             try {
                 String postIdParam = req.getParameter("postId");
                 if (postIdParam == null || postIdParam.trim().isEmpty()) {
@@ -569,6 +575,21 @@ public class FreeboardController extends HttpServlet implements Controller {
         });
     }
 
+    /**
+     * 캐시된 상세 응답을 보낸 경우에도 조회수는 증가 (핸들러가 실행되지 않으므로)
+     */
+    private void countCachedView(HttpServletRequest req, HttpServletResponse res) {
+        String idParam = req.getParameter("id");
+        if (idParam == null) {
+            return;
+        }
+        try {
+            freeboardService.updateReadCount(Long.parseLong(idParam.trim()), req);
+        } catch (NumberFormatException e) {
+            // 잘못된 ID면 증가할 조회수 없음
+        }
+    }
+
     @Override
     public void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
         String pathInfo = request.getPathInfo();
@@ -658,6 +679,11 @@ public class FreeboardController extends HttpServlet implements Controller {
         } catch (NumberFormatException e) {
         }
         
+        if (request.getParameter("cursor") != null) {
+            sendJsonResponse(response, getFreeboardsByCursor(request, response, pageSize));
+            return;
+        }
+        
         List<FreeboardDTO> freeboardList = freeboardService.getAllFreeboards(page, pageSize);
         int totalCount = freeboardService.getTotalCount();
         int totalPages = (int) Math.ceil((double) totalCount / pageSize);
@@ -672,6 +698,33 @@ public class FreeboardController extends HttpServlet implements Controller {
         sendJsonResponse(response, result);
     }
     
+    /**
+     * 커서 기반 게시글 목록 (전체 건수/페이지 수 대신 다음 페이지 커서 반환)
+     */
+    private Map<String, Object> getFreeboardsByCursor(HttpServletRequest request, HttpServletResponse response, int pageSize) {
+        Map<String, Object> result = new HashMap<>();
+        int size = Math.min(Math.max(pageSize, 1), 100);
+        try {
+            KeysetPage<FreeboardDTO> freeboardPage =
+                    freeboardService.getFreeboardsByCursor(Keyset.normalize(request.getParameter("cursor")), size);
+            if (freeboardPage == null) {
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                result.put("success", false);
+                result.put("message", "게시글 목록을 불러오는 중 오류가 발생했습니다.");
+                return result;
+            }
+            result.put("freeboardList", freeboardPage.getItems());
+            result.put("pageSize", size);
+            result.put("hasNext", freeboardPage.hasNext());
+            result.put("nextCursor", freeboardPage.getNextCursor());
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            result.put("success", false);
+            result.put("message", e.getMessage());
+        }
+        return result;
+    }
+    
     private void getFreeboardById(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
         try {
             long postId = Long.parseLong(request.getParameter("id"));
@@ -1097,27 +1150,11 @@ public class FreeboardController extends HttpServlet implements Controller {
             }
             
             String fileName = filePart.getSubmittedFileName();
-            long fileSize = filePart.getSize();
-            
-            String uploadDirPath = FileUtil.getUploadDirectoryPath();
-            String uniqueFileName = FileUtil.generateUniqueFilename(fileName);
             
-            File uploadDir = new File(uploadDirPath);
-            if (!uploadDir.exists()) {
-                uploadDir.mkdirs();
-            }
-            
-            File destinationFile = new File(uploadDir, uniqueFileName);
-            
-            filePart.write(destinationFile.getAbsolutePath());
-            
-            AttachmentDTO attachment = new AttachmentDTO();
-            attachment.setPostId(postId);
-            attachment.setFileName(fileName);
-            attachment.setFilePath(uniqueFileName);
-            attachment.setFileSize(fileSize);
-            
-            boolean success = freeboardService.addAttachment(attachment);
+            // 내용 해시로 한 번만 저장 (같은 파일이 이미 있으면 새로 쓰지 않고 참조만 추가)
+            AttachmentStore.StoredFile stored = AttachmentStore.store(filePart, fileName,
+                    file -> freeboardService.addAttachment(postId, fileName, file.hash(), file.size()));
+            boolean success = stored != null;
             
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
@@ -1127,20 +1164,20 @@ public class FreeboardController extends HttpServlet implements Controller {
             
             if (success) {
                 result.put("message", "파일이 업로드되었습니다.");
-                result.put("filename", uniqueFileName);
+                result.put("filename", stored.hash());
                 result.put("originalName", fileName);
-                result.put("fileSize", fileSize);
+                result.put("fileSize", stored.size());
             } else {
                 result.put("message", "파일 업로드 중 오류가 발생했습니다.");
             }
             
-            PrintWriter out = response.getWriter();
-            out.print(new Gson().toJson(result));
-            out.flush();
+            JsonWriters.write(response.getOutputStream(), result);
             
         } catch (NumberFormatException e) {
             logger.warning("Invalid post ID format: " + request.getParameter("postId"));
             sendJsonResponse(response, false, "잘못된 게시글 ID입니다.");
+        } catch (AttachmentStore.RejectedFileException e) {
+            sendJsonResponse(response, false, e.getMessage());
         } catch (Exception e) {
             logger.log(Level.SEVERE, "첨부파일 업로드 실패", e);
             sendJsonResponse(response, false, "첨부파일 업로드 중 오류가 발생했습니다.");
@@ -1162,50 +1199,29 @@ public class FreeboardController extends HttpServlet implements Controller {
                 return;
             }
             
-            String uploadDirPath = FileUtil.getUploadDirectoryPath();
-            File file = new File(uploadDirPath, fileName);
+            // 업로드 날짜 폴더에서 찾음 (다운로드 시에는 디렉토리를 만들지 않음)
+            File file = AttachmentSender.resolve(attachment.getFilePath(), attachment.getUploadDate());
             
-            if (!file.exists() || !file.isFile()) {
+            if (file == null) {
                 response.sendError(HttpServletResponse.SC_NOT_FOUND, "서버에 파일이 존재하지 않습니다.");
                 return;
             }
             
-            String mimeType = request.getServletContext().getMimeType(file.getName());
-            if (mimeType == null) {
-                mimeType = "application/octet-stream";
-            }
-            
-            response.setContentType(mimeType);
-            response.setContentLength((int) file.length());
-            
-            String originFilename = attachment.getFileName();
-            String userAgent = request.getHeader("User-Agent");
+            // 저장 파일명은 내용 해시이므로 원본 파일명으로 MIME 타입 결정
+            String mimeType = request.getServletContext().getMimeType(attachment.getFileName());
             
-            if (userAgent.contains("MSIE") || userAgent.contains("Trident") || userAgent.contains("Edge")) {
-                originFilename = URLEncoder.encode(originFilename, "UTF-8").replaceAll("\\+", "%20");
-            } else {
-                originFilename = new String(originFilename.getBytes("UTF-8"), "ISO-8859-1");
+            // 이어받기/304는 다운로드 수에 넣지 않음 (증가분은 모아서 일괄 반영)
+            AttachmentSender.Result result = AttachmentSender.send(request, response, file, attachment.getFileName(), mimeType);
+            if (result.isNewDownload()) {
+                freeboardService.increaseDownloadCount(attachment.getAttachId());
             }
             
-            response.setHeader("Content-Disposition", "attachment; filename=\"" + originFilename + "\"");
-            
-            try (FileInputStream in = new FileInputStream(file);
-                 OutputStream out = response.getOutputStream()) {
-                
-                byte[] buffer = new byte[4096];
-                int bytesRead;
-                
-                while ((bytesRead = in.read(buffer)) != -1) {
-                    out.write(buffer, 0, bytesRead);
-                }
-                out.flush();
-            }
-            
-            freeboardService.increaseDownloadCount(attachment.getAttachId());
-            
         } catch (Exception e) {
             logger.log(Level.SEVERE, "파일 다운로드 처리 중 오류", e);
-            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "파일 다운로드 중 오류가 발생했습니다.");
+            // 본문 전송 중 끊긴 경우에는 오류 응답을 보낼 수 없음
+            if (!response.isCommitted()) {
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "파일 다운로드 중 오류가 발생했습니다.");
+            }
         }
     }
     
@@ -1253,9 +1269,7 @@ public class FreeboardController extends HttpServlet implements Controller {
                 result.put("message", "댓글 수정에 실패했습니다. 본인이 작성한 댓글만 수정할 수 있습니다.");
             }
             
-            PrintWriter out = response.getWriter();
-            out.print(new Gson().toJson(result));
-            out.flush();
+            JsonWriters.write(response.getOutputStream(), result);
             
         } catch (NumberFormatException e) {
             logger.warning("Invalid comment ID format: " + commentIdStr);
@@ -1302,9 +1316,7 @@ public class FreeboardController extends HttpServlet implements Controller {
                 result.put("message", "댓글 삭제에 실패했습니다. 본인이 작성한 댓글만 삭제할 수 있습니다.");
             }
             
-            PrintWriter out = response.getWriter();
-            out.print(new Gson().toJson(result));
-            out.flush();
+            JsonWriters.write(response.getOutputStream(), result);
             
         } catch (NumberFormatException e) {
             logger.warning("Invalid comment ID format: " + commentIdStr);
@@ -1357,9 +1369,7 @@ public class FreeboardController extends HttpServlet implements Controller {
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
             
-            PrintWriter out = response.getWriter();
-            out.print(new Gson().toJson(result));
-            out.flush();
+            JsonWriters.write(response.getOutputStream(), result);
             
         } catch (NumberFormatException e) {
             logger.warning("Invalid post ID format: " + postIdStr);
@@ -1384,9 +1394,7 @@ public class FreeboardController extends HttpServlet implements Controller {
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
             
-            PrintWriter out = response.getWriter();
-            out.print(new Gson().toJson(result));
-            out.flush();
+            JsonWriters.write(response.getOutputStream(), result);
             
         } catch (NumberFormatException e) {
             logger.warning("Invalid post ID format: " + postIdStr);
@@ -1398,10 +1406,7 @@ public class FreeboardController extends HttpServlet implements Controller {
     }
     
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonWriters.send(response, data);
     }
     
     private void sendJsonResponse(HttpServletResponse response, boolean success, String message) throws IOException {
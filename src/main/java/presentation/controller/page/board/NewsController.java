@@ -2,7 +2,6 @@ package presentation.controller.page.board;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.lang.reflect.Type;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
@@ -35,7 +34,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
 import repository.dao.board.NewsDAO;
+import util.db.Keyset;
+import util.db.KeysetPage;
+import util.json.JsonWriters;
 import util.web.IpUtil;
+import util.web.ResponseCache;
 import repository.dao.board.NewsDAO;
 
 /**
@@ -174,7 +177,7 @@ public class NewsController extends HttpServlet implements Controller {
             }
         });
         
-        router.getJson("/list", (req, res) -> {
+        router.getJsonCached("/list", ResponseCache.Board.NEWS, (req, res) -> {
             int page = 1;
             int pageSize = 10;
             
@@ -190,6 +193,30 @@ public class NewsController extends HttpServlet implements Controller {
                 // 기본값 사용
             }
             
+            // cursor 파라미터가 있으면 키셋 페이징 (전체 건수 조회 없음, 빈 값이면 첫 페이지)
+            if (req.getParameter("cursor") != null) {
+                Map<String, Object> result = new HashMap<>();
+                int size = Math.min(Math.max(pageSize, 1), 100);
+                try {
+                    KeysetPage<NewsDTO> newsPage = newsService.getNewsByCursor(Keyset.normalize(req.getParameter("cursor")), size);
+                    if (newsPage == null) {
+                        res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                        result.put("success", false);
+                        result.put("message", "소식 목록을 불러오는 중 오류가 발생했습니다.");
+                        return result;
+                    }
+                    result.put("newsList", newsPage.getItems());
+                    result.put("pageSize", size);
+                    result.put("hasNext", newsPage.hasNext());
+                    result.put("nextCursor", newsPage.getNextCursor());
+                } catch (IllegalArgumentException e) {
+                    res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    result.put("success", false);
+                    result.put("message", e.getMessage());
+                }
+                return result;
+            }
+            
             List<NewsDTO> newsList = newsService.getAllNews(page, pageSize);
             int totalCount = newsService.getTotalNewsCount();
             int totalPages = (int) Math.ceil((double) totalCount / pageSize);
@@ -203,7 +230,7 @@ public class NewsController extends HttpServlet implements Controller {
             return result;
         });
         
-        router.getJson("/view", (req, res) -> {
+        router.getJsonCached("/view", ResponseCache.Board.NEWS, (req, res) -> {
             try {
                 // postId와 id 파라미터 모두 지원 (클라이언트 호환성을 위해)
                 String idParam = req.getParameter("id");
@@ -271,10 +298,10 @@ public class NewsController extends HttpServlet implements Controller {
                 errorResult.put("message", "뉴스 조회 중 오류가 발생했습니다: " + e.getMessage());
                 return errorResult;
             }
-        });
+        }, this::countCachedView);
         
         // 뉴스 댓글 목록 조회 API 추가
-        router.getJson("/comments", (req, res) -> {
+        router.getJsonCached("/comments", ResponseCache.Board.NEWS, (req, res) -> {
             try {
                 // postId와 id 파라미터 모두 지원 (클라이언트 호환성을 위해)
                 String idParam = req.getParameter("postId");
@@ -648,224 +675,7 @@ public class NewsController extends HttpServlet implements Controller {
      * JSON 응답 전송
      */
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        
-        try {
-            // 직접 JSON으로 변환하지 않고 직렬화된 문자열 반환
-            String jsonString = convertToJsonWithoutLocalDateTime(data);
-            out.print(jsonString);
-        } catch (Exception e) {
-            e.printStackTrace();
-            // 오류 시 기본 오류 응답
-            out.print("{\"error\": \"JSON 직렬화 중 오류가 발생했습니다.\"}");
-        }
-        
-        out.flush();
-    }
-    
-    /**
-     * LocalDateTime 객체를 문자열로 변환
-     */
-    private String formatLocalDateTime(LocalDateTime dateTime) {
-        if (dateTime == null) {
-            return "null";
-        }
-        return "\"" + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime) + "\"";
-    }
-    
-    /**
-     * 객체의 필드 값을 직접 JSON으로 변환하며 LocalDateTime 처리
-     */
-    private String convertToJsonWithoutLocalDateTime(Object data) {
-        if (data == null) {
-            return "null";
-        }
-        
-        if (data instanceof Map) {
-            Map<?, ?> map = (Map<?, ?>)data;
-            StringBuilder sb = new StringBuilder();
-            sb.append("{");
-            
-            boolean first = true;
-            for (Map.Entry<?, ?> entry : map.entrySet()) {
-                if (!first) {
-                    sb.append(",");
-                }
-                first = false;
-                
-                sb.append("\"").append(entry.getKey()).append("\":");
-                Object value = entry.getValue();
-                
-                if (value instanceof LocalDateTime) {
-                    // LocalDateTime 직접 처리
-                    sb.append(formatLocalDateTime((LocalDateTime) value));
-                } else if (value instanceof String) {
-                    sb.append("\"").append(escapeJsonString((String)value)).append("\"");
-                } else if (value instanceof Number || value instanceof Boolean) {
-                    sb.append(value);
-                } else if (value instanceof List) {
-                    sb.append(convertListToJson((List<?>)value));
-                } else if (value instanceof Map) {
-                    sb.append(convertToJsonWithoutLocalDateTime(value));
-                } else if (value == null) {
-                    sb.append("null");
-                } else {
-                    // 다른 객체의 경우 gson 사용
-                    sb.append(gson.toJson(value));
-                }
-            }
-            
-            sb.append("}");
-            return sb.toString();
-        } else if (data instanceof List) {
-            return convertListToJson((List<?>)data);
-        } else if (data instanceof LocalDateTime) {
-            // LocalDateTime 직접 처리
-            return formatLocalDateTime((LocalDateTime) data);
-        } else {
-            // 기본 타입이나 다른 객체는 Gson 사용
-            return gson.toJson(data);
-        }
-    }
-    
-    /**
-     * List를 JSON 배열로 변환
-     */
-    private String convertListToJson(List<?> list) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("[");
-        
-        boolean first = true;
-        for (Object item : list) {
-            if (!first) {
-                sb.append(",");
-            }
-            first = false;
-            
-            if (item instanceof LocalDateTime) {
-                // LocalDateTime은 ISO 형식 문자열로 직접 변환
-                LocalDateTime dateTime = (LocalDateTime) item;
-                sb.append("\"").append(dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)).append("\"");
-            } else if (item instanceof String) {
-                sb.append("\"").append(escapeJsonString((String)item)).append("\"");
-            } else if (item instanceof Number || item instanceof Boolean) {
-                sb.append(item);
-            } else if (item instanceof List) {
-                sb.append(convertListToJson((List<?>)item));
-            } else if (item instanceof Map) {
-                sb.append(convertToJsonWithoutLocalDateTime(item));
-            } else if (item == null) {
-                sb.append("null");
-            } else {
-                // Custom DTO 처리
-                sb.append(convertToJsonWithoutLocalDateTime(convertDtoToMap(item)));
-            }
-        }
-        
-        sb.append("]");
-        return sb.toString();
-    }
-    
-    /**
-     * DTO 객체를 Map으로 변환
-     */
-    private Map<String, Object> convertDtoToMap(Object dto) {
-        Map<String, Object> map = new HashMap<>();
-        
-        try {
-            // NewsDTO 특별 처리
-            if (dto instanceof NewsDTO) {
-                NewsDTO news = (NewsDTO) dto;
-                map.put("newsId", news.getNewsId());
-                map.put("newsTitle", news.getNewsTitle());
-                map.put("newsContents", news.getNewsContents());
-                map.put("newsRead", news.getNewsRead());
-                map.put("newsRecommend", news.getNewsRecommend());
-                
-                // LocalDateTime 직접 문자열로 변환
-                if (news.getNewsWritetime() != null) {
-                    map.put("newsWritetime", news.getNewsWritetime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-                }
-                if (news.getNewsModifyTime() != null) {
-                    map.put("newsModifyTime", news.getNewsModifyTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-                }
-                
-                map.put("newsAuthorIp", news.getNewsAuthorIp());
-                map.put("newsNotify", news.getNewsNotify());
-                map.put("newsDeleted", news.getNewsDeleted());
-                map.put("userId", news.getUserId());
-                return map;
-            }
-            
-            // NewsCommentDTO 특별 처리
-            else if (dto instanceof NewsCommentDTO) {
-                NewsCommentDTO comment = (NewsCommentDTO) dto;
-                map.put("newsCommentUid", comment.getNewsCommentId());
-                map.put("newsCommentContents", comment.getNewsCommentContents());
-                
-                // LocalDateTime 직접 문자열로 변환
-                if (comment.getNewsCommentWritetime() != null) {
-                    map.put("newsCommentWritetime", comment.getNewsCommentWritetime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-                }
-                if (comment.getNewsCommentModifytime() != null) {
-                    map.put("newsCommentModifytime", comment.getNewsCommentModifytime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-                }
-                
-                map.put("newsCommentAuthorIp", comment.getNewsCommentAuthorIp());
-                map.put("newsUid", comment.getNewsId());
-                map.put("userId", comment.getUserId());
-                
-                // 사용자 이름 추가 (JOIN 결과에서 가져온 경우)
-                if (comment.getUserName() != null) {
-                    map.put("userName", comment.getUserName());
-                }
-                
-                return map;
-            }
-            
-            // 기타 DTO는 gson으로 변환 후 다시 파싱 (위험한 방법이지만 임시 해결책)
-            String json = gson.toJson(dto);
-            return gson.fromJson(json, Map.class);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
-            map.put("error", "객체 변환 오류");
-            return map;
-        }
-    }
-    
-    /**
-     * JSON 문자열 이스케이프 처리
-     */
-    private String escapeJsonString(String str) {
-        if (str == null) return "";
-        
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < str.length(); i++) {
-            char ch = str.charAt(i);
-            switch (ch) {
-                case '"': sb.append("\\\""); break;
-                case '\\': sb.append("\\\\"); break;
-                case '\b': sb.append("\\b"); break;
-                case '\f': sb.append("\\f"); break;
-                case '\n': sb.append("\\n"); break;
-                case '\r': sb.append("\\r"); break;
-                case '\t': sb.append("\\t"); break;
-                default:
-                    if (ch < ' ') {
-                        String hex = Integer.toHexString(ch);
-                        sb.append("\\u");
-                        for (int j = 0; j < 4 - hex.length(); j++) {
-                            sb.append('0');
-                        }
-                        sb.append(hex);
-                    } else {
-                        sb.append(ch);
-                    }
-            }
-        }
-        return sb.toString();
+        JsonWriters.send(response, data);
     }
     
     @Override
@@ -1318,6 +1128,24 @@ public class NewsController extends HttpServlet implements Controller {
         }
     }
     
+    /**
+     * 캐시된 상세 응답을 보낸 경우에도 조회수는 증가 (핸들러가 실행되지 않으므로)
+     */
+    private void countCachedView(HttpServletRequest req, HttpServletResponse res) {
+        String idParam = req.getParameter("id");
+        if (idParam == null || idParam.isEmpty()) {
+            idParam = req.getParameter("postId");
+        }
+        if (idParam == null) {
+            return;
+        }
+        try {
+            newsService.updateReadCount(Long.parseLong(idParam.trim()), req);
+        } catch (NumberFormatException e) {
+            // 잘못된 ID로 캐시된 오류 응답이면 증가할 조회수 없음
+        }
+    }
+
     /**
      * 게시글 추천
      */
@@ -21,6 +21,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
 import util.SecurityUtil;
+import util.db.Keyset;
+import util.db.KeysetPage;
+import util.json.JsonOutput;
+import util.json.ObjectWriter;
 
 
 /**
@@ -33,6 +37,50 @@ public class UserpageController extends HttpServlet implements Controller {
     private final KeyboardInfoService keyboardInfoService;
     private final BoardService boardService;
     
+    // 마이페이지 JSON 항목 (화면에서 쓰는 필드만, 없는 문자열은 빈 문자열)
+    private static final ObjectWriter<UserDTO> USER_ITEM_WRITER = ObjectWriter.<UserDTO>builder()
+            .longValue("userId", UserDTO::getUserId)
+            .string("userName", user -> orEmpty(user.getUserName()))
+            .string("nickname", user -> orEmpty(user.getNickname()))
+            .string("userEmail", user -> orEmpty(user.getEmail()))
+            .string("userIntroduce", user -> orEmpty(user.getUserIntroduce()))
+            .build();
+    
+    private static final ObjectWriter<UserDTO> USER_INFO_WRITER = ObjectWriter.<UserDTO>builder()
+            .longValue("userId", UserDTO::getUserId)
+            .string("userName", user -> orEmpty(user.getUserName()))
+            .string("nickname", user -> orEmpty(user.getNickname()))
+            .string("email", user -> orEmpty(user.getEmail()))
+            // userEmail 필드 추가 (프론트엔드 호환성을 위해)
+            .string("userEmail", user -> orEmpty(user.getEmail()))
+            .string("userIntroduce", user -> orEmpty(user.getUserIntroduce()))
+            .build();
+    
+    private static final ObjectWriter<KeyboardInfoDTO> KEYBOARD_ITEM_WRITER = ObjectWriter.<KeyboardInfoDTO>builder()
+            .longValue("id", KeyboardInfoDTO::getKeyboardId)
+            .string("name", keyboard -> orEmpty(keyboard.getName()))
+            .string("type", keyboard -> orEmpty(keyboard.getSwitchType()))
+            .string("imageUrl", keyboard -> orEmpty(keyboard.getImageUrl()))
+            .build();
+    
+    private static final ObjectWriter<PostDTO> POST_ITEM_WRITER = ObjectWriter.<PostDTO>builder()
+            .longValue("postId", PostDTO::getPostId)
+            .string("title", post -> orEmpty(post.getTitle()))
+            .string("boardType", post -> orEmpty(post.getBoardType()))
+            .string("boardName", post -> getBoardName(post.getBoardType()))
+            .string("createdAt", post -> String.valueOf(post.getWriteTime()))
+            .intValue("viewCount", PostDTO::getViewCount)
+            .build();
+    
+    // 키보드 이름은 조회가 필요하므로 인스턴스 작성기
+    private final ObjectWriter<KeyboardScoreDTO> scoreItemWriter = ObjectWriter.<KeyboardScoreDTO>builder()
+            .longValue("keyboardId", KeyboardScoreDTO::getKeyboardId)
+            .string("keyboardName", score -> orEmpty(getKeyboardName(score.getKeyboardId())))
+            .intValue("score", KeyboardScoreDTO::getScoreValue)
+            .string("comment", score -> orEmpty(score.getReview()))
+            .string("ratedAt", score -> String.valueOf(score.getScoreTime()))
+            .build();
+    
     public UserpageController() {
         this.userService = new UserService();
         this.keyboardInfoService = new KeyboardInfoService();
@@ -205,6 +253,21 @@ public class UserpageController extends HttpServlet implements Controller {
                         boardType = "all";
                     }
                     
+                    // cursor 파라미터가 있으면 키셋 페이징 (전체 건수 조회 없음, 빈 값이면 첫 페이지)
+                    if (request.getParameter("cursor") != null) {
+                        KeysetPage<PostDTO> postPage;
+                        try {
+                            postPage = boardService.getPostsByUserIdCursor(userId, boardType,
+                                    Keyset.normalize(request.getParameter("cursor")), postsPageSize);
+                        } catch (IllegalArgumentException e) {
+                            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                            sendJsonResponse(response, false, e.getMessage());
+                            return;
+                        }
+                        sendJsonCursorResponse(response, postPage.getItems(), postsPageSize, postPage.getNextCursor());
+                        break;
+                    }
+                    
                     List<PostDTO> posts = boardService.getPostsByUserId(userId, boardType, postsPage, postsPageSize);
                     int totalPosts = boardService.getTotalPostCountByUserId(userId, boardType);
                     
@@ -366,83 +429,69 @@ public class UserpageController extends HttpServlet implements Controller {
         
         int totalPages = (int) Math.ceil((double) totalItems / pageSize);
         
-        StringBuilder json = new StringBuilder();
-        json.append("{");
-        json.append("\"items\": [");
-        
-        // 객체 목록을 JSON 배열로 변환
-        for (int i = 0; i < items.size(); i++) {
-            if (i > 0) {
-                json.append(",");
-            }
-            json.append(convertObjectToJson(items.get(i)));
-        }
-        
-        json.append("],");
-        json.append("\"pagination\": {");
-        json.append("\"currentPage\": ").append(currentPage).append(",");
-        json.append("\"pageSize\": ").append(pageSize).append(",");
-        json.append("\"totalItems\": ").append(totalItems).append(",");
-        json.append("\"totalPages\": ").append(totalPages);
-        json.append("}");
-        json.append("}");
+        JsonOutput json = new JsonOutput(response.getOutputStream());
+        json.beginObject();
+        writeItems(json, items);
+        json.name("pagination").beginObject()
+                .name("currentPage").value(currentPage)
+                .name("pageSize").value(pageSize)
+                .name("totalItems").value(totalItems)
+                .name("totalPages").value(totalPages)
+                .endObject();
+        json.endObject();
+        json.flush();
+    }
+    
+    /**
+     * 커서 페이징 JSON 응답 전송 (전체 건수 대신 다음 페이지 커서)
+     */
+    private void sendJsonCursorResponse(HttpServletResponse response, List<?> items, int pageSize, String nextCursor)
+            throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
         
-        response.getWriter().write(json.toString());
+        JsonOutput json = new JsonOutput(response.getOutputStream());
+        json.beginObject();
+        writeItems(json, items);
+        json.name("pagination").beginObject()
+                .name("pageSize").value(pageSize)
+                .name("hasNext").value(nextCursor != null)
+                .name("nextCursor").value(nextCursor)
+                .endObject();
+        json.endObject();
+        json.flush();
     }
-      /**
-     * 객체를 JSON 문자열로 변환
+    
+    /**
+     * 목록 항목을 "items" 배열로 출력 (마이페이지 화면에서 쓰는 필드만)
      */
-    private String convertObjectToJson(Object item) {
-        StringBuilder json = new StringBuilder("{");
-          if (item instanceof UserDTO) {
-            UserDTO user = (UserDTO) item;
-            json.append("\"userId\":").append(user.getUserId()).append(",");
-            json.append("\"userName\":\"").append(escapeJsonString(user.getUserName())).append("\",");
-            json.append("\"nickname\":\"").append(escapeJsonString(user.getNickname())).append("\",");
-            json.append("\"userEmail\":\"").append(escapeJsonString(user.getEmail())).append("\",");
-            json.append("\"userIntroduce\":\"").append(escapeJsonString(user.getUserIntroduce() != null ? user.getUserIntroduce() : "")).append("\"");
-            // 필요한 추가 필드
-            
-        } else if (item instanceof KeyboardInfoDTO) {
-            KeyboardInfoDTO keyboard = (KeyboardInfoDTO) item;
-            json.append("\"id\":").append(keyboard.getKeyboardId()).append(",");
-            json.append("\"name\":\"").append(escapeJsonString(keyboard.getName())).append("\",");
-            json.append("\"type\":\"").append(escapeJsonString(keyboard.getSwitchType())).append("\",");
-            json.append("\"imageUrl\":\"").append(escapeJsonString(keyboard.getImageUrl() != null ? keyboard.getImageUrl() : "")).append("\"");
-            // 필요한 추가 필드
-            
-        } else if (item instanceof PostDTO) {
-            PostDTO post = (PostDTO) item;
-            json.append("\"postId\":").append(post.getPostId()).append(",");
-            json.append("\"title\":\"").append(escapeJsonString(post.getTitle())).append("\",");
-            json.append("\"boardType\":\"").append(escapeJsonString(post.getBoardType())).append("\",");
-            json.append("\"boardName\":\"").append(escapeJsonString(getBoardName(post.getBoardType()))).append("\",");
-            json.append("\"createdAt\":\"").append(post.getWriteTime()).append("\",");
-            json.append("\"viewCount\":").append(post.getViewCount());
-            // 필요한 추가 필드
-            
-        } else if (item instanceof KeyboardScoreDTO) {
-            KeyboardScoreDTO score = (KeyboardScoreDTO) item;
-            json.append("\"keyboardId\":").append(score.getKeyboardId()).append(",");
-            json.append("\"keyboardName\":\"").append(escapeJsonString(getKeyboardName(score.getKeyboardId()))).append("\",");
-            json.append("\"score\":").append(score.getScoreValue()).append(",");
-            json.append("\"comment\":\"").append(escapeJsonString(score.getReview())).append("\",");
-            json.append("\"ratedAt\":\"").append(score.getScoreTime()).append("\"");
-            // 필요한 추가 필드
-            
-        } else {
-            // 기타 타입 처리
-            json.append("\"data\":\"").append(escapeJsonString(item.toString())).append("\"");
+    private void writeItems(JsonOutput json, List<?> items) throws IOException {
+        json.name("items").beginArray();
+        for (Object item : items) {
+            if (item instanceof UserDTO) {
+                USER_ITEM_WRITER.write(json, (UserDTO) item);
+            } else if (item instanceof KeyboardInfoDTO) {
+                KEYBOARD_ITEM_WRITER.write(json, (KeyboardInfoDTO) item);
+            } else if (item instanceof PostDTO) {
+                POST_ITEM_WRITER.write(json, (PostDTO) item);
+            } else if (item instanceof KeyboardScoreDTO) {
+                scoreItemWriter.write(json, (KeyboardScoreDTO) item);
+            } else {
+                // 기타 타입 처리
+                json.beginObject().name("data").value(String.valueOf(item)).endObject();
+            }
         }
-        
-        json.append("}");
-        return json.toString();
+        json.endArray();
+    }
+    
+    private static String orEmpty(String value) {
+        return value != null ? value : "";
     }
     
     /**
      * 게시판 타입을 이름으로 변환
      */
-    private String getBoardName(String boardType) {
+    private static String getBoardName(String boardType) {
         if (boardType == null) {
             return "게시판";
         }
@@ -472,20 +521,6 @@ public class UserpageController extends HttpServlet implements Controller {
         }
     }
     
-    /**
-     * JSON 문자열에서 특수 문자 이스케이프 처리
-     */
-    private String escapeJsonString(String input) {
-        if (input == null) {
-            return "";
-        }
-        return input.replace("\\", "\\\\")
-                   .replace("\"", "\\\"")
-                   .replace("\n", "\\n")
-                   .replace("\r", "\\r")
-                   .replace("\t", "\\t");
-    }
-
     /**
      * 내 정보 읽어오기
      */    private void getMyUserInfo(HttpServletRequest request, HttpServletResponse response) 
@@ -831,78 +866,38 @@ public class UserpageController extends HttpServlet implements Controller {
             throws IOException {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
-        // JSON 문자열 생성 시 메시지 내용에서 따옴표 등 특수문자 처리
-        String escapedMessage = message.replace("\"", "\\\"");
-        response.getWriter().write("{\"success\": " + success + ", \"message\": \"" + escapedMessage + "\"}");
+        JsonOutput json = new JsonOutput(response.getOutputStream());
+        json.beginObject()
+                .name("success").value(success)
+                .name("message").value(message)
+                .endObject();
+        json.flush();
     }
     
     /**
      * 객체를 JSON으로 변환하여 응답 전송
-     */    private void sendJsonDataResponse(HttpServletResponse response, Object data) 
+     */
+    private void sendJsonDataResponse(HttpServletResponse response, Object data) 
             throws IOException {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
         
-        StringBuilder json = new StringBuilder("{");
-        
-        try {
-            if (data instanceof UserDTO) {
-                UserDTO user = (UserDTO) data;                // null 체크를 포함한 안전한 변환
-                json.append("\"userId\":").append(user.getUserId()).append(",");
-                json.append("\"userName\":\"").append(escapeJsonString(user.getUserName())).append("\",");
-                
-                // nickname이 null인 경우 빈 문자열로 처리
-                String nickname = user.getNickname();
-                json.append("\"nickname\":\"").append(escapeJsonString(nickname != null ? nickname : "")).append("\",");
-                
-                // email이 null인 경우 빈 문자열로 처리
-                String email = user.getEmail();
-                json.append("\"email\":\"").append(escapeJsonString(email != null ? email : "")).append("\",");
-                // userEmail 필드 추가 (프론트엔드 호환성을 위해)
-                json.append("\"userEmail\":\"").append(escapeJsonString(email != null ? email : "")).append("\",");
-                
-                // userIntroduce가 null인 경우 빈 문자열로 처리
-                String introduce = null;                
-                try {
-                    introduce = user.getUserIntroduce();
-                } catch (Exception e) {
-                    // 해당 메서드가 없거나 오류 발생시 introduce 메서드 시도
-                    try {
-                        introduce = user.getIntroduce();
-                    } catch (Exception ex) {
-                        // 둘 다 실패하면 빈 문자열 사용
-                        System.err.println("사용자 소개(introduce) 정보 가져오기 실패: " + ex.getMessage());
-                    }
-                }
-                
-                json.append("\"userIntroduce\":\"").append(escapeJsonString(introduce != null ? introduce : "")).append("\"");
-            } else if (data instanceof List) {
-                // List 타입 처리는 원래대로 유지
-                json.append("\"items\":[");
-                List<?> items = (List<?>) data;
-                for (int i = 0; i < items.size(); i++) {
-                    Object item = items.get(i);
-                    if (i > 0) {
-                        json.append(",");
-                    }
-                    json.append("{\"id\":").append(i).append("}");
-                }
-                json.append("]");
-            } else {
-                // 기타 타입에 대한 처리
-                json.append("\"data\":\"").append(escapeJsonString(data != null ? data.toString() : "null")).append("\"");
+        JsonOutput json = new JsonOutput(response.getOutputStream());
+        if (data instanceof UserDTO) {
+            USER_INFO_WRITER.write(json, (UserDTO) data);
+        } else if (data instanceof List) {
+            // List 타입 처리는 원래대로 유지
+            List<?> items = (List<?>) data;
+            json.beginObject().name("items").beginArray();
+            for (int i = 0; i < items.size(); i++) {
+                json.beginObject().name("id").value(i).endObject();
             }
-        } catch (Exception e) {
-            // 변환 중 예외 발생시 에러 정보 JSON에 포함
-            System.err.println("JSON 변환 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
-            json = new StringBuilder("{");
-            json.append("\"error\":\"데이터 변환 중 오류가 발생했습니다.\",");
-            json.append("\"errorMessage\":\"").append(escapeJsonString(e.getMessage())).append("\"");
+            json.endArray().endObject();
+        } else {
+            // 기타 타입에 대한 처리
+            json.beginObject().name("data").value(String.valueOf(data)).endObject();
         }
-        
-        json.append("}");
-        response.getWriter().write(json.toString());
+        json.flush();
     }
       /**
      * 프로필 업데이트 요청 처리
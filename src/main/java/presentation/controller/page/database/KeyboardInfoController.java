@@ -1,12 +1,11 @@
 package presentation.controller.page.database;
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.google.gson.Gson;
 import business.service.database.KeyboardInfoService;
 import dto.keyboard.KeyboardInfoDTO;
 import dto.keyboard.KeyboardScoreDTO;
@@ -19,6 +18,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
+import util.db.AggregateLoader;
+import util.db.Keyset;
+import util.db.KeysetPage;
+import util.json.JsonWriters;
 import util.web.IpUtil;
 import util.web.RequestRouter;
 
@@ -33,7 +36,6 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
     private KeyboardInfoService keyboardInfoService;
     private util.web.RequestRouter router;
-    private final Gson gson = new Gson();
 
     public KeyboardInfoController() {
         keyboardInfoService = new KeyboardInfoService();
@@ -75,6 +77,30 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
                 }
             }
             
+            // cursor 파라미터가 있으면 키셋 페이징 (전체 건수 조회 없음, 빈 값이면 첫 페이지)
+            if (req.getParameter("cursor") != null) {
+                Map<String, Object> result = new HashMap<>();
+                try {
+                    KeysetPage<KeyboardInfoDTO> keyboardPage =
+                            keyboardInfoService.getKeyboardInfosByCursor(Keyset.normalize(req.getParameter("cursor")), pageSize);
+                    if (keyboardPage == null) {
+                        res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                        result.put("success", false);
+                        result.put("message", "키보드 목록을 불러오는 중 오류가 발생했습니다.");
+                        return result;
+                    }
+                    result.put("keyboardList", keyboardPage.getItems());
+                    result.put("pageSize", pageSize);
+                    result.put("hasNext", keyboardPage.hasNext());
+                    result.put("nextCursor", keyboardPage.getNextCursor());
+                } catch (IllegalArgumentException e) {
+                    res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    result.put("success", false);
+                    result.put("message", e.getMessage());
+                }
+                return result;
+            }
+            
             // 키보드 목록 가져오기
             List<KeyboardInfoDTO> keyboardList = keyboardInfoService.getAllKeyboardInfos(page, pageSize);
             int totalKeyboards = keyboardInfoService.getTotalKeyboardCount();
@@ -88,16 +114,22 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
             
             return result;
         });
+        
+        // 필터 사이드바: 현재 조건에서 필터 값별 키보드 수 (필터 캐시에서 계산, DB 조회 없음)
+        router.getJson("/facets", (req, res) -> {
+            Map<String, Object> result = new HashMap<>();
+            result.put("facetCounts", keyboardInfoService.getFacetCounts(
+                    req.getParameter("keyword"), req.getParameter("manufacturer"), req.getParameter("switchType"),
+                    req.getParameter("layoutType"), req.getParameter("connectType")));
+            return result;
+        });
     }
     
     /**
      * JSON 응답 전송
      */
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonWriters.send(response, data);
     }
 
     @Override
@@ -255,6 +287,7 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
         request.setAttribute("switchTypes", switchTypes);
         request.setAttribute("layoutTypes", layoutTypes);
         request.setAttribute("connectTypes", connectTypes);
+        request.setAttribute("facetCounts", keyboardInfoService.getFacetCounts(null, null, null, null, null));
         
         // 목록 페이지로 포워딩
         request.getRequestDispatcher("/view/pages/keyboard/list.jsp").forward(request, response);
@@ -275,34 +308,49 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
         try {
             long keyboardId = Long.parseLong(keyboardIdStr);
             
-            // 키보드 정보 가져오기
-            KeyboardInfoDTO keyboard = keyboardInfoService.getKeyboardInfoById(keyboardId);
+            // 로그인 사용자 정보 (하위 조회는 다른 스레드에서 실행되므로 세션 값은 먼저 꺼내 둠)
+            HttpSession session = request.getSession();
+            UserDTO user = (UserDTO) session.getAttribute("user");
+            long userId = user != null ? user.getUserId() : 0;
+            
+            // 키보드 정보, 한줄평, 태그(로그인한 경우 사용자의 태그 투표 정보 포함), 스크랩 여부, 내 평점을 동시에 조회
+            // 키보드 정보 외에는 실패/시간 초과 시 빈 값으로 페이지를 그림
+            KeyboardInfoDTO keyboard;
+            List<KeyboardScoreDTO> comments;
+            List<KeyboardTagDTO> tags;
+            boolean isScraped;
+            KeyboardScoreDTO userScore;
+            try (AggregateLoader loader = AggregateLoader.open("keyboard.view")) {
+                AggregateLoader.Part<KeyboardInfoDTO> keyboardPart = loader.forkRequired("keyboard",
+                        () -> keyboardInfoService.getKeyboardInfoById(keyboardId));
+                AggregateLoader.Part<List<KeyboardScoreDTO>> commentsPart = loader.fork("comments",
+                        () -> keyboardInfoService.getKeyboardComments(keyboardId));
+                AggregateLoader.Part<List<KeyboardTagDTO>> tagsPart = loader.fork("tags",
+                        () -> keyboardInfoService.getKeyboardTagsWithVotes(keyboardId, userId));
+                AggregateLoader.Part<Boolean> scrapPart = user != null
+                        ? loader.fork("scrap", () -> keyboardInfoService.hasAlreadyScrapped(keyboardId, userId))
+                        : null;
+                AggregateLoader.Part<KeyboardScoreDTO> scorePart = user != null
+                        ? loader.fork("userScore", () -> keyboardInfoService.getUserScore(keyboardId, userId))
+                        : null;
+                loader.join();
+                
+                keyboard = keyboardPart.get();
+                comments = commentsPart.orElse(List.of());
+                tags = tagsPart.orElse(List.of());
+                isScraped = scrapPart != null && scrapPart.orElse(false);
+                userScore = scorePart != null ? scorePart.orElse(null) : null;
+            } catch (SQLException e) {
+                e.printStackTrace();
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "키보드 정보를 불러오지 못했습니다.");
+                return;
+            }
             
             if (keyboard == null) {
                 response.sendError(HttpServletResponse.SC_NOT_FOUND, "존재하지 않는 키보드 정보입니다.");
                 return;
             }
             
-            // 한줄평 목록 가져오기
-            List<KeyboardScoreDTO> comments = keyboardInfoService.getKeyboardComments(keyboardId);
-            
-            // 로그인 사용자 정보
-            HttpSession session = request.getSession();
-            UserDTO user = (UserDTO) session.getAttribute("user");
-            
-            // 태그 정보 가져오기 (로그인한 경우 사용자의 태그 투표 정보 포함)
-            List<KeyboardTagDTO> tags = null;
-            boolean isScraped = false;
-            KeyboardScoreDTO userScore = null;
-            
-            if (user != null) {
-                tags = keyboardInfoService.getKeyboardTagsWithVotes(keyboardId, user.getUserId());
-                isScraped = keyboardInfoService.hasAlreadyScrapped(keyboardId, user.getUserId());
-                userScore = keyboardInfoService.getUserScore(keyboardId, user.getUserId());
-            } else {
-                tags = keyboardInfoService.getKeyboardTagsWithVotes(keyboardId, 0);
-            }
-            
             // 요청 속성에 설정
             request.setAttribute("keyboard", keyboard);
             request.setAttribute("comments", comments);
@@ -371,6 +419,8 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
         request.setAttribute("switchTypes", switchTypes);
         request.setAttribute("layoutTypes", layoutTypes);
         request.setAttribute("connectTypes", connectTypes);
+        request.setAttribute("facetCounts", keyboardInfoService.getFacetCounts(
+                keyword, manufacturer, switchType, layoutType, connectType));
         request.setAttribute("isSearch", true);
         
         // 검색 결과 페이지로 포워딩 (목록 페이지와 동일한 JSP 사용)
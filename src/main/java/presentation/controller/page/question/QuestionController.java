@@ -1,17 +1,12 @@
 package presentation.controller.page.question;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.PrintWriter;
-import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import business.service.question.QuestionService;
-import com.google.gson.Gson;
 import dto.board.AnswerDTO;
 import dto.board.AttachmentDTO;
 import dto.board.QuestionDTO;
@@ -26,8 +21,13 @@ import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.Part;
 import presentation.controller.page.Controller;
 import util.FileUtil;
-import util.config.AppConfig;
+import util.db.AggregateLoader;
+import util.db.Keyset;
+import util.db.KeysetPage;
+import util.json.JsonWriters;
 import util.logging.LoggerConfig;
+import util.web.AttachmentSender;
+import util.web.AttachmentStore;
 import util.web.IpUtil;
 import util.web.RequestRouter;
 
@@ -45,7 +45,6 @@ public class QuestionController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
     private QuestionService questionService;
     private util.web.RequestRouter router;
-    private final Gson gson = new Gson();
     
     @Override
     public void init() throws ServletException {
@@ -83,6 +82,11 @@ public class QuestionController extends HttpServlet implements Controller {
                 // 파라미터 변환 실패 시 기본값 사용
             }
             
+            // cursor 파라미터가 있으면 키셋 페이징 (빈 값이면 첫 페이지)
+            if (req.getParameter("cursor") != null) {
+                return getQuestionsByCursor(req, res, pageSize);
+            }
+            
             List<QuestionDTO> questions = questionService.getAllQuestions(page, pageSize);
             Map<String, Object> result = new HashMap<>();
             result.put("status", "success");
@@ -90,9 +94,9 @@ public class QuestionController extends HttpServlet implements Controller {
             return result;
         });
         
-        router.getJson("/api/questions/([0-9]+)", (req, res) -> {
+        router.getJson("/api/questions/{id:long}", (req, res) -> {
             try {
-                long questionId = Long.parseLong(req.getPathInfo().split("/")[3]);
+                long questionId = RequestRouter.pathLong(req, "id");
                 QuestionDTO question = questionService.getQuestionById(questionId);
                 
                 Map<String, Object> result = new HashMap<>();
@@ -207,6 +211,10 @@ public class QuestionController extends HttpServlet implements Controller {
                     handled = router.handleGetJson(request, response);
                 } else if ("POST".equals(request.getMethod())) {
                     handled = router.handlePostJson(request, response);
+                } else if ("PUT".equals(request.getMethod())) {
+                    handled = router.handlePutJson(request, response);
+                } else if ("DELETE".equals(request.getMethod())) {
+                    handled = router.handleDeleteJson(request, response);
                 }
                 
                 if (!handled) {
@@ -230,13 +238,7 @@ public class QuestionController extends HttpServlet implements Controller {
      * JSON 응답 전송 유틸리티 메소드
      */
     private void sendJsonResponse(HttpServletResponse response, int status, Object data) throws IOException {
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        response.setStatus(status);
-        
-        try (PrintWriter out = response.getWriter()) {
-            out.print(gson.toJson(data));
-        }
+        JsonWriters.send(response, status, data);
     }
 
     @Override
@@ -325,6 +327,13 @@ public class QuestionController extends HttpServlet implements Controller {
                 pageSize = Integer.parseInt(sizeParam);
             }
             
+            // cursor 파라미터가 있으면 전체 질문 수 없이 다음 페이지 커서만 반환
+            if (request.getParameter("cursor") != null) {
+                Map<String, Object> result = getQuestionsByCursor(request, response, pageSize);
+                sendJsonResponse(response, response.getStatus(), result);
+                return;
+            }
+            
             // 질문 목록 조회
             List<QuestionDTO> questions = questionService.getAllQuestions(page, pageSize);
             int totalQuestions = questionService.getTotalQuestions();
@@ -345,6 +354,34 @@ public class QuestionController extends HttpServlet implements Controller {
         }
     }
     
+    /**
+     * 커서 기반 질문 목록 (전체 질문 수 대신 다음 페이지 커서 반환)
+     */
+    private Map<String, Object> getQuestionsByCursor(HttpServletRequest request, HttpServletResponse response, int pageSize) {
+        Map<String, Object> result = new HashMap<>();
+        int size = Math.min(Math.max(pageSize, 1), 100);
+        try {
+            KeysetPage<QuestionDTO> questionPage =
+                    questionService.getQuestionsByCursor(Keyset.normalize(request.getParameter("cursor")), size);
+            if (questionPage == null) {
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                result.put("status", "error");
+                result.put("message", "질문 목록을 불러오는 중 오류가 발생했습니다.");
+                return result;
+            }
+            result.put("status", "success");
+            result.put("data", questionPage.getItems());
+            result.put("pageSize", size);
+            result.put("hasNext", questionPage.hasNext());
+            result.put("nextCursor", questionPage.getNextCursor());
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            result.put("status", "error");
+            result.put("message", e.getMessage());
+        }
+        return result;
+    }
+    
     /**
      * 특정 질문의 상세 정보 조회
      */
@@ -360,7 +397,25 @@ public class QuestionController extends HttpServlet implements Controller {
             }
             
             long questionId = Long.parseLong(questionIdParam);
-            QuestionDTO question = questionService.getQuestionById(questionId);
+            
+            // 질문(작성자 이름 포함), 답변 목록, 첨부파일 목록을 동시에 조회
+            // 답변/첨부파일은 실패하거나 시간을 넘기면 빈 목록으로 응답
+            QuestionDTO question;
+            List<AnswerDTO> answers;
+            List<AttachmentDTO> attachments;
+            try (AggregateLoader loader = AggregateLoader.open("question.view")) {
+                AggregateLoader.Part<QuestionDTO> questionPart = loader.forkRequired("question",
+                        () -> questionService.getQuestionById(questionId));
+                AggregateLoader.Part<List<AnswerDTO>> answersPart = loader.fork("answers",
+                        () -> questionService.getAnswersByQuestionId(questionId));
+                AggregateLoader.Part<List<AttachmentDTO>> attachmentsPart = loader.fork("attachments",
+                        () -> questionService.getAttachmentsByQuestionId(questionId));
+                loader.join();
+                
+                question = questionPart.get();
+                answers = answersPart.orElse(List.of());
+                attachments = attachmentsPart.orElse(List.of());
+            }
             
             if (question == null) {
                 sendJsonResponse(response, HttpServletResponse.SC_NOT_FOUND, 
@@ -368,13 +423,11 @@ public class QuestionController extends HttpServlet implements Controller {
                 return;
             }
             
-            // 해당 질문에 대한 답변 목록도 조회
-            List<AnswerDTO> answers = questionService.getAnswersByQuestionId(questionId);
-            
             Map<String, Object> result = new HashMap<>();
             result.put("status", "success");
             result.put("question", question);
             result.put("answers", answers);
+            result.put("attachments", attachments);
             
             sendJsonResponse(response, HttpServletResponse.SC_OK, result);
         } catch (NumberFormatException e) {
@@ -908,28 +961,12 @@ public class QuestionController extends HttpServlet implements Controller {
                 return;
             }
             
-            // 파일 저장 처리
-            String uploadPath = AppConfig.getUploadPath();
+            // 파일 저장 처리 (내용 해시로 한 번만 저장하고 DB에 참조 등록)
             String fileName = FileUtil.getSubmittedFileName(filePart);
-            String savedFileName = System.currentTimeMillis() + "_" + fileName;
-            String filePath = uploadPath + File.separator + savedFileName;
+            AttachmentStore.StoredFile stored = AttachmentStore.store(filePart, fileName,
+                    file -> questionService.addAttachment(questionId, fileName, file.hash(), file.size()));
             
-            // 디렉토리 생성
-            File uploadDir = new File(uploadPath);
-            if (!uploadDir.exists()) {
-                uploadDir.mkdirs();
-            }
-            
-            // 파일 저장
-            filePart.write(filePath);
-              // DB에 첨부 파일 정보 저장
-            AttachmentDTO attachment = new AttachmentDTO();
-            attachment.setPostId(questionId);
-            attachment.setFileName(fileName);
-            attachment.setFilePath(savedFileName);
-            attachment.setFileSize((int) filePart.getSize());
-            
-            boolean success = questionService.addAttachment(questionId, fileName, savedFileName, filePart.getSize());              if (success) {
+            if (stored != null) {
                 sendJsonResponse(response, HttpServletResponse.SC_CREATED, 
                     Map.of("status", "success", 
                            "message", "파일이 성공적으로 업로드되었습니다."));
@@ -940,6 +977,9 @@ public class QuestionController extends HttpServlet implements Controller {
         } catch (NumberFormatException e) {
             sendJsonResponse(response, HttpServletResponse.SC_BAD_REQUEST, 
                 Map.of("status", "error", "message", "잘못된 질문 ID 형식입니다."));
+        } catch (AttachmentStore.RejectedFileException e) {
+            sendJsonResponse(response, HttpServletResponse.SC_BAD_REQUEST, 
+                Map.of("status", "error", "message", e.getMessage()));
         } catch (Exception e) {
             LoggerConfig.logError(QuestionController.class, "uploadAttachment", "파일 업로드 중 오류 발생", e);
             sendJsonResponse(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, 
@@ -952,8 +992,6 @@ public class QuestionController extends HttpServlet implements Controller {
      */
     private void downloadAttachment(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
-        FileInputStream fileInputStream = null;
-        
         try {
             // 첨부 파일 ID 가져오기
             String attachmentIdParam = request.getParameter("id");
@@ -976,50 +1014,25 @@ public class QuestionController extends HttpServlet implements Controller {
             }
             
             // 파일 존재 여부 확인
-            String uploadPath = AppConfig.getUploadPath();
-            String filePath = uploadPath + File.separator + attachment.getFilePath();
-            File file = new File(filePath);
+            File file = AttachmentSender.resolve(attachment.getFilePath(), attachment.getUploadDate());
             
-            if (!file.exists()) {
+            if (file == null) {
                 sendJsonResponse(response, HttpServletResponse.SC_NOT_FOUND, 
                     Map.of("status", "error", "message", "파일을 찾을 수 없습니다."));
                 return;
             }
             
-            // 파일 다운로드 설정
-            response.setContentType("application/octet-stream");
-            response.setContentLength((int) file.length());
-            
-            String encodedFileName = URLEncoder.encode(attachment.getFileName(), "UTF-8")
-                    .replaceAll("\\+", "%20");
-            response.setHeader("Content-Disposition", "attachment; filename*=UTF-8''" + encodedFileName);
-            
-            // 파일 전송
-            fileInputStream = new FileInputStream(file);
-            OutputStream outputStream = response.getOutputStream();
-            
-            byte[] buffer = new byte[4096];
-            int bytesRead;
-            
-            while ((bytesRead = fileInputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
-            }
-            
-            outputStream.flush();
+            // 파일 전송 (구간 요청/조건부 요청 처리 포함)
+            AttachmentSender.send(request, response, file, attachment.getFileName(), "application/octet-stream");
         } catch (NumberFormatException e) {
             sendJsonResponse(response, HttpServletResponse.SC_BAD_REQUEST, 
                 Map.of("status", "error", "message", "잘못된 첨부 파일 ID 형식입니다."));
         } catch (Exception e) {
             LoggerConfig.logError(QuestionController.class, "downloadAttachment", "파일 다운로드 중 오류 발생", e);
-            sendJsonResponse(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, 
-                Map.of("status", "error", "message", "파일 다운로드 중 오류가 발생했습니다."));
-        } finally {
-            if (fileInputStream != null) {
-                try {
-                    fileInputStream.close();
-                } catch (IOException e) {
-                    // 무시
-                }
+            // 본문 전송 중 끊긴 경우에는 오류 응답을 보낼 수 없음
+            if (!response.isCommitted()) {
+                sendJsonResponse(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, 
+                    Map.of("status", "error", "message", "파일 다운로드 중 오류가 발생했습니다."));
             }
         }
     }
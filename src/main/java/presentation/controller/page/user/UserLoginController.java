@@ -1,7 +1,6 @@
 package presentation.controller.page.user;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.io.BufferedReader;
 import java.lang.reflect.Type;
 import java.time.LocalDateTime;
@@ -27,6 +26,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
+import util.json.JsonWriters;
 import util.logging.LoggerConfig;
 import util.web.RequestRouter;
 
@@ -139,10 +139,7 @@ public class UserLoginController extends HttpServlet implements Controller {
      * JSON 응답 전송
      */
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();    
+        JsonWriters.send(response, data);
     }
     
     @Override
@@ -231,7 +228,7 @@ public class UserLoginController extends HttpServlet implements Controller {
             if (isDoRequest) {
                 sendJsonResponse(response, errorResult);
             } else {
-                response.getWriter().write(gson.toJson(errorResult));
+                JsonWriters.write(response.getOutputStream(), errorResult);
             }
             return;
         }
@@ -257,7 +254,7 @@ public class UserLoginController extends HttpServlet implements Controller {
                 if (isDoRequest) {
                     sendJsonResponse(response, successResult);
                 } else {
-                    response.getWriter().write(gson.toJson(successResult));
+                    JsonWriters.write(response.getOutputStream(), successResult);
                 }
             } else {                
                 // 로그인 실패 처리
@@ -268,7 +265,7 @@ public class UserLoginController extends HttpServlet implements Controller {
                 if (isDoRequest) {
                     sendJsonResponse(response, errorResult);
                 } else {
-                    response.getWriter().write(gson.toJson(errorResult));
+                    JsonWriters.write(response.getOutputStream(), errorResult);
                 }
             }
         } catch (Exception e) {
@@ -281,7 +278,7 @@ public class UserLoginController extends HttpServlet implements Controller {
             if (isDoRequest) {
                 sendJsonResponse(response, errorResult);
             } else {
-                response.getWriter().write(gson.toJson(errorResult));
+                JsonWriters.write(response.getOutputStream(), errorResult);
             }
         }
     }
@@ -1,11 +1,9 @@
 package presentation.controller.page.user;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.HashMap;
 import java.util.Map;
 
-import com.google.gson.Gson;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -13,6 +11,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
+import util.json.JsonWriters;
 
 /**
  * 로그아웃 처리를 담당하는 컨트롤러
@@ -21,7 +20,6 @@ import presentation.controller.page.Controller;
 @WebServlet({"/logout/*", "/logout.do"})
 public class UserLogoutController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
-    private final Gson gson = new Gson();
     
     @Override
     public void doGet(HttpServletRequest request, HttpServletResponse response)
@@ -41,10 +39,7 @@ public class UserLogoutController extends HttpServlet implements Controller {
             result.put("success", true);
             result.put("message", "로그아웃 되었습니다.");
             
-            response.setContentType("application/json;charset=UTF-8");
-            PrintWriter out = response.getWriter();
-            out.print(gson.toJson(result));
-            out.flush();
+            JsonWriters.send(response, result);
         } else {
             // 홈페이지로 리다이렉트
             response.sendRedirect(request.getContextPath() + "/index.html");
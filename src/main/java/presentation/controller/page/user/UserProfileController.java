@@ -1,11 +1,9 @@
 package presentation.controller.page.user;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.HashMap;
 import java.util.Map;
 
-import com.google.gson.Gson;
 import business.service.user.UserService;
 import dto.user.UserDTO;
 import jakarta.servlet.ServletException;
@@ -15,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
+import util.json.JsonWriters;
 import util.web.RequestRouter;
 
 /**
@@ -26,7 +25,6 @@ public class UserProfileController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
     private UserService userService;
     private util.web.RequestRouter router;
-    private final Gson gson = new Gson();
     
     public UserProfileController() {
         userService = new UserService();
@@ -116,10 +114,7 @@ public class UserProfileController extends HttpServlet implements Controller {
      * JSON 응답 전송
      */
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonWriters.send(response, data);
     }
     
     @Override
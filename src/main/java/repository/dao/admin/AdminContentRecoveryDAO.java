@@ -1,19 +1,24 @@
 package repository.dao.admin;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
-import util.db.DBConnectionUtil;
+import util.db.CommentCounter;
+import util.db.JdbcTemplate;
+import util.db.UserActivity;
+import util.web.ResponseCache;
 
 /**
  * 삭제된 게시물/댓글/첨부파일을 복원하는 DAO 클래스
  */
 public class AdminContentRecoveryDAO {
-    private DBConnectionUtil dbUtil;
+    private final JdbcTemplate jdbc;
     
     public AdminContentRecoveryDAO() {
-        dbUtil = new DBConnectionUtil();
+        this(JdbcTemplate.getDefault());
+    }
+    
+    public AdminContentRecoveryDAO(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
     }
     
     /**
@@ -25,61 +30,35 @@ public class AdminContentRecoveryDAO {
      * @throws SQLException SQL 예외 발생 시
      */
     public boolean recoverDeletedPost(String boardType, long postId) throws SQLException {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
+        // 게시판 종류에 따라 적절한 테이블 업데이트
+        String tableName = getTableNameByBoardType(boardType);
+        String sql = "UPDATE " + tableName + " SET " + tableName + "_deleted = 'maintained' " +
+                     "WHERE " + tableName + "_uid = ? AND " + tableName + "_deleted = 'deleted'";
         
-        try {
-            conn = dbUtil.getConnection();
-            
-            // 트랜잭션 시작
-            conn.setAutoCommit(false);
-            
-            // 게시판 종류에 따라 적절한 테이블 업데이트
-            String tableName = getTableNameByBoardType(boardType);
-            String sql = "UPDATE " + tableName + " SET " + tableName + "_deleted = 'maintained' " +
-                         "WHERE " + tableName + "_uid = ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, postId);
-            
-            int rowsAffected = pstmt.executeUpdate();
-            
-            // 로그 테이블에서 삭제 기록 업데이트 또는 삭제
-            if (rowsAffected > 0) {
-                dbUtil.close(null, pstmt, null);
-                
-                sql = "DELETE FROM log_delete_post WHERE log_delete_boardtype = ? AND log_deleted_post_uid = ?";
-                pstmt = conn.prepareStatement(sql);
-                pstmt.setString(1, boardType);
-                pstmt.setLong(2, postId);
-                pstmt.executeUpdate();
-                
-                conn.commit();
-                return true;
-            } else {
-                conn.rollback();
+        boolean recovered = jdbc.inTransaction(conn -> {
+            if (JdbcTemplate.update(conn, sql, postId) == 0) {
                 return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    // 롤백 실패는 로깅만 하고 넘어감
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
+            
+            // 문의 답변이 복원되면 질문의 답변 수 증가 (질문 자체는 부모가 없으므로 변화 없음)
+            if ("inquiry".equals(tableName)) {
+                CommentCounter.adjustByComment(conn, CommentCounter.Board.INQUIRY, postId, 1);
             }
-            dbUtil.close(null, pstmt, conn);
+            
+            // 작성자의 "내가 쓴 글" 색인에 다시 추가
+            UserActivity.record(conn, UserActivity.Board.of(tableName), postId);
+            
+            // 로그 테이블에서 삭제 기록 삭제
+            JdbcTemplate.update(conn,
+                    "DELETE FROM log_delete_post WHERE log_delete_boardtype = ? AND log_deleted_post_uid = ?",
+                    boardType, postId);
+            return true;
+        });
+        
+        if (recovered) {
+            invalidateResponseCache(tableName);
         }
+        return recovered;
     }
     
     /**
@@ -91,61 +70,32 @@ public class AdminContentRecoveryDAO {
      * @throws SQLException SQL 예외 발생 시
      */
     public boolean recoverDeletedComment(String boardType, long commentId) throws SQLException {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
+        // 게시판 종류에 따라 적절한 댓글 테이블 업데이트
+        String commentTableName = getCommentTableNameByBoardType(boardType);
+        String sql = "UPDATE " + commentTableName + " SET " + commentTableName + "_deleted = 'maintained' " +
+                     "WHERE " + commentTableName + "_uid = ? AND " + commentTableName + "_deleted = 'deleted'";
         
-        try {
-            conn = dbUtil.getConnection();
-            
-            // 트랜잭션 시작
-            conn.setAutoCommit(false);
-            
-            // 게시판 종류에 따라 적절한 댓글 테이블 업데이트
-            String commentTableName = getCommentTableNameByBoardType(boardType);
-            String sql = "UPDATE " + commentTableName + " SET " + commentTableName + "_deleted = 'maintained' " +
-                         "WHERE " + commentTableName + "_uid = ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, commentId);
-            
-            int rowsAffected = pstmt.executeUpdate();
-            
-            // 로그 테이블에서 삭제 기록 업데이트 또는 삭제
-            if (rowsAffected > 0) {
-                dbUtil.close(null, pstmt, null);
-                
-                sql = "DELETE FROM log_delete_comment WHERE log_delete_boardtype = ? AND log_deleted_comment_uid = ?";
-                pstmt = conn.prepareStatement(sql);
-                pstmt.setString(1, boardType);
-                pstmt.setLong(2, commentId);
-                pstmt.executeUpdate();
-                
-                conn.commit();
-                return true;
-            } else {
-                conn.rollback();
+        boolean recovered = jdbc.inTransaction(conn -> {
+            if (JdbcTemplate.update(conn, sql, commentId) == 0) {
                 return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    // 롤백 실패는 로깅만 하고 넘어감
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
-            dbUtil.close(null, pstmt, conn);
+            
+            // 복원된 댓글만큼 게시글의 댓글 수 증가
+            CommentCounter.Board counterBoard = "news_comment".equals(commentTableName)
+                    ? CommentCounter.Board.NEWS : CommentCounter.Board.FREEBOARD;
+            CommentCounter.adjustByComment(conn, counterBoard, commentId, 1);
+            
+            // 로그 테이블에서 삭제 기록 삭제
+            JdbcTemplate.update(conn,
+                    "DELETE FROM log_delete_comment WHERE log_delete_boardtype = ? AND log_deleted_comment_uid = ?",
+                    boardType, commentId);
+            return true;
+        });
+        
+        if (recovered) {
+            invalidateResponseCache(commentTableName);
         }
+        return recovered;
     }
     
     /**
@@ -157,23 +107,25 @@ public class AdminContentRecoveryDAO {
      * @throws SQLException SQL 예외 발생 시
      */
     public boolean recoverDeletedAttach(String boardType, long attachId) throws SQLException {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
+        // 게시판 종류에 따라 적절한 첨부파일 테이블
+        String attachTableName = getAttachmentTableByBoardType(boardType);
+        String sql = "UPDATE " + attachTableName + " SET is_deleted = 0 WHERE attach_uid = ?";
         
-        try {
-            conn = dbUtil.getConnection();
-            
-            // 게시판 종류에 따라 적절한 첨부파일 테이블
-            String attachTableName = getAttachmentTableByBoardType(boardType);
-            String sql = "UPDATE " + attachTableName + " SET is_deleted = 0 WHERE attach_uid = ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, attachId);
-            
-            int rowsAffected = pstmt.executeUpdate();
-            return rowsAffected > 0;
-        } finally {
-            dbUtil.close(null, pstmt, conn);
+        boolean recovered = jdbc.update(sql, attachId) > 0;
+        if (recovered) {
+            invalidateResponseCache(attachTableName);
+        }
+        return recovered;
+    }
+    
+    /**
+     * 복원된 내용이 캐시된 비로그인 조회 응답에 반영되도록 해당 게시판 캐시 무효화 (커밋 후 호출)
+     */
+    private void invalidateResponseCache(String tableName) {
+        if (tableName.startsWith("freeboard")) {
+            ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
+        } else if (tableName.startsWith("news")) {
+            ResponseCache.invalidate(ResponseCache.Board.NEWS);
         }
     }
     
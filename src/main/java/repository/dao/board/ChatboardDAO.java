@@ -1,79 +1,63 @@
 package repository.dao.board;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
 import dto.board.ChatboardDTO;
-import util.db.DBConnectionUtil;
+import util.chat.ChatFeed;
+import util.db.JdbcTemplate;
+import util.db.UserActivity;
 import util.logging.LoggerConfig;
 
 public class ChatboardDAO {
     private static final Logger logger = LoggerConfig.getLogger(ChatboardDAO.class);
-    private Connection conn = null;
-    private PreparedStatement pstmt = null;
-    private ResultSet rs = null;
+    private final JdbcTemplate jdbc;
     
-    // 모든 채팅 메시지 조회
+    public ChatboardDAO() {
+        this(JdbcTemplate.getDefault());
+    }
+    
+    public ChatboardDAO(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+    
+    // 모든 채팅 메시지 조회 (최근 100개, 버퍼를 거치지 않고 DB에서 직접 조회)
     public List<ChatboardDTO> getAllChats() throws SQLException {
-        List<ChatboardDTO> chatList = new ArrayList<>();
+        return getRecentChats(100);
+    }
+    
+    // 최근 채팅 메시지 조회 (ChatFeed 버퍼 초기화용)
+    public List<ChatboardDTO> getRecentChats(int limit) throws SQLException {
         String sql = "SELECT c.* FROM chatboard c " + 
                      "WHERE c.chatboard_deleted = 'maintained' " +
-                     "ORDER BY c.chatboard_writetime DESC " +
-                     "LIMIT 100"; // 최근 100개만 가져오기
+                     "ORDER BY c.chatboard_writetime DESC, c.chatboard_uid DESC " +
+                     "LIMIT ?";
         
-        try {
-            conn = DBConnectionUtil.getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                ChatboardDTO chat = new ChatboardDTO();
-                chat.setChatboardUid(rs.getLong("chatboard_uid"));
-                chat.setChatboardTitle(rs.getString("chatboard_title"));
-                chat.setChatboardWritetime(rs.getTimestamp("chatboard_writetime").toLocalDateTime());
-                if (rs.getTimestamp("chatboard_modify_time") != null) {
-                    chat.setChatboardModifyTime(rs.getTimestamp("chatboard_modify_time").toLocalDateTime());
-                }
-                chat.setChatboardDeleted(rs.getString("chatboard_deleted"));
-                chat.setUserUid(rs.getLong("user_uid"));
-                
-                // Controller에서 사용하는 방식대로 닉네임 생성
-                int hash = (int)((chat.getUserUid() * 31) % 0xffffff);
-                chat.setAnonymousNickname("익명_" + Integer.toHexString(hash));
-                
-                chatList.add(chat);
-            }
-            
-            return chatList;
-        } finally {
-            closeResources();
-        }
+        return jdbc.query(sql, ChatboardDAO::mapChat, limit);
+    }
+    
+    private static ChatboardDTO mapChat(ResultSet rs) throws SQLException {
+        ChatboardDTO chat = new ChatboardDTO();
+        chat.setChatboardUid(rs.getLong("chatboard_uid"));
+        chat.setChatboardTitle(rs.getString("chatboard_title"));
+        chat.setChatboardWritetime(rs.getTimestamp("chatboard_writetime").toLocalDateTime());
+        chat.setChatboardModifyTime(JdbcTemplate.toLocalDateTime(rs.getTimestamp("chatboard_modify_time")));
+        chat.setChatboardDeleted(rs.getString("chatboard_deleted"));
+        chat.setUserUid(rs.getLong("user_uid"));
+        
+        // Controller에서 사용하는 방식대로 닉네임 생성
+        chat.setAnonymousNickname(anonymousNickname(chat.getUserUid()));
+        return chat;
     }
     
     // 채팅 ID로 작성자 확인
     public long getUserIdByChatId(long chatId) throws SQLException {
         String sql = "SELECT user_uid FROM chatboard WHERE chatboard_uid = ?";
         
-        try {
-            conn = DBConnectionUtil.getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, chatId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getLong("user_uid");
-            }
-            
-            return -1; // 해당 채팅이 없는 경우
-        } finally {
-            closeResources();
-        }
+        Long userUid = jdbc.queryForObject(sql, rs -> rs.getLong("user_uid"), chatId);
+        return userUid != null ? userUid : -1; // 해당 채팅이 없는 경우 -1
     }
     
     // 채팅 메시지 등록
@@ -83,19 +67,15 @@ public class ChatboardDAO {
                      "VALUES (?, NOW(), ?, 'maintained', ?)";
         
         try {
-            conn = DBConnectionUtil.getConnection();
-            pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            pstmt.setString(1, chat.getChatboardTitle());
-            pstmt.setString(2, chat.getChatboardAuthorIp());
-            pstmt.setLong(3, chat.getUserUid());
+            long chatId = jdbc.insert(sql, chat.getChatboardTitle(), chat.getChatboardAuthorIp(), chat.getUserUid());
             
-            int result = pstmt.executeUpdate();
-            
-            if (result > 0) {
-                rs = pstmt.getGeneratedKeys();
-                if (rs.next()) {
-                    chat.setChatboardUid(rs.getLong(1));
+            if (chatId != -1) {
+                chat.setChatboardUid(chatId);
+                UserActivity.recordQuietly(UserActivity.Board.CHATBOARD, chatId);
+                if (chat.getAnonymousNickname() == null) {
+                    chat.setAnonymousNickname(anonymousNickname(chat.getUserUid()));
                 }
+                ChatFeed.onPosted(chat);
                 logger.info("새 채팅 메시지 등록 성공: " + chat.getChatboardTitle().substring(0, Math.min(chat.getChatboardTitle().length(), 20)) + "...");
                 return true;
             }
@@ -105,8 +85,6 @@ public class ChatboardDAO {
         } catch (SQLException e) {
             logger.severe("채팅 메시지 등록 중 오류 발생: " + e.getMessage());
             throw e;
-        } finally {
-            closeResources();
         }
     }
     
@@ -116,14 +94,10 @@ public class ChatboardDAO {
                      "WHERE chatboard_uid = ?";
         
         try {
-            conn = DBConnectionUtil.getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, chat.getChatboardTitle());
-            pstmt.setLong(2, chat.getChatboardUid());
-            
-            int result = pstmt.executeUpdate();
+            int result = jdbc.update(sql, chat.getChatboardTitle(), chat.getChatboardUid());
             
             if (result > 0) {
+                ChatFeed.onUpdated(chat.getChatboardUid(), chat.getChatboardTitle());
                 logger.info("채팅 메시지 수정 성공: ID=" + chat.getChatboardUid());
                 return true;
             } else {
@@ -133,8 +107,6 @@ public class ChatboardDAO {
         } catch (SQLException e) {
             logger.severe("채팅 메시지 수정 중 오류 발생: ID=" + chat.getChatboardUid() + ", 오류=" + e.getMessage());
             throw e;
-        } finally {
-            closeResources();
         }
     }
     
@@ -143,13 +115,11 @@ public class ChatboardDAO {
         String sql = "UPDATE chatboard SET chatboard_deleted = 'deleted' WHERE chatboard_uid = ?";
         
         try {
-            conn = DBConnectionUtil.getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, chatId);
-            
-            int result = pstmt.executeUpdate();
+            int result = jdbc.update(sql, chatId);
             
             if (result > 0) {
+                ChatFeed.onDeleted(chatId);
+                UserActivity.removeQuietly(UserActivity.Board.CHATBOARD, chatId);
                 logger.info("채팅 메시지 삭제 성공: ID=" + chatId);
                 return true;
             } else {
@@ -159,8 +129,6 @@ public class ChatboardDAO {
         } catch (SQLException e) {
             logger.severe("채팅 메시지 삭제 중 오류 발생: ID=" + chatId + ", 오류=" + e.getMessage());
             throw e;
-        } finally {
-            closeResources();
         }
     }
     
@@ -179,14 +147,8 @@ public class ChatboardDAO {
                     "VALUES (?, ?, 'active', NOW(), ?, ?)";
         
         try {
-            conn = DBConnectionUtil.getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, category);  // 'spam_ad', 'profanity_hate_speech' 등의 유형
-            pstmt.setString(2, reason);    // 신고 사유
-            pstmt.setLong(3, reporterId);  // 신고자 ID
-            pstmt.setLong(4, targetUserId); // 신고 대상 사용자 ID
-            
-            int result = pstmt.executeUpdate();
+            // 신고 유형('spam_ad', 'profanity_hate_speech' 등), 신고 사유, 신고자 ID, 신고 대상 사용자 ID
+            int result = jdbc.update(sql, category, reason, reporterId, targetUserId);
             
             if (result > 0) {
                 logger.info("채팅 신고 성공: 채팅 ID=" + chatId + ", 신고 유형=" + category);
@@ -198,8 +160,6 @@ public class ChatboardDAO {
         } catch (SQLException e) {
             logger.severe("채팅 신고 중 오류 발생: 채팅 ID=" + chatId + ", 오류=" + e.getMessage());
             throw e;
-        } finally {
-            closeResources();
         }
     }
     
@@ -210,48 +170,24 @@ public class ChatboardDAO {
                                  "VALUES (?, ?, NOW(), DATE_ADD(NOW(), INTERVAL ? DAY), 'active', ?)";
         
         try {
-            conn = DBConnectionUtil.getConnection();
-            conn.setAutoCommit(false); // 트랜잭션 시작
-            
-            pstmt = conn.prepareStatement(insertPenaltySql);
-            pstmt.setLong(1, userId);
-            pstmt.setString(2, reason);
-            pstmt.setInt(3, duration);
-            pstmt.setString(4, penaltyType); // penaltyType 매개변수 사용
-            
-            int result = pstmt.executeUpdate();
+            int result = jdbc.update(insertPenaltySql, userId, reason, duration, penaltyType);
             
             if (result > 0) {
-                conn.commit();
                 logger.info("사용자 제재 성공: 사용자 ID=" + userId + ", 제재 유형=" + penaltyType + ", 기간=" + duration + "일");
                 return true;
             } else {
-                conn.rollback();
                 logger.warning("사용자 제재 실패: 사용자 ID=" + userId);
                 return false;
             }
         } catch (SQLException e) {
-            if (conn != null) {
-                conn.rollback();
-            }
             logger.severe("사용자 제재 중 오류 발생: 사용자 ID=" + userId + ", 오류=" + e.getMessage());
             throw e;
-        } finally {
-            if (conn != null) {
-                conn.setAutoCommit(true);
-            }
-            closeResources();
         }
     }
     
-    // 자원 해제
-    private void closeResources() {
-        try {
-            if (rs != null) rs.close();
-            if (pstmt != null) pstmt.close();
-            if (conn != null) conn.close();
-        } catch (SQLException e) {
-            logger.severe("자원 해제 중 오류 발생: " + e.getMessage());
-        }
+    // 사용자 ID 기반 익명 닉네임 (ChatboardController와 동일한 방식)
+    private static String anonymousNickname(long userUid) {
+        int hash = (int)((userUid * 31) % 0xffffff);
+        return "익명_" + Integer.toHexString(hash);
     }
 }
\ No newline at end of file
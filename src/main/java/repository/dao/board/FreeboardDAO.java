@@ -1,118 +1,80 @@
 package repository.dao.board;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import dto.board.AttachmentDTO;
 import dto.board.FreeboardDTO;
 import dto.board.FreeboardCommentDTO;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
-import util.db.DBConnectionUtil;
+import util.db.CommentCounter;
+import util.db.JdbcTemplate;
+import util.db.Keyset;
+import util.db.KeysetPage;
+import util.db.ReactionEngine;
+import util.db.ReadCountAggregator;
+import util.db.UserActivity;
 import util.logging.LoggerConfig;
+import util.search.SearchIndexManager;
+import util.web.ResponseCache;
 
 public class FreeboardDAO {
-	private Connection conn = null;
-	private PreparedStatement pstmt = null;
-	private ResultSet rs = null;
-
 	private static final Logger logger = LoggerConfig.getLogger(FreeboardDAO.class);
 
-	// 공지사항 목록을 위한 캐싱 메서드
-	private static final Map<String, Object> cache = new ConcurrentHashMap<>();
-	private static final long CACHE_EXPIRY = 5 * 60 * 1000; // 5분
+	// 목록 정렬 (공지 우선, 최신순) - idx_freeboard_list(freeboard_deleted, freeboard_notify, freeboard_writetime) + PK
+	// freeboard_notify는 ENUM 순서와 문자열 순서가 같으므로('common' < 'notification') 문자열로 비교
+	private static final Keyset LIST_KEYSET = Keyset.of("freeboard")
+			.desc("f.freeboard_notify", "freeboard_notify", Keyset.Type.STRING)
+			.desc("f.freeboard_writetime", "freeboard_writetime", Keyset.Type.TIMESTAMP)
+			.desc("f.freeboard_uid", "freeboard_uid", Keyset.Type.LONG);
 
-	// 누락된 CacheItem 클래스 추가
-	private static class CacheItem {
-		private final Object data;
-		private final long expiry;
-		private final long createdAt;
+	// 목록/상세 공통 SELECT (작성자 이름, 댓글 수 포함)
+	private static final String POST_SELECT = "SELECT f.*, u.user_name, "
+			+ "f.freeboard_comment_count AS comment_count "
+			+ "FROM freeboard f " + "JOIN user u ON f.user_uid = u.user_uid ";
 
-		public CacheItem(Object data, long expiry) {
-			this.data = data;
-			this.expiry = expiry;
-			this.createdAt = System.currentTimeMillis();
-		}
+	private final JdbcTemplate jdbc;
 
-		public Object getData() {
-			return data;
-		}
+	public FreeboardDAO() {
+		this(JdbcTemplate.getDefault());
+	}
 
-		public boolean isExpired() {
-			return System.currentTimeMillis() - createdAt > expiry;
-		}
+	public FreeboardDAO(JdbcTemplate jdbc) {
+		this.jdbc = jdbc;
 	}
 
+	// 공지사항 목록 (응답 캐시는 ResponseCache가 게시판 단위로 관리)
 	public List<FreeboardDTO> getNoticeList() throws SQLException {
-		String cacheKey = "notice_list";
-		CacheItem cacheItem = (CacheItem) cache.get(cacheKey);
-
-		if (cacheItem != null && !cacheItem.isExpired()) {
-			return (List<FreeboardDTO>) cacheItem.getData();
-		}
-
-		// 캐시에 없으면 DB에서 조회
-		List<FreeboardDTO> noticeList = new ArrayList<>();
 		String sql = "SELECT f.*, u.user_name FROM freeboard f " + "JOIN user u ON f.user_uid = u.user_uid "
 				+ "WHERE f.freeboard_deleted = 'maintained' AND f.freeboard_notify = 'notification' "
 				+ "ORDER BY f.freeboard_writetime DESC";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			rs = pstmt.executeQuery();
-
-			while (rs.next()) {
-				FreeboardDTO post = createFreeboardFromResultSet(rs);
-				post.setUserName(rs.getString("user_name"));
-				noticeList.add(post);
-			}
-		} finally {
-			closeResources();
-		}
-
-		// 결과를 캐시에 저장
-		cache.put(cacheKey, new CacheItem(noticeList, CACHE_EXPIRY));
-		return noticeList;
-	}
-
-	// DB 연결 가져오기
-	private Connection getConnection() throws SQLException {
-		return DBConnectionUtil.getConnection();
-	}
-
-	// 자원 해제 메서드
-	private void closeResources() {
-		try {
-			if (rs != null)
-				rs.close();
-			if (pstmt != null)
-				pstmt.close();
-			if (conn != null)
-				conn.close();
-		} catch (SQLException e) {
-			e.printStackTrace();
-		}
+		return jdbc.query(sql, rs -> {
+			FreeboardDTO post = createFreeboardFromResultSet(rs);
+			post.setUserName(rs.getString("user_name"));
+			return post;
+		});
 	}
 
 	// ResultSet에서 DTO 객체 생성 유틸리티 메서드
-	private FreeboardDTO createFreeboardFromResultSet(ResultSet rs) throws SQLException {
+	private static FreeboardDTO createFreeboardFromResultSet(ResultSet rs) throws SQLException {
 		FreeboardDTO freeboard = new FreeboardDTO();
 
 		freeboard.setFreeboardUid(rs.getLong("freeboard_uid"));
 		freeboard.setFreeboardTitle(rs.getString("freeboard_title"));
 		freeboard.setFreeboardContents(rs.getString("freeboard_contents"));
-		freeboard.setFreeboardRead(rs.getInt("freeboard_read"));
-		freeboard.setFreeboardRecommend(rs.getInt("freeboard_recommend"));
+		// DB 값 + 아직 반영되지 않은 조회수
+		freeboard.setFreeboardRead(rs.getInt("freeboard_read")
+				+ (int) ReadCountAggregator.getPending(ReadCountAggregator.Board.FREEBOARD, freeboard.getFreeboardUid()));
+		freeboard.setFreeboardRecommend(rs.getInt("freeboard_recommend")
+				+ (int) ReactionEngine.getPendingCount(ReactionEngine.Target.FREEBOARD, freeboard.getFreeboardUid()));
 
 		Timestamp writetime = rs.getTimestamp("freeboard_writetime");
 		if (writetime != null) {
@@ -132,6 +94,41 @@ public class FreeboardDAO {
 		return freeboard;
 	}
 
+	// POST_SELECT 결과 행 -> DTO (작성자 이름, 댓글 수 포함, 행 매핑 벤치마크에서도 사용)
+	static FreeboardDTO createPostFromResultSet(ResultSet rs) throws SQLException {
+		FreeboardDTO post = createFreeboardFromResultSet(rs);
+		post.setUserName(rs.getString("user_name"));
+		post.setCommentCount(rs.getInt("comment_count"));
+		return post;
+	}
+
+	// 첨부파일 행 -> DTO
+	private static AttachmentDTO createAttachmentFromResultSet(ResultSet rs) throws SQLException {
+		AttachmentDTO attachment = new AttachmentDTO();
+		attachment.setAttachId(rs.getLong("attach_uid"));
+		attachment.setPostId(rs.getLong("freeboard_uid"));
+		attachment.setFileName(rs.getString("file_name"));
+		attachment.setFilePath(rs.getString("file_path"));
+		attachment.setFileSize(rs.getLong("file_size"));
+		attachment.setUploadDate(JdbcTemplate.toLocalDateTime(rs.getTimestamp("upload_date")));
+		return attachment;
+	}
+
+	// 댓글 행 -> DTO
+	private static FreeboardCommentDTO createCommentFromResultSet(ResultSet rs) throws SQLException {
+		FreeboardCommentDTO comment = new FreeboardCommentDTO();
+		comment.setFreeboardCommentUid(rs.getLong("freeboard_comment_uid"));
+		comment.setFreeboardCommentContents(rs.getString("freeboard_comment_contents"));
+		comment.setFreeboardCommentWritetime(rs.getTimestamp("freeboard_comment_writetime").toLocalDateTime());
+		comment.setFreeboardCommentModifytime(
+				JdbcTemplate.toLocalDateTime(rs.getTimestamp("freeboard_comment_modifytime")));
+		comment.setFreeboardCommentAuthorIp(rs.getString("freeboard_comment_author_ip"));
+		comment.setFreeboardUid(rs.getLong("freeboard_uid"));
+		comment.setUserUid(rs.getLong("user_uid"));
+		comment.setUserName(rs.getString("user_name"));
+		return comment;
+	}
+
 	// 게시글 등록
 	public boolean postFreeboard(FreeboardDTO post) throws SQLException {
 		String sql = "INSERT INTO freeboard (freeboard_title, freeboard_contents, freeboard_read, "
@@ -140,87 +137,66 @@ public class FreeboardDAO {
 				+ "VALUES (?, ?, 0, 0, NOW(), ?, 'common', 'maintained', ?)";
 
 		try {
-			conn = getConnection();
-			conn.setAutoCommit(false); // 트랜잭션 시작
-
-			pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-			pstmt.setString(1, post.getFreeboardTitle());
-			pstmt.setString(2, post.getFreeboardContents());
-			pstmt.setString(3, post.getFreeboardAuthorIp());
-			pstmt.setLong(4, post.getUserUid());
-
-			int result = pstmt.executeUpdate();
-			boolean success = result > 0;
+			boolean success = jdbc.inTransaction(conn -> {
+				long postId = JdbcTemplate.insert(conn, sql, post.getFreeboardTitle(), post.getFreeboardContents(),
+						post.getFreeboardAuthorIp(), post.getUserUid());
+				if (postId == -1) {
+					return false;
+				}
+				post.setFreeboardUid(postId);
+				UserActivity.record(conn, UserActivity.Board.FREEBOARD, postId);
+				return true;
+			});
 
 			if (success) {
-				// 생성된 게시글 ID 가져오기
-				try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-					if (generatedKeys.next()) {
-						post.setFreeboardUid(generatedKeys.getLong(1));
-					}
-				}
-				conn.commit();
 				logger.info("게시글 등록 성공: ID=" + post.getFreeboardUid() + ", 작성자=" + post.getUserUid());
+				SearchIndexManager.refresh(SearchIndexManager.Collection.FREEBOARD, post.getFreeboardUid());
+				ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
 			} else {
-				conn.rollback();
 				logger.warning("게시글 등록 실패: 영향받은 행 없음");
 			}
 
 			return success;
 		} catch (SQLException e) {
-			if (conn != null) {
-				try {
-					conn.rollback();
-				} catch (SQLException ex) {
-					logger.severe("롤백 중 오류 발생: " + ex.getMessage());
-				}
-			}
-
 			String errorCode = "DB_ERROR_" + System.currentTimeMillis();
 			logger.severe("게시글 등록 중 오류 발생 [" + errorCode + "]: " + e.getMessage());
 			logger.severe("SQL 상태: " + e.getSQLState() + ", 에러코드: " + e.getErrorCode());
 			throw e;
-		} finally {
-			if (conn != null) {
-				try {
-					conn.setAutoCommit(true);
-				} catch (SQLException e) {
-					logger.severe("AutoCommit 설정 복구 중 오류: " + e.getMessage());
-				}
-			}
-			closeResources();
 		}
 	}
 
 	// 모든 게시글 조회 (페이징 포함)
 	public List<FreeboardDTO> getAllFreeboards(int page, int pageSize) throws SQLException {
-		List<FreeboardDTO> freeboard = new ArrayList<>();
-		String sql = "SELECT f.*, u.user_name, "
-				+ "(SELECT COUNT(*) FROM freeboard_comment fc WHERE fc.freeboard_uid = f.freeboard_uid) AS comment_count "
-				+ "FROM freeboard f " + "JOIN user u ON f.user_uid = u.user_uid "
+		String sql = POST_SELECT
 				+ "WHERE f.freeboard_deleted = 'maintained' "
 				+ "ORDER BY f.freeboard_notify DESC, f.freeboard_writetime DESC " + "LIMIT ? OFFSET ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setInt(1, pageSize);
-			pstmt.setInt(2, (page - 1) * pageSize);
-
-			rs = pstmt.executeQuery();
-
-			while (rs.next()) {
-				FreeboardDTO post = createFreeboardFromResultSet(rs);
-				// 추가 정보 설정
-				post.setUserName(rs.getString("user_name"));
-				post.setCommentCount(rs.getInt("comment_count"));
-				freeboard.add(post);
-			}
+		return jdbc.query(sql, FreeboardDAO::createPostFromResultSet, pageSize, (page - 1) * pageSize);
+	}
 
-			return freeboard;
-		} finally {
-			closeResources();
-		}
+	/**
+	 * 게시글 목록 커서 조회 (공지 우선, 최신순)
+	 * OFFSET 없이 마지막으로 본 게시글 다음부터 읽으므로 뒤쪽 페이지도 조회 비용이 같음
+	 *
+	 * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+	 * @param pageSize 페이지 크기
+	 * @throws IllegalArgumentException 잘못된 커서인 경우
+	 */
+	public KeysetPage<FreeboardDTO> getFreeboardsByCursor(String cursor, int pageSize) throws SQLException {
+		String sql = POST_SELECT
+				+ "WHERE f.freeboard_deleted = 'maintained' "
+				+ (cursor != null ? "AND " + LIST_KEYSET.seekCondition() + " " : "")
+				+ LIST_KEYSET.orderBy() + " LIMIT ?";
+
+		return jdbc.execute(conn -> {
+			try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+				int index = LIST_KEYSET.bind(pstmt, 1, cursor);
+				pstmt.setInt(index, pageSize + 1);
+				try (ResultSet rs = pstmt.executeQuery()) {
+					return LIST_KEYSET.read(rs, pageSize, FreeboardDAO::createPostFromResultSet);
+				}
+			}
+		});
 	}
 
 	// 기본 모든 게시글 조회 (페이징 없음 - 오버로딩)
@@ -230,42 +206,20 @@ public class FreeboardDAO {
 
 	// ID로 게시글 조회
 	public FreeboardDTO getFreeboardById(long postId) throws SQLException {
-		FreeboardDTO post = null;
-		String sql = "SELECT f.*, u.user_name, "
-				+ "(SELECT COUNT(*) FROM freeboard_comment fc WHERE fc.freeboard_uid = f.freeboard_uid) AS comment_count "
-				+ "FROM freeboard f " + "JOIN user u ON f.user_uid = u.user_uid "
+		String sql = POST_SELECT
 				+ "WHERE f.freeboard_uid = ? AND f.freeboard_deleted = 'maintained'";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				post = createFreeboardFromResultSet(rs);
-				post.setUserName(rs.getString("user_name"));
-				post.setCommentCount(rs.getInt("comment_count"));
-
-				// 조회수 증가
-				updateReadCount(postId);
-			}
-
-			return post;
-		} finally {
-			closeResources();
+		FreeboardDTO post = jdbc.queryForObject(sql, FreeboardDAO::createPostFromResultSet, postId);
+		if (post != null) {
+			// 조회수 증가
+			updateReadCount(postId);
 		}
+		return post;
 	}
 
-	// 조회수 증가
+	// 조회수 증가 (즉시 UPDATE하지 않고 ReadCountAggregator에 모아 주기적으로 일괄 반영)
 	private void updateReadCount(long postId) throws SQLException {
-		String sql = "UPDATE freeboard SET freeboard_read = freeboard_read + 1 WHERE freeboard_uid = ?";
-
-		try (Connection conn = getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			pstmt.setLong(1, postId);
-			pstmt.executeUpdate();
-		}
+		ReadCountAggregator.increment(ReadCountAggregator.Board.FREEBOARD, postId);
 	}
 
 	/**
@@ -324,18 +278,12 @@ public class FreeboardDAO {
 		String sql = "UPDATE freeboard SET freeboard_title = ?, freeboard_contents = ?, "
 				+ "freeboard_modify_time = NOW() WHERE freeboard_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, post.getFreeboardTitle());
-			pstmt.setString(2, post.getFreeboardContents());
-			pstmt.setLong(3, post.getFreeboardUid());
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
+		int result = jdbc.update(sql, post.getFreeboardTitle(), post.getFreeboardContents(), post.getFreeboardUid());
+		if (result > 0) {
+			SearchIndexManager.refresh(SearchIndexManager.Collection.FREEBOARD, post.getFreeboardUid());
+			ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
 		}
+		return result > 0;
 	}
 
 	// 게시글 삭제 (소프트 삭제)
@@ -343,14 +291,12 @@ public class FreeboardDAO {
 		String sql = "UPDATE freeboard SET freeboard_deleted = 'deleted' WHERE freeboard_uid = ?";
 
 		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-
-			int result = pstmt.executeUpdate();
-			boolean success = result > 0;
+			boolean success = jdbc.update(sql, postId) > 0;
 
 			if (success) {
+				SearchIndexManager.remove(SearchIndexManager.Collection.FREEBOARD, postId);
+				UserActivity.removeQuietly(UserActivity.Board.FREEBOARD, postId);
+				ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
 				logger.info("게시글 삭제 성공: ID=" + postId);
 			} else {
 				logger.warning("게시글 삭제 실패: ID=" + postId + ", 영향받은 행 없음");
@@ -360,8 +306,6 @@ public class FreeboardDAO {
 		} catch (SQLException e) {
 			logger.severe("게시글 삭제 중 오류 발생: ID=" + postId + ", 오류=" + e.getMessage());
 			throw e;
-		} finally {
-			closeResources();
 		}
 	}
 
@@ -370,22 +314,15 @@ public class FreeboardDAO {
 		// 실제로는 freeboard_deleted를 'hidden'으로 설정하고 이유를 로그 테이블에 기록
 		String sql = "UPDATE freeboard SET freeboard_deleted = 'deleted' WHERE freeboard_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-
-			int result = pstmt.executeUpdate();
-
-			if (result > 0) {
-				// 로그 테이블에 숨김 이유 기록 (log_delete_post 테이블 활용)
-				logPostDeletion(postId, hideReason);
-				return true;
-			}
-			return false;
-		} finally {
-			closeResources();
+		if (jdbc.update(sql, postId) > 0) {
+			SearchIndexManager.remove(SearchIndexManager.Collection.FREEBOARD, postId);
+			UserActivity.removeQuietly(UserActivity.Board.FREEBOARD, postId);
+			ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
+			// 로그 테이블에 숨김 이유 기록 (log_delete_post 테이블 활용)
+			logPostDeletion(postId, hideReason);
+			return true;
 		}
+		return false;
 	}
 
 	// 게시글 삭제 로그 기록
@@ -393,16 +330,7 @@ public class FreeboardDAO {
 		String logSql = "INSERT INTO log_delete_post (log_delete_boardtype, log_deleted_post_uid, "
 				+ "log_delete_date, user_uid) " + "VALUES ('freeboard', ?, NOW(), ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(logSql);
-			pstmt.setLong(1, postId);
-			pstmt.setLong(2, 0); // 관리자 ID
-
-			pstmt.executeUpdate();
-		} finally {
-			closeResources();
-		}
+		jdbc.update(logSql, postId, 0); // 관리자 ID
 	}
 
 	// 공지사항 지정/해제
@@ -410,35 +338,17 @@ public class FreeboardDAO {
 		String notifyValue = isNotice ? "notification" : "common";
 		String sql = "UPDATE freeboard SET freeboard_notify = ? WHERE freeboard_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, notifyValue);
-			pstmt.setLong(2, postId);
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
+		if (jdbc.update(sql, notifyValue, postId) > 0) {
+			ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
+			return true;
 		}
+		return false;
 	}
 
 	// 총 게시물 수 조회 (페이징용)
 	public int getTotalCount() throws SQLException {
 		String sql = "SELECT COUNT(*) FROM freeboard WHERE freeboard_deleted = 'maintained'";
-
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				return rs.getInt(1);
-			}
-			return 0;
-		} finally {
-			closeResources();
-		}
+		return jdbc.queryForInt(sql);
 	}
 
 	/**
@@ -457,24 +367,12 @@ public class FreeboardDAO {
 		String sql = "INSERT INTO report (report_target_type, report_reason, report_status, "
 				+ "report_createtime, report_user_uid, target_user_uid) " + "VALUES (?, ?, 'active', NOW(), ?, ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-
-			// category를 report_target_type ENUM 값으로 변환
-			// 클라이언트에서 받은 category가 ENUM에 맞지 않으면 기본값 사용
-			String targetType = convertCategoryToEnum(category);
+		// category를 report_target_type ENUM 값으로 변환
+		// 클라이언트에서 받은 category가 ENUM에 맞지 않으면 기본값 사용
+		String targetType = convertCategoryToEnum(category);
 
-			pstmt.setString(1, targetType); // report_target_type (ENUM 값)
-			pstmt.setString(2, reason); // report_reason
-			pstmt.setLong(3, reporterId); // report_user_uid
-			pstmt.setLong(4, post.getUserUid()); // target_user_uid
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
-		}
+		// report_target_type (ENUM 값), report_reason, report_user_uid, target_user_uid
+		return jdbc.update(sql, targetType, reason, reporterId, post.getUserUid()) > 0;
 	}
 
 	/**
@@ -514,23 +412,11 @@ public class FreeboardDAO {
 		String sql = "INSERT INTO report (report_target_type, report_reason, report_status, "
 				+ "report_createtime, report_user_uid, target_user_uid) " + "VALUES (?, ?, 'active', NOW(), ?, ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
+		// category를 report_target_type ENUM 값으로 변환
+		String targetType = convertCategoryToEnum(category);
 
-			// category를 report_target_type ENUM 값으로 변환
-			String targetType = convertCategoryToEnum(category);
-
-			pstmt.setString(1, targetType); // report_target_type (ENUM 값)
-			pstmt.setString(2, reason); // report_reason
-			pstmt.setLong(3, reporterId); // report_user_uid
-			pstmt.setLong(4, targetUserId); // target_user_uid
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
-		}
+		// report_target_type (ENUM 값), report_reason, report_user_uid, target_user_uid
+		return jdbc.update(sql, targetType, reason, reporterId, targetUserId) > 0;
 	}
 
 	/**
@@ -538,23 +424,15 @@ public class FreeboardDAO {
 	 */
 	public boolean penalizeUser(long targetUserId, long adminId, String reason, String category, String penaltyType,
 			int duration) throws SQLException {
-		try {
-			conn = getConnection();
-			conn.setAutoCommit(false); // 트랜잭션 시작
-
+		return jdbc.inTransaction(conn -> {
 			// 1. 신고 기록 추가 - 실제 DB 스키마와 일치하도록 수정
 			String reportSql = "INSERT INTO report (report_target_type, report_reason, report_status, "
 					+ "report_createtime, report_user_uid, target_user_uid) " + "VALUES (?, ?, 'active', NOW(), ?, ?)";
 
-			pstmt = conn.prepareStatement(reportSql);
 			// category를 report_target_type ENUM 값으로 변환
 			String targetType = convertCategoryToEnum(category);
-			pstmt.setString(1, targetType); // report_target_type (ENUM 값)
-			pstmt.setString(2, reason); // report_reason
-			pstmt.setLong(3, adminId); // report_user_uid (관리자 ID)
-			pstmt.setLong(4, targetUserId); // target_user_uid (대상 사용자)
-
-			boolean reportResult = pstmt.executeUpdate() > 0;
+			// report_user_uid는 관리자 ID, target_user_uid는 대상 사용자
+			boolean reportResult = JdbcTemplate.update(conn, reportSql, targetType, reason, adminId, targetUserId) > 0;
 
 			if (!reportResult) {
 				conn.rollback();
@@ -566,13 +444,8 @@ public class FreeboardDAO {
 					+ "penalty_start_date, penalty_end_date, penalty_status, penalty_duration) "
 					+ "VALUES (?, ?, NOW(), DATE_ADD(NOW(), INTERVAL ? DAY), 'active', ?)";
 
-			pstmt = conn.prepareStatement(penaltySql);
-			pstmt.setLong(1, targetUserId); // user_uid
-			pstmt.setString(2, reason); // penalty_reason
-			pstmt.setInt(3, duration); // penalty_end_date (계산)
-			pstmt.setString(4, duration > 0 ? "temporary" : "permanent"); // penalty_duration
-
-			boolean penaltyResult = pstmt.executeUpdate() > 0;
+			boolean penaltyResult = JdbcTemplate.update(conn, penaltySql, targetUserId, reason, duration,
+					duration > 0 ? "temporary" : "permanent") > 0;
 
 			if (!penaltyResult) {
 				conn.rollback();
@@ -582,38 +455,14 @@ public class FreeboardDAO {
 			// 3. 사용자 상태 업데이트 (이 부분은 이미 올바름)
 			String statusSql = "UPDATE user SET user_status = ? WHERE user_uid = ?";
 
-			pstmt = conn.prepareStatement(statusSql);
-			pstmt.setString(1, "restricted");
-			pstmt.setLong(2, targetUserId);
-
-			boolean statusResult = pstmt.executeUpdate() > 0;
+			boolean statusResult = JdbcTemplate.update(conn, statusSql, "restricted", targetUserId) > 0;
 
 			if (!statusResult) {
 				conn.rollback();
 				return false;
 			}
-
-			conn.commit();
 			return true;
-		} catch (SQLException e) {
-			if (conn != null) {
-				try {
-					conn.rollback();
-				} catch (SQLException ex) {
-					ex.printStackTrace();
-				}
-			}
-			throw e;
-		} finally {
-			if (conn != null) {
-				try {
-					conn.setAutoCommit(true);
-				} catch (SQLException e) {
-					e.printStackTrace();
-				}
-			}
-			closeResources();
-		}
+		});
 	}
 
 	/**
@@ -621,18 +470,15 @@ public class FreeboardDAO {
 	 */
 	private boolean updateUserStatus(long userId, String status) throws SQLException {
 		String sql = "UPDATE user SET user_status = ? WHERE user_uid = ?";
+		return jdbc.update(sql, status, userId) > 0;
+	}
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, status);
-			pstmt.setLong(2, userId);
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
-		}
+	/**
+	 * 게시글의 원본 파일명이 같은 첨부파일 저장 경로 목록 (삭제 후 파일 정리용)
+	 */
+	public List<String> getAttachmentPaths(long postId, String filename) throws SQLException {
+		String sql = "SELECT file_path FROM freeboard_attach WHERE freeboard_uid = ? AND file_name = ?";
+		return jdbc.query(sql, rs -> rs.getString("file_path"), postId, filename);
 	}
 
 	/**
@@ -647,161 +493,75 @@ public class FreeboardDAO {
 		// 2. 첨부파일 테이블에서 파일 정보 삭제
 		String deleteSql = "DELETE FROM freeboard_attach WHERE freeboard_uid = ? AND file_name = ?";
 
-		try {
-			conn = getConnection();
-			conn.setAutoCommit(false); // 트랜잭션 시작
-
-			// 로그 기록 - 파라미터 개수 수정 (2개만 필요)
-			pstmt = conn.prepareStatement(logSql);
-			pstmt.setLong(1, postId); // log_deleted_post_uid
-			pstmt.setLong(2, adminId); // user_uid
-
-			int logResult = pstmt.executeUpdate();
+		boolean deleted = jdbc.inTransaction(conn -> {
+			// 로그 기록 - log_deleted_post_uid, user_uid
+			int logResult = JdbcTemplate.update(conn, logSql, postId, adminId);
 
 			// 파일 정보 삭제
-			pstmt = conn.prepareStatement(deleteSql);
-			pstmt.setLong(1, postId);
-			pstmt.setString(2, filename);
-
-			int deleteResult = pstmt.executeUpdate();
+			int deleteResult = JdbcTemplate.update(conn, deleteSql, postId, filename);
 
 			if (logResult > 0 && deleteResult > 0) {
-				conn.commit();
 				return true;
-			} else {
-				conn.rollback();
-				return false;
 			}
-		} catch (SQLException e) {
-			if (conn != null)
-				try {
-					conn.rollback();
-				} catch (SQLException ex) {
-				}
-			throw e;
-		} finally {
-			if (conn != null)
-				try {
-					conn.setAutoCommit(true);
-				} catch (SQLException e) {
-				}
-			closeResources();
+			conn.rollback();
+			return false;
+		});
+		if (deleted) {
+			ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
 		}
+		return deleted;
 	}
 
 	/**
 	 * 게시글 검색
+	 * 전문 검색 색인(SearchIndexManager)에서 점수 순으로 해당 페이지의 ID를 구한 뒤 그 게시글만 조회
 	 */
 	public List<FreeboardDTO> searchFreeboards(String keyword, String searchType, int page, int pageSize)
 			throws SQLException {
 		List<FreeboardDTO> searchResults = new ArrayList<>();
-		StringBuilder sql = new StringBuilder();
-
-		sql.append("SELECT f.*, u.user_name, ");
-		sql.append(
-				"(SELECT COUNT(*) FROM freeboard_comment fc WHERE fc.freeboard_uid = f.freeboard_uid) AS comment_count ");
-		sql.append("FROM freeboard f ");
-		sql.append("JOIN user u ON f.user_uid = u.user_uid ");
-		sql.append("WHERE f.freeboard_deleted = 'maintained' ");
-
-		// 검색 조건 추가
-		if (searchType.equals("title")) {
-			sql.append("AND f.freeboard_title LIKE ? ");
-		} else if (searchType.equals("content")) {
-			sql.append("AND f.freeboard_contents LIKE ? ");
-		} else if (searchType.equals("author")) {
-			sql.append("AND u.user_name LIKE ? ");
-		} else {
-			sql.append("AND (f.freeboard_title LIKE ? OR f.freeboard_contents LIKE ?) ");
+		List<Long> ids = SearchIndexManager.search(SearchIndexManager.Collection.FREEBOARD, keyword,
+				SearchIndexManager.fieldsFor(searchType), page, pageSize).getIds();
+		if (ids.isEmpty()) {
+			return searchResults;
 		}
 
-		sql.append("ORDER BY f.freeboard_notify DESC, f.freeboard_writetime DESC ");
-		sql.append("LIMIT ? OFFSET ?");
-
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql.toString());
-
-			if (searchType.equals("title") || searchType.equals("content") || searchType.equals("author")) {
-				pstmt.setString(1, "%" + keyword + "%");
-				pstmt.setInt(2, pageSize);
-				pstmt.setInt(3, (page - 1) * pageSize);
-			} else {
-				pstmt.setString(1, "%" + keyword + "%");
-				pstmt.setString(2, "%" + keyword + "%");
-				pstmt.setInt(3, pageSize);
-				pstmt.setInt(4, (page - 1) * pageSize);
-			}
+		String sql = POST_SELECT
+				+ "WHERE f.freeboard_deleted = 'maintained' "
+				+ "AND f.freeboard_uid IN (" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
 
-			rs = pstmt.executeQuery();
+		Map<Long, FreeboardDTO> postsById = new HashMap<>();
+		for (FreeboardDTO post : jdbc.query(sql, FreeboardDAO::createPostFromResultSet, ids.toArray())) {
+			postsById.put(post.getFreeboardUid(), post);
+		}
 
-			while (rs.next()) {
-				FreeboardDTO post = createFreeboardFromResultSet(rs);
-				post.setUserName(rs.getString("user_name"));
-				post.setCommentCount(rs.getInt("comment_count"));
+		// 색인 점수 순서 유지
+		for (Long id : ids) {
+			FreeboardDTO post = postsById.get(id);
+			if (post != null) {
 				searchResults.add(post);
 			}
-
-			return searchResults;
-		} finally {
-			closeResources();
 		}
+
+		return searchResults;
 	}
 
 	// 새로운 커서 기반 페이징 메서드 추가
 	public List<FreeboardDTO> getNextFreeboards(long lastPostId, int pageSize) throws SQLException {
-		List<FreeboardDTO> freeboard = new ArrayList<>();
-		String sql = "SELECT f.*, u.user_name, "
-				+ "(SELECT COUNT(*) FROM freeboard_comment fc WHERE fc.freeboard_uid = f.freeboard_uid) AS comment_count "
-				+ "FROM freeboard f " + "JOIN user u ON f.user_uid = u.user_uid "
+		String sql = POST_SELECT
 				+ "WHERE f.freeboard_deleted = 'maintained' " + "AND f.freeboard_uid < ? " + // 커서 조건
 				"ORDER BY f.freeboard_uid DESC " + "LIMIT ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, lastPostId); // 마지막으로 본 게시글 ID
-			pstmt.setInt(2, pageSize);
-
-			rs = pstmt.executeQuery();
-
-			while (rs.next()) {
-				FreeboardDTO post = createFreeboardFromResultSet(rs);
-				post.setUserName(rs.getString("user_name"));
-				post.setCommentCount(rs.getInt("comment_count"));
-				freeboard.add(post);
-			}
-
-			return freeboard;
-		} finally {
-			closeResources();
-		}
+		// 마지막으로 본 게시글 ID 다음부터
+		return jdbc.query(sql, FreeboardDAO::createPostFromResultSet, lastPostId, pageSize);
 	}
 
 	// 간단한 목록 조회용 메서드 추가 (작성자 이름 없이)
 	public List<FreeboardDTO> getSimpleFreeboardList(int page, int pageSize) throws SQLException {
-		List<FreeboardDTO> freeboard = new ArrayList<>();
 		String sql = "SELECT f.* FROM freeboard f " + "WHERE f.freeboard_deleted = 'maintained' "
 				+ "ORDER BY f.freeboard_notify DESC, f.freeboard_writetime DESC " + "LIMIT ? OFFSET ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setInt(1, pageSize);
-			pstmt.setInt(2, (page - 1) * pageSize);
-
-			rs = pstmt.executeQuery();
-
-			while (rs.next()) {
-				FreeboardDTO post = createFreeboardFromResultSet(rs);
-				// 작성자 정보 조회 없이 기본 데이터만 설정
-				freeboard.add(post);
-			}
-
-			return freeboard;
-		} finally {
-			closeResources();
-		}
+		// 작성자 정보 조회 없이 기본 데이터만 설정
+		return jdbc.query(sql, FreeboardDAO::createFreeboardFromResultSet, pageSize, (page - 1) * pageSize);
 	}
 
 	/**
@@ -811,18 +571,11 @@ public class FreeboardDAO {
 		String sql = "INSERT INTO freeboard_attach (freeboard_uid, file_name, file_path, file_size, upload_date) "
 				+ "VALUES (?, ?, ?, ?, NOW())";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setString(2, fileName);
-			pstmt.setString(3, filePath);
-			pstmt.setLong(4, fileSize);
-
-			return pstmt.executeUpdate() > 0;
-		} finally {
-			closeResources();
+		if (jdbc.update(sql, postId, fileName, filePath, fileSize) > 0) {
+			ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
+			return true;
 		}
+		return false;
 	}
 
 	/**
@@ -830,27 +583,7 @@ public class FreeboardDAO {
 	 */
 	public AttachmentDTO getAttachmentById(long attachId) throws SQLException {
 		String sql = "SELECT * FROM freeboard_attach WHERE attach_uid = ?";
-
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, attachId);
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				AttachmentDTO attachment = new AttachmentDTO();
-				attachment.setAttachId(rs.getLong("attach_uid"));
-				attachment.setPostId(rs.getLong("freeboard_uid"));
-				attachment.setFileName(rs.getString("file_name"));
-				attachment.setFilePath(rs.getString("file_path"));
-				attachment.setFileSize(rs.getLong("file_size"));
-				attachment.setUploadDate(rs.getTimestamp("upload_date").toLocalDateTime());
-				return attachment;
-			}
-			return null;
-		} finally {
-			closeResources();
-		}
+		return jdbc.queryForObject(sql, FreeboardDAO::createAttachmentFromResultSet, attachId);
 	}
 
 	/**
@@ -858,32 +591,7 @@ public class FreeboardDAO {
 	 */
 	public AttachmentDTO getAttachmentByFilename(String filename) throws SQLException {
 		String sql = "SELECT * FROM freeboard_attach WHERE file_path = ?";
-
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, filename);
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				AttachmentDTO attachment = new AttachmentDTO();
-				attachment.setAttachId(rs.getLong("attach_uid"));
-				attachment.setPostId(rs.getLong("freeboard_uid"));
-				attachment.setFileName(rs.getString("file_name"));
-				attachment.setFilePath(rs.getString("file_path"));
-				attachment.setFileSize(rs.getLong("file_size"));
-
-				if (rs.getTimestamp("upload_date") != null) {
-					attachment.setUploadDate(rs.getTimestamp("upload_date").toLocalDateTime());
-				}
-
-				return attachment;
-			}
-
-			return null;
-		} finally {
-			closeResources();
-		}
+		return jdbc.queryForObject(sql, FreeboardDAO::createAttachmentFromResultSet, filename);
 	}
 
 	// 자유게시판 댓글 관련 메서드
@@ -892,39 +600,10 @@ public class FreeboardDAO {
 	 * 게시글의 모든 댓글 조회
 	 */
 	public List<FreeboardCommentDTO> getCommentsByPostId(long postId) throws SQLException {
-		List<FreeboardCommentDTO> comments = new ArrayList<>();
 		String sql = "SELECT c.*, u.user_name FROM freeboard_comment c " + "JOIN user u ON c.user_uid = u.user_uid "
 				+ "WHERE c.freeboard_uid = ? " + "ORDER BY c.freeboard_comment_writetime ASC";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			rs = pstmt.executeQuery();
-
-			while (rs.next()) {
-				FreeboardCommentDTO comment = new FreeboardCommentDTO();
-				comment.setFreeboardCommentUid(rs.getLong("freeboard_comment_uid"));
-				comment.setFreeboardCommentContents(rs.getString("freeboard_comment_contents"));
-				comment.setFreeboardCommentWritetime(rs.getTimestamp("freeboard_comment_writetime").toLocalDateTime());
-
-				if (rs.getTimestamp("freeboard_comment_modifytime") != null) {
-					comment.setFreeboardCommentModifytime(
-							rs.getTimestamp("freeboard_comment_modifytime").toLocalDateTime());
-				}
-
-				comment.setFreeboardCommentAuthorIp(rs.getString("freeboard_comment_author_ip"));
-				comment.setFreeboardUid(rs.getLong("freeboard_uid"));
-				comment.setUserUid(rs.getLong("user_uid"));
-				comment.setUserName(rs.getString("user_name"));
-
-				comments.add(comment);
-			}
-		} finally {
-			closeResources();
-		}
-
-		return comments;
+		return jdbc.query(sql, FreeboardDAO::createCommentFromResultSet, postId);
 	}
 
 	/**
@@ -935,19 +614,19 @@ public class FreeboardDAO {
 				+ "(freeboard_comment_contents, freeboard_comment_writetime, freeboard_comment_author_ip, freeboard_uid, user_uid) "
 				+ "VALUES (?, NOW(), ?, ?, ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, comment.getFreeboardCommentContents());
-			pstmt.setString(2, comment.getFreeboardCommentAuthorIp());
-			pstmt.setLong(3, comment.getFreeboardUid());
-			pstmt.setLong(4, comment.getUserUid());
-
-			int result = pstmt.executeUpdate();
+		// 댓글 등록과 댓글 수 증가를 한 트랜잭션으로 처리
+		boolean added = jdbc.inTransaction(conn -> {
+			int result = JdbcTemplate.update(conn, sql, comment.getFreeboardCommentContents(),
+					comment.getFreeboardCommentAuthorIp(), comment.getFreeboardUid(), comment.getUserUid());
+			if (result > 0) {
+				CommentCounter.adjust(conn, CommentCounter.Board.FREEBOARD, comment.getFreeboardUid(), 1);
+			}
 			return result > 0;
-		} finally {
-			closeResources();
+		});
+		if (added) {
+			ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
 		}
+		return added;
 	}
 
 	/**
@@ -957,24 +636,16 @@ public class FreeboardDAO {
 		String sql = "UPDATE freeboard_comment SET " + "freeboard_comment_contents = ?, "
 				+ "freeboard_comment_modifytime = NOW() " + "WHERE freeboard_comment_uid = ? AND user_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, comment.getFreeboardCommentContents());
-			pstmt.setLong(2, comment.getFreeboardCommentUid());
-			pstmt.setLong(3, comment.getUserUid());
-
-			int result = pstmt.executeUpdate();
-
-			// 수정 로그 저장
-			if (result > 0) {
-				logModifyComment(comment.getFreeboardCommentUid(), comment.getUserUid(), "freeboard");
-			}
+		int result = jdbc.update(sql, comment.getFreeboardCommentContents(), comment.getFreeboardCommentUid(),
+				comment.getUserUid());
 
-			return result > 0;
-		} finally {
-			closeResources();
+		// 수정 로그 저장
+		if (result > 0) {
+			ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
+			logModifyComment(comment.getFreeboardCommentUid(), comment.getUserUid(), "freeboard");
 		}
+
+		return result > 0;
 	}
 
 	/**
@@ -989,22 +660,22 @@ public class FreeboardDAO {
 
 		String sql = "DELETE FROM freeboard_comment WHERE freeboard_comment_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, commentId);
-
-			int result = pstmt.executeUpdate();
-
-			// 삭제 로그 저장
+		// 댓글 삭제와 댓글 수 감소를 한 트랜잭션으로 처리
+		boolean deleted = jdbc.inTransaction(conn -> {
+			int result = JdbcTemplate.update(conn, sql, commentId);
 			if (result > 0) {
-				logDeleteComment(commentId, userId, "freeboard");
+				CommentCounter.adjust(conn, CommentCounter.Board.FREEBOARD, comment.getFreeboardUid(), -1);
 			}
-
 			return result > 0;
-		} finally {
-			closeResources();
+		});
+
+		// 삭제 로그 저장
+		if (deleted) {
+			ResponseCache.invalidate(ResponseCache.Board.FREEBOARD);
+			logDeleteComment(commentId, userId, "freeboard");
 		}
+
+		return deleted;
 	}
 
 	/**
@@ -1014,34 +685,7 @@ public class FreeboardDAO {
 		String sql = "SELECT c.*, u.user_name FROM freeboard_comment c " + "JOIN user u ON c.user_uid = u.user_uid "
 				+ "WHERE c.freeboard_comment_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, commentId);
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				FreeboardCommentDTO comment = new FreeboardCommentDTO();
-				comment.setFreeboardCommentUid(rs.getLong("freeboard_comment_uid"));
-				comment.setFreeboardCommentContents(rs.getString("freeboard_comment_contents"));
-				comment.setFreeboardCommentWritetime(rs.getTimestamp("freeboard_comment_writetime").toLocalDateTime());
-
-				if (rs.getTimestamp("freeboard_comment_modifytime") != null) {
-					comment.setFreeboardCommentModifytime(
-							rs.getTimestamp("freeboard_comment_modifytime").toLocalDateTime());
-				}
-
-				comment.setFreeboardCommentAuthorIp(rs.getString("freeboard_comment_author_ip"));
-				comment.setFreeboardUid(rs.getLong("freeboard_uid"));
-				comment.setUserUid(rs.getLong("user_uid"));
-				comment.setUserName(rs.getString("user_name"));
-
-				return comment;
-			}
-			return null;
-		} finally {
-			closeResources();
-		}
+		return jdbc.queryForObject(sql, FreeboardDAO::createCommentFromResultSet, commentId);
 	}
 
 	/**
@@ -1052,17 +696,7 @@ public class FreeboardDAO {
 				+ "(log_modify_boardtype, log_modify_date, log_modify_comment_uid, user_uid) "
 				+ "VALUES (?, NOW(), ?, ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, boardType);
-			pstmt.setLong(2, commentId);
-			pstmt.setLong(3, userId);
-
-			pstmt.executeUpdate();
-		} finally {
-			closeResources();
-		}
+		jdbc.update(sql, boardType, commentId, userId);
 	}
 
 	/**
@@ -1073,35 +707,15 @@ public class FreeboardDAO {
 				+ "(log_delete_boardtype, log_delete_date, log_deleted_comment_uid, user_uid) "
 				+ "VALUES (?, NOW(), ?, ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, boardType);
-			pstmt.setLong(2, commentId);
-			pstmt.setLong(3, userId);
-
-			pstmt.executeUpdate();
-		} finally {
-			closeResources();
-		}
+		jdbc.update(sql, boardType, commentId, userId);
 	}
 
 	/**
-	 * 첨부파일 다운로드 수 증가
+	 * 첨부파일 다운로드 수 증가 (즉시 UPDATE하지 않고 ReadCountAggregator에 모아 주기적으로 일괄 반영)
 	 */
 	public boolean increaseDownloadCount(long attachId) throws SQLException {
-		String sql = "UPDATE freeboard_attach SET download_count = download_count + 1 WHERE attach_uid = ?";
-
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, attachId);
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
-		}
+		ReadCountAggregator.increment(ReadCountAggregator.Board.FREEBOARD_ATTACH, attachId);
+		return true;
 	}
 
 	// 추천 관련 DAO 메서드 시작
@@ -1115,21 +729,7 @@ public class FreeboardDAO {
 	 * @throws SQLException SQL 예외
 	 */
 	public boolean hasUserRecommended(long postId, int userId) throws SQLException {
-		String sql = "SELECT COUNT(*) FROM log_recommend "
-				+ "WHERE log_recommend_boardtype = 'freeboard' AND log_recommend_post_id = ? AND user_uid = ?";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setInt(2, userId);
-			rs = pstmt.executeQuery();
-			if (rs.next()) {
-				return rs.getInt(1) > 0;
-			}
-			return false;
-		} finally {
-			closeResources();
-		}
+		return ReactionEngine.hasReacted(ReactionEngine.Target.FREEBOARD, postId, userId);
 	}
 
 	/**
@@ -1143,15 +743,7 @@ public class FreeboardDAO {
 	public boolean removeRecommendationLog(long postId, int userId) throws SQLException {
 		String sql = "DELETE FROM log_recommend "
 				+ "WHERE log_recommend_boardtype = 'freeboard' AND log_recommend_post_id = ? AND user_uid = ?";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setInt(2, userId);
-			return pstmt.executeUpdate() > 0;
-		} finally {
-			closeResources();
-		}
+		return jdbc.update(sql, postId, userId) > 0;
 	}
 
 	/**
@@ -1165,15 +757,7 @@ public class FreeboardDAO {
 	public boolean addRecommendationLog(long postId, int userId) throws SQLException {
 		String sql = "INSERT INTO log_recommend (log_recommend_boardtype, log_recommend_post_id, log_recommend_date, user_uid) "
 				+ "VALUES ('freeboard', ?, NOW(), ?)";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setInt(2, userId);
-			return pstmt.executeUpdate() > 0;
-		} finally {
-			closeResources();
-		}
+		return jdbc.update(sql, postId, userId) > 0;
 	}
 
 	/**
@@ -1185,14 +769,7 @@ public class FreeboardDAO {
 	 */
 	public boolean decrementFreeboardRecommendCount(long postId) throws SQLException {
 		String sql = "UPDATE freeboard SET freeboard_recommend = freeboard_recommend - 1 WHERE freeboard_uid = ?";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			return pstmt.executeUpdate() > 0;
-		} finally {
-			closeResources();
-		}
+		return jdbc.update(sql, postId) > 0;
 	}
 
 	/**
@@ -1204,14 +781,7 @@ public class FreeboardDAO {
 	 */
 	public boolean incrementFreeboardRecommendCount(long postId) throws SQLException {
 		String sql = "UPDATE freeboard SET freeboard_recommend = freeboard_recommend + 1 WHERE freeboard_uid = ?";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			return pstmt.executeUpdate() > 0;
-		} finally {
-			closeResources();
-		}
+		return jdbc.update(sql, postId) > 0;
 	}
 
 	/**
@@ -1223,18 +793,9 @@ public class FreeboardDAO {
 	 */
 	public int getFreeboardRecommendCount(long postId) throws SQLException {
 		String sql = "SELECT freeboard_recommend FROM freeboard WHERE freeboard_uid = ?";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			rs = pstmt.executeQuery();
-			if (rs.next()) {
-				return rs.getInt("freeboard_recommend");
-			}
-			return 0; // 게시글이 없거나 추천 수가 없는 경우
-		} finally {
-			closeResources();
-		}
+		// DB 값(게시글이 없으면 0) + 아직 반영되지 않은 추천 수
+		return jdbc.queryForInt(sql, postId)
+				+ (int) ReactionEngine.getPendingCount(ReactionEngine.Target.FREEBOARD, postId);
 	}
 
 	/**
@@ -1248,19 +809,7 @@ public class FreeboardDAO {
 	public String getUserRecommendationType(long postId, long userId) throws SQLException {
 		String sql = "SELECT recommendation_type FROM post_recommendation "
 				+ "WHERE post_id = ? AND user_uid = ? AND post_type = 'freeboard'";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setLong(2, userId);
-			rs = pstmt.executeQuery();
-			if (rs.next()) {
-				return rs.getString("recommendation_type");
-			}
-			return null;
-		} finally {
-			closeResources();
-		}
+		return jdbc.queryForObject(sql, rs -> rs.getString("recommendation_type"), postId, userId);
 	}
 
 	/**
@@ -1276,48 +825,16 @@ public class FreeboardDAO {
 		String sql = "INSERT INTO post_recommendation (post_id, user_uid, post_type, recommendation_type, recommended_at) "
 				+ "VALUES (?, ?, 'freeboard', ?, NOW())";
 		String updateSql = "UPDATE freeboard SET freeboard_recommend = freeboard_recommend + 1 WHERE freeboard_uid = ?";
-		try {
-			conn = getConnection();
-			conn.setAutoCommit(false);
 
-			// 추천 기록 추가
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setLong(2, userId);
-			pstmt.setString(3, recommendationType);
-			int result = pstmt.executeUpdate();
-
-			if (result > 0) {
-				// 게시글 추천 수 업데이트
-				pstmt = conn.prepareStatement(updateSql);
-				pstmt.setLong(1, postId);
-				int updateResult = pstmt.executeUpdate();
-				if (updateResult > 0) {
-					conn.commit();
-					return true;
-				}
+		return jdbc.inTransaction(conn -> {
+			// 추천 기록 추가 후 게시글 추천 수 업데이트
+			if (JdbcTemplate.update(conn, sql, postId, userId, recommendationType) > 0
+					&& JdbcTemplate.update(conn, updateSql, postId) > 0) {
+				return true;
 			}
 			conn.rollback();
 			return false;
-		} catch (SQLException e) {
-			if (conn != null) {
-				try {
-					conn.rollback();
-				} catch (SQLException ex) {
-					logger.severe("추천 추가 중 롤백 오류: " + ex.getMessage());
-				}
-			}
-			throw e;
-		} finally {
-			if (conn != null) {
-				try {
-					conn.setAutoCommit(true);
-				} catch (SQLException e) {
-					logger.severe("추천 추가 후 AutoCommit 설정 복구 오류: " + e.getMessage());
-				}
-			}
-			closeResources();
-		}
+		});
 	}
 
 	/**
@@ -1331,47 +848,16 @@ public class FreeboardDAO {
 	public boolean removeRecommendation(long postId, long userId) throws SQLException {
 		String sql = "DELETE FROM post_recommendation WHERE post_id = ? AND user_uid = ? AND post_type = 'freeboard'";
 		String updateSql = "UPDATE freeboard SET freeboard_recommend = GREATEST(0, freeboard_recommend - 1) WHERE freeboard_uid = ?";
-		try {
-			conn = getConnection();
-			conn.setAutoCommit(false);
-
-			// 추천 기록 삭제
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setLong(2, userId);
-			int result = pstmt.executeUpdate();
 
-			if (result > 0) {
-				// 게시글 추천 수 업데이트
-				pstmt = conn.prepareStatement(updateSql);
-				pstmt.setLong(1, postId);
-				int updateResult = pstmt.executeUpdate();
-				if (updateResult > 0) {
-					conn.commit();
-					return true;
-				}
+		return jdbc.inTransaction(conn -> {
+			// 추천 기록 삭제 후 게시글 추천 수 업데이트
+			if (JdbcTemplate.update(conn, sql, postId, userId) > 0
+					&& JdbcTemplate.update(conn, updateSql, postId) > 0) {
+				return true;
 			}
 			conn.rollback();
 			return false;
-		} catch (SQLException e) {
-			if (conn != null) {
-				try {
-					conn.rollback();
-				} catch (SQLException ex) {
-					logger.severe("추천 삭제 중 롤백 오류: " + ex.getMessage());
-				}
-			}
-			throw e;
-		} finally {
-			if (conn != null) {
-				try {
-					conn.setAutoCommit(true);
-				} catch (SQLException e) {
-					logger.severe("추천 삭제 후 AutoCommit 설정 복구 오류: " + e.getMessage());
-				}
-			}
-			closeResources();
-		}
+		});
 	}
 
 	/**
@@ -1383,17 +869,6 @@ public class FreeboardDAO {
 	 */
 	public int getLikeCountByPostId(long postId) throws SQLException {
 		String sql = "SELECT COUNT(*) FROM post_recommendation WHERE post_id = ? AND post_type = 'freeboard' AND recommendation_type = 'like'";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			rs = pstmt.executeQuery();
-			if (rs.next()) {
-				return rs.getInt(1);
-			}
-			return 0;
-		} finally {
-			closeResources();
-		}
+		return jdbc.queryForInt(sql, postId);
 	}
-}
\ No newline at end of file
+}
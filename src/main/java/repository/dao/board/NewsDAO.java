@@ -7,13 +7,25 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import dto.board.NewsDTO;
 import dto.board.NewsCommentDTO;
+import util.db.CommentCounter;
 import util.db.DBConnectionUtil;
+import util.db.Keyset;
+import util.db.KeysetPage;
+import util.db.ReactionEngine;
+import util.db.ReadCountAggregator;
+import util.db.TransactionHelper;
+import util.db.UserActivity;
 import util.logging.LoggerConfig;
+import util.search.SearchIndexManager;
+import util.web.ResponseCache;
 
 /**
  * 키보드 소식 게시판 DAO 클래스
@@ -26,6 +38,11 @@ public class NewsDAO {
     
     private static final Logger logger = LoggerConfig.getLogger(NewsDAO.class);
     
+    // 목록 정렬 (최신순) - idx_news_list(news_deleted, news_writetime) + PK
+    private static final Keyset LIST_KEYSET = Keyset.of("news")
+            .desc("n.news_writetime", "news_writetime", Keyset.Type.TIMESTAMP)
+            .desc("n.news_uid", "news_uid", Keyset.Type.LONG);
+    
     // DB 연결 가져오기
     private Connection getConnection() throws SQLException {
         return DBConnectionUtil.getConnection();
@@ -48,8 +65,11 @@ public class NewsDAO {
         news.setNewsId(rs.getLong("news_uid"));
         news.setNewsTitle(rs.getString("news_title"));
         news.setNewsContents(rs.getString("news_contents"));
-        news.setNewsRead(rs.getInt("news_read"));
-        news.setNewsRecommend(rs.getInt("news_recommend"));
+        // DB 값 + 아직 반영되지 않은 조회수
+        news.setNewsRead(rs.getInt("news_read")
+                + (int) ReadCountAggregator.getPending(ReadCountAggregator.Board.NEWS, news.getNewsId()));
+        news.setNewsRecommend(rs.getInt("news_recommend")
+                + (int) ReactionEngine.getPendingCount(ReactionEngine.Target.NEWS, news.getNewsId()));
         
         Timestamp writetime = rs.getTimestamp("news_writetime");
         if (writetime != null) {
@@ -100,8 +120,11 @@ public class NewsDAO {
                         news.setNewsId(generatedKeys.getLong(1));
                     }
                 }
+                UserActivity.record(conn, UserActivity.Board.NEWS, news.getNewsId());
                 conn.commit();
                 logger.info("소식 게시글 등록 성공: ID=" + news.getNewsId() + ", 작성자=" + news.getUserId());
+                SearchIndexManager.refresh(SearchIndexManager.Collection.NEWS, news.getNewsId());
+                ResponseCache.invalidate(ResponseCache.Board.NEWS);
             } else {
                 conn.rollback();
                 logger.warning("소식 게시글 등록 실패: 영향받은 행 없음");
@@ -143,7 +166,7 @@ public class NewsDAO {
     public List<NewsDTO> getAllNews(int page, int pageSize) throws SQLException {
         List<NewsDTO> newsList = new ArrayList<>();
         String sql = "SELECT n.*, u.user_name, " +
-                    "(SELECT COUNT(*) FROM news_comment nc WHERE nc.news_uid = n.news_uid) AS comment_count " +
+                    "n.news_comment_count AS comment_count " +
                     "FROM news n " +
                     "JOIN user u ON n.user_uid = u.user_uid " +
                     "WHERE n.news_deleted = 'maintained' " +
@@ -184,6 +207,37 @@ public class NewsDAO {
         }
     }
     
+    /**
+     * 키보드 소식 목록 커서 조회 (최신순, COUNT 없이 다음 페이지 커서만 반환)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @throws IllegalArgumentException 잘못된 커서인 경우
+     */
+    public KeysetPage<NewsDTO> getNewsByCursor(String cursor, int pageSize) throws SQLException {
+        String sql = "SELECT n.*, u.user_name, " +
+                    "n.news_comment_count AS comment_count " +
+                    "FROM news n " +
+                    "JOIN user u ON n.user_uid = u.user_uid " +
+                    "WHERE n.news_deleted = 'maintained' " +
+                    (cursor != null ? "AND " + LIST_KEYSET.seekCondition() + " " : "") +
+                    LIST_KEYSET.orderBy() + " LIMIT ?";
+        
+        try (Connection conn = getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = LIST_KEYSET.bind(pstmt, 1, cursor);
+            pstmt.setInt(index, pageSize + 1);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return LIST_KEYSET.read(rs, pageSize, row -> {
+                    NewsDTO news = createNewsFromResultSet(row);
+                    news.setUserName(row.getString("user_name"));
+                    news.setCommentCount(row.getInt("comment_count"));
+                    return news;
+                });
+            }
+        }
+    }
+    
     /**
      * 기본 모든 소식 조회 (페이징 없음 - 오버로딩)
      */
@@ -196,7 +250,7 @@ public class NewsDAO {
     public NewsDTO getNewsById(long newsId) throws SQLException {
         NewsDTO news = null;
         String sql = "SELECT n.*, u.user_name, " + 
-                    "(SELECT COUNT(*) FROM news_comment nc WHERE nc.news_uid = n.news_uid) AS comment_count " +
+                    "n.news_comment_count AS comment_count " +
                     "FROM news n " +
                     "JOIN user u ON n.user_uid = u.user_uid " +
                     "WHERE n.news_uid = ? AND n.news_deleted = 'maintained'";
@@ -238,16 +292,10 @@ public class NewsDAO {
         }
     }
       /**
-     * 조회수 증가
+     * 조회수 증가 (즉시 UPDATE하지 않고 ReadCountAggregator에 모아 주기적으로 일괄 반영)
      */
     private void updateReadCount(long newsId) throws SQLException {
-        String sql = "UPDATE news SET news_read = news_read + 1 WHERE news_uid = ?";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, newsId);
-            pstmt.executeUpdate();
-        }
+        ReadCountAggregator.increment(ReadCountAggregator.Board.NEWS, newsId);
     }
       /**
      * 조회수 증가 (세션 기반 중복 방지)
@@ -318,6 +366,8 @@ public class NewsDAO {
             int result = pstmt.executeUpdate();
             
             if (result > 0) {
+                SearchIndexManager.refresh(SearchIndexManager.Collection.NEWS, news.getNewsId());
+                ResponseCache.invalidate(ResponseCache.Board.NEWS);
                 // 수정 로그 저장
                 logModifyPost(news.getNewsId(), news.getUserId(), "news");
             }
@@ -349,6 +399,9 @@ public class NewsDAO {
             int result = pstmt.executeUpdate();
             
             if (result > 0) {
+                SearchIndexManager.remove(SearchIndexManager.Collection.NEWS, newsId);
+                UserActivity.removeQuietly(UserActivity.Board.NEWS, newsId);
+                ResponseCache.invalidate(ResponseCache.Board.NEWS);
                 // 삭제 로그 저장
                 logDeletePost(newsId, userId, "news");
             }
@@ -404,28 +457,22 @@ public class NewsDAO {
     
     /**
      * 소식 검색
-     */    public List<NewsDTO> searchNewsBy(String keyword, String searchType, int page, int pageSize) throws SQLException {
+     * 전문 검색 색인(SearchIndexManager)에서 점수 순으로 해당 페이지의 ID를 구한 뒤 그 게시글만 조회
+     */
+    public List<NewsDTO> searchNewsBy(String keyword, String searchType, int page, int pageSize) throws SQLException {
         List<NewsDTO> searchResults = new ArrayList<>();
-        StringBuilder sql = new StringBuilder();
-        
-        sql.append("SELECT n.*, u.user_name, ");
-        sql.append("(SELECT COUNT(*) FROM news_comment nc WHERE nc.news_uid = n.news_uid) AS comment_count ");
-        sql.append("FROM news n ");
-        sql.append("JOIN user u ON n.user_uid = u.user_uid ");
-        sql.append("WHERE n.news_deleted = 'maintained' ");
-        
-        // 검색 조건 추가
-        if (searchType.equals("title")) {
-            sql.append("AND n.news_title LIKE ? ");
-        } else if (searchType.equals("content")) {
-            sql.append("AND n.news_contents LIKE ? ");
-        } else if (searchType.equals("author")) {
-            sql.append("AND u.user_name LIKE ? ");
-        } else {
-            sql.append("AND (n.news_title LIKE ? OR n.news_contents LIKE ?) ");
+        List<Long> ids = SearchIndexManager.search(SearchIndexManager.Collection.NEWS, keyword,
+                SearchIndexManager.fieldsFor(searchType), page, pageSize).getIds();
+        if (ids.isEmpty()) {
+            return searchResults;
         }
-          sql.append("ORDER BY n.news_writetime DESC ");
-        sql.append("LIMIT ? OFFSET ?");
+        
+        String sql = "SELECT n.*, u.user_name, " +
+                    "n.news_comment_count AS comment_count " +
+                    "FROM news n " +
+                    "JOIN user u ON n.user_uid = u.user_uid " +
+                    "WHERE n.news_deleted = 'maintained' " +
+                    "AND n.news_uid IN (" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
         
         Connection conn = null;
         PreparedStatement pstmt = null;
@@ -433,26 +480,27 @@ public class NewsDAO {
         
         try {
             conn = getConnection();
-            pstmt = conn.prepareStatement(sql.toString());
-            
-            if (searchType.equals("title") || searchType.equals("content") || searchType.equals("author")) {
-                pstmt.setString(1, "%" + keyword + "%");
-                pstmt.setInt(2, pageSize);
-                pstmt.setInt(3, (page - 1) * pageSize);
-            } else {
-                pstmt.setString(1, "%" + keyword + "%");
-                pstmt.setString(2, "%" + keyword + "%");
-                pstmt.setInt(3, pageSize);
-                pstmt.setInt(4, (page - 1) * pageSize);
+            pstmt = conn.prepareStatement(sql);
+            for (int i = 0; i < ids.size(); i++) {
+                pstmt.setLong(i + 1, ids.get(i));
             }
             
             rs = pstmt.executeQuery();
             
+            Map<Long, NewsDTO> newsById = new HashMap<>();
             while (rs.next()) {
                 NewsDTO news = createNewsFromResultSet(rs);
                 news.setUserName(rs.getString("user_name"));
                 news.setCommentCount(rs.getInt("comment_count"));
-                searchResults.add(news);
+                newsById.put(news.getNewsId(), news);
+            }
+            
+            // 색인 점수 순서 유지
+            for (Long id : ids) {
+                NewsDTO news = newsById.get(id);
+                if (news != null) {
+                    searchResults.add(news);
+                }
             }
             
             return searchResults;
@@ -469,198 +517,16 @@ public class NewsDAO {
         }
     }
       /**
-     * 게시글 추천
+     * 게시글 추천 (log_recommend 유니크 키로 한 번만 반영, 추천 수는 ReactionEngine이 모아 일괄 반영)
      */
     public boolean recommendNewsById(long newsId, long userId) throws SQLException {
-        // 이미 추천했는지 확인
-        if (hasAlreadyRecommended(newsId, userId, "news")) {
-            return false;
-        }
-        
-        String sql = "UPDATE news SET news_recommend = news_recommend + 1 WHERE news_uid = ?";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, newsId);
-            
-            int result = pstmt.executeUpdate();
-            
-            if (result > 0) {
-                // 추천 로그 기록
-                logRecommendation(newsId, userId, "news");
-                conn.commit();
-                return true;
-            } else {
-                conn.rollback();
-                return false;
-            }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        return ReactionEngine.add(ReactionEngine.Target.NEWS, newsId, userId);
     }
       /**
      * 게시글 추천 취소
      */
     public boolean recommendNewsCancelById(long newsId, long userId) throws SQLException {
-        // 추천 여부 확인
-        if (!hasAlreadyRecommended(newsId, userId, "news")) {
-            return false;
-        }
-        
-        String sql = "UPDATE news SET news_recommend = news_recommend - 1 WHERE news_uid = ? AND news_recommend > 0";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, newsId);
-            
-            int result = pstmt.executeUpdate();
-            
-            if (result > 0) {
-                // 추천 로그 삭제
-                deleteRecommendLog(newsId, userId, "news");
-                conn.commit();
-                return true;
-            } else {
-                conn.rollback();
-                return false;
-            }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
-    }
-      /**
-     * 이미 추천했는지 확인
-     */
-    private boolean hasAlreadyRecommended(long postId, long userId, String boardType) throws SQLException {
-        String sql = "SELECT COUNT(*) FROM log_recommend WHERE log_recommend_boardtype = ? AND log_recommend_post_id = ? AND user_uid = ?";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            pstmt.setLong(2, postId);
-            pstmt.setLong(3, userId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next() && rs.getInt(1) > 0) {
-                return true;
-            }
-            return false;
-        } finally {
-            if (rs != null) {
-                try { rs.close(); } catch (SQLException e) { }
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
-    }
-      /**
-     * 추천 로그 기록
-     */
-    private void logRecommendation(long postId, long userId, String boardType) throws SQLException {
-        String sql = "INSERT INTO log_recommend (log_recommend_boardtype, log_recommend_post_id, log_recommend_date, user_uid) " +
-                    "VALUES (?, ?, NOW(), ?)";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            pstmt.setLong(2, postId);
-            pstmt.setLong(3, userId);
-            
-            pstmt.executeUpdate();
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
-    }
-      /**
-     * 추천 로그 삭제
-     */
-    private void deleteRecommendLog(long postId, long userId, String boardType) throws SQLException {
-        String sql = "DELETE FROM log_recommend WHERE log_recommend_boardtype = ? AND log_recommend_post_id = ? AND user_uid = ?";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            pstmt.setLong(2, postId);
-            pstmt.setLong(3, userId);
-            
-            pstmt.executeUpdate();
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        return ReactionEngine.remove(ReactionEngine.Target.NEWS, newsId, userId);
     }
       /**
      * 게시글 수정 로그 저장
@@ -784,6 +650,8 @@ public class NewsDAO {
         
         try {
             conn = getConnection();
+            conn.setAutoCommit(false); // 댓글 등록과 댓글 수 증가를 한 트랜잭션으로 처리
+            
             pstmt = conn.prepareStatement(sql);
             pstmt.setString(1, comment.getNewsCommentContents());
             pstmt.setString(2, comment.getNewsCommentAuthorIp());
@@ -791,8 +659,19 @@ public class NewsDAO {
             pstmt.setLong(4, comment.getUserId());
             
             int result = pstmt.executeUpdate();
+            if (result > 0) {
+                CommentCounter.adjust(conn, CommentCounter.Board.NEWS, comment.getNewsId(), 1);
+            }
+            conn.commit();
+            if (result > 0) {
+                ResponseCache.invalidate(ResponseCache.Board.NEWS);
+            }
             return result > 0;
+        } catch (SQLException e) {
+            TransactionHelper.rollback(conn);
+            throw e;
         } finally {
+            TransactionHelper.setAutoCommit(conn, true);
             if (pstmt != null) {
                 try { pstmt.close(); } catch (SQLException e) { }
             }
@@ -838,6 +717,7 @@ public class NewsDAO {
             
             // 수정 로그 저장
             if (result > 0) {
+                ResponseCache.invalidate(ResponseCache.Board.NEWS);
                 logModifyComment(comment.getNewsCommentId(), comment.getUserId(), "news");
             }
             
@@ -876,6 +756,8 @@ public class NewsDAO {
         
         try {
             conn = getConnection();
+            conn.setAutoCommit(false); // 댓글 삭제와 댓글 수 감소를 한 트랜잭션으로 처리
+            
             pstmt = conn.prepareStatement(sql);
             pstmt.setLong(1, commentId);
             
@@ -884,14 +766,23 @@ public class NewsDAO {
             }
             
             int result = pstmt.executeUpdate();
+            if (result > 0) {
+                CommentCounter.adjust(conn, CommentCounter.Board.NEWS, comment.getNewsId(), -1);
+            }
+            conn.commit();
             
             // 삭제 로그 저장
             if (result > 0) {
+                ResponseCache.invalidate(ResponseCache.Board.NEWS);
                 logDeleteComment(commentId, userId, "news");
             }
             
             return result > 0;
+        } catch (SQLException e) {
+            TransactionHelper.rollback(conn);
+            throw e;
         } finally {
+            TransactionHelper.setAutoCommit(conn, true);
             if (pstmt != null) {
                 try { pstmt.close(); } catch (SQLException e) { }
             }
@@ -1010,7 +901,7 @@ public class NewsDAO {
      * 사용자가 특정 게시글을 추천했는지 확인
      */    public boolean hasUserRecommended(long newsId, long userId) throws SQLException {
         try {
-            return hasAlreadyRecommended(newsId, userId, "news");
+            return ReactionEngine.hasReacted(ReactionEngine.Target.NEWS, newsId, userId);
         } catch (SQLException e) {
             logger.severe("Failed to check user recommendation: " + e.getMessage());
             throw e;
@@ -1033,8 +924,10 @@ public class NewsDAO {
             
             rs = pstmt.executeQuery();
             
+            // DB 값 + 아직 반영되지 않은 추천 수
+            int pendingCount = (int) ReactionEngine.getPendingCount(ReactionEngine.Target.NEWS, newsId);
             if (rs.next()) {
-                return rs.getInt("news_recommend");
+                return rs.getInt("news_recommend") + pendingCount;
             }
             
             return 0;
@@ -1055,30 +948,25 @@ public class NewsDAO {
     }
     
     /**
-     * 조회수 증가
-     */    public boolean increaseViewCount(long newsId) throws SQLException {
-        String sql = "UPDATE news SET news_read = news_read + 1 WHERE news_uid = ?";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
+     * 조회수 증가 (ReadCountAggregator에 모아 주기적으로 일괄 반영)
+     * 게시글이 없으면 증가분을 쌓지 않고 false 반환
+     */
+    public boolean increaseViewCount(long newsId) throws SQLException {
+        String sql = "SELECT 1 FROM news WHERE news_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
+        try (Connection conn = getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setLong(1, newsId);
-            
-            int result = pstmt.executeUpdate();
-            return result > 0;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return false;
+                }
+            }
+            ReadCountAggregator.increment(ReadCountAggregator.Board.NEWS, newsId);
+            return true;
         } catch (SQLException e) {
             logger.severe("Failed to increase view count: " + e.getMessage());
             throw e;
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
         }
     }
 }
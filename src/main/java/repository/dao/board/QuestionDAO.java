@@ -1,33 +1,36 @@
 package repository.dao.board;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.List;
 
 import dto.board.AnswerDTO;
 import dto.board.AttachmentDTO;
 import dto.board.QuestionDTO;
 import dto.user.UserDTO;
-import util.db.DBConnectionUtil;
+import util.db.CommentCounter;
+import util.db.JdbcTemplate;
+import util.db.Keyset;
+import util.db.KeysetPage;
+import util.db.ReadCountAggregator;
+import util.db.UserActivity;
 
 public class QuestionDAO {
-    private Connection conn = null;
-    private PreparedStatement pstmt = null;
-    private ResultSet rs = null;
+    private final JdbcTemplate jdbc;
     
-    // DB 연결 메서드
-    private Connection getConnection() throws SQLException {
-        return DBConnectionUtil.getConnection();
+    // 질문 목록 정렬 (최신순) - idx_inquiry_list(inquiry_parent_uid, inquiry_deleted, inquiry_writetime) + PK
+    private static final Keyset LIST_KEYSET = Keyset.of("inquiry")
+            .desc("q.inquiry_writetime", "inquiry_writetime", Keyset.Type.TIMESTAMP)
+            .desc("q.inquiry_uid", "inquiry_uid", Keyset.Type.LONG);
+    
+    public QuestionDAO() {
+        this(JdbcTemplate.getDefault());
     }
     
-    // 자원 해제 메서드
-    private void closeResources() {
-        DBConnectionUtil.close(rs, pstmt, conn);
+    public QuestionDAO(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
     }
     
     /**
@@ -39,19 +42,7 @@ public class QuestionDAO {
                     "JOIN user u ON q.user_uid = u.user_uid " +
                     "WHERE q.inquiry_uid = ? AND q.inquiry_deleted = 'maintained'";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return mapResultSetToQuestion(rs);
-            }
-            return null;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForObject(sql, QuestionDAO::mapResultSetToQuestion, questionId);
     }
     
     /**
@@ -63,29 +54,15 @@ public class QuestionDAO {
                     "inquiry_category, inquiry_read_status) " +
                     "VALUES (?, ?, NOW(), NOW(), ?, 'maintained', ?, ?, 'unread')";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            pstmt.setString(1, question.getTitle());
-            pstmt.setString(2, question.getContent());
-            pstmt.setString(3, question.getAuthorIp());
-            pstmt.setLong(4, question.getUserUid());
-            pstmt.setString(5, question.getCategory());
-            
-            int affectedRows = pstmt.executeUpdate();
-            
-            if (affectedRows > 0) {
-                // 생성된 ID 가져오기
-                rs = pstmt.getGeneratedKeys();
-                if (rs.next()) {
-                    question.setQuestionId(rs.getLong(1));
-                }
-                return true;
-            }
-            return false;
-        } finally {
-            closeResources();
+        long questionId = jdbc.insert(sql, question.getTitle(), question.getContent(),
+                question.getAuthorIp(), question.getUserUid(), question.getCategory());
+        
+        if (questionId != -1) {
+            question.setQuestionId(questionId);
+            UserActivity.recordQuietly(UserActivity.Board.INQUIRY, questionId);
+            return true;
         }
+        return false;
     }
     
     /**
@@ -96,17 +73,9 @@ public class QuestionDAO {
                     "inquiry_modify_time = NOW(), inquiry_category = ? " +
                     "WHERE inquiry_uid = ?";
         
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, question.getTitle());
-            pstmt.setString(2, question.getContent());
-            pstmt.setString(3, question.getCategory());
-            pstmt.setLong(4, question.getQuestionId());
-            
-            int result = pstmt.executeUpdate();
+        return jdbc.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, question.getTitle(), question.getContent(),
+                    question.getCategory(), question.getQuestionId());
             
             if (result > 0) {
                 // 수정 로그 저장
@@ -114,36 +83,11 @@ public class QuestionDAO {
                                "log_modify_post_uid, user_uid) " +
                                "VALUES ('inquiry', NOW(), ?, ?)";
                 
-                pstmt = conn.prepareStatement(logSql);
-                pstmt.setLong(1, question.getQuestionId());
-                pstmt.setLong(2, modifierId);
-                
-                pstmt.executeUpdate();
-                conn.commit();
+                JdbcTemplate.update(conn, logSql, question.getQuestionId(), modifierId);
                 return true;
-            } else {
-                conn.rollback();
-                return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
-            closeResources();
-        }
+            return false;
+        });
     }
     
     /**
@@ -152,69 +96,34 @@ public class QuestionDAO {
     public boolean deleteQuestion(long questionId, long deleterId, String reason) throws SQLException {
         String sql = "UPDATE inquiry SET inquiry_deleted = 'deleted' WHERE inquiry_uid = ?";
         
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            
-            int result = pstmt.executeUpdate();
+        return jdbc.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, questionId);
             
             if (result > 0) {
+                UserActivity.remove(conn, UserActivity.Board.INQUIRY, questionId);
+                
                 // 삭제 로그 저장
                 String logSql = "INSERT INTO log_delete_post (log_delete_boardtype, log_delete_date, " +
                                "log_deleted_post_uid, user_uid) " +
                                "VALUES ('inquiry', NOW(), ?, ?)";
                 
-                pstmt = conn.prepareStatement(logSql);
-                pstmt.setLong(1, questionId);
-                pstmt.setLong(2, deleterId);
-                
-                pstmt.executeUpdate();
-                conn.commit();
+                JdbcTemplate.update(conn, logSql, questionId, deleterId);
                 return true;
-            } else {
-                conn.rollback();
-                return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
-            closeResources();
-        }
+            return false;
+        });
     }
     
     /**
-     * 조회수 증가
+     * 조회수 증가 (읽음 표시를 ReadCountAggregator에 모아 주기적으로 일괄 반영)
+     * 문의가 없으면 증가분을 쌓지 않고 false 반환
      */
     public boolean increaseViewCount(long questionId) throws SQLException {
-        String sql = "UPDATE inquiry SET inquiry_read_status = 'read' WHERE inquiry_uid = ?";
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } finally {
-            closeResources();
+        if (!jdbc.exists("SELECT 1 FROM inquiry WHERE inquiry_uid = ?", questionId)) {
+            return false;
         }
+        ReadCountAggregator.increment(ReadCountAggregator.Board.INQUIRY, questionId);
+        return true;
     }
     
     /**
@@ -230,24 +139,33 @@ public class QuestionDAO {
                      "ORDER BY q.inquiry_writetime DESC " +
                      "LIMIT ? OFFSET ?";
         
-        List<QuestionDTO> questions = new ArrayList<>();
+        return jdbc.query(sql, QuestionDAO::mapResultSetToQuestion, pageSize, offset);
+    }
+    
+    /**
+     * 질문 목록 커서 조회 (최신순, COUNT 없이 다음 페이지 커서만 반환)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @throws IllegalArgumentException 잘못된 커서인 경우
+     */
+    public KeysetPage<QuestionDTO> getQuestionsByCursor(String cursor, int pageSize) throws SQLException {
+        String sql = "SELECT q.*, u.user_name " +
+                     "FROM inquiry q " +
+                     "JOIN user u ON q.user_uid = u.user_uid " +
+                     "WHERE q.inquiry_parent_uid IS NULL " +
+                     "AND q.inquiry_deleted = 'maintained' " +
+                     (cursor != null ? "AND " + LIST_KEYSET.seekCondition() + " " : "") +
+                     LIST_KEYSET.orderBy() + " LIMIT ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, pageSize);
-            pstmt.setInt(2, offset);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                QuestionDTO question = mapResultSetToQuestion(rs);
-                questions.add(question);
+        return jdbc.execute(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int index = LIST_KEYSET.bind(pstmt, 1, cursor);
+                pstmt.setInt(index, pageSize + 1);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    return LIST_KEYSET.read(rs, pageSize, QuestionDAO::mapResultSetToQuestion);
+                }
             }
-            
-            return questions;
-        } finally {
-            closeResources();
-        }
+        });
     }
     
     /**
@@ -257,18 +175,7 @@ public class QuestionDAO {
         String sql = "SELECT COUNT(*) FROM inquiry WHERE inquiry_parent_uid IS NULL " +
                      "AND inquiry_deleted = 'maintained'";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            return 0;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForInt(sql);
     }
     
     /**
@@ -285,25 +192,7 @@ public class QuestionDAO {
                      "ORDER BY q.inquiry_writetime DESC " +
                      "LIMIT ? OFFSET ?";
         
-        List<QuestionDTO> questions = new ArrayList<>();
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            pstmt.setInt(2, pageSize);
-            pstmt.setInt(3, offset);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                QuestionDTO question = mapResultSetToQuestion(rs);
-                questions.add(question);
-            }
-            
-            return questions;
-        } finally {
-            closeResources();
-        }
+        return jdbc.query(sql, QuestionDAO::mapResultSetToQuestion, userId, pageSize, offset);
     }
     
     /**
@@ -313,19 +202,7 @@ public class QuestionDAO {
         String sql = "SELECT COUNT(*) FROM inquiry WHERE inquiry_parent_uid IS NULL " +
                      "AND inquiry_deleted = 'maintained' AND user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            return 0;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForInt(sql, userId);
     }
     
     /**
@@ -339,23 +216,7 @@ public class QuestionDAO {
                      "AND a.inquiry_deleted = 'maintained' " +
                      "ORDER BY a.inquiry_writetime ASC";
         
-        List<AnswerDTO> answers = new ArrayList<>();
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                AnswerDTO answer = mapResultSetToAnswer(rs);
-                answers.add(answer);
-            }
-            
-            return answers;
-        } finally {
-            closeResources();
-        }
+        return jdbc.query(sql, QuestionDAO::mapResultSetToAnswer, questionId);
     }
     
     /**
@@ -368,19 +229,7 @@ public class QuestionDAO {
                      "WHERE a.inquiry_uid = ? " +
                      "AND a.inquiry_deleted = 'maintained'";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, answerId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return mapResultSetToAnswer(rs);
-            }
-            return null;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForObject(sql, QuestionDAO::mapResultSetToAnswer, answerId);
     }
     
     /**
@@ -392,28 +241,19 @@ public class QuestionDAO {
                     "inquiry_parent_uid, inquiry_category, inquiry_read_status) " +
                     "VALUES ('답변', ?, NOW(), NOW(), ?, 'maintained', ?, ?, 'question', 'read')";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            pstmt.setString(1, answer.getContent());
-            pstmt.setString(2, answer.getAuthorIp());
-            pstmt.setLong(3, answer.getUserUid());
-            pstmt.setLong(4, answer.getQuestionId());
+        // 답변 등록과 질문의 답변 수 증가를 한 트랜잭션으로 처리
+        return jdbc.inTransaction(conn -> {
+            long answerId = JdbcTemplate.insert(conn, sql, answer.getContent(), answer.getAuthorIp(),
+                    answer.getUserUid(), answer.getQuestionId());
             
-            int affectedRows = pstmt.executeUpdate();
-            
-            if (affectedRows > 0) {
-                // 생성된 ID 가져오기
-                rs = pstmt.getGeneratedKeys();
-                if (rs.next()) {
-                    answer.setAnswerId(rs.getLong(1));
-                }
-                return true;
+            if (answerId == -1) {
+                return false;
             }
-            return false;
-        } finally {
-            closeResources();
-        }
+            answer.setAnswerId(answerId);
+            CommentCounter.adjust(conn, CommentCounter.Board.INQUIRY, answer.getQuestionId(), 1);
+            UserActivity.record(conn, UserActivity.Board.INQUIRY, answerId);
+            return true;
+        });
     }
     
     /**
@@ -423,15 +263,8 @@ public class QuestionDAO {
         String sql = "UPDATE inquiry SET inquiry_contents = ?, inquiry_modify_time = NOW() " +
                     "WHERE inquiry_uid = ?";
         
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, answer.getContent());
-            pstmt.setLong(2, answer.getAnswerId());
-            
-            int result = pstmt.executeUpdate();
+        return jdbc.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, answer.getContent(), answer.getAnswerId());
             
             if (result > 0) {
                 // 수정 로그 저장
@@ -439,89 +272,38 @@ public class QuestionDAO {
                               "log_modify_comment_uid, user_uid) " +
                               "VALUES ('inquiry', NOW(), ?, ?)";
                 
-                pstmt = conn.prepareStatement(logSql);
-                pstmt.setLong(1, answer.getAnswerId());
-                pstmt.setLong(2, modifierId);
-                
-                pstmt.executeUpdate();
-                conn.commit();
+                JdbcTemplate.update(conn, logSql, answer.getAnswerId(), modifierId);
                 return true;
-            } else {
-                conn.rollback();
-                return false;
-            }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    ex.printStackTrace();
-                }
             }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
-            closeResources();
-        }
+            return false;
+        });
     }
     
     /**
      * 답변 삭제 (소프트 삭제)
      */
     public boolean deleteAnswer(long answerId, long deleterId, String reason) throws SQLException {
-        String sql = "UPDATE inquiry SET inquiry_deleted = 'deleted' WHERE inquiry_uid = ?";
+        // 이미 삭제된 답변은 제외 (답변 수가 두 번 줄지 않도록)
+        String sql = "UPDATE inquiry SET inquiry_deleted = 'deleted' WHERE inquiry_uid = ? AND inquiry_deleted = 'maintained'";
         
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, answerId);
-            
-            int result = pstmt.executeUpdate();
+        return jdbc.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, answerId);
             
             if (result > 0) {
+                // 질문의 답변 수 감소
+                CommentCounter.adjustByComment(conn, CommentCounter.Board.INQUIRY, answerId, -1);
+                UserActivity.remove(conn, UserActivity.Board.INQUIRY, answerId);
+                
                 // 삭제 로그 저장
                 String logSql = "INSERT INTO log_delete_comment (log_delete_boardtype, log_delete_date, " +
                               "log_deleted_comment_uid, user_uid) " +
                               "VALUES ('inquiry', NOW(), ?, ?)";
                 
-                pstmt = conn.prepareStatement(logSql);
-                pstmt.setLong(1, answerId);
-                pstmt.setLong(2, deleterId);
-                
-                pstmt.executeUpdate();
-                conn.commit();
+                JdbcTemplate.update(conn, logSql, answerId, deleterId);
                 return true;
-            } else {
-                conn.rollback();
-                return false;
-            }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
             }
-            closeResources();
-        }
+            return false;
+        });
     }
     
     /**
@@ -531,19 +313,7 @@ public class QuestionDAO {
         String sql = "INSERT INTO freeboard_attach (freeboard_uid, file_name, file_path, file_size, upload_date) " +
                     "VALUES (?, ?, ?, ?, NOW())";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            pstmt.setString(2, fileName);
-            pstmt.setString(3, filePath);
-            pstmt.setLong(4, fileSize);
-            
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } finally {
-            closeResources();
-        }
+        return jdbc.update(sql, questionId, fileName, filePath, fileSize) > 0;
     }
     
     /**
@@ -551,30 +321,7 @@ public class QuestionDAO {
      */
     public List<AttachmentDTO> getAttachmentsByQuestionId(long questionId) throws SQLException {
         String sql = "SELECT * FROM freeboard_attach WHERE freeboard_uid = ?";
-        
-        List<AttachmentDTO> attachments = new ArrayList<>();
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                AttachmentDTO attachment = new AttachmentDTO();
-                attachment.setAttachId(rs.getLong("attach_uid"));
-                attachment.setPostId(rs.getLong("freeboard_uid"));
-                attachment.setFileName(rs.getString("file_name"));
-                attachment.setFilePath(rs.getString("file_path"));
-                attachment.setFileSize(rs.getLong("file_size"));
-                attachment.setUploadDate(rs.getTimestamp("upload_date").toLocalDateTime());
-                attachments.add(attachment);
-            }
-            
-            return attachments;
-        } finally {
-            closeResources();
-        }
+        return jdbc.query(sql, QuestionDAO::mapResultSetToAttachment, questionId);
     }
     
     /**
@@ -582,27 +329,7 @@ public class QuestionDAO {
      */
     public AttachmentDTO getAttachmentById(long attachId) throws SQLException {
         String sql = "SELECT * FROM freeboard_attach WHERE attach_uid = ?";
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, attachId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                AttachmentDTO attachment = new AttachmentDTO();
-                attachment.setAttachId(rs.getLong("attach_uid"));
-                attachment.setPostId(rs.getLong("freeboard_uid"));
-                attachment.setFileName(rs.getString("file_name"));
-                attachment.setFilePath(rs.getString("file_path"));
-                attachment.setFileSize(rs.getLong("file_size"));
-                attachment.setUploadDate(rs.getTimestamp("upload_date").toLocalDateTime());
-                return attachment;
-            }
-            return null;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForObject(sql, QuestionDAO::mapResultSetToAttachment, attachId);
     }
     
     /**
@@ -611,31 +338,35 @@ public class QuestionDAO {
     public UserDTO getUserById(long userId) throws SQLException {
         String sql = "SELECT * FROM user WHERE user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                UserDTO user = new UserDTO();
-                user.setUserId(rs.getLong("user_uid"));
-                user.setUsername(rs.getString("user_id"));
-                user.setNickname(rs.getString("user_name"));
-                user.setEmail(rs.getString("user_email"));
-                user.setUserAuthority(rs.getString("user_authority"));
-                return user;
-            }
-            return null;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForObject(sql, rs -> {
+            UserDTO user = new UserDTO();
+            user.setUserId(rs.getLong("user_uid"));
+            user.setUsername(rs.getString("user_id"));
+            user.setNickname(rs.getString("user_name"));
+            user.setEmail(rs.getString("user_email"));
+            user.setUserAuthority(rs.getString("user_authority"));
+            return user;
+        }, userId);
+    }
+    
+    /**
+     * ResultSet에서 AttachmentDTO 객체로 매핑
+     */
+    private static AttachmentDTO mapResultSetToAttachment(ResultSet rs) throws SQLException {
+        AttachmentDTO attachment = new AttachmentDTO();
+        attachment.setAttachId(rs.getLong("attach_uid"));
+        attachment.setPostId(rs.getLong("freeboard_uid"));
+        attachment.setFileName(rs.getString("file_name"));
+        attachment.setFilePath(rs.getString("file_path"));
+        attachment.setFileSize(rs.getLong("file_size"));
+        attachment.setUploadDate(rs.getTimestamp("upload_date").toLocalDateTime());
+        return attachment;
     }
     
     /**
      * ResultSet에서 QuestionDTO 객체로 매핑
      */
-    private QuestionDTO mapResultSetToQuestion(ResultSet rs) throws SQLException {
+    private static QuestionDTO mapResultSetToQuestion(ResultSet rs) throws SQLException {
         QuestionDTO question = new QuestionDTO();
         question.setQuestionId(rs.getLong("inquiry_uid"));
         question.setTitle(rs.getString("inquiry_title"));
@@ -645,7 +376,11 @@ public class QuestionDAO {
         question.setUserName(rs.getString("user_name"));
         question.setCategory(rs.getString("inquiry_category"));
         question.setStatus(rs.getString("inquiry_deleted"));
-        question.setViewCount(rs.getString("inquiry_read_status").equals("read") ? 1 : 0);
+        question.setAnswerCount(rs.getInt("inquiry_comment_count"));
+        // 아직 반영되지 않은 읽음 표시도 읽음으로 취급
+        boolean read = rs.getString("inquiry_read_status").equals("read")
+                || ReadCountAggregator.getPending(ReadCountAggregator.Board.INQUIRY, question.getQuestionId()) > 0;
+        question.setViewCount(read ? 1 : 0);
         
         Timestamp createdAt = rs.getTimestamp("inquiry_writetime");
         if (createdAt != null) {
@@ -663,7 +398,7 @@ public class QuestionDAO {
     /**
      * ResultSet에서 AnswerDTO 객체로 매핑
      */
-    private AnswerDTO mapResultSetToAnswer(ResultSet rs) throws SQLException {
+    private static AnswerDTO mapResultSetToAnswer(ResultSet rs) throws SQLException {
         AnswerDTO answer = new AnswerDTO();
         answer.setAnswerId(rs.getLong("inquiry_uid"));
         answer.setQuestionId(rs.getLong("inquiry_parent_uid"));
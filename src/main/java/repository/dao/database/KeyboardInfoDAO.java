@@ -4,10 +4,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,69 +18,79 @@ import java.util.logging.Logger;
 import dto.keyboard.KeyboardInfoDTO;
 import dto.keyboard.KeyboardScoreDTO;
 import dto.keyboard.KeyboardTagDTO;
-import util.db.DBConnectionUtil;
+import util.db.JdbcTemplate;
+import util.db.Keyset;
+import util.db.KeysetPage;
 import util.logging.LoggerConfig;
+import util.search.KeyboardFacetCache;
+import util.search.SearchIndexManager;
 
 /**
  * 키보드 정보 DAO 클래스
  */
 public class KeyboardInfoDAO {
-    private Connection conn = null;
-    private PreparedStatement pstmt = null;
-    private ResultSet rs = null;
-    
     private static final Logger logger = LoggerConfig.getLogger(KeyboardInfoDAO.class);
     
-    // DB 연결 가져오기
-    private Connection getConnection() throws SQLException {
-        return DBConnectionUtil.getConnection();
+    // 목록 정렬 (이름순, 같은 이름은 ID순) - idx_keyboard_name(keyboard_name) + PK
+    private static final Keyset LIST_KEYSET = Keyset.of("keyboard")
+            .asc("k.keyboard_name", "keyboard_name", Keyset.Type.STRING)
+            .asc("k.keyboard_uid", "keyboard_uid", Keyset.Type.LONG);
+    
+    private final JdbcTemplate jdbc;
+    
+    public KeyboardInfoDAO() {
+        this(JdbcTemplate.getDefault());
     }
     
-    // 자원 해제 메서드
-    private void closeResources() {
-        try {
-            if (rs != null) rs.close();
-            if (pstmt != null) pstmt.close();
-            if (conn != null) conn.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+    public KeyboardInfoDAO(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
     }
     
     /**
      * 키보드 정보 목록 조회 (페이징 처리)
      */
     public List<KeyboardInfoDTO> getAllKeyboardInfos(int page, int pageSize) throws SQLException {
-        List<KeyboardInfoDTO> keyboardList = new ArrayList<>();
         String sql = "SELECT k.*, " +
-                    "(SELECT AVG(score_value) FROM keyboard_score WHERE keyboard_uid = k.keyboard_uid) AS avg_score " +
+                    "k.keyboard_score_avg AS avg_score " +
                     "FROM keyboard_information k " + // keyboard_info -> keyboard_information
                     "ORDER BY k.keyboard_name " +
                     "LIMIT ? OFFSET ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, pageSize);
-            pstmt.setInt(2, (page - 1) * pageSize);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardInfoDTO keyboard = createKeyboardFromResultSet(rs);
-                keyboardList.add(keyboard);
-            }
-            
-            // 각 키보드의 태그 정보 가져오기
-            for (KeyboardInfoDTO keyboard : keyboardList) {
-                List<String> tags = getKeyboardTags(keyboard.getKeyboardId());
-                keyboard.setTags(tags);
+        List<KeyboardInfoDTO> keyboardList = jdbc.query(sql, KeyboardInfoDAO::createKeyboardFromResultSet,
+                pageSize, (page - 1) * pageSize);
+        
+        // 페이지 전체 키보드의 태그를 한 번에 가져오기
+        loadKeyboardTags(keyboardList);
+        
+        return keyboardList;
+    }
+    
+    /**
+     * 키보드 정보 목록 커서 조회 (이름순, COUNT 없이 다음 페이지 커서만 반환)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @throws IllegalArgumentException 잘못된 커서인 경우
+     */
+    public KeysetPage<KeyboardInfoDTO> getKeyboardInfosByCursor(String cursor, int pageSize) throws SQLException {
+        String sql = "SELECT k.*, " +
+                    "k.keyboard_score_avg AS avg_score " +
+                    "FROM keyboard_information k " +
+                    (cursor != null ? "WHERE " + LIST_KEYSET.seekCondition() + " " : "") +
+                    LIST_KEYSET.orderBy() + " LIMIT ?";
+        
+        KeysetPage<KeyboardInfoDTO> keyboardPage = jdbc.execute(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int index = LIST_KEYSET.bind(pstmt, 1, cursor);
+                pstmt.setInt(index, pageSize + 1);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    return LIST_KEYSET.read(rs, pageSize, KeyboardInfoDAO::createKeyboardFromResultSet);
+                }
             }
-            
-            return keyboardList;
-        } finally {
-            closeResources();
-        }
+        });
+        
+        // 페이지 전체 키보드의 태그를 한 번에 가져오기
+        loadKeyboardTags(keyboardPage.getItems());
+        return keyboardPage;
     }
     
     /**
@@ -86,62 +98,62 @@ public class KeyboardInfoDAO {
      */
     public KeyboardInfoDTO getKeyboardInfoById(long keyboardId) throws SQLException {
         String sql = "SELECT k.*, " +
-                    "(SELECT AVG(score_value) FROM keyboard_score WHERE keyboard_uid = k.keyboard_uid) AS avg_score " +
+                    "k.keyboard_score_avg AS avg_score " +
                     "FROM keyboard_information k " + // keyboard_info -> keyboard_information
                     "WHERE k.keyboard_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                KeyboardInfoDTO keyboard = createKeyboardFromResultSet(rs);
-                
-                // 키보드의 태그 정보 가져오기
-                List<String> tags = getKeyboardTags(keyboard.getKeyboardId());
-                keyboard.setTags(tags);
-                
-                return keyboard;
-            }
-            
-            return null;
-        } finally {
-            closeResources();
+        KeyboardInfoDTO keyboard = jdbc.queryForObject(sql, KeyboardInfoDAO::createKeyboardFromResultSet, keyboardId);
+        if (keyboard != null) {
+            // 키보드의 태그 정보 가져오기
+            keyboard.setTags(getKeyboardTags(keyboard.getKeyboardId()));
         }
+        return keyboard;
     }
     
     /**
      * 키보드의 태그 목록 조회
      */
     private List<String> getKeyboardTags(long keyboardId) throws SQLException {
-        List<String> tags = new ArrayList<>();
         String sql = "SELECT t.tag_name " +
                     "FROM keyboard_tag t " +
                     "JOIN keyboard_tag_relation r ON t.tag_uid = r.tag_uid " +
                     "WHERE r.keyboard_uid = ? " +
                     "ORDER BY r.vote_count DESC, t.tag_name";
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, keyboardId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    tags.add(rs.getString("tag_name"));
-                }
-            }
+        return jdbc.query(sql, rs -> rs.getString("tag_name"), keyboardId);
+    }
+    
+    /**
+     * 여러 키보드의 태그 목록을 IN 조건 한 번으로 조회해 설정 (목록 페이지용)
+     */
+    private void loadKeyboardTags(List<KeyboardInfoDTO> keyboards) throws SQLException {
+        if (keyboards.isEmpty()) {
+            return;
         }
         
-        return tags;
+        Map<Long, List<String>> tagsByKeyboard = new HashMap<>();
+        for (KeyboardInfoDTO keyboard : keyboards) {
+            tagsByKeyboard.put(keyboard.getKeyboardId(), new ArrayList<>());
+        }
+        
+        String sql = "SELECT r.keyboard_uid, t.tag_name " +
+                    "FROM keyboard_tag t " +
+                    "JOIN keyboard_tag_relation r ON t.tag_uid = r.tag_uid " +
+                    "WHERE r.keyboard_uid IN (" + String.join(",", Collections.nCopies(tagsByKeyboard.size(), "?")) + ") " +
+                    "ORDER BY r.keyboard_uid, r.vote_count DESC, t.tag_name";
+        
+        jdbc.query(sql, rs -> tagsByKeyboard.get(rs.getLong("keyboard_uid")).add(rs.getString("tag_name")),
+                tagsByKeyboard.keySet().toArray());
+        
+        for (KeyboardInfoDTO keyboard : keyboards) {
+            keyboard.setTags(tagsByKeyboard.get(keyboard.getKeyboardId()));
+        }
     }
     
     /**
      * ResultSet에서 키보드 정보 객체 생성
      */
-    private KeyboardInfoDTO createKeyboardFromResultSet(ResultSet rs) throws SQLException {
+    private static KeyboardInfoDTO createKeyboardFromResultSet(ResultSet rs) throws SQLException {
         KeyboardInfoDTO keyboard = new KeyboardInfoDTO();
         
         keyboard.setKeyboardId(rs.getLong("keyboard_uid"));
@@ -153,34 +165,44 @@ public class KeyboardInfoDAO {
         keyboard.setLayoutType(rs.getString("keyboard_layout_type"));
         keyboard.setConnectType(rs.getString("keyboard_connect_type"));
         
-        // 평균 점수 설정
+        // 평균 점수 / 별점 수 설정 (keyboard_score 변경 시 refreshScoreSummary가 갱신한 값)
         double avgScore = rs.getDouble("avg_score");
         keyboard.setAverageScore(avgScore > 0 ? avgScore : 0);
+        keyboard.setScoreCount(rs.getInt("keyboard_score_count"));
         
         return keyboard;
     }
     
+    /**
+     * ResultSet에서 별점/한줄평 객체 생성 (작성자 이름 제외)
+     */
+    private static KeyboardScoreDTO createScoreFromResultSet(ResultSet rs) throws SQLException {
+        KeyboardScoreDTO score = new KeyboardScoreDTO();
+        score.setScoreId(rs.getLong("score_uid"));
+        score.setKeyboardId(rs.getLong("keyboard_uid"));
+        score.setUserId(rs.getLong("user_uid"));
+        score.setScoreValue(rs.getInt("score_value"));
+        score.setReview(rs.getString("score_review"));
+        score.setCreatedAt(JdbcTemplate.toLocalDateTime(rs.getTimestamp("score_created_at")));
+        return score;
+    }
+    
     /**
      * 조건별 키보드 검색
      */
     public List<KeyboardInfoDTO> searchKeyboardInfosByCondition(String keyword, String manufacturer, 
             String switchType, String layoutType, String connectType, int page, int pageSize) throws SQLException {
-        List<KeyboardInfoDTO> searchResults = new ArrayList<>();
         StringBuilder sql = new StringBuilder();
         
         sql.append("SELECT k.*, ");
-        sql.append("(SELECT AVG(score_value) FROM keyboard_score WHERE keyboard_uid = k.keyboard_uid) AS avg_score ");
+        sql.append("k.keyboard_score_avg AS avg_score ");
         sql.append("FROM keyboard_information k "); // keyboard_info -> keyboard_information
         sql.append("WHERE 1=1 ");
         
         // 검색 조건 추가
         List<Object> params = new ArrayList<>();
         
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            sql.append("AND (k.keyboard_name LIKE ? OR k.keyboard_description LIKE ?) ");
-            params.add("%" + keyword + "%");
-            params.add("%" + keyword + "%");
-        }
+        List<Long> keywordIds = appendKeywordCondition(sql, params, keyword);
         
         if (manufacturer != null && !manufacturer.trim().isEmpty()) {
             sql.append("AND k.keyboard_manufacturer = ? ");
@@ -202,39 +224,25 @@ public class KeyboardInfoDAO {
             params.add(connectType);
         }
         
-        sql.append("ORDER BY k.keyboard_name ");
-        sql.append("LIMIT ? OFFSET ?");
+        // 키워드 검색은 색인 점수 순으로 정렬하므로 페이징도 조회 후 처리
+        if (keywordIds == null) {
+            sql.append("ORDER BY k.keyboard_name ");
+            sql.append("LIMIT ? OFFSET ?");
+            params.add(pageSize);
+            params.add((page - 1) * pageSize);
+        }
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql.toString());
-            
-            // 파라미터 설정
-            int paramIndex = 1;
-            for (Object param : params) {
-                pstmt.setObject(paramIndex++, param);
-            }
-            
-            pstmt.setInt(paramIndex++, pageSize);
-            pstmt.setInt(paramIndex, (page - 1) * pageSize);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardInfoDTO keyboard = createKeyboardFromResultSet(rs);
-                searchResults.add(keyboard);
-            }
-            
-            // 각 키보드의 태그 정보 가져오기
-            for (KeyboardInfoDTO keyboard : searchResults) {
-                List<String> tags = getKeyboardTags(keyboard.getKeyboardId());
-                keyboard.setTags(tags);
-            }
-            
-            return searchResults;
-        } finally {
-            closeResources();
+        List<KeyboardInfoDTO> searchResults = jdbc.query(sql.toString(),
+                KeyboardInfoDAO::createKeyboardFromResultSet, params.toArray());
+        
+        if (keywordIds != null) {
+            searchResults = pageByRank(searchResults, keywordIds, page, pageSize);
         }
+        
+        // 페이지 전체 키보드의 태그를 한 번에 가져오기
+        loadKeyboardTags(searchResults);
+        
+        return searchResults;
     }
     
     /**
@@ -245,61 +253,32 @@ public class KeyboardInfoDAO {
                     "(keyboard_uid, user_uid, score_value, score_review, score_created_at) " +
                     "VALUES (?, ?, ?, ?, ?)";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, comment.getKeyboardId());
-            pstmt.setLong(2, comment.getUserId());
-            pstmt.setInt(3, comment.getScoreValue());
-            pstmt.setString(4, comment.getReview());
-            pstmt.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
-            
-            int result = pstmt.executeUpdate();
+        // 한줄평 등록과 평균 점수 갱신을 한 트랜잭션으로 처리
+        return jdbc.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, comment.getKeyboardId(), comment.getUserId(),
+                    comment.getScoreValue(), comment.getReview(), Timestamp.valueOf(LocalDateTime.now()));
+            if (result > 0) {
+                refreshScoreSummary(conn, comment.getKeyboardId());
+            }
             return result > 0;
-        } finally {
-            closeResources();
-        }
+        });
     }
     
     /**
      * 키보드 한줄평 목록 조회
      */
     public List<KeyboardScoreDTO> getKeyboardComments(long keyboardId) throws SQLException {
-        List<KeyboardScoreDTO> commentList = new ArrayList<>();
         String sql = "SELECT s.*, u.user_name " +
                     "FROM keyboard_score s " +
                     "JOIN user u ON s.user_uid = u.user_uid " +
                     "WHERE s.keyboard_uid = ? " +
                     "ORDER BY s.score_created_at DESC";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardScoreDTO comment = new KeyboardScoreDTO();
-                comment.setScoreId(rs.getLong("score_uid"));
-                comment.setKeyboardId(rs.getLong("keyboard_uid"));
-                comment.setUserId(rs.getLong("user_uid"));
-                comment.setUserName(rs.getString("user_name"));
-                comment.setScoreValue(rs.getInt("score_value"));
-                comment.setReview(rs.getString("score_review"));
-                
-                Timestamp createdAt = rs.getTimestamp("score_created_at");
-                if (createdAt != null) {
-                    comment.setCreatedAt(createdAt.toLocalDateTime());
-                }
-                
-                commentList.add(comment);
-            }
-            
-            return commentList;
-        } finally {
-            closeResources();
-        }
+        return jdbc.query(sql, rs -> {
+            KeyboardScoreDTO comment = createScoreFromResultSet(rs);
+            comment.setUserName(rs.getString("user_name"));
+            return comment;
+        }, keyboardId);
     }
     
     /**
@@ -307,29 +286,33 @@ public class KeyboardInfoDAO {
      */
     public boolean deleteKeyboardCommentById(long commentId, long userId, boolean isAdmin) throws SQLException {
         String sql;
+        Object[] params;
         
         if (isAdmin) {
             // 관리자는 모든 한줄평 삭제 가능
             sql = "DELETE FROM keyboard_score WHERE score_uid = ?";
+            params = new Object[] { commentId };
         } else {
             // 일반 사용자는 자신의 한줄평만 삭제 가능
             sql = "DELETE FROM keyboard_score WHERE score_uid = ? AND user_uid = ?";
+            params = new Object[] { commentId, userId };
         }
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, commentId);
-            
-            if (!isAdmin) {
-                pstmt.setLong(2, userId);
+        // 한줄평 삭제와 평균 점수 갱신을 한 트랜잭션으로 처리
+        return jdbc.inTransaction(conn -> {
+            // 평균 점수를 갱신할 키보드 확인
+            Long keyboardId = JdbcTemplate.queryForObject(conn,
+                    "SELECT keyboard_uid FROM keyboard_score WHERE score_uid = ?", rs -> rs.getLong(1), commentId);
+            if (keyboardId == null) {
+                return false;
             }
             
-            int result = pstmt.executeUpdate();
+            int result = JdbcTemplate.update(conn, sql, params);
+            if (result > 0) {
+                refreshScoreSummary(conn, keyboardId);
+            }
             return result > 0;
-        } finally {
-            closeResources();
-        }
+        });
     }
     
     /**
@@ -345,17 +328,7 @@ public class KeyboardInfoDAO {
                     "(keyboard_uid, user_uid, scrap_date) " +
                     "VALUES (?, ?, NOW())";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } finally {
-            closeResources();
-        }
+        return jdbc.update(sql, keyboardId, userId) > 0;
     }
     
     /**
@@ -365,17 +338,7 @@ public class KeyboardInfoDAO {
         String sql = "DELETE FROM scrap " + // keyboard_scrap -> scrap
                     "WHERE keyboard_uid = ? AND user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } finally {
-            closeResources();
-        }
+        return jdbc.update(sql, keyboardId, userId) > 0;
     }
     
     /**
@@ -385,223 +348,48 @@ public class KeyboardInfoDAO {
         String sql = "SELECT COUNT(*) FROM scrap " + // keyboard_scrap -> scrap
                     "WHERE keyboard_uid = ? AND user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next() && rs.getInt(1) > 0) {
-                return true;
-            }
-            return false;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForInt(sql, keyboardId, userId) > 0;
     }
     
     /**
-     * 키보드 태그 투표
+     * 키보드 태그 투표 (같은 타입이면 취소, 다른 타입이면 변경, 없으면 추가)
+     * - 투표 여부를 먼저 조회하지 않고 (키보드, 태그, 사용자) 유니크 키 기준 문장의 영향 행 수로 판정
+     * - 실제로 바뀐 행만큼만 태그 관계 테이블의 투표수를 같은 트랜잭션에서 증감
      */
     public boolean voteKeyboardTag(long keyboardId, long tagId, long userId, String voteType) throws SQLException {
-        // 이미 투표했는지 확인
-        String voteStatus = getUserTagVoteStatus(keyboardId, tagId, userId);
-        
-        if (voteStatus != null) {
-            // 같은 투표 타입이면 투표 취소
-            if (voteStatus.equals(voteType)) {
-                return cancelTagVote(keyboardId, tagId, userId);
-            } else {
-                // 다른 투표 타입이면 투표 수정
-                return updateTagVote(keyboardId, tagId, userId, voteType);
-            }
-        }
-        
-        // 새로운 투표 추가
-        String sql = "INSERT INTO keyboard_tag_vote " +
+        String insertSql = "INSERT IGNORE INTO keyboard_tag_vote " +
                     "(keyboard_uid, tag_uid, user_uid, vote_type, vote_date) " +
                     "VALUES (?, ?, ?, ?, NOW())";
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            // 투표 기록 추가
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, tagId);
-            pstmt.setLong(3, userId);
-            pstmt.setString(4, voteType);
-            
-            int voteResult = pstmt.executeUpdate();
-            
-            // 태그 관계 테이블의 투표수 업데이트
-            if (voteResult > 0) {
-                updateTagRelationVoteCount(keyboardId, tagId);
-            }
-            
-            conn.commit();
-            return voteResult > 0;
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
-            }
-            closeResources();
-        }
-    }
-    
-    /**
-     * 태그 투표 취소
-     */
-    private boolean cancelTagVote(long keyboardId, long tagId, long userId) throws SQLException {
-        String sql = "DELETE FROM keyboard_tag_vote " +
-                    "WHERE keyboard_uid = ? AND tag_uid = ? AND user_uid = ?";
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            // 투표 기록 삭제
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, tagId);
-            pstmt.setLong(3, userId);
-            
-            int voteResult = pstmt.executeUpdate();
-            
-            // 태그 관계 테이블의 투표수 업데이트
-            if (voteResult > 0) {
-                updateTagRelationVoteCount(keyboardId, tagId);
-            }
-            
-            conn.commit();
-            return voteResult > 0;
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
-            }
-            closeResources();
-        }
-    }
-    
-    /**
-     * 태그 투표 수정
-     */
-    private boolean updateTagVote(long keyboardId, long tagId, long userId, String voteType) throws SQLException {
-        String sql = "UPDATE keyboard_tag_vote " +
+        String cancelSql = "DELETE FROM keyboard_tag_vote " +
+                    "WHERE keyboard_uid = ? AND tag_uid = ? AND user_uid = ? AND vote_type = ?";
+        String changeSql = "UPDATE keyboard_tag_vote " +
                     "SET vote_type = ?, vote_date = NOW() " +
-                    "WHERE keyboard_uid = ? AND tag_uid = ? AND user_uid = ?";
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            // 투표 기록 수정
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, voteType);
-            pstmt.setLong(2, keyboardId);
-            pstmt.setLong(3, tagId);
-            pstmt.setLong(4, userId);
-            
-            int voteResult = pstmt.executeUpdate();
-            
-            // 태그 관계 테이블의 투표수 업데이트
-            if (voteResult > 0) {
-                updateTagRelationVoteCount(keyboardId, tagId);
-            }
-            
-            conn.commit();
-            return voteResult > 0;
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
+                    "WHERE keyboard_uid = ? AND tag_uid = ? AND user_uid = ? AND vote_type <> ?";
+        int sign = "down".equals(voteType) ? -1 : 1;
+        
+        return jdbc.inTransaction(conn -> {
+            int delta;
+            if (JdbcTemplate.update(conn, insertSql, keyboardId, tagId, userId, voteType) > 0) {
+                delta = sign; // 새로운 투표
+            } else if (JdbcTemplate.update(conn, cancelSql, keyboardId, tagId, userId, voteType) > 0) {
+                delta = -sign; // 같은 타입이면 투표 취소
+            } else if (JdbcTemplate.update(conn, changeSql, voteType, keyboardId, tagId, userId, voteType) > 0) {
+                delta = 2 * sign; // 다른 타입이면 투표 수정 (반대 표 취소 + 새 표)
+            } else {
+                return false; // 세 문장 사이에 다른 요청이 행을 지운 경우
             }
-            closeResources();
-        }
-    }
-    
-    /**
-     * 태그 관계 테이블의 투표수 업데이트
-     */
-    private void updateTagRelationVoteCount(long keyboardId, long tagId) throws SQLException {
-        String sql = "UPDATE keyboard_tag_relation " +
-                    "SET vote_count = (" +
-                    "    SELECT COUNT(*) FROM keyboard_tag_vote " +
-                    "    WHERE keyboard_uid = ? AND tag_uid = ? AND vote_type = 'up'" +
-                    ") - (" +
-                    "    SELECT COUNT(*) FROM keyboard_tag_vote " +
-                    "    WHERE keyboard_uid = ? AND tag_uid = ? AND vote_type = 'down'" +
-                    ") " +
-                    "WHERE keyboard_uid = ? AND tag_uid = ?";
-        
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, tagId);
-            pstmt.setLong(3, keyboardId);
-            pstmt.setLong(4, tagId);
-            pstmt.setLong(5, keyboardId);
-            pstmt.setLong(6, tagId);
             
-            pstmt.executeUpdate();
-        }
-    }
-    
-    /**
-     * 사용자의 태그 투표 상태 조회
-     */
-    private String getUserTagVoteStatus(long keyboardId, long tagId, long userId) throws SQLException {
-        String sql = "SELECT vote_type FROM keyboard_tag_vote " +
-                    "WHERE keyboard_uid = ? AND tag_uid = ? AND user_uid = ?";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, tagId);
-            pstmt.setLong(3, userId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getString("vote_type");
-                }
-                return null;
-            }
-        }
+            // 태그 관계 테이블의 투표수 업데이트 (추천 - 비추천)
+            JdbcTemplate.update(conn, "UPDATE keyboard_tag_relation SET vote_count = vote_count + ? " +
+                    "WHERE keyboard_uid = ? AND tag_uid = ?", delta, keyboardId, tagId);
+            return true;
+        });
     }
     
     /**
      * 키보드의 태그 목록 조회 (투표수 포함)
      */
     public List<KeyboardTagDTO> getKeyboardTagsWithVotes(long keyboardId, long userId) throws SQLException {
-        List<KeyboardTagDTO> tagList = new ArrayList<>();
         String sql = "SELECT t.*, r.vote_count, v.vote_type " +
                     "FROM keyboard_tag t " +
                     "JOIN keyboard_tag_relation r ON t.tag_uid = r.tag_uid " +
@@ -609,30 +397,15 @@ public class KeyboardInfoDAO {
                     "WHERE r.keyboard_uid = ? " +
                     "ORDER BY r.vote_count DESC, t.tag_name";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            pstmt.setLong(3, keyboardId);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardTagDTO tag = new KeyboardTagDTO();
-                tag.setTagId(rs.getLong("tag_uid"));
-                tag.setTagName(rs.getString("tag_name"));
-                tag.setTagType(rs.getString("tag_type"));
-                tag.setVoteCount(rs.getInt("vote_count"));
-                tag.setUserVote(rs.getString("vote_type"));
-                
-                tagList.add(tag);
-            }
-            
-            return tagList;
-        } finally {
-            closeResources();
-        }
+        return jdbc.query(sql, rs -> {
+            KeyboardTagDTO tag = new KeyboardTagDTO();
+            tag.setTagId(rs.getLong("tag_uid"));
+            tag.setTagName(rs.getString("tag_name"));
+            tag.setTagType(rs.getString("tag_type"));
+            tag.setVoteCount(rs.getInt("vote_count"));
+            tag.setUserVote(rs.getString("vote_type"));
+            return tag;
+        }, keyboardId, userId, keyboardId);
     }
     
     /**
@@ -645,68 +418,32 @@ public class KeyboardInfoDAO {
         
         // 이미 존재하는 태그인지 확인
         long existingTagId = getTagIdByName(tagName);
-        long tagId;
         
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            if (existingTagId > 0) {
-                // 이미 존재하는 태그인 경우
-                tagId = existingTagId;
-                
-                // 이미 해당 키보드에 연결되어 있는지 확인
-                if (isTagLinkedToKeyboard(keyboardId, tagId)) {
-                    // 이미 연결되어 있으면 해당 태그에 바로 투표
-                    conn.commit();
-                    return voteKeyboardTag(keyboardId, tagId, userId, "up");
-                }
-            } else {
+        // 태그 생성과 키보드 연결을 한 트랜잭션으로 처리 (태그 ID, 실패 시 -1)
+        long tagId = jdbc.inTransaction(conn -> {
+            long id = existingTagId;
+            if (id <= 0) {
                 // 새로운 태그 생성
                 String insertTagSql = "INSERT INTO keyboard_tag (tag_name, tag_type) VALUES (?, 'user')";
-                try (PreparedStatement pstmt = conn.prepareStatement(insertTagSql, Statement.RETURN_GENERATED_KEYS)) {
-                    pstmt.setString(1, tagName.trim());
-                    pstmt.executeUpdate();
-                    
-                    try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                        if (generatedKeys.next()) {
-                            tagId = generatedKeys.getLong(1);
-                        } else {
-                            conn.rollback();
-                            return false;
-                        }
-                    }
+                id = JdbcTemplate.insert(conn, insertTagSql, tagName.trim());
+                if (id == -1) {
+                    return -1L;
                 }
             }
             
-            // 태그와 키보드 연결
-            if (!isTagLinkedToKeyboard(keyboardId, tagId)) {
+            // 태그와 키보드 연결 (이미 연결되어 있으면 해당 태그에 바로 투표)
+            if (!isTagLinkedToKeyboard(conn, keyboardId, id)) {
                 String linkTagSql = "INSERT INTO keyboard_tag_relation (keyboard_uid, tag_uid, vote_count) VALUES (?, ?, 0)";
-                try (PreparedStatement pstmt = conn.prepareStatement(linkTagSql)) {
-                    pstmt.setLong(1, keyboardId);
-                    pstmt.setLong(2, tagId);
-                    pstmt.executeUpdate();
-                }
-            }
-            
-            conn.commit();
-            // 새로 추가된 태그에 투표
-            return voteKeyboardTag(keyboardId, tagId, userId, "up");
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
+                JdbcTemplate.update(conn, linkTagSql, keyboardId, id);
             }
-            closeResources();
+            return id;
+        });
+        
+        if (tagId == -1) {
+            return false;
         }
+        // 태그에 투표
+        return voteKeyboardTag(keyboardId, tagId, userId, "up");
     }
     
     /**
@@ -715,36 +452,16 @@ public class KeyboardInfoDAO {
     private long getTagIdByName(String tagName) throws SQLException {
         String sql = "SELECT tag_uid FROM keyboard_tag WHERE tag_name = ?";
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, tagName.trim());
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getLong("tag_uid");
-                }
-                return 0;
-            }
-        }
+        Long tagId = jdbc.queryForObject(sql, rs -> rs.getLong("tag_uid"), tagName.trim());
+        return tagId != null ? tagId : 0;
     }
     
     /**
      * 태그가 키보드와 연결되어 있는지 확인
      */
-    private boolean isTagLinkedToKeyboard(long keyboardId, long tagId) throws SQLException {
+    private boolean isTagLinkedToKeyboard(Connection conn, long keyboardId, long tagId) throws SQLException {
         String sql = "SELECT COUNT(*) FROM keyboard_tag_relation WHERE keyboard_uid = ? AND tag_uid = ?";
-        
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, tagId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next() && rs.getInt(1) > 0) {
-                    return true;
-                }
-                return false;
-            }
-        }
+        return JdbcTemplate.queryForInt(conn, sql, keyboardId, tagId) > 0;
     }
     
     /**
@@ -760,19 +477,15 @@ public class KeyboardInfoDAO {
                     "(keyboard_uid, user_uid, score_value, score_review, score_created_at) " +
                     "VALUES (?, ?, ?, ?, NOW())";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, score.getKeyboardId());
-            pstmt.setLong(2, score.getUserId());
-            pstmt.setInt(3, score.getScoreValue());
-            pstmt.setString(4, score.getReview());
-            
-            int result = pstmt.executeUpdate();
+        // 별점 등록과 평균 점수 갱신을 한 트랜잭션으로 처리
+        return jdbc.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, score.getKeyboardId(), score.getUserId(),
+                    score.getScoreValue(), score.getReview());
+            if (result > 0) {
+                refreshScoreSummary(conn, score.getKeyboardId());
+            }
             return result > 0;
-        } finally {
-            closeResources();
-        }
+        });
     }
     
     /**
@@ -783,19 +496,29 @@ public class KeyboardInfoDAO {
                     "SET score_value = ?, score_review = ?, score_created_at = NOW() " +
                     "WHERE keyboard_uid = ? AND user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, score.getScoreValue());
-            pstmt.setString(2, score.getReview());
-            pstmt.setLong(3, score.getKeyboardId());
-            pstmt.setLong(4, score.getUserId());
-            
-            int result = pstmt.executeUpdate();
+        // 별점 수정과 평균 점수 갱신을 한 트랜잭션으로 처리
+        return jdbc.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, score.getScoreValue(), score.getReview(),
+                    score.getKeyboardId(), score.getUserId());
+            if (result > 0) {
+                refreshScoreSummary(conn, score.getKeyboardId());
+            }
             return result > 0;
-        } finally {
-            closeResources();
-        }
+        });
+    }
+    
+    /**
+     * 키보드의 평균 점수/별점 수 컬럼을 keyboard_score 기준으로 다시 계산 (별점 변경과 같은 트랜잭션에서 실행)
+     * 증감 대신 해당 키보드의 별점만 다시 집계하므로 값이 어긋나도 다음 변경 때 바로잡힘
+     */
+    private void refreshScoreSummary(Connection conn, long keyboardId) throws SQLException {
+        String sql = "UPDATE keyboard_information k " +
+                    "JOIN (SELECT COUNT(*) AS cnt, COALESCE(AVG(score_value), 0) AS avg_value " +
+                    "      FROM keyboard_score WHERE keyboard_uid = ?) s " +
+                    "SET k.keyboard_score_count = s.cnt, k.keyboard_score_avg = s.avg_value " +
+                    "WHERE k.keyboard_uid = ?";
+        
+        JdbcTemplate.update(conn, sql, keyboardId, keyboardId);
     }
     
     /**
@@ -803,19 +526,7 @@ public class KeyboardInfoDAO {
      */
     public boolean hasUserRated(long keyboardId, long userId) throws SQLException {
         String sql = "SELECT COUNT(*) FROM keyboard_score WHERE keyboard_uid = ? AND user_uid = ?";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next() && rs.getInt(1) > 0) {
-                    return true;
-                }
-                return false;
-            }
-        }
+        return jdbc.queryForInt(sql, keyboardId, userId) > 0;
     }
     
     /**
@@ -823,35 +534,7 @@ public class KeyboardInfoDAO {
      */
     public KeyboardScoreDTO getUserScore(long keyboardId, long userId) throws SQLException {
         String sql = "SELECT * FROM keyboard_score WHERE keyboard_uid = ? AND user_uid = ?";
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                KeyboardScoreDTO score = new KeyboardScoreDTO();
-                score.setScoreId(rs.getLong("score_uid"));
-                score.setKeyboardId(rs.getLong("keyboard_uid"));
-                score.setUserId(rs.getLong("user_uid"));
-                score.setScoreValue(rs.getInt("score_value"));
-                score.setReview(rs.getString("score_review"));
-                
-                Timestamp createdAt = rs.getTimestamp("score_created_at");
-                if (createdAt != null) {
-                    score.setCreatedAt(createdAt.toLocalDateTime());
-                }
-                
-                return score;
-            }
-            
-            return null;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForObject(sql, KeyboardInfoDAO::createScoreFromResultSet, keyboardId, userId);
     }
     
     /**
@@ -859,176 +542,104 @@ public class KeyboardInfoDAO {
      */
     public int getTotalKeyboardCount() throws SQLException {
         String sql = "SELECT COUNT(*) FROM keyboard_information"; // keyboard_info -> keyboard_information
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            return 0;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForInt(sql);
     }
     
     /**
-     * 검색 조건에 맞는 키보드 수 조회 (페이징용)
+     * 키워드 조건 추가 (전문 검색 색인에서 찾은 ID로 IN 조건 구성)
+     * @return 색인 점수 순 ID 목록, 키워드가 없으면 null
      */
-    public int getFilteredKeyboardCount(String keyword, String manufacturer, 
-            String switchType, String layoutType, String connectType) throws SQLException {
-        StringBuilder sql = new StringBuilder();
-        
-        sql.append("SELECT COUNT(*) FROM keyboard_information k WHERE 1=1 "); // keyboard_info -> keyboard_information
-        
-        // 검색 조건 추가
-        List<Object> params = new ArrayList<>();
-        
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            sql.append("AND (k.keyboard_name LIKE ? OR k.keyboard_description LIKE ?) ");
-            params.add("%" + keyword + "%");
-            params.add("%" + keyword + "%");
-        }
-        
-        if (manufacturer != null && !manufacturer.trim().isEmpty()) {
-            sql.append("AND k.keyboard_manufacturer = ? ");
-            params.add(manufacturer);
-        }
-        
-        if (switchType != null && !switchType.trim().isEmpty()) {
-            sql.append("AND k.keyboard_switch_type = ? ");
-            params.add(switchType);
+    private List<Long> appendKeywordCondition(StringBuilder sql, List<Object> params, String keyword) throws SQLException {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
         }
         
-        if (layoutType != null && !layoutType.trim().isEmpty()) {
-            sql.append("AND k.keyboard_layout_type = ? ");
-            params.add(layoutType);
+        List<Long> ids = SearchIndexManager.searchIds(SearchIndexManager.Collection.KEYBOARD, keyword, null);
+        if (ids.isEmpty()) {
+            sql.append("AND 1=0 ");
+        } else {
+            sql.append("AND k.keyboard_uid IN (").append(String.join(",", Collections.nCopies(ids.size(), "?"))).append(") ");
+            params.addAll(ids);
         }
-        
-        if (connectType != null && !connectType.trim().isEmpty()) {
-            sql.append("AND k.keyboard_connect_type = ? ");
-            params.add(connectType);
+        return ids;
+    }
+    
+    /**
+     * 색인 점수 순으로 정렬한 뒤 해당 페이지만 잘라냄
+     */
+    private List<KeyboardInfoDTO> pageByRank(List<KeyboardInfoDTO> keyboards, List<Long> rankedIds, int page, int pageSize) {
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
         }
+        keyboards.sort(Comparator.comparingInt(keyboard -> rank.getOrDefault(keyboard.getKeyboardId(), Integer.MAX_VALUE)));
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql.toString());
-            
-            // 파라미터 설정
-            int paramIndex = 1;
-            for (Object param : params) {
-                pstmt.setObject(paramIndex++, param);
-            }
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            return 0;
-        } finally {
-            closeResources();
-        }
+        int from = Math.min(Math.max(page - 1, 0) * pageSize, keyboards.size());
+        int to = Math.min(from + pageSize, keyboards.size());
+        return new ArrayList<>(keyboards.subList(from, to));
+    }
+    
+    /**
+     * 검색 조건에 맞는 키보드 수 조회 (페이징용, 필터 캐시에서 계산)
+     */
+    public int getFilteredKeyboardCount(String keyword, String manufacturer, 
+            String switchType, String layoutType, String connectType) throws SQLException {
+        return KeyboardFacetCache.count(keyword, facetSelection(manufacturer, switchType, layoutType, connectType));
     }
     
     /**
-     * 제조사 목록 조회
+     * 제조사 목록 조회 (필터 캐시에서 조회)
      */
     public List<String> getAllManufacturers() throws SQLException {
-        List<String> manufacturers = new ArrayList<>();
-        String sql = "SELECT DISTINCT keyboard_manufacturer FROM keyboard_information ORDER BY keyboard_manufacturer"; // keyboard_info -> keyboard_information
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                manufacturers.add(rs.getString("keyboard_manufacturer"));
-            }
-            
-            return manufacturers;
-        } finally {
-            closeResources();
-        }
+        return KeyboardFacetCache.values(KeyboardFacetCache.Facet.MANUFACTURER);
     }
     
     /**
-     * 스위치 타입 목록 조회
+     * 스위치 타입 목록 조회 (필터 캐시에서 조회)
      */
     public List<String> getAllSwitchTypes() throws SQLException {
-        List<String> switchTypes = new ArrayList<>();
-        String sql = "SELECT DISTINCT keyboard_switch_type FROM keyboard_information ORDER BY keyboard_switch_type"; // keyboard_info -> keyboard_information
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                switchTypes.add(rs.getString("keyboard_switch_type"));
-            }
-            
-            return switchTypes;
-        } finally {
-            closeResources();
-        }
+        return KeyboardFacetCache.values(KeyboardFacetCache.Facet.SWITCH_TYPE);
     }
     
     /**
-     * 레이아웃 타입 목록 조회
+     * 레이아웃 타입 목록 조회 (필터 캐시에서 조회)
      */
     public List<String> getAllLayoutTypes() throws SQLException {
-        List<String> layoutTypes = new ArrayList<>();
-        String sql = "SELECT DISTINCT keyboard_layout_type FROM keyboard_information ORDER BY keyboard_layout_type"; // keyboard_info -> keyboard_information
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                layoutTypes.add(rs.getString("keyboard_layout_type"));
-            }
-            
-            return layoutTypes;
-        } finally {
-            closeResources();
-        }
+        return KeyboardFacetCache.values(KeyboardFacetCache.Facet.LAYOUT_TYPE);
     }
     
     /**
-     * 연결 타입 목록 조회
+     * 연결 타입 목록 조회 (필터 캐시에서 조회)
      */
     public List<String> getAllConnectTypes() throws SQLException {
-        List<String> connectTypes = new ArrayList<>();
-        String sql = "SELECT DISTINCT keyboard_connect_type FROM keyboard_information ORDER BY keyboard_connect_type"; // keyboard_info -> keyboard_information
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                connectTypes.add(rs.getString("keyboard_connect_type"));
-            }
-            
-            return connectTypes;
-        } finally {
-            closeResources();
-        }
+        return KeyboardFacetCache.values(KeyboardFacetCache.Facet.CONNECT_TYPE);
+    }
+    
+    /**
+     * 현재 검색 조건에서 필터 값별 키보드 수 (필터 캐시에서 계산)
+     */
+    public Map<String, Map<String, Integer>> getFacetCounts(String keyword, String manufacturer,
+            String switchType, String layoutType, String connectType) throws SQLException {
+        return KeyboardFacetCache.facetCounts(keyword,
+                facetSelection(manufacturer, switchType, layoutType, connectType));
+    }
+    
+    private Map<KeyboardFacetCache.Facet, String> facetSelection(String manufacturer, String switchType,
+            String layoutType, String connectType) {
+        Map<KeyboardFacetCache.Facet, String> selected = new EnumMap<>(KeyboardFacetCache.Facet.class);
+        selected.put(KeyboardFacetCache.Facet.MANUFACTURER, manufacturer);
+        selected.put(KeyboardFacetCache.Facet.SWITCH_TYPE, switchType);
+        selected.put(KeyboardFacetCache.Facet.LAYOUT_TYPE, layoutType);
+        selected.put(KeyboardFacetCache.Facet.CONNECT_TYPE, connectType);
+        return selected;
     }
     
     /**
      * 사용자가 스크랩한 키보드 목록 조회
      */
     public List<KeyboardInfoDTO> getScrapsByUserId(long userId, int page, int pageSize) throws SQLException {
-        List<KeyboardInfoDTO> scrapList = new ArrayList<>();
-        
         String sql = "SELECT k.*, " +
-                    "(SELECT AVG(score_value) FROM keyboard_score WHERE keyboard_uid = k.keyboard_uid) AS avg_score, " +
+                    "k.keyboard_score_avg AS avg_score, " +
                     "s.scrap_date " +
                     "FROM keyboard_information k " + // keyboard_info -> keyboard_information
                     "JOIN scrap s ON k.keyboard_uid = s.keyboard_uid " + // keyboard_scrap -> scrap
@@ -1036,32 +647,17 @@ public class KeyboardInfoDAO {
                     "ORDER BY s.scrap_date DESC " +
                     "LIMIT ? OFFSET ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            pstmt.setInt(2, pageSize);
-            pstmt.setInt(3, (page - 1) * pageSize);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardInfoDTO keyboard = createKeyboardFromResultSet(rs);
-                
-                // 스크랩 날짜 설정
-                keyboard.setScrapDate(rs.getTimestamp("scrap_date"));
-                
-                // 키보드의 태그 정보 가져오기
-                List<String> tags = getKeyboardTags(keyboard.getKeyboardId());
-                keyboard.setTags(tags);
-                
-                scrapList.add(keyboard);
-            }
-            
-            return scrapList;
-        } finally {
-            closeResources();
-        }
+        List<KeyboardInfoDTO> scrapList = jdbc.query(sql, rs -> {
+            KeyboardInfoDTO keyboard = createKeyboardFromResultSet(rs);
+            // 스크랩 날짜 설정
+            keyboard.setScrapDate(rs.getTimestamp("scrap_date"));
+            return keyboard;
+        }, userId, pageSize, (page - 1) * pageSize);
+        
+        // 페이지 전체 키보드의 태그를 한 번에 가져오기
+        loadKeyboardTags(scrapList);
+        
+        return scrapList;
     }
     
     /**
@@ -1072,29 +668,13 @@ public class KeyboardInfoDAO {
                     "FROM scrap " + // keyboard_scrap -> scrap
                     "WHERE user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            
-            return 0;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForInt(sql, userId);
     }
     
     /**
      * 사용자가 작성한 별점 목록 조회
      */
     public List<KeyboardScoreDTO> getScoresByUserId(long userId, String sortBy, int page, int pageSize) throws SQLException {
-        List<KeyboardScoreDTO> scoreList = new ArrayList<>();
-        
         StringBuilder sql = new StringBuilder();
         sql.append("SELECT s.*, k.keyboard_name, u.nickname ");
         sql.append("FROM keyboard_score s ");
@@ -1113,39 +693,13 @@ public class KeyboardInfoDAO {
         
         sql.append("LIMIT ? OFFSET ?");
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql.toString());
-            pstmt.setLong(1, userId);
-            pstmt.setInt(2, pageSize);
-            pstmt.setInt(3, (page - 1) * pageSize);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardScoreDTO score = new KeyboardScoreDTO();
-                score.setScoreId(rs.getLong("score_uid"));
-                score.setKeyboardId(rs.getLong("keyboard_uid"));
-                score.setUserId(rs.getLong("user_uid"));
-                score.setScoreValue(rs.getInt("score_value"));
-                score.setReview(rs.getString("score_review"));
-                // Timestamp를 LocalDateTime으로 변환
-                java.sql.Timestamp timestamp = rs.getTimestamp("score_created_at");
-                if (timestamp != null) {
-                    score.setCreatedAt(timestamp.toLocalDateTime());
-                }
-                
-                // 키보드 이름과 사용자 닉네임 설정
-                score.setUserName(rs.getString("nickname"));
-                score.setKeyboardName(rs.getString("keyboard_name"));
-                
-                scoreList.add(score);
-            }
-            
-            return scoreList;
-        } finally {
-            closeResources();
-        }
+        return jdbc.query(sql.toString(), rs -> {
+            KeyboardScoreDTO score = createScoreFromResultSet(rs);
+            // 키보드 이름과 사용자 닉네임 설정
+            score.setUserName(rs.getString("nickname"));
+            score.setKeyboardName(rs.getString("keyboard_name"));
+            return score;
+        }, userId, pageSize, (page - 1) * pageSize);
     }
     
     /**
@@ -1153,21 +707,6 @@ public class KeyboardInfoDAO {
      */
     public int getTotalScoreCountByUserId(long userId) throws SQLException {
         String sql = "SELECT COUNT(*) FROM keyboard_score WHERE user_uid = ?";
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            
-            return 0;
-        } finally {
-            closeResources();
-        }
+        return jdbc.queryForInt(sql, userId);
     }
 }
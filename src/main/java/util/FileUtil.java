@@ -19,6 +19,7 @@ import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -56,6 +57,100 @@ public class FileUtil {
             "application/zip", "application/x-rar-compressed", "application/x-7z-compressed"
     ));
     
+    /**
+     * 확장자별 실제 파일 형식 (업로드 시 파일 앞부분 매직 바이트로 확인)
+     */
+    private static final Map<String, String> EXTENSION_MIME_TYPES = Map.ofEntries(
+            Map.entry("txt", "text/plain"),
+            Map.entry("pdf", "application/pdf"),
+            Map.entry("doc", "application/msword"),
+            Map.entry("docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document"),
+            Map.entry("xls", "application/vnd.ms-excel"),
+            Map.entry("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+            Map.entry("ppt", "application/vnd.ms-powerpoint"),
+            Map.entry("pptx", "application/vnd.openxmlformats-officedocument.presentationml.presentation"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("png", "image/png"),
+            Map.entry("gif", "image/gif"),
+            Map.entry("bmp", "image/bmp"),
+            Map.entry("zip", "application/zip"),
+            Map.entry("rar", "application/x-rar-compressed"),
+            Map.entry("7z", "application/x-7z-compressed")
+    );
+
+    /** MIME 판별에 필요한 파일 앞부분 바이트 수 */
+    public static final int MAGIC_BYTES_LENGTH = 16;
+
+    /**
+     * 파일 앞부분(매직 바이트)으로 실제 MIME 타입 판별
+     * 클라이언트가 보낸 Content-Type 대신 사용하며, 확장자가 가리키는 형식과 다르면 null
+     * (zip/OLE 컨테이너는 내용만으로 docx/xlsx 등을 구분할 수 없어 확장자로 구분)
+     *
+     * @param head 파일 앞부분
+     * @param length head 중 유효한 바이트 수
+     * @param fileName 원본 파일명 (확장자 확인용)
+     * @return 허용된 MIME 타입, 형식이 맞지 않거나 허용되지 않으면 null
+     */
+    public static String sniffMimeType(byte[] head, int length, String fileName) {
+        if (!isAllowedFileType(fileName)) {
+            return null;
+        }
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+        String expected = EXTENSION_MIME_TYPES.get(extension);
+
+        String actual;
+        if (startsWith(head, length, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            actual = "image/png";
+        } else if (startsWith(head, length, 0xFF, 0xD8, 0xFF)) {
+            actual = "image/jpeg";
+        } else if (startsWith(head, length, 'G', 'I', 'F', '8')) {
+            actual = "image/gif";
+        } else if (startsWith(head, length, 'B', 'M')) {
+            actual = "image/bmp";
+        } else if (startsWith(head, length, '%', 'P', 'D', 'F', '-')) {
+            actual = "application/pdf";
+        } else if (startsWith(head, length, 'P', 'K', 0x03, 0x04) || startsWith(head, length, 'P', 'K', 0x05, 0x06)) {
+            // zip 컨테이너 (docx/xlsx/pptx 포함)
+            actual = extension.equals("docx") || extension.equals("xlsx") || extension.equals("pptx")
+                    ? expected : "application/zip";
+        } else if (startsWith(head, length, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)) {
+            // OLE 복합 문서 (doc/xls/ppt)
+            actual = extension.equals("doc") || extension.equals("xls") || extension.equals("ppt") ? expected : null;
+        } else if (startsWith(head, length, 'R', 'a', 'r', '!', 0x1A, 0x07)) {
+            actual = "application/x-rar-compressed";
+        } else if (startsWith(head, length, '7', 'z', 0xBC, 0xAF, 0x27, 0x1C)) {
+            actual = "application/x-7z-compressed";
+        } else if (extension.equals("txt") && !containsNul(head, length)) {
+            actual = "text/plain";
+        } else {
+            actual = null;
+        }
+
+        return actual != null && actual.equals(expected) && ALLOWED_MIME_TYPES.contains(actual) ? actual : null;
+    }
+
+    private static boolean startsWith(byte[] head, int length, int... magic) {
+        if (length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if ((head[i] & 0xFF) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsNul(byte[] head, int length) {
+        for (int i = 0; i < length; i++) {
+            if (head[i] == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 파일 업로드 디렉토리 생성 및 경로 반환
      * @return 날짜별 폴더 구조가 포함된 업로드 디렉토리 경로
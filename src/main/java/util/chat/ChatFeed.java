@@ -0,0 +1,362 @@
+package util.chat;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import dto.board.ChatboardDTO;
+import repository.dao.board.ChatboardDAO;
+import util.config.AppConfig;
+
+/**
+ * 익명 게시판(chatboard) 최근 메시지 링 버퍼
+ * - 최근 메시지를 메모리에 보관하고 시작 시(또는 첫 조회 시) DB에서 한 번만 채움
+ * - 등록/수정/삭제가 성공하면 ChatboardDAO가 이 버퍼를 갱신하므로 목록 조회는 DB를 거치지 않음
+ * - 모든 변경은 순번(seq)이 붙은 이벤트로도 보관해 "seq 이후 변경분" 조회와 SSE 스트림에 사용
+ *   (이벤트 버퍼 범위를 벗어난 seq로 요청하면 전체 목록을 다시 받도록 resync 응답)
+ * - 목록 크기보다 여유 있게 보관해 삭제 후에도 목록이 비지 않도록 함
+ *
+ * 설정 키 (AppConfig): chat.list-size, chat.buffer-size, chat.event-capacity
+ */
+public final class ChatFeed {
+
+    private static final Logger logger = Logger.getLogger(ChatFeed.class.getName());
+
+    private static final int LIST_SIZE =
+            Math.max(1, AppConfig.getInt("chat.list-size", "CHAT_LIST_SIZE", 100));
+    private static final int BUFFER_SIZE =
+            Math.max(LIST_SIZE, AppConfig.getInt("chat.buffer-size", "CHAT_BUFFER_SIZE", LIST_SIZE * 2));
+    private static final int EVENT_CAPACITY =
+            Math.max(16, AppConfig.getInt("chat.event-capacity", "CHAT_EVENT_CAPACITY", 1000));
+
+    /** 이벤트 유형 (reset은 클라이언트가 목록 전체를 다시 받아야 함을 의미) */
+    public static final String TYPE_POST = "post";
+    public static final String TYPE_UPDATE = "update";
+    public static final String TYPE_DELETE = "delete";
+    public static final String TYPE_RESET = "reset";
+
+    /**
+     * 변경 이벤트 (삭제/reset 이벤트는 chat이 null)
+     */
+    public static final class Event {
+        private final long seq;
+        private final String type;
+        private final long chatId;
+        private final ChatboardDTO chat;
+
+        Event(long seq, String type, long chatId, ChatboardDTO chat) {
+            this.seq = seq;
+            this.type = type;
+            this.chatId = chatId;
+            this.chat = chat;
+        }
+
+        public long getSeq() {
+            return seq;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public long getChatId() {
+            return chatId;
+        }
+
+        public ChatboardDTO getChat() {
+            return chat;
+        }
+    }
+
+    /**
+     * 목록과 그 시점의 마지막 이벤트 순번 (클라이언트는 이 순번부터 변경분을 이어 받음)
+     */
+    public static final class Snapshot {
+        private final List<ChatboardDTO> chats;
+        private final long lastSeq;
+
+        Snapshot(List<ChatboardDTO> chats, long lastSeq) {
+            this.chats = chats;
+            this.lastSeq = lastSeq;
+        }
+
+        /** 최신순 메시지 목록 (수정 불가) */
+        public List<ChatboardDTO> getChats() {
+            return chats;
+        }
+
+        public long getLastSeq() {
+            return lastSeq;
+        }
+    }
+
+    private static final ReentrantLock lock = new ReentrantLock();
+
+    // 최신순 메시지 (lock 보호, 최대 BUFFER_SIZE)
+    private static final List<ChatboardDTO> messages = new ArrayList<>();
+    // 이벤트 링 버퍼 (seq % EVENT_CAPACITY 위치에 저장, lock 보호)
+    private static final Event[] events = new Event[EVENT_CAPACITY];
+    // 재시작 후에도 이전 실행의 seq와 겹치지 않도록 시작 시각에서 출발
+    private static long lastSeq = System.currentTimeMillis();
+    private static volatile Snapshot snapshot = new Snapshot(List.of(), lastSeq);
+    private static volatile boolean seeded;
+    private static volatile long lastSeedAt;
+
+    private static final List<Consumer<Event>> listeners = new CopyOnWriteArrayList<>();
+
+    // 통계
+    private static final LongAdder snapshotReads = new LongAdder();
+    private static final LongAdder deltaReads = new LongAdder();
+    private static final LongAdder resyncs = new LongAdder();
+    private static final LongAdder seedCount = new LongAdder();
+
+    private ChatFeed() {
+    }
+
+    /**
+     * DB에서 최근 메시지를 다시 읽어 버퍼를 채움
+     * 기존 구독자에게는 reset 이벤트를 보내 목록을 다시 받도록 함
+     *
+     * @return 읽어 온 메시지 수
+     * @throws SQLException 조회 실패 시
+     */
+    public static int seed() throws SQLException {
+        lock.lock();
+        try {
+            // 조회 중 들어온 변경은 잠금이 풀린 뒤 반영되므로 누락되지 않음 (등록은 ID로 중복 제거)
+            List<ChatboardDTO> loaded = new ChatboardDAO().getRecentChats(BUFFER_SIZE);
+            messages.clear();
+            for (ChatboardDTO chat : loaded) {
+                messages.add(copyOf(chat));
+            }
+            seeded = true;
+            lastSeedAt = System.currentTimeMillis();
+            seedCount.increment();
+            append(TYPE_RESET, 0, null);
+            logger.info("채팅 버퍼 초기화 완료: 메시지 " + messages.size() + "건");
+            return messages.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 시작 시 초기화 (실패하면 첫 조회 때 다시 시도)
+     */
+    public static void seedQuietly() {
+        try {
+            seed();
+        } catch (SQLException | RuntimeException e) {
+            logger.log(Level.WARNING, "채팅 버퍼 초기화 실패, 첫 조회 시 다시 시도합니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 최근 메시지 목록과 마지막 이벤트 순번
+     *
+     * @throws SQLException 버퍼가 비어 있어 DB에서 채우다 실패한 경우
+     */
+    public static Snapshot getSnapshot() throws SQLException {
+        if (!seeded) {
+            lock.lock();
+            try {
+                if (!seeded) {
+                    seed();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        snapshotReads.increment();
+        return snapshot;
+    }
+
+    /**
+     * 지정한 순번 이후의 변경 이벤트
+     *
+     * @param sinceSeq 클라이언트가 마지막으로 받은 이벤트 순번
+     * @return 순번 오름차순 이벤트 (없으면 빈 목록), 이벤트 버퍼 범위를 벗어나 전체 목록이 필요하면 null
+     */
+    public static List<Event> eventsSince(long sinceSeq) {
+        lock.lock();
+        try {
+            long oldest = lastSeq - EVENT_CAPACITY + 1;
+            if (!seeded || sinceSeq > lastSeq || sinceSeq < oldest - 1) {
+                resyncs.increment();
+                return null;
+            }
+            deltaReads.increment();
+            if (sinceSeq == lastSeq) {
+                return List.of();
+            }
+            List<Event> result = new ArrayList<>((int) (lastSeq - sinceSeq));
+            for (long seq = sinceSeq + 1; seq <= lastSeq; seq++) {
+                Event event = events[(int) (seq % EVENT_CAPACITY)];
+                if (event == null || event.seq != seq) {
+                    // 시작 직후처럼 아직 채워지지 않은 구간
+                    resyncs.increment();
+                    return null;
+                }
+                result.add(event);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 이벤트 순번
+     */
+    public static long getLastSeq() {
+        return snapshot.lastSeq;
+    }
+
+    /**
+     * 메시지 등록 반영 (DB 등록 성공 후 호출)
+     */
+    public static void onPosted(ChatboardDTO chat) {
+        ChatboardDTO copy = copyOf(chat);
+        if (copy.getChatboardWritetime() == null) {
+            // 작성 시각은 DB의 NOW()로 저장되므로 버퍼에는 서버 시각으로 근사
+            copy.setChatboardWritetime(LocalDateTime.now());
+        }
+        lock.lock();
+        try {
+            removeById(copy.getChatboardUid());
+            messages.add(0, copy);
+            while (messages.size() > BUFFER_SIZE) {
+                messages.remove(messages.size() - 1);
+            }
+            append(TYPE_POST, copy.getChatboardUid(), copy);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메시지 수정 반영 (버퍼 범위 밖의 오래된 메시지는 무시)
+     */
+    public static void onUpdated(long chatId, String title) {
+        lock.lock();
+        try {
+            int index = indexOf(chatId);
+            if (index < 0) {
+                return;
+            }
+            ChatboardDTO updated = copyOf(messages.get(index));
+            updated.setChatboardTitle(title);
+            updated.setChatboardModifyTime(LocalDateTime.now());
+            messages.set(index, updated);
+            append(TYPE_UPDATE, chatId, updated);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메시지 삭제 반영
+     */
+    public static void onDeleted(long chatId) {
+        lock.lock();
+        try {
+            if (removeById(chatId)) {
+                append(TYPE_DELETE, chatId, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 변경 이벤트 구독 (이벤트 순서대로, 잠금을 쥔 상태에서 호출되므로 막히지 않아야 함)
+     */
+    public static void addListener(Consumer<Event> listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(Consumer<Event> listener) {
+        listeners.remove(listener);
+    }
+
+    // lock을 쥔 상태에서 호출
+    private static void append(String type, long chatId, ChatboardDTO chat) {
+        Event event = new Event(++lastSeq, type, chatId, chat);
+        events[(int) (event.seq % EVENT_CAPACITY)] = event;
+        snapshot = new Snapshot(Collections.unmodifiableList(
+                new ArrayList<>(messages.subList(0, Math.min(LIST_SIZE, messages.size())))), lastSeq);
+        for (Consumer<Event> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "채팅 이벤트 전달 실패", e);
+            }
+        }
+    }
+
+    private static int indexOf(long chatId) {
+        for (int i = 0; i < messages.size(); i++) {
+            if (messages.get(i).getChatboardUid() == chatId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean removeById(long chatId) {
+        int index = indexOf(chatId);
+        if (index < 0) {
+            return false;
+        }
+        messages.remove(index);
+        return true;
+    }
+
+    // 버퍼/응답용 복사본 (작성자 IP는 목록에 노출하지 않음)
+    private static ChatboardDTO copyOf(ChatboardDTO chat) {
+        ChatboardDTO copy = new ChatboardDTO();
+        copy.setChatboardUid(chat.getChatboardUid());
+        copy.setChatboardTitle(chat.getChatboardTitle());
+        copy.setChatboardWritetime(chat.getChatboardWritetime());
+        copy.setChatboardModifyTime(chat.getChatboardModifyTime());
+        copy.setChatboardDeleted(chat.getChatboardDeleted() != null ? chat.getChatboardDeleted() : "maintained");
+        copy.setUserUid(chat.getUserUid());
+        copy.setAnonymousNickname(chat.getAnonymousNickname());
+        return copy;
+    }
+
+    /**
+     * 버퍼 상태 및 통계
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            stats.put("seeded", seeded);
+            stats.put("lastSeedAt", lastSeedAt);
+            stats.put("messages", messages.size());
+            stats.put("lastSeq", lastSeq);
+        } finally {
+            lock.unlock();
+        }
+        stats.put("listSize", LIST_SIZE);
+        stats.put("bufferSize", BUFFER_SIZE);
+        stats.put("eventCapacity", EVENT_CAPACITY);
+        stats.put("snapshotReads", snapshotReads.sum());
+        stats.put("deltaReads", deltaReads.sum());
+        stats.put("resyncs", resyncs.sum());
+        stats.put("seeds", seedCount.sum());
+        stats.put("listeners", listeners.size());
+        return stats;
+    }
+}
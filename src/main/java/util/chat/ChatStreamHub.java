@@ -0,0 +1,280 @@
+package util.chat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import util.config.AppConfig;
+import util.json.JsonWriters;
+import util.json.ObjectWriter;
+
+/**
+ * 익명 게시판 SSE(Server-Sent Events) 구독자 관리
+ * - 구독자마다 가상 스레드 하나가 작은 큐를 기다렸다가 이벤트를 써 보냄
+ *   (대기 중인 구독자는 OS 스레드를 점유하지 않으므로 수천 개의 유휴 연결도 부담이 적음)
+ * - ChatFeed 이벤트는 각 구독자 큐에 넣기만 하므로 느린 클라이언트가 다른 구독자나 글 등록을 막지 않음
+ * - 큐가 가득 찬 구독자는 연결을 끊고, 클라이언트는 Last-Event-ID로 재연결해 빠진 변경분을 이어 받음
+ * - 이벤트가 없을 때는 주기적으로 주석 줄(heartbeat)을 보내 프록시의 유휴 종료를 막고 끊긴 연결을 정리
+ *
+ * 설정 키 (AppConfig): chat.sse.max-subscribers, chat.sse.queue-capacity, chat.sse.heartbeat-ms, chat.sse.timeout-ms
+ */
+public final class ChatStreamHub {
+
+    private static final Logger logger = Logger.getLogger(ChatStreamHub.class.getName());
+
+    private static final int MAX_SUBSCRIBERS =
+            Math.max(1, AppConfig.getInt("chat.sse.max-subscribers", "CHAT_SSE_MAX_SUBSCRIBERS", 10000));
+    private static final int QUEUE_CAPACITY =
+            Math.max(1, AppConfig.getInt("chat.sse.queue-capacity", "CHAT_SSE_QUEUE_CAPACITY", 256));
+    private static final long HEARTBEAT_MS =
+            Math.max(1000, AppConfig.getLong("chat.sse.heartbeat-ms", "CHAT_SSE_HEARTBEAT_MS", 15000));
+    // 0이면 제한 없음 (기본 30분마다 재연결)
+    private static final long TIMEOUT_MS =
+            Math.max(0, AppConfig.getLong("chat.sse.timeout-ms", "CHAT_SSE_TIMEOUT_MS", 1800000));
+    private static final long RETRY_MS = 3000;
+
+    private static final byte[] HEARTBEAT = ": ping\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong subscriberIds = new AtomicLong();
+    private static volatile boolean shutdown = false;
+
+    // 통계
+    private static final LongAdder subscribedCount = new LongAdder();
+    private static final LongAdder rejectedCount = new LongAdder();
+    private static final LongAdder laggingDisconnects = new LongAdder();
+    private static final LongAdder eventsSent = new LongAdder();
+
+    static {
+        // 이벤트 data는 다른 JSON 응답과 같은 JsonWriters 규칙으로 출력 (chat은 등록된 ChatboardDTO 작성기 사용)
+        JsonWriters.register(ChatFeed.Event.class, ObjectWriter.<ChatFeed.Event>builder()
+                .longValue("seq", ChatFeed.Event::getSeq)
+                .string("type", ChatFeed.Event::getType)
+                .longValue("chatId", ChatFeed.Event::getChatId)
+                .value("chat", ChatFeed.Event::getChat)
+                .build());
+        ChatFeed.addListener(ChatStreamHub::dispatch);
+    }
+
+    private ChatStreamHub() {
+    }
+
+    /**
+     * SSE 구독 시작 (요청을 비동기 모드로 전환하고 즉시 반환)
+     *
+     * @param request 요청 (서블릿이 asyncSupported여야 함)
+     * @param response 응답
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 순번 (없으면 -1, 현재 시점부터 수신)
+     * @return 구독 여부 (구독자 수 상한 초과 또는 종료 중이면 false)
+     * @throws IOException 응답 스트림을 열 수 없는 경우
+     */
+    public static boolean subscribe(HttpServletRequest request, HttpServletResponse response, long lastEventId)
+            throws IOException {
+        if (shutdown || subscribers.size() >= MAX_SUBSCRIBERS) {
+            rejectedCount.increment();
+            return false;
+        }
+
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), asyncContext,
+                response.getOutputStream(), lastEventId);
+        asyncContext.addListener(subscriber);
+
+        // 큐를 먼저 등록한 뒤 밀린 변경분을 계산하므로 그 사이 이벤트도 빠지지 않음 (중복은 seq로 걸러냄)
+        subscribers.add(subscriber);
+        subscribedCount.increment();
+        Thread.ofVirtual().name("kirini-chat-sse-" + subscriber.id).start(subscriber::run);
+        return true;
+    }
+
+    private static void dispatch(ChatFeed.Event event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(event)) {
+                laggingDisconnects.increment();
+                subscriber.close();
+            }
+        }
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public static int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 구독 상태 및 통계
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscribers", subscribers.size());
+        stats.put("maxSubscribers", MAX_SUBSCRIBERS);
+        stats.put("queueCapacity", QUEUE_CAPACITY);
+        stats.put("heartbeatMs", HEARTBEAT_MS);
+        stats.put("timeoutMs", TIMEOUT_MS);
+        stats.put("subscribed", subscribedCount.sum());
+        stats.put("rejected", rejectedCount.sum());
+        stats.put("laggingDisconnects", laggingDisconnects.sum());
+        stats.put("eventsSent", eventsSent.sum());
+        return stats;
+    }
+
+    /**
+     * 모든 구독 연결 종료 (애플리케이션 종료 시)
+     */
+    public static void shutdown() {
+        shutdown = true;
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+    }
+
+    /**
+     * SSE 연결 하나 (전용 가상 스레드에서 큐의 이벤트를 순서대로 전송)
+     */
+    private static final class Subscriber implements AsyncListener {
+        final long id;
+        final AsyncContext asyncContext;
+        final ServletOutputStream out;
+        final BlockingQueue<ChatFeed.Event> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final AtomicBoolean completed = new AtomicBoolean(false);
+        volatile Thread worker;
+        long lastSentSeq;
+
+        Subscriber(long id, AsyncContext asyncContext, ServletOutputStream out, long lastEventId) {
+            this.id = id;
+            this.asyncContext = asyncContext;
+            this.out = out;
+            this.lastSentSeq = lastEventId;
+        }
+
+        void run() {
+            worker = Thread.currentThread();
+            try {
+                sendInitial();
+                while (!closed.get()) {
+                    ChatFeed.Event event = queue.poll(HEARTBEAT_MS, TimeUnit.MILLISECONDS);
+                    if (closed.get()) {
+                        break;
+                    }
+                    if (event == null) {
+                        write(HEARTBEAT);
+                    } else if (event.getSeq() > lastSentSeq) {
+                        send(event);
+                    }
+                }
+            } catch (InterruptedException e) {
+                // close()에서 깨운 경우
+            } catch (IOException | RuntimeException e) {
+                // 클라이언트 연결 종료
+                logger.log(Level.FINE, "SSE 연결 종료: " + id, e);
+            } finally {
+                close();
+                complete();
+            }
+        }
+
+        private void sendInitial() throws IOException {
+            StringBuilder sb = new StringBuilder("retry: ").append(RETRY_MS).append("\n\n");
+            List<ChatFeed.Event> backlog = lastSentSeq >= 0 ? ChatFeed.eventsSince(lastSentSeq) : List.of();
+            if (backlog == null) {
+                // 밀린 변경분을 알 수 없으면 목록을 다시 받도록 reset 전송
+                long seq = ChatFeed.getLastSeq();
+                sb.append(frame(seq, ChatFeed.TYPE_RESET, "{\"seq\":" + seq + "}"));
+                lastSentSeq = seq;
+            } else if (lastSentSeq < 0) {
+                lastSentSeq = ChatFeed.getLastSeq();
+                sb.append(frame(lastSentSeq, "ready", "{\"seq\":" + lastSentSeq + "}"));
+            }
+            write(sb.toString().getBytes(StandardCharsets.UTF_8));
+            if (backlog != null) {
+                for (ChatFeed.Event event : backlog) {
+                    send(event);
+                }
+            }
+        }
+
+        private void send(ChatFeed.Event event) throws IOException {
+            write(frame(event.getSeq(), event.getType(), JsonWriters.toJson(event)).getBytes(StandardCharsets.UTF_8));
+            lastSentSeq = event.getSeq();
+            eventsSent.increment();
+        }
+
+        private void write(byte[] bytes) throws IOException {
+            out.write(bytes);
+            out.flush();
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                Thread t = worker;
+                if (t != null && t != Thread.currentThread()) {
+                    t.interrupt();
+                }
+            }
+        }
+
+        void complete() {
+            if (completed.compareAndSet(false, true)) {
+                try {
+                    asyncContext.complete();
+                } catch (IllegalStateException e) {
+                    // 컨테이너가 이미 요청을 정리한 경우
+                }
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            completed.set(true);
+            close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+            complete();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+            complete();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    private static String frame(long seq, String type, String data) {
+        return "id: " + seq + "\nevent: " + type + "\ndata: " + data + "\n\n";
+    }
+}
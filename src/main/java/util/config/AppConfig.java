@@ -31,6 +31,68 @@ public class AppConfig {
         }
     }
     
+    /**
+     * 설정값 조회 (시스템 속성 → 환경 변수 → 설정 파일 → 기본값 순)
+     *
+     * @param key 설정 키 (시스템 속성은 "kirini." 접두어를 붙여 조회, 예: kirini.db.pool.max-size)
+     * @param envName 환경 변수 이름 (예: DB_POOL_MAX_SIZE)
+     * @param defaultValue 기본값
+     * @return 설정값
+     */
+    public static String getValue(String key, String envName, String defaultValue) {
+        String value = System.getProperty("kirini." + key);
+
+        if ((value == null || value.trim().isEmpty()) && envName != null) {
+            value = System.getenv(envName);
+        }
+
+        if (value == null || value.trim().isEmpty()) {
+            value = props.getProperty(key);
+        }
+
+        return (value == null || value.trim().isEmpty()) ? defaultValue : value.trim();
+    }
+
+    /**
+     * 정수형 설정값 조회, 숫자가 아니면 기본값 사용
+     */
+    public static int getInt(String key, String envName, int defaultValue) {
+        return (int) getLong(key, envName, defaultValue);
+    }
+
+    /**
+     * long형 설정값 조회, 숫자가 아니면 기본값 사용
+     */
+    public static long getLong(String key, String envName, long defaultValue) {
+        String value = getValue(key, envName, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            logger.warning("잘못된 설정값입니다. 기본값을 사용합니다: " + key + "=" + value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * boolean형 설정값 조회 (true/false, 그 외 값이면 기본값 사용)
+     */
+    public static boolean getBoolean(String key, String envName, boolean defaultValue) {
+        String value = getValue(key, envName, null);
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        if (value != null) {
+            logger.warning("잘못된 설정값입니다. 기본값을 사용합니다: " + key + "=" + value);
+        }
+        return defaultValue;
+    }
+
     public static String getUploadPath() {
         // 1. 시스템 속성 확인 (우선순위 높음)
         String path = System.getProperty("kirini.upload.path");
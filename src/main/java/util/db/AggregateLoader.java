@@ -0,0 +1,369 @@
+package util.db;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import util.config.AppConfig;
+import util.metrics.LatencyHistogram;
+
+/**
+ * 상세 페이지 복합 조회기 (서로 독립인 하위 조회를 가상 스레드로 동시에 실행)
+ * - 페이지 지연 시간이 하위 조회 시간의 합 대신 가장 느린 조회 시간이 됨 (조회마다 커넥션을 따로 빌림)
+ * - 조회마다 제한 시간을 두고, 넘으면 해당 가상 스레드를 인터럽트해 취소
+ *   (인터럽트로 소켓이 닫혔을 수 있으므로 취소된 조회가 빌린 커넥션은 풀에 돌려놓지 않고 폐기 - ConnectionPool.setCancellation)
+ * - 필수 조회(forkRequired)가 실패/시간 초과되면 나머지를 바로 취소하고 join()이 SQLException을 던짐
+ *   선택 조회(fork)가 실패하면 Part.orElse 의 기본값으로 페이지를 그림 (부분 실패)
+ * - try-with-resources 블록이 하위 조회의 수명 범위 (close() 시 끝나지 않은 조회를 취소)
+ *   단, JDBC 드라이버가 인터럽트에 바로 반응하지 않으면 해당 가상 스레드는 문장이 끝난 뒤 커넥션을 반납하고 종료
+ * - 하위 조회에서는 HttpServletRequest/세션을 건드리지 말고 필요한 값은 fork 전에 꺼내 둘 것
+ *
+ * 사용 예:
+ *   try (AggregateLoader loader = AggregateLoader.open("keyboard.view")) {
+ *       Part<KeyboardInfoDTO> keyboard = loader.forkRequired("keyboard", () -> service.getKeyboardInfoById(id));
+ *       Part<List<KeyboardScoreDTO>> comments = loader.fork("comments", () -> service.getKeyboardComments(id));
+ *       loader.join();
+ *       ... keyboard.get(), comments.orElse(List.of())
+ *   }
+ *
+ * 설정 키 (AppConfig): aggregate.parallel (false면 호출 스레드에서 차례로 실행),
+ *                      aggregate.required-timeout-ms, aggregate.optional-timeout-ms (조회별 기본 제한 시간)
+ *
+ * JDK 25의 StructuredTaskScope 는 아직 프리뷰(--enable-preview 필요)라 같은 범위 규칙을 직접 구현함
+ */
+public final class AggregateLoader implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(AggregateLoader.class.getName());
+
+    private static final boolean PARALLEL =
+            AppConfig.getBoolean("aggregate.parallel", "AGGREGATE_PARALLEL", true);
+    private static final long REQUIRED_TIMEOUT_MS =
+            Math.max(1, AppConfig.getLong("aggregate.required-timeout-ms", "AGGREGATE_REQUIRED_TIMEOUT_MS", 3000));
+    private static final long OPTIONAL_TIMEOUT_MS =
+            Math.max(1, AppConfig.getLong("aggregate.optional-timeout-ms", "AGGREGATE_OPTIONAL_TIMEOUT_MS", 1000));
+
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("aggregate-", 0).factory();
+
+    /**
+     * 하위 조회 상태
+     */
+    public enum State {
+        RUNNING, SUCCESS, FAILED, TIMED_OUT, CANCELLED
+    }
+
+    /**
+     * 하위 조회 하나 (join() 이후에 결과 조회)
+     */
+    public static final class Part<T> {
+        // 상태와 결과를 한 번에 확정 (시간 초과로 취소된 뒤 늦게 끝난 결과는 버림)
+        private record Outcome<T>(State state, T value, Throwable failure) { }
+
+        private final String name;
+        private final boolean required;
+        private final long deadline;
+        private final AtomicReference<Outcome<T>> outcome = new AtomicReference<>(new Outcome<>(State.RUNNING, null, null));
+        private volatile Thread thread;
+
+        private Part(String name, boolean required, long timeoutMillis) {
+            this.name = name;
+            this.required = required;
+            this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public State state() {
+            return outcome.get().state();
+        }
+
+        /**
+         * 성공한 조회 결과 (성공하지 않았으면 IllegalStateException)
+         */
+        public T get() {
+            Outcome<T> current = outcome.get();
+            if (current.state() != State.SUCCESS) {
+                throw new IllegalStateException(name + " 조회 결과 없음: " + current.state(), current.failure());
+            }
+            return current.value();
+        }
+
+        /**
+         * 성공했으면 결과, 아니면 기본값 (성공했지만 결과가 null 이어도 기본값)
+         */
+        public T orElse(T fallback) {
+            Outcome<T> current = outcome.get();
+            return current.state() == State.SUCCESS && current.value() != null ? current.value() : fallback;
+        }
+
+        public Throwable failure() {
+            return outcome.get().failure();
+        }
+
+        private boolean running() {
+            return outcome.get().state() == State.RUNNING;
+        }
+
+        private void run(Callable<T> query, LinkedBlockingQueue<Part<?>> completed) {
+            boolean ownThread = thread == Thread.currentThread();
+            if (ownThread) {
+                ConnectionPool.setCancellation(this::cancelled);
+            }
+            try {
+                settle(new Outcome<>(State.SUCCESS, query.call(), null));
+            } catch (Throwable e) {
+                settle(new Outcome<>(State.FAILED, null, e));
+            } finally {
+                if (ownThread) {
+                    ConnectionPool.setCancellation(null);
+                }
+                completed.offer(this);
+            }
+        }
+
+        private boolean cancelled() {
+            State state = outcome.get().state();
+            return state == State.TIMED_OUT || state == State.CANCELLED;
+        }
+
+        private boolean settle(Outcome<T> result) {
+            Outcome<T> current = outcome.get();
+            return current.state() == State.RUNNING && outcome.compareAndSet(current, result);
+        }
+
+        // 상태를 먼저 확정한 뒤 인터럽트 (그 뒤에 반환되는 커넥션은 cancelled()로 폐기됨)
+        private void cancel(State state) {
+            if (settle(new Outcome<>(state, null, null))) {
+                Thread running = thread;
+                if (running != null) {
+                    running.interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * 페이지별 통계
+     */
+    private static final class PageStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder loads = new LongAdder();
+        final LongAdder requiredFailures = new LongAdder();
+        final LongAdder partialFailures = new LongAdder();
+        final Map<String, LongAdder> timeouts = new ConcurrentHashMap<>();
+        final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    }
+
+    private static final Map<String, PageStats> pages = new ConcurrentHashMap<>();
+
+    private final String page;
+    private final PageStats stats;
+    private final long startNanos = System.nanoTime();
+    private final List<Part<?>> parts = new ArrayList<>();
+    private final LinkedBlockingQueue<Part<?>> completed = new LinkedBlockingQueue<>();
+    private boolean joined;
+
+    private AggregateLoader(String page) {
+        this.page = page;
+        this.stats = pages.computeIfAbsent(page, key -> new PageStats());
+    }
+
+    /**
+     * 복합 조회 시작
+     *
+     * @param page 통계에 쓸 페이지 이름 (예: keyboard.view)
+     */
+    public static AggregateLoader open(String page) {
+        return new AggregateLoader(page);
+    }
+
+    /**
+     * 선택 조회 (실패/시간 초과 시 기본값으로 대체)
+     */
+    public <T> Part<T> fork(String name, Callable<T> query) {
+        return fork(name, false, OPTIONAL_TIMEOUT_MS, query);
+    }
+
+    public <T> Part<T> fork(String name, long timeoutMillis, Callable<T> query) {
+        return fork(name, false, timeoutMillis, query);
+    }
+
+    /**
+     * 필수 조회 (실패/시간 초과 시 나머지를 취소하고 join()이 예외를 던짐)
+     */
+    public <T> Part<T> forkRequired(String name, Callable<T> query) {
+        return fork(name, true, REQUIRED_TIMEOUT_MS, query);
+    }
+
+    public <T> Part<T> forkRequired(String name, long timeoutMillis, Callable<T> query) {
+        return fork(name, true, timeoutMillis, query);
+    }
+
+    private <T> Part<T> fork(String name, boolean required, long timeoutMillis, Callable<T> query) {
+        if (joined) {
+            throw new IllegalStateException("join() 이후에는 조회를 추가할 수 없습니다: " + name);
+        }
+        Part<T> part = new Part<>(name, required, timeoutMillis);
+        parts.add(part);
+        if (PARALLEL) {
+            Thread thread = THREAD_FACTORY.newThread(() -> part.run(query, completed));
+            part.thread = thread;
+            thread.start();
+        } else if (requiredFailed()) {
+            // 차례로 실행할 때는 필수 조회가 이미 실패했으면 나머지를 실행하지 않음
+            part.cancel(State.CANCELLED);
+            completed.offer(part);
+        } else {
+            part.run(query, completed);
+        }
+        return part;
+    }
+
+    /**
+     * 모든 하위 조회가 끝나거나 제한 시간이 지날 때까지 대기
+     *
+     * @throws SQLException 필수 조회가 실패했거나(SQLTimeoutException: 시간 초과) 대기 중 인터럽트된 경우
+     */
+    public void join() throws SQLException {
+        joined = true;
+        int pending = parts.size();
+        try {
+            while (pending > 0) {
+                Part<?> done = completed.poll(nextDeadline() - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done != null) {
+                    pending--;
+                    if (done.required && done.state() != State.SUCCESS) {
+                        throw requiredFailure(done);
+                    }
+                    continue;
+                }
+                // 제한 시간이 지난 조회 취소 (완료 큐에는 스레드가 끝날 때 들어오므로 pending은 그대로)
+                long now = System.nanoTime();
+                for (Part<?> part : parts) {
+                    if (part.running() && part.deadline - now <= 0) {
+                        part.cancel(State.TIMED_OUT);
+                        if (part.required) {
+                            throw requiredFailure(part);
+                        }
+                    }
+                }
+                if (allSettled()) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(page + " 복합 조회 대기 중 인터럽트", e);
+        }
+    }
+
+    private long nextDeadline() {
+        long next = Long.MAX_VALUE;
+        boolean found = false;
+        for (Part<?> part : parts) {
+            if (part.running() && (!found || part.deadline - next < 0)) {
+                next = part.deadline;
+                found = true;
+            }
+        }
+        return found ? next : System.nanoTime();
+    }
+
+    private boolean requiredFailed() {
+        for (Part<?> part : parts) {
+            if (part.required && part.state() != State.SUCCESS && !part.running()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean allSettled() {
+        for (Part<?> part : parts) {
+            if (part.running()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private SQLException requiredFailure(Part<?> part) {
+        cancelRunning();
+        stats.requiredFailures.increment();
+        if (part.state() == State.TIMED_OUT) {
+            return new SQLTimeoutException(page + " 필수 조회 시간 초과: " + part.name);
+        }
+        return new SQLException(page + " 필수 조회 실패: " + part.name, part.failure());
+    }
+
+    private void cancelRunning() {
+        for (Part<?> part : parts) {
+            part.cancel(State.CANCELLED);
+        }
+    }
+
+    /**
+     * 끝나지 않은 조회를 취소하고 통계 기록
+     */
+    @Override
+    public void close() {
+        cancelRunning();
+        boolean partial = false;
+        for (Part<?> part : parts) {
+            State state = part.state();
+            if (state == State.TIMED_OUT) {
+                stats.timeouts.computeIfAbsent(part.name, key -> new LongAdder()).increment();
+                partial |= !part.required;
+            } else if (state == State.FAILED) {
+                stats.failures.computeIfAbsent(part.name, key -> new LongAdder()).increment();
+                partial |= !part.required;
+                logger.warning(page + " 하위 조회 실패: " + part.name + " - " + part.failure());
+            }
+        }
+        if (partial) {
+            stats.partialFailures.increment();
+        }
+        stats.loads.increment();
+        stats.latency.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 페이지별 복합 조회 통계 (지연 시간 분포, 부분 실패/필수 실패 수, 하위 조회별 시간 초과/실패 수)
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("parallel", PARALLEL);
+        result.put("requiredTimeoutMs", REQUIRED_TIMEOUT_MS);
+        result.put("optionalTimeoutMs", OPTIONAL_TIMEOUT_MS);
+        Map<String, Object> byPage = new LinkedHashMap<>();
+        pages.forEach((page, stats) -> {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("loads", stats.loads.sum());
+            item.put("partialFailures", stats.partialFailures.sum());
+            item.put("requiredFailures", stats.requiredFailures.sum());
+            item.put("latency", stats.latency.toMap());
+            item.put("timeouts", sums(stats.timeouts));
+            item.put("failures", sums(stats.failures));
+            byPage.put(page, item);
+        });
+        result.put("pages", byPage);
+        return result;
+    }
+
+    private static Map<String, Long> sums(Map<String, LongAdder> counters) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counters.forEach((name, counter) -> result.put(name, counter.sum()));
+        return result;
+    }
+}
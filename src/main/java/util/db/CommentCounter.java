@@ -0,0 +1,240 @@
+package util.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import util.config.AppConfig;
+
+/**
+ * 게시글 댓글 수 비정규화 카운터
+ * - 목록 조회마다 게시글별 COUNT(*) 서브쿼리를 실행하지 않도록 게시글 행에 댓글 수를 저장
+ *   (freeboard.freeboard_comment_count, news.news_comment_count, inquiry.inquiry_comment_count)
+ * - 댓글 등록/삭제/복원 시 같은 트랜잭션 안에서 adjust로 증감
+ * - 직접 SQL 수정 등으로 생긴 오차는 주기적인 대조 작업(reconcile)이 게시글 ID 구간 단위로 바로잡음
+ *
+ * 설정 키 (AppConfig): comment.reconcile-interval-ms (0이면 주기 실행 안 함), comment.reconcile-chunk-size
+ */
+public final class CommentCounter {
+
+    private static final Logger logger = Logger.getLogger(CommentCounter.class.getName());
+
+    /**
+     * 댓글 수를 관리하는 게시판
+     * 문의 게시판은 별도 댓글 테이블 없이 inquiry_parent_uid로 연결된 답변을 댓글로 셈
+     */
+    public enum Board {
+        FREEBOARD("freeboard", "freeboard_uid", "freeboard_comment_count",
+                "SELECT freeboard_uid AS post_uid, COUNT(*) AS cnt FROM freeboard_comment "
+                        + "WHERE freeboard_uid BETWEEN ? AND ? GROUP BY freeboard_uid",
+                "SELECT freeboard_uid FROM freeboard_comment WHERE freeboard_comment_uid = ?"),
+        NEWS("news", "news_uid", "news_comment_count",
+                "SELECT news_uid AS post_uid, COUNT(*) AS cnt FROM news_comment "
+                        + "WHERE news_uid BETWEEN ? AND ? GROUP BY news_uid",
+                "SELECT news_uid FROM news_comment WHERE news_comment_uid = ?"),
+        INQUIRY("inquiry", "inquiry_uid", "inquiry_comment_count",
+                "SELECT inquiry_parent_uid AS post_uid, COUNT(*) AS cnt FROM inquiry "
+                        + "WHERE inquiry_parent_uid BETWEEN ? AND ? AND inquiry_deleted = 'maintained' "
+                        + "GROUP BY inquiry_parent_uid",
+                "SELECT inquiry_parent_uid FROM inquiry WHERE inquiry_uid = ?");
+
+        private final String table;
+        private final String idColumn;
+        private final String countColumn;
+        private final String countSql;
+        private final String parentOfCommentSql;
+
+        Board(String table, String idColumn, String countColumn, String countSql, String parentOfCommentSql) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.countColumn = countColumn;
+            this.countSql = countSql;
+            this.parentOfCommentSql = parentOfCommentSql;
+        }
+    }
+
+    private static final long RECONCILE_INTERVAL_MS =
+            Math.max(0, AppConfig.getLong("comment.reconcile-interval-ms", "COMMENT_RECONCILE_INTERVAL_MS", 3600000));
+    private static final int CHUNK_SIZE =
+            Math.max(100, AppConfig.getInt("comment.reconcile-chunk-size", "COMMENT_RECONCILE_CHUNK_SIZE", 5000));
+
+    private static final ReentrantLock reconcileLock = new ReentrantLock();
+    private static volatile ScheduledExecutorService scheduler;
+
+    // 통계
+    private static final LongAdder adjustCount = new LongAdder();
+    private static final LongAdder reconcileRuns = new LongAdder();
+    private static final LongAdder reconcileFailures = new LongAdder();
+    private static final Map<Board, Long> lastFixedRows = new EnumMap<>(Board.class);
+    private static volatile long lastReconcileAt;
+    private static volatile long lastReconcileMillis;
+
+    private CommentCounter() {
+    }
+
+    /**
+     * 게시글의 댓글 수 증감 (호출한 쪽의 커넥션/트랜잭션에서 실행)
+     *
+     * @param conn 댓글 INSERT/DELETE와 같은 커넥션
+     * @param board 게시판
+     * @param postId 게시글 ID
+     * @param delta 증감량 (댓글 등록 +1, 삭제 -1)
+     * @throws SQLException 갱신 실패 시 (호출한 쪽에서 롤백)
+     */
+    public static void adjust(Connection conn, Board board, long postId, int delta) throws SQLException {
+        String sql = "UPDATE " + board.table + " SET " + board.countColumn + " = GREATEST(" + board.countColumn
+                + " + ?, 0) WHERE " + board.idColumn + " = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, delta);
+            pstmt.setLong(2, postId);
+            pstmt.executeUpdate();
+        }
+        adjustCount.increment();
+    }
+
+    /**
+     * 댓글 ID로 게시글을 찾아 댓글 수 증감 (댓글 복원처럼 게시글 ID를 모르는 경우)
+     *
+     * @return 게시글을 찾았는지 여부
+     */
+    public static boolean adjustByComment(Connection conn, Board board, long commentId, int delta) throws SQLException {
+        long postId;
+        try (PreparedStatement pstmt = conn.prepareStatement(board.parentOfCommentSql)) {
+            pstmt.setLong(1, commentId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next() || rs.getObject(1) == null) {
+                    return false;
+                }
+                postId = rs.getLong(1);
+            }
+        }
+        adjust(conn, board, postId, delta);
+        return true;
+    }
+
+    /**
+     * 전체 게시판의 저장된 댓글 수를 실제 댓글 수와 대조해 바로잡음
+     * 게시글 ID 구간(comment.reconcile-chunk-size)마다 짧은 트랜잭션으로 나눠 실행해 잠금 시간을 줄임
+     *
+     * @return 게시판별 수정된 게시글 수 또는 오류 메시지
+     */
+    public static Map<String, Object> reconcileAll() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        reconcileLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            for (Board board : Board.values()) {
+                try {
+                    long fixed = reconcile(board);
+                    synchronized (lastFixedRows) {
+                        lastFixedRows.put(board, fixed);
+                    }
+                    result.put(board.name(), fixed);
+                } catch (SQLException e) {
+                    reconcileFailures.increment();
+                    logger.log(Level.WARNING, "댓글 수 대조 실패: " + board, e);
+                    result.put(board.name(), "실패: " + e.getMessage());
+                }
+            }
+            reconcileRuns.increment();
+            lastReconcileAt = System.currentTimeMillis();
+            lastReconcileMillis = lastReconcileAt - start;
+            return result;
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    /**
+     * 게시판 하나의 댓글 수 대조
+     *
+     * @return 댓글 수가 달라 수정한 게시글 수
+     */
+    public static long reconcile(Board board) throws SQLException {
+        // 구간 안에서 실제 댓글 수를 집계(GROUP BY로 임시 테이블이 만들어지므로 자기 참조 UPDATE도 가능)해 다른 행만 갱신
+        String sql = "UPDATE " + board.table + " p LEFT JOIN (" + board.countSql + ") c ON c.post_uid = p."
+                + board.idColumn + " SET p." + board.countColumn + " = COALESCE(c.cnt, 0) "
+                + "WHERE p." + board.idColumn + " BETWEEN ? AND ? AND p." + board.countColumn + " <> COALESCE(c.cnt, 0)";
+
+        long fixed = 0;
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            long maxId;
+            try (PreparedStatement pstmt = conn.prepareStatement("SELECT MAX(" + board.idColumn + ") FROM " + board.table);
+                 ResultSet rs = pstmt.executeQuery()) {
+                maxId = rs.next() ? rs.getLong(1) : 0;
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (long from = 1; from <= maxId; from += CHUNK_SIZE) {
+                    long to = from + CHUNK_SIZE - 1;
+                    pstmt.setLong(1, from);
+                    pstmt.setLong(2, to);
+                    pstmt.setLong(3, from);
+                    pstmt.setLong(4, to);
+                    fixed += pstmt.executeUpdate();
+                }
+            }
+        }
+        if (fixed > 0) {
+            logger.info("댓글 수 대조: " + board + " 게시글 " + fixed + "건 수정");
+        }
+        return fixed;
+    }
+
+    /**
+     * 주기적인 대조 작업 시작 (애플리케이션 시작 시 한 번 호출)
+     */
+    public static synchronized void start() {
+        if (scheduler != null || RECONCILE_INTERVAL_MS == 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "kirini-comment-reconciler");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(CommentCounter::reconcileAll,
+                RECONCILE_INTERVAL_MS, RECONCILE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대조 작업 스레드 종료 (커넥션 풀 종료 전에 호출)
+     */
+    public static synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 카운터 통계
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("reconcileIntervalMs", RECONCILE_INTERVAL_MS);
+        stats.put("chunkSize", CHUNK_SIZE);
+        stats.put("adjustments", adjustCount.sum());
+        stats.put("reconcileRuns", reconcileRuns.sum());
+        stats.put("reconcileFailures", reconcileFailures.sum());
+        stats.put("lastReconcileAt", lastReconcileAt);
+        stats.put("lastReconcileMillis", lastReconcileMillis);
+        Map<String, Object> fixed = new LinkedHashMap<>();
+        synchronized (lastFixedRows) {
+            lastFixedRows.forEach((board, rows) -> fixed.put(board.name(), rows));
+        }
+        stats.put("lastFixedRows", fixed);
+        return stats;
+    }
+}
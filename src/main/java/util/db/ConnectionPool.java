@@ -0,0 +1,514 @@
+package util.db;
+
+import java.lang.ref.Cleaner;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import util.config.AppConfig;
+import util.metrics.LatencyHistogram;
+
+/**
+ * 레거시 DAO용 JDBC 커넥션 풀
+ * - 동시에 대여 가능한 커넥션 수를 세마포어로 제한하고, 초과 요청은 타임아웃까지 대기
+ * - 오래 쉬고 있던 커넥션은 대여 전에 isValid()로 검증
+ * - 반환되지 않는 커넥션은 대여 시점의 스택을 로그로 남겨 누수 위치를 추적
+ * - 대여된 커넥션은 프록시로 감싸서 close() 호출 시 물리 커넥션을 닫지 않고 풀에 반환
+ * - close() 없이 참조가 사라진 커넥션은 GC 시점에 회수하여 풀 고갈을 방지
+ * - 인터럽트로 취소되는 작업 스레드가 빌린 커넥션은 취소 후 반환되면 폐기 (setCancellation)
+ *
+ * 설정은 AppConfig를 통해 시스템 속성 / 환경 변수(DB_POOL_*) / config.properties 순으로 읽습니다.
+ */
+public class ConnectionPool {
+    // DB 로그 핸들러(LoggerConfig)가 다시 풀을 사용하므로 콘솔 전용 로거 사용
+    private static final Logger logger = Logger.getLogger(ConnectionPool.class.getName());
+
+    // close()되지 않은 채 버려진 커넥션 프록시 회수용
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    // 현재 스레드 작업의 취소 여부 (대여 시 Lease에 붙여 두고 반환 시 확인)
+    private static final ThreadLocal<BooleanSupplier> CANCELLATION = new ThreadLocal<>();
+
+    private final String url;
+    private final String user;
+    private final String password;
+
+    private final int maxPoolSize;
+    private final int minIdle;
+    private final long connectionTimeoutMs;
+    private final long validationIntervalMs;
+    private final int validationTimeoutSeconds;
+    private final long idleTimeoutMs;
+    private final long maxLifetimeMs;
+    private final long leakDetectionThresholdMs;
+
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PhysicalConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    private final Set<Lease> activeLeases = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicInteger waitingThreads = new AtomicInteger();
+
+    // 통계
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireTimeouts = new LongAdder();
+    private final LongAdder connectionsCreated = new LongAdder();
+    private final LongAdder connectionsClosed = new LongAdder();
+    private final LongAdder validationFailures = new LongAdder();
+    private final LongAdder leaksDetected = new LongAdder();
+    private final LongAdder abandonedReclaimed = new LongAdder();
+    private final LongAdder cancelledDiscarded = new LongAdder();
+
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean shutdown = false;
+
+    /**
+     * 커넥션 풀 생성
+     *
+     * @param url JDBC URL
+     * @param user DB 사용자
+     * @param password DB 비밀번호
+     */
+    public ConnectionPool(String url, String user, String password) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+
+        this.maxPoolSize = Math.max(1, AppConfig.getInt("db.pool.max-size", "DB_POOL_MAX_SIZE", 20));
+        this.minIdle = Math.min(maxPoolSize, AppConfig.getInt("db.pool.min-idle", "DB_POOL_MIN_IDLE", 2));
+        this.connectionTimeoutMs = AppConfig.getLong("db.pool.connection-timeout-ms", "DB_POOL_CONNECTION_TIMEOUT_MS", 10_000);
+        this.validationIntervalMs = AppConfig.getLong("db.pool.validation-interval-ms", "DB_POOL_VALIDATION_INTERVAL_MS", 5_000);
+        this.validationTimeoutSeconds = AppConfig.getInt("db.pool.validation-timeout-sec", "DB_POOL_VALIDATION_TIMEOUT_SEC", 3);
+        this.idleTimeoutMs = AppConfig.getLong("db.pool.idle-timeout-ms", "DB_POOL_IDLE_TIMEOUT_MS", 600_000);
+        this.maxLifetimeMs = AppConfig.getLong("db.pool.max-lifetime-ms", "DB_POOL_MAX_LIFETIME_MS", 1_800_000);
+        this.leakDetectionThresholdMs = AppConfig.getLong("db.pool.leak-detection-ms", "DB_POOL_LEAK_DETECTION_MS", 60_000);
+
+        this.permits = new Semaphore(maxPoolSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "kirini-db-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = leakDetectionThresholdMs > 0 ? Math.min(30_000, Math.max(1_000, leakDetectionThresholdMs / 2)) : 30_000;
+        housekeeper.scheduleWithFixedDelay(this::houseKeep, period, period, TimeUnit.MILLISECONDS);
+
+        logger.info("DB 커넥션 풀 초기화: 최대=" + maxPoolSize + ", 최소 유휴=" + minIdle
+                + ", 획득 타임아웃=" + connectionTimeoutMs + "ms, 누수 감지=" + leakDetectionThresholdMs + "ms");
+    }
+
+    /**
+     * 풀에서 커넥션 대여
+     * 사용 후 반드시 close()를 호출해야 풀에 반환됩니다.
+     *
+     * @return 풀에서 관리하는 Connection 프록시
+     * @throws SQLException 획득 시간 초과 또는 연결 실패 시
+     */
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("커넥션 풀이 종료되었습니다.");
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        waitingThreads.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(connectionTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 대기 중 인터럽트가 발생했습니다.", e);
+        } finally {
+            waitingThreads.decrementAndGet();
+        }
+
+        if (!acquired) {
+            acquireTimeouts.increment();
+            throw new SQLTimeoutException("커넥션 획득 시간 초과 (" + connectionTimeoutMs + "ms, 사용중="
+                    + activeLeases.size() + ", 최대=" + maxPoolSize + ", 대기=" + waitingThreads.get() + ")");
+        }
+
+        try {
+            PhysicalConnection physical = takeIdleOrCreate();
+            Exception borrowSite = leakDetectionThresholdMs > 0 ? new Exception("커넥션 대여 위치") : null;
+            Lease lease = new Lease(physical, borrowSite);
+            Connection proxy = (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, lease);
+            // 회수 작업은 프록시가 아닌 Lease만 참조해야 프록시가 GC 대상이 될 수 있음
+            lease.cleanable = CLEANER.register(proxy, new AbandonedLeaseReclaimer(lease));
+            activeLeases.add(lease);
+
+            acquireCount.increment();
+            acquireLatency.record(System.nanoTime() - start);
+            return proxy;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 스레드가 이후 대여하는 커넥션에 취소 여부 확인 함수를 붙임 (null이면 해제)
+     * 반환 시점에 취소된 상태면 재사용하지 않고 폐기 - 블로킹 소켓 읽기 중 인터럽트되면 JDBC 드라이버가 소켓을 닫는데,
+     * 08 SQLState가 Statement 쪽에서만 나거나 유휴 검증 간격 안에 다시 대여되면 닫힌 커넥션이 재사용될 수 있음
+     *
+     * @param cancelled 작업이 취소되었으면 true를 돌려주는 함수 (인터럽트하기 전에 true가 되어야 함)
+     */
+    public static void setCancellation(BooleanSupplier cancelled) {
+        if (cancelled == null) {
+            CANCELLATION.remove();
+        } else {
+            CANCELLATION.set(cancelled);
+        }
+    }
+
+    /**
+     * 유휴 커넥션을 꺼내거나 없으면 새로 생성
+     * 세마포어를 획득한 상태에서만 호출되므로 전체 커넥션 수는 maxPoolSize를 넘지 않음
+     */
+    private PhysicalConnection takeIdleOrCreate() throws SQLException {
+        PhysicalConnection candidate;
+        while ((candidate = idleConnections.pollFirst()) != null) {
+            if (isUsable(candidate)) {
+                return candidate;
+            }
+            closePhysical(candidate);
+        }
+        return createPhysical();
+    }
+
+    /**
+     * 유휴 커넥션 사용 가능 여부 확인
+     * 최대 수명을 넘었거나, 검증 주기 이상 쉬었는데 isValid()에 실패하면 폐기 대상
+     */
+    private boolean isUsable(PhysicalConnection physical) {
+        long now = System.currentTimeMillis();
+        if (physical.isExpired(now, maxLifetimeMs)) {
+            return false;
+        }
+        if (now - physical.lastReturnedAt < validationIntervalMs) {
+            return true;
+        }
+        try {
+            if (physical.connection.isValid(validationTimeoutSeconds)) {
+                return true;
+            }
+        } catch (SQLException e) {
+            logger.fine("유휴 커넥션 검증 중 오류: " + e.getMessage());
+        }
+        validationFailures.increment();
+        logger.warning("유휴 커넥션 검증 실패로 폐기합니다.");
+        return false;
+    }
+
+    private PhysicalConnection createPhysical() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, user, password);
+        totalConnections.incrementAndGet();
+        connectionsCreated.increment();
+        return new PhysicalConnection(connection);
+    }
+
+    private void closePhysical(PhysicalConnection physical) {
+        totalConnections.decrementAndGet();
+        connectionsClosed.increment();
+        try {
+            physical.connection.close();
+        } catch (SQLException e) {
+            logger.fine("물리 커넥션 종료 중 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 대여한 커넥션 반환 처리 (프록시의 close()에서 호출)
+     */
+    private void release(Lease lease) {
+        activeLeases.remove(lease);
+        PhysicalConnection physical = lease.physical;
+
+        if (lease.leakReported) {
+            logger.info("누수 의심으로 보고된 커넥션이 반환되었습니다. (대여 후 "
+                    + (System.currentTimeMillis() - lease.borrowedAt) + "ms)");
+        }
+
+        if (lease.cancelled != null && lease.cancelled.getAsBoolean()) {
+            physical.broken = true;
+            cancelledDiscarded.increment();
+        }
+
+        long now = System.currentTimeMillis();
+        boolean reusable = !shutdown && !physical.broken && resetState(lease) && !physical.isExpired(now, maxLifetimeMs);
+        if (reusable) {
+            physical.lastReturnedAt = now;
+            // 가장 최근에 반환된 커넥션을 먼저 재사용 (LIFO)
+            idleConnections.offerFirst(physical);
+        } else {
+            closePhysical(physical);
+        }
+        permits.release();
+    }
+
+    /**
+     * 다음 대여자를 위해 커넥션 상태 초기화
+     * DAO가 닫지 않은 Statement 정리, 미완료 트랜잭션 롤백, autoCommit/readOnly 복구
+     *
+     * @return 재사용 가능하면 true
+     */
+    private boolean resetState(Lease lease) {
+        Connection connection = lease.physical.connection;
+        try {
+            for (Statement statement : lease.openStatements) {
+                try {
+                    if (!statement.isClosed()) {
+                        statement.close();
+                    }
+                } catch (SQLException e) {
+                    logger.fine("미반환 Statement 정리 중 오류: " + e.getMessage());
+                }
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            if (connection.isReadOnly()) {
+                connection.setReadOnly(false);
+            }
+            connection.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            logger.warning("반환된 커넥션 상태 초기화 실패로 폐기합니다: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 주기적 정리 작업
+     * - 누수 의심 커넥션 보고
+     * - 유휴 시간/최대 수명을 넘긴 유휴 커넥션 정리 (최소 유휴 수는 유지)
+     */
+    private void houseKeep() {
+        try {
+            long now = System.currentTimeMillis();
+
+            if (leakDetectionThresholdMs > 0) {
+                for (Lease lease : activeLeases) {
+                    if (!lease.leakReported && now - lease.borrowedAt > leakDetectionThresholdMs) {
+                        lease.leakReported = true;
+                        leaksDetected.increment();
+                        logger.log(Level.WARNING, "커넥션 누수 의심: " + (now - lease.borrowedAt)
+                                + "ms 동안 반환되지 않았습니다. 대여 스레드=" + lease.borrowerThread, lease.borrowSite);
+                    }
+                }
+            }
+
+            for (PhysicalConnection physical : idleConnections) {
+                boolean expired = physical.isExpired(now, maxLifetimeMs);
+                boolean idleTooLong = idleConnections.size() > minIdle && now - physical.lastReturnedAt > idleTimeoutMs;
+                // remove()가 성공한 경우에만 닫음 (동시에 대여된 커넥션은 건드리지 않음)
+                if ((expired || idleTooLong) && idleConnections.remove(physical)) {
+                    closePhysical(physical);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "커넥션 풀 정리 작업 중 오류", e);
+        }
+    }
+
+    /**
+     * 풀 상태 및 통계 조회
+     *
+     * @return 사용중/유휴/대기 커넥션 수와 획득 지연 시간 분포
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("active", activeLeases.size());
+        stats.put("idle", idleConnections.size());
+        stats.put("waiting", waitingThreads.get());
+        stats.put("total", totalConnections.get());
+        stats.put("maxPoolSize", maxPoolSize);
+        stats.put("minIdle", minIdle);
+        stats.put("acquireCount", acquireCount.sum());
+        stats.put("acquireTimeouts", acquireTimeouts.sum());
+        stats.put("connectionsCreated", connectionsCreated.sum());
+        stats.put("connectionsClosed", connectionsClosed.sum());
+        stats.put("validationFailures", validationFailures.sum());
+        stats.put("leaksDetected", leaksDetected.sum());
+        stats.put("abandonedReclaimed", abandonedReclaimed.sum());
+        stats.put("cancelledDiscarded", cancelledDiscarded.sum());
+        stats.put("acquireLatency", acquireLatency.toMap());
+        return stats;
+    }
+
+    public int getActiveCount() {
+        return activeLeases.size();
+    }
+
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    public int getWaitingCount() {
+        return waitingThreads.get();
+    }
+
+    /**
+     * 풀 종료 - 유휴 커넥션을 모두 닫고 이후 반환되는 커넥션도 닫음
+     */
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        housekeeper.shutdownNow();
+
+        PhysicalConnection physical;
+        while ((physical = idleConnections.pollFirst()) != null) {
+            closePhysical(physical);
+        }
+        if (!activeLeases.isEmpty()) {
+            logger.warning("커넥션 풀 종료 시점에 반환되지 않은 커넥션: " + activeLeases.size() + "개");
+        }
+        logger.info("DB 커넥션 풀이 종료되었습니다.");
+    }
+
+    /**
+     * 실제 DB 커넥션과 풀 관리용 메타 정보
+     */
+    private static final class PhysicalConnection {
+        private final Connection connection;
+        private final long createdAt = System.currentTimeMillis();
+        private volatile long lastReturnedAt = createdAt;
+        private volatile boolean broken = false;
+
+        private PhysicalConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        private boolean isExpired(long now, long maxLifetimeMs) {
+            return maxLifetimeMs > 0 && now - createdAt > maxLifetimeMs;
+        }
+    }
+
+    /**
+     * 커넥션 1회 대여 단위
+     * 대여할 때마다 새 프록시를 만들어서, 반환 후 남은 참조로는 다음 대여자의 커넥션을 건드릴 수 없음
+     */
+    private final class Lease implements InvocationHandler {
+        private final PhysicalConnection physical;
+        private final Exception borrowSite;
+        private final String borrowerThread = Thread.currentThread().getName();
+        private final long borrowedAt = System.currentTimeMillis();
+        private final BooleanSupplier cancelled = CANCELLATION.get();
+        private final List<Statement> openStatements = new ArrayList<>();
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private volatile Cleaner.Cleanable cleanable;
+        private volatile boolean leakReported = false;
+
+        private Lease(PhysicalConnection physical, Exception borrowSite) {
+            this.physical = physical;
+            this.borrowSite = borrowSite;
+        }
+
+        /**
+         * 한 번만 풀에 반환되도록 보장
+         */
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(this);
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxyInstance, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    close();
+                    Cleaner.Cleanable registered = cleanable;
+                    if (registered != null) {
+                        registered.clean();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed.get() || physical.connection.isClosed();
+                case "equals":
+                    return proxyInstance == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxyInstance);
+                case "toString":
+                    return "PooledConnection[" + physical.connection + "]";
+                case "abort":
+                    physical.broken = true;
+                    break;
+                default:
+                    break;
+            }
+
+            if (closed.get()) {
+                throw new SQLException("이미 풀에 반환된 커넥션입니다: " + method.getName());
+            }
+
+            try {
+                Object result = method.invoke(physical.connection, args);
+                if (result instanceof Statement) {
+                    openStatements.add((Statement) result);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                // SQLState 08xxx: 연결 자체의 오류이므로 반환 시 폐기
+                if (cause instanceof SQLException) {
+                    String state = ((SQLException) cause).getSQLState();
+                    if (state != null && state.startsWith("08")) {
+                        physical.broken = true;
+                    }
+                }
+                throw cause;
+            }
+        }
+    }
+
+    /**
+     * close() 없이 버려진 커넥션 회수
+     * 남아 있는 Statement가 재사용된 커넥션에 접근하지 않도록 물리 커넥션은 닫아서 폐기
+     */
+    private final class AbandonedLeaseReclaimer implements Runnable {
+        private final Lease lease;
+
+        private AbandonedLeaseReclaimer(Lease lease) {
+            this.lease = lease;
+        }
+
+        @Override
+        public void run() {
+            if (lease.closed.get()) {
+                return;
+            }
+            lease.physical.broken = true;
+            abandonedReclaimed.increment();
+            logger.log(Level.WARNING, "close()되지 않고 버려진 커넥션을 회수했습니다. 대여 스레드=" + lease.borrowerThread,
+                    lease.borrowSite);
+            lease.close();
+        }
+    }
+}
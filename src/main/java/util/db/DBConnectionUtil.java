@@ -1,13 +1,15 @@
 package util.db;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Map;
 
 /**
  * 데이터베이스 연결을 관리하는 유틸리티 클래스
+ * 커넥션은 ConnectionPool에서 대여하며, close() 호출 시 풀로 반환됩니다.
+ * 대여한 커넥션은 SqlProfiler 프록시로 감싸 SQL 템플릿별 실행 시간을 집계합니다.
  */
 public class DBConnectionUtil {
     
@@ -17,7 +19,9 @@ public class DBConnectionUtil {
     private static final String USER = System.getenv("DB_USER");
     private static final String PASSWORD = System.getenv("DB_PASSWORD");
     
-    // 정적 초기화 블록으로 드라이버 로드
+    private static final ConnectionPool pool;
+    
+    // 정적 초기화 블록으로 드라이버 로드 및 커넥션 풀 생성
     static {
         try {
             Class.forName(DRIVER);
@@ -25,15 +29,40 @@ public class DBConnectionUtil {
             e.printStackTrace();
             throw new RuntimeException("DB 드라이버 로드 실패", e);
         }
+        pool = new ConnectionPool(URL, USER, PASSWORD);
     }
     
     /**
      * 데이터베이스 연결 객체 반환
-     * @return Connection 객체
-     * @throws SQLException 연결 실패 시 예외 발생
+     * @return 커넥션 풀에서 대여한 Connection 객체 (close() 시 풀로 반환)
+     * @throws SQLException 연결 실패 또는 획득 시간 초과 시 예외 발생
      */
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USER, PASSWORD);
+        return SqlProfiler.wrap(pool.getConnection());
+    }
+
+    /**
+     * SQL 템플릿별 실행 통계 (느린 문장 목록 포함)
+     * @param limit 총 실행 시간이 긴 순으로 보여줄 템플릿 수
+     * @return SQL 실행 통계
+     */
+    public static Map<String, Object> getSqlStats(int limit) {
+        return SqlProfiler.getStats(limit);
+    }
+    
+    /**
+     * 커넥션 풀 상태 조회 (사용중/유휴/대기 수, 획득 지연 시간)
+     * @return 풀 통계 정보
+     */
+    public static Map<String, Object> getPoolStats() {
+        return pool.getStats();
+    }
+    
+    /**
+     * 커넥션 풀 종료 (애플리케이션 종료 시 호출)
+     */
+    public static void shutdown() {
+        pool.shutdown();
     }
     
     /**
@@ -0,0 +1,281 @@
+package util.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DAO 공용 JDBC 실행기
+ * - 커넥션/문장/결과셋은 호출마다 try-with-resources 로 열고 닫음 (DAO에 상태를 두지 않으므로
+ *   컨트롤러마다 하나뿐인 DAO 인스턴스를 여러 요청 스레드가 동시에 써도 서로의 커넥션을 덮어쓰지 않음)
+ * - 행 변환은 RowMapper 람다로 전달 (변환한 행 수는 SqlProfiler 에 반환 행 수로 보고)
+ * - 파라미터는 가변 인자로 순서대로 바인딩 (null, LocalDateTime, LocalDate, java.util.Date, enum 처리)
+ * - 여러 문장을 한 커넥션/트랜잭션으로 묶을 때는 execute / inTransaction 콜백 안에서
+ *   커넥션을 받는 static 메소드(query(conn, ...), update(conn, ...))를 사용
+ *
+ * 기본 인스턴스는 DBConnectionUtil 커넥션 풀을 사용하며, 테스트에서는 다른 커넥션 공급자로 생성
+ */
+public class JdbcTemplate {
+
+    /** 커넥션 공급자 */
+    @FunctionalInterface
+    public interface ConnectionSource {
+        Connection getConnection() throws SQLException;
+    }
+
+    /** 결과셋 한 행 -> 객체 */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T mapRow(ResultSet rs) throws SQLException;
+    }
+
+    /** 파라미터 직접 바인딩 (가변 인자로 표현하기 어려운 경우) */
+    @FunctionalInterface
+    public interface StatementBinder {
+        void bind(PreparedStatement pstmt) throws SQLException;
+    }
+
+    /** 한 커넥션으로 여러 문장 실행 */
+    @FunctionalInterface
+    public interface ConnectionCallback<T> {
+        T doInConnection(Connection conn) throws SQLException;
+    }
+
+    // 메소드 참조이므로 실제로 커넥션을 요청할 때까지 DBConnectionUtil(풀)을 초기화하지 않음
+    private static final JdbcTemplate DEFAULT = new JdbcTemplate(DBConnectionUtil::getConnection);
+
+    private final ConnectionSource connectionSource;
+
+    public JdbcTemplate(ConnectionSource connectionSource) {
+        this.connectionSource = connectionSource;
+    }
+
+    /**
+     * DBConnectionUtil 커넥션 풀을 쓰는 기본 인스턴스
+     */
+    public static JdbcTemplate getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 여러 행 조회
+     */
+    public <T> List<T> query(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        try (Connection conn = connectionSource.getConnection()) {
+            return query(conn, sql, mapper, params);
+        }
+    }
+
+    /**
+     * 여러 행 조회 (바인딩 직접 지정)
+     */
+    public <T> List<T> queryWithBinder(String sql, StatementBinder binder, RowMapper<T> mapper) throws SQLException {
+        try (Connection conn = connectionSource.getConnection()) {
+            return queryWithBinder(conn, sql, binder, mapper);
+        }
+    }
+
+    /**
+     * 한 행 조회 (없으면 null, 여러 행이면 첫 행)
+     */
+    public <T> T queryForObject(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        try (Connection conn = connectionSource.getConnection()) {
+            return queryForObject(conn, sql, mapper, params);
+        }
+    }
+
+    /**
+     * 첫 행 첫 컬럼의 정수 값 (없으면 0)
+     */
+    public int queryForInt(String sql, Object... params) throws SQLException {
+        Integer value = queryForObject(sql, rs -> rs.getInt(1), params);
+        return value != null ? value : 0;
+    }
+
+    /**
+     * 첫 행 첫 컬럼의 long 값 (없으면 0)
+     */
+    public long queryForLong(String sql, Object... params) throws SQLException {
+        Long value = queryForObject(sql, rs -> rs.getLong(1), params);
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * 결과 행이 하나라도 있는지
+     */
+    public boolean exists(String sql, Object... params) throws SQLException {
+        return queryForObject(sql, rs -> Boolean.TRUE, params) != null;
+    }
+
+    /**
+     * INSERT/UPDATE/DELETE 실행
+     *
+     * @return 영향받은 행 수
+     */
+    public int update(String sql, Object... params) throws SQLException {
+        try (Connection conn = connectionSource.getConnection()) {
+            return update(conn, sql, params);
+        }
+    }
+
+    /**
+     * INSERT 실행 후 생성된 키 반환
+     *
+     * @return 생성된 키, 없으면 -1
+     */
+    public long insert(String sql, Object... params) throws SQLException {
+        try (Connection conn = connectionSource.getConnection()) {
+            return insert(conn, sql, params);
+        }
+    }
+
+    /**
+     * 같은 문장을 여러 파라미터 묶음으로 배치 실행
+     */
+    public int[] batchUpdate(String sql, List<Object[]> batchParams) throws SQLException {
+        try (Connection conn = connectionSource.getConnection()) {
+            return batchUpdate(conn, sql, batchParams);
+        }
+    }
+
+    /**
+     * 커넥션 하나로 콜백 실행 (자동 커밋 유지)
+     */
+    public <T> T execute(ConnectionCallback<T> callback) throws SQLException {
+        try (Connection conn = connectionSource.getConnection()) {
+            return callback.doInConnection(conn);
+        }
+    }
+
+    /**
+     * 트랜잭션으로 콜백 실행
+     * 예외 없이 끝나면 커밋, 예외가 나면 롤백 후 다시 던짐
+     */
+    public <T> T inTransaction(ConnectionCallback<T> callback) throws SQLException {
+        try (Connection conn = connectionSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                T result = callback.doInConnection(conn);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                TransactionHelper.rollback(conn);
+                throw e;
+            } finally {
+                TransactionHelper.setAutoCommit(conn, true);
+            }
+        }
+    }
+
+    // ===== 커넥션을 받는 메소드 (execute / inTransaction 콜백 안에서 사용) =====
+
+    public static <T> List<T> query(Connection conn, String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        return queryWithBinder(conn, sql, pstmt -> bind(pstmt, params), mapper);
+    }
+
+    public static <T> List<T> queryWithBinder(Connection conn, String sql, StatementBinder binder, RowMapper<T> mapper) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            binder.bind(pstmt);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                List<T> results = new ArrayList<>();
+                while (rs.next()) {
+                    results.add(mapper.mapRow(rs));
+                }
+                SqlProfiler.recordRows(sql, results.size());
+                return results;
+            }
+        }
+    }
+
+    public static <T> T queryForObject(Connection conn, String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                SqlProfiler.recordRows(sql, 1);
+                return mapper.mapRow(rs);
+            }
+        }
+    }
+
+    public static int queryForInt(Connection conn, String sql, Object... params) throws SQLException {
+        Integer value = queryForObject(conn, sql, rs -> rs.getInt(1), params);
+        return value != null ? value : 0;
+    }
+
+    public static int update(Connection conn, String sql, Object... params) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(pstmt, params);
+            return pstmt.executeUpdate();
+        }
+    }
+
+    public static long insert(Connection conn, String sql, Object... params) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            bind(pstmt, params);
+            if (pstmt.executeUpdate() == 0) {
+                return -1;
+            }
+            try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                return keys.next() ? keys.getLong(1) : -1;
+            }
+        }
+    }
+
+    public static int[] batchUpdate(Connection conn, String sql, List<Object[]> batchParams) throws SQLException {
+        if (batchParams.isEmpty()) {
+            return new int[0];
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (Object[] params : batchParams) {
+                bind(pstmt, params);
+                pstmt.addBatch();
+            }
+            return pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * 가변 인자 파라미터 바인딩
+     */
+    public static void bind(PreparedStatement pstmt, Object... params) throws SQLException {
+        if (params == null) {
+            return;
+        }
+        for (int i = 0; i < params.length; i++) {
+            Object param = params[i];
+            int index = i + 1;
+            if (param == null) {
+                pstmt.setNull(index, Types.NULL);
+            } else if (param instanceof LocalDateTime) {
+                pstmt.setTimestamp(index, Timestamp.valueOf((LocalDateTime) param));
+            } else if (param instanceof LocalDate) {
+                pstmt.setDate(index, java.sql.Date.valueOf((LocalDate) param));
+            } else if (param instanceof java.util.Date && !(param instanceof java.sql.Date)
+                    && !(param instanceof java.sql.Timestamp) && !(param instanceof java.sql.Time)) {
+                pstmt.setTimestamp(index, new Timestamp(((java.util.Date) param).getTime()));
+            } else if (param instanceof Enum<?>) {
+                pstmt.setString(index, ((Enum<?>) param).name());
+            } else {
+                pstmt.setObject(index, param);
+            }
+        }
+    }
+
+    /**
+     * 결과셋 Timestamp -> LocalDateTime (null 허용)
+     */
+    public static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,310 @@
+package util.db;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이징 정렬 정의
+ * - LIMIT ? OFFSET ? 대신 "마지막으로 본 행 다음부터" 조건으로 조회하므로 뒤쪽 페이지도 앞쪽 행을 읽고 버리지 않음
+ * - 정렬 컬럼 값을 담은 불투명 커서 문자열(URL-safe Base64)을 클라이언트와 주고받음
+ * - 마지막 정렬 컬럼은 행을 유일하게 구분하는 ID여야 하며, 정렬 컬럼에는 NULL이 없어야 함
+ * - 정렬 컬럼 순서와 같은 복합 인덱스가 있어야 조건 하나로 인덱스 범위 탐색이 됨
+ *
+ * 사용 예 (DAO):
+ * <pre>
+ * String sql = "SELECT ... WHERE ... " + (cursor != null ? "AND " + KEYSET.seekCondition() + " " : "")
+ *         + KEYSET.orderBy() + " LIMIT ?";
+ * int index = KEYSET.bind(pstmt, 1, cursor);
+ * pstmt.setInt(index, pageSize + 1);
+ * return KEYSET.read(pstmt.executeQuery(), pageSize, this::mapRow);
+ * </pre>
+ */
+public final class Keyset {
+
+    /** 정렬 컬럼 값 타입 */
+    public enum Type {
+        STRING, LONG, TIMESTAMP
+    }
+
+    /**
+     * 결과 행 변환
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    private static final class Column {
+        final String expression;
+        final String label;
+        final Type type;
+        final boolean descending;
+
+        Column(String expression, String label, Type type, boolean descending) {
+            this.expression = expression;
+            this.label = label;
+            this.type = type;
+            this.descending = descending;
+        }
+    }
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte NON_NULL_VALUE = 1;
+
+    private final String name;
+    private final List<Column> columns = new ArrayList<>();
+
+    private Keyset(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param name 목록 이름 (다른 목록의 커서를 잘못 넘긴 경우를 걸러냄)
+     */
+    public static Keyset of(String name) {
+        return new Keyset(name);
+    }
+
+    /**
+     * 내림차순 정렬 컬럼 추가
+     *
+     * @param expression SQL 컬럼 식 (예: f.freeboard_writetime)
+     * @param label 결과 집합에서 값을 읽을 컬럼 이름
+     * @param type 값 타입
+     */
+    public Keyset desc(String expression, String label, Type type) {
+        columns.add(new Column(expression, label, type, true));
+        return this;
+    }
+
+    /**
+     * 오름차순 정렬 컬럼 추가
+     */
+    public Keyset asc(String expression, String label, Type type) {
+        columns.add(new Column(expression, label, type, false));
+        return this;
+    }
+
+    /**
+     * ORDER BY 절
+     */
+    public String orderBy() {
+        StringBuilder sb = new StringBuilder("ORDER BY ");
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(column.expression).append(column.descending ? " DESC" : " ASC");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 커서 다음 행부터 조회하는 조건 (괄호로 감싼 식, 커서가 있을 때만 WHERE에 추가)
+     * (a, b, c) 내림차순이면 a &lt; ? OR (a = ? AND (b &lt; ? OR (b = ? AND c &lt; ?)))
+     */
+    public String seekCondition() {
+        StringBuilder sb = new StringBuilder();
+        int last = columns.size() - 1;
+        for (int i = 0; i < last; i++) {
+            Column column = columns.get(i);
+            sb.append('(').append(column.expression).append(column.descending ? " < ?" : " > ?")
+                    .append(" OR (").append(column.expression).append(" = ? AND ");
+        }
+        Column column = columns.get(last);
+        sb.append('(').append(column.expression).append(column.descending ? " < ?" : " > ?").append(')');
+        for (int i = 0; i < last; i++) {
+            sb.append("))");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * seekCondition의 파라미터 바인딩
+     *
+     * @param pstmt 조회 문장
+     * @param index 첫 파라미터 위치
+     * @param cursor 커서 (null이면 바인딩하지 않음)
+     * @return 다음 파라미터 위치
+     * @throws IllegalArgumentException 다른 목록의 커서이거나 형식이 잘못된 경우
+     */
+    public int bind(PreparedStatement pstmt, int index, String cursor) throws SQLException {
+        if (cursor == null) {
+            return index;
+        }
+        Object[] values = decode(cursor);
+        int last = values.length - 1;
+        for (int i = 0; i < last; i++) {
+            setValue(pstmt, index++, columns.get(i).type, values[i]);
+            setValue(pstmt, index++, columns.get(i).type, values[i]);
+        }
+        setValue(pstmt, index++, columns.get(last).type, values[last]);
+        return index;
+    }
+
+    /**
+     * 조회 결과를 한 페이지로 변환 (LIMIT pageSize + 1로 조회해 다음 페이지 여부를 COUNT 없이 판단)
+     */
+    public <T> KeysetPage<T> read(ResultSet rs, int pageSize, RowMapper<T> mapper) throws SQLException {
+        List<T> items = new ArrayList<>(pageSize);
+        String lastCursor = null;
+        boolean hasNext = false;
+        while (rs.next()) {
+            if (items.size() == pageSize) {
+                hasNext = true;
+                break;
+            }
+            items.add(mapper.map(rs));
+            if (items.size() == pageSize) {
+                lastCursor = cursorOf(rs);
+            }
+        }
+        return new KeysetPage<>(items, hasNext ? lastCursor : null);
+    }
+
+    /**
+     * 현재 행 다음부터 조회하는 커서
+     */
+    public String cursorOf(ResultSet rs) throws SQLException {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            Column column = columns.get(i);
+            switch (column.type) {
+                case STRING:
+                    values[i] = rs.getString(column.label);
+                    break;
+                case LONG:
+                    long value = rs.getLong(column.label);
+                    values[i] = rs.wasNull() ? null : value;
+                    break;
+                default:
+                    values[i] = rs.getTimestamp(column.label);
+                    break;
+            }
+        }
+        return encode(values);
+    }
+
+    /**
+     * 정렬 컬럼 값으로 커서 생성
+     */
+    public String encode(Object... values) {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("커서 값 개수가 정렬 컬럼 수와 다릅니다: " + name);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(name);
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    out.writeByte(NULL_VALUE);
+                    continue;
+                }
+                out.writeByte(NON_NULL_VALUE);
+                switch (columns.get(i).type) {
+                    case STRING:
+                        out.writeUTF(value.toString());
+                        break;
+                    case LONG:
+                        out.writeLong(((Number) value).longValue());
+                        break;
+                    default:
+                        Timestamp time = (Timestamp) value;
+                        out.writeLong(time.getTime());
+                        out.writeInt(time.getNanos());
+                        break;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * 커서를 정렬 컬럼 값으로 변환
+     *
+     * @throws IllegalArgumentException 다른 목록의 커서이거나 형식이 잘못된 경우
+     */
+    public Object[] decode(String cursor) {
+        byte[] raw;
+        try {
+            raw = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+
+        Object[] values = new Object[columns.size()];
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw))) {
+            if (!name.equals(in.readUTF())) {
+                throw new IllegalArgumentException("다른 목록의 커서입니다: " + name);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (in.readByte() == NULL_VALUE) {
+                    continue;
+                }
+                switch (columns.get(i).type) {
+                    case STRING:
+                        values[i] = in.readUTF();
+                        break;
+                    case LONG:
+                        values[i] = in.readLong();
+                        break;
+                    default:
+                        Timestamp time = new Timestamp(in.readLong());
+                        time.setNanos(in.readInt());
+                        values[i] = time;
+                        break;
+                }
+            }
+            if (in.available() > 0) {
+                throw new IOException("커서 뒤에 남은 데이터가 있습니다.");
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+        return values;
+    }
+
+    /**
+     * 요청 파라미터의 커서 정리 (비어 있으면 null, 첫 페이지)
+     */
+    public static String normalize(String cursor) {
+        return cursor == null || cursor.trim().isEmpty() ? null : cursor.trim();
+    }
+
+    private static void setValue(PreparedStatement pstmt, int index, Type type, Object value) throws SQLException {
+        switch (type) {
+            case STRING:
+                if (value == null) {
+                    pstmt.setNull(index, Types.VARCHAR);
+                } else {
+                    pstmt.setString(index, (String) value);
+                }
+                break;
+            case LONG:
+                if (value == null) {
+                    pstmt.setNull(index, Types.BIGINT);
+                } else {
+                    pstmt.setLong(index, (Long) value);
+                }
+                break;
+            default:
+                pstmt.setTimestamp(index, (Timestamp) value);
+                break;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package util.db;
+
+import java.util.List;
+
+/**
+ * 키셋 페이징 결과 한 페이지 (전체 건수 없이 다음 페이지 커서만 가짐)
+ */
+public final class KeysetPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public KeysetPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /** 다음 페이지 커서 (마지막 페이지면 null) */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,258 @@
+package util.db;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import util.config.AppConfig;
+
+/**
+ * 게시글 추천(좋아요) 처리기 (log_recommend)
+ * - (게시판, 게시글, 사용자) 유니크 키에 기대어 INSERT IGNORE / DELETE 한 문장의 영향 행 수로 상태 변화를 판정
+ *   (SELECT COUNT 후 INSERT/DELETE 하면 동시 클릭 두 번이 모두 INSERT로 가서 추천 수가 두 번 오를 수 있었음)
+ * - 행이 실제로 바뀐 경우에만 추천 수 증가분(+1/-1)을 ReadCountAggregator에 넘겨 주기적으로 배치 반영
+ * - 최근 추천 상태를 LRU 캐시에 두어 추천 여부 조회는 DB 없이 처리하고, 토글 시에는 어느 문장을 먼저 실행할지만 고름
+ *   (캐시는 읽기용 힌트일 뿐 - 추가/취소는 항상 문장을 실행해 영향 행 수로 판정하고, 쓰기 후에는 캐시 항목을 지움)
+ *
+ * 설정 키 (AppConfig): reaction.cache-size (캐시할 최대 (게시판, 게시글, 사용자) 수, 0이면 캐시 안 함)
+ *
+ * 기존 DB는 migration-reaction-unique-keys.sql 로 유니크 키를 먼저 추가해야 함
+ */
+public final class ReactionEngine {
+
+    /**
+     * 추천 대상 게시판 (log_recommend_boardtype 값과 추천 수 집계 대상)
+     */
+    public enum Target {
+        FREEBOARD("freeboard", ReadCountAggregator.Board.FREEBOARD_RECOMMEND),
+        NEWS("news", ReadCountAggregator.Board.NEWS_RECOMMEND);
+
+        private final String boardType;
+        private final ReadCountAggregator.Board counter;
+
+        Target(String boardType, ReadCountAggregator.Board counter) {
+            this.boardType = boardType;
+            this.counter = counter;
+        }
+    }
+
+    private record Key(Target target, long postId, long userId) { }
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO log_recommend (log_recommend_boardtype, log_recommend_post_id, log_recommend_date, user_uid) " +
+            "VALUES (?, ?, NOW(), ?)";
+    private static final String DELETE_SQL =
+            "DELETE FROM log_recommend WHERE log_recommend_boardtype = ? AND log_recommend_post_id = ? AND user_uid = ?";
+    private static final String EXISTS_SQL =
+            "SELECT 1 FROM log_recommend WHERE log_recommend_boardtype = ? AND log_recommend_post_id = ? AND user_uid = ? LIMIT 1";
+
+    private static final int CACHE_SIZE =
+            Math.max(0, AppConfig.getInt("reaction.cache-size", "REACTION_CACHE_SIZE", 100000));
+    // 캐시를 여러 조각으로 나눠 잠금 경합을 줄임 (조각마다 접근 순서 LRU)
+    private static final int STRIPES = 16;
+    private static final int STRIPE_SIZE = Math.max(1, CACHE_SIZE / STRIPES);
+
+    /** 캐시 조각 (잠금 + 접근 순서 LRU 맵) */
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<Key, Boolean> map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Boolean> eldest) {
+                return size() > STRIPE_SIZE;
+            }
+        };
+    }
+
+    private static final Stripe[] stripes = new Stripe[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private static final JdbcTemplate jdbc = JdbcTemplate.getDefault();
+
+    // 통계
+    private static final LongAdder toggleCount = new LongAdder();
+    private static final LongAdder insertCount = new LongAdder();
+    private static final LongAdder deleteCount = new LongAdder();
+    private static final LongAdder cacheHits = new LongAdder();
+    private static final LongAdder cacheMisses = new LongAdder();
+    private static final LongAdder wrongGuesses = new LongAdder();
+
+    private ReactionEngine() {
+    }
+
+    /**
+     * 추천 토글 (추천 안 한 상태면 추천, 추천한 상태면 취소)
+     *
+     * @return 처리 후 추천 상태 (true면 추천됨)
+     */
+    public static boolean toggle(Target target, long postId, long userId) throws SQLException {
+        Key key = new Key(target, postId, userId);
+        toggleCount.increment();
+
+        Boolean known = cacheGet(key);
+        if (Boolean.TRUE.equals(known)) {
+            if (delete(key)) {
+                return false;
+            }
+            wrongGuesses.increment();
+            if (insert(key)) {
+                return true;
+            }
+        } else {
+            if (insert(key)) {
+                return true;
+            }
+            if (known != null) {
+                wrongGuesses.increment();
+            }
+            if (delete(key)) {
+                return false;
+            }
+        }
+
+        // 두 문장 사이에 다른 요청이 상태를 되돌린 경우 - 현재 DB 상태를 그대로 알려 줌
+        return loadState(key);
+    }
+
+    /**
+     * 추천 추가
+     *
+     * @return 새로 추천되었으면 true, 이미 추천한 상태면 false
+     */
+    public static boolean add(Target target, long postId, long userId) throws SQLException {
+        return insert(new Key(target, postId, userId));
+    }
+
+    /**
+     * 추천 취소
+     *
+     * @return 취소되었으면 true, 추천하지 않은 상태면 false
+     */
+    public static boolean remove(Target target, long postId, long userId) throws SQLException {
+        return delete(new Key(target, postId, userId));
+    }
+
+    /**
+     * 사용자가 게시글을 추천했는지 확인 (캐시에 없을 때만 DB 조회)
+     */
+    public static boolean hasReacted(Target target, long postId, long userId) throws SQLException {
+        Key key = new Key(target, postId, userId);
+        Boolean known = cacheGet(key);
+        return known != null ? known : loadState(key);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 추천 수 증가분 (조회 시 DB 값에 더해 보여줌)
+     */
+    public static long getPendingCount(Target target, long postId) {
+        return ReadCountAggregator.getPending(target.counter, postId);
+    }
+
+    private static boolean insert(Key key) throws SQLException {
+        boolean inserted = jdbc.update(INSERT_SQL, key.target().boardType, key.postId(), key.userId()) > 0;
+        // 동시 요청/다른 서버의 쓰기와 순서를 보장할 수 없으므로 추측한 값을 넣지 않고 지움 (다음 조회 시 DB에서 다시 읽음)
+        cacheEvict(key);
+        if (inserted) {
+            insertCount.increment();
+            ReadCountAggregator.add(key.target().counter, key.postId(), 1);
+        }
+        return inserted;
+    }
+
+    private static boolean delete(Key key) throws SQLException {
+        boolean deleted = jdbc.update(DELETE_SQL, key.target().boardType, key.postId(), key.userId()) > 0;
+        cacheEvict(key);
+        if (deleted) {
+            deleteCount.increment();
+            ReadCountAggregator.add(key.target().counter, key.postId(), -1);
+        }
+        return deleted;
+    }
+
+    private static boolean loadState(Key key) throws SQLException {
+        boolean exists = jdbc.exists(EXISTS_SQL, key.target().boardType, key.postId(), key.userId());
+        cachePut(key, exists);
+        return exists;
+    }
+
+    private static Stripe stripeOf(Key key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static Boolean cacheGet(Key key) {
+        if (CACHE_SIZE == 0) {
+            return null;
+        }
+        Stripe stripe = stripeOf(key);
+        Boolean value;
+        stripe.lock.lock();
+        try {
+            value = stripe.map.get(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+        if (value == null) {
+            cacheMisses.increment();
+        } else {
+            cacheHits.increment();
+        }
+        return value;
+    }
+
+    private static void cachePut(Key key, boolean reacted) {
+        if (CACHE_SIZE == 0) {
+            return;
+        }
+        Stripe stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            stripe.map.put(key, reacted);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static void cacheEvict(Key key) {
+        if (CACHE_SIZE == 0) {
+            return;
+        }
+        Stripe stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            stripe.map.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 추천 처리 통계
+     */
+    public static Map<String, Object> getStats() {
+        int cached = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                cached += stripe.map.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cachedPairs", cached);
+        stats.put("cacheSize", CACHE_SIZE);
+        stats.put("cacheHits", cacheHits.sum());
+        stats.put("cacheMisses", cacheMisses.sum());
+        stats.put("toggles", toggleCount.sum());
+        stats.put("inserts", insertCount.sum());
+        stats.put("deletes", deleteCount.sum());
+        stats.put("wrongGuesses", wrongGuesses.sum());
+        return stats;
+    }
+}
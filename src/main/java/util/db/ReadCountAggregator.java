@@ -0,0 +1,324 @@
+package util.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import util.config.AppConfig;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 집계기
+ * - 상세 조회마다 UPDATE를 실행하는 대신 (게시판, 게시글 ID) 별 증가분을 메모리에 모아 둠
+ * - 첨부파일 다운로드 수도 같은 방식으로 모음 (Board.FREEBOARD_ATTACH, ID는 첨부파일 ID)
+ * - 추천 수는 ReactionEngine이 +1/-1 증가분을 넘김 (추천 후 바로 취소하면 증가분이 0이 되어 UPDATE 자체가 생략됨)
+ * - 주기적으로(기본 3초) 그리고 종료 시에 모인 증가분을 게시판별 JDBC 배치 UPDATE 한 번으로 반영
+ * - 조회 시에는 DB 값 + 반영 대기 중인 증가분을 더해 보여주므로 조회수가 줄어드는 것처럼 보이지 않음
+ *   (inFlight는 commit 직후 바로 해제하지만, 그 사이의 아주 짧은 순간에는 증가분만큼 크게 보일 수 있으며 다음 조회에서 바로 맞춰짐)
+ * - 대기 중인 키 수가 상한을 넘으면 새 키는 즉시 DB에 반영하고 조기 flush를 요청
+ *
+ * 설정 키 (AppConfig): readcount.flush-interval-ms, readcount.max-pending-keys
+ */
+public final class ReadCountAggregator {
+
+    private static final Logger logger = Logger.getLogger(ReadCountAggregator.class.getName());
+
+    /**
+     * 조회수 집계 대상 게시판
+     */
+    public enum Board {
+        FREEBOARD("UPDATE freeboard SET freeboard_read = freeboard_read + ? WHERE freeboard_uid = ?", true),
+        NEWS("UPDATE news SET news_read = news_read + ? WHERE news_uid = ?", true),
+        /** 문의 게시판은 조회수 대신 읽음 상태만 있으므로 증가분과 관계없이 'read'로 표시 */
+        INQUIRY("UPDATE inquiry SET inquiry_read_status = 'read' WHERE inquiry_uid = ?", false),
+        /** 첨부파일 다운로드 수 */
+        FREEBOARD_ATTACH("UPDATE freeboard_attach SET download_count = download_count + ? WHERE attach_uid = ?", true),
+        /** 추천 수 (증가분이 음수일 수 있으므로 0 아래로 내려가지 않게 함) */
+        FREEBOARD_RECOMMEND("UPDATE freeboard SET freeboard_recommend = GREATEST(0, freeboard_recommend + ?) WHERE freeboard_uid = ?", true),
+        NEWS_RECOMMEND("UPDATE news SET news_recommend = GREATEST(0, news_recommend + ?) WHERE news_uid = ?", true);
+
+        private final String sql;
+        private final boolean additive;
+
+        Board(String sql, boolean additive) {
+            this.sql = sql;
+            this.additive = additive;
+        }
+    }
+
+    private record Key(Board board, long id) { }
+
+    private static final long FLUSH_INTERVAL_MS =
+            Math.max(100, AppConfig.getLong("readcount.flush-interval-ms", "READCOUNT_FLUSH_INTERVAL_MS", 3000));
+    private static final int MAX_PENDING_KEYS =
+            Math.max(1, AppConfig.getInt("readcount.max-pending-keys", "READCOUNT_MAX_PENDING_KEYS", 10000));
+
+    // 반영 대기 중인 증가분 (merge는 키가 속한 bin 단위로만 잠기므로 키 간 경합 없음)
+    private static final ConcurrentHashMap<Key, Long> pending = new ConcurrentHashMap<>();
+    // flush 중이라 pending에서 빠졌지만 아직 커밋되지 않은 증가분 (조회 시 합산용)
+    private static final ConcurrentHashMap<Key, Long> inFlight = new ConcurrentHashMap<>();
+
+    private static final ReentrantLock flushLock = new ReentrantLock();
+    private static final AtomicBoolean earlyFlushRequested = new AtomicBoolean(false);
+    private static volatile boolean shutdown = false;
+
+    // 통계
+    private static final LongAdder incrementCount = new LongAdder();
+    private static final LongAdder flushCount = new LongAdder();
+    private static final LongAdder flushedKeys = new LongAdder();
+    private static final LongAdder flushFailures = new LongAdder();
+    private static final LongAdder directWrites = new LongAdder();
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "kirini-readcount-flusher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        scheduler.scheduleWithFixedDelay(ReadCountAggregator::flushQuietly,
+                FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private ReadCountAggregator() {
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 기록, DB 반영은 다음 flush 때)
+     *
+     * @param board 게시판
+     * @param id 게시글 ID
+     * @throws SQLException 대기 키 상한 초과로 즉시 반영하다 실패한 경우
+     */
+    public static void increment(Board board, long id) throws SQLException {
+        add(board, id, 1L);
+    }
+
+    /**
+     * 증가분 기록 (음수면 감소, 메모리에만 기록하고 DB 반영은 다음 flush 때)
+     *
+     * @param board 게시판
+     * @param id 게시글 ID
+     * @param delta 증가분
+     * @throws SQLException 대기 키 상한 초과로 즉시 반영하다 실패한 경우
+     */
+    public static void add(Board board, long id, long delta) throws SQLException {
+        if (delta == 0) {
+            return;
+        }
+        Key key = new Key(board, id);
+        incrementCount.increment();
+
+        if (shutdown) {
+            writeDirect(key, delta);
+            return;
+        }
+
+        // 대기 키 상한 초과 시 새 키는 바로 반영 (메모리 상한 보장)
+        if (pending.size() >= MAX_PENDING_KEYS && !pending.containsKey(key)) {
+            requestEarlyFlush();
+            writeDirect(key, delta);
+            return;
+        }
+
+        // 합이 0이 되면 항목을 지워 flush 대상에서 빠지게 함
+        pending.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분 조회
+     *
+     * @param board 게시판
+     * @param id 게시글 ID
+     * @return 반영 대기 중인 증가분
+     */
+    public static long getPending(Board board, long id) {
+        Key key = new Key(board, id);
+        return pending.getOrDefault(key, 0L) + inFlight.getOrDefault(key, 0L);
+    }
+
+    /**
+     * 대기 중인 증가분을 즉시 DB에 반영
+     *
+     * @return 반영된 키 수
+     * @throws SQLException 반영 실패 시 (증가분은 다음 flush를 위해 되돌려 둠)
+     */
+    public static int flush() throws SQLException {
+        flushLock.lock();
+        try {
+            earlyFlushRequested.set(false);
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            // 게시판별로 증가분을 떼어 냄
+            // 조회 합계(pending + inFlight)에서 잠시라도 빠지지 않도록 inFlight에 먼저 더한 뒤 pending에서 같은 양만 뺌
+            // (그 사이 들어온 증가분은 pending에 남아 다음 flush 대상이 됨)
+            Map<Board, List<Map.Entry<Key, Long>>> batches = new EnumMap<>(Board.class);
+            for (Key key : pending.keySet()) {
+                Long delta = pending.get(key);
+                if (delta == null || delta == 0) {
+                    continue;
+                }
+                inFlight.merge(key, delta, Long::sum);
+                pending.merge(key, -delta, (a, b) -> a + b == 0 ? null : a + b);
+                batches.computeIfAbsent(key.board(), b -> new ArrayList<>()).add(Map.entry(key, delta));
+            }
+
+            // inFlight는 commit 직후 바로 해제해 DB 값과 inFlight가 겹쳐 더해지는 구간을 줄임
+            boolean[] committed = {false};
+            int written;
+            try {
+                written = writeBatches(batches, () -> {
+                    committed[0] = true;
+                    forEachEntry(batches, ReadCountAggregator::releaseInFlight);
+                });
+            } catch (SQLException | RuntimeException e) {
+                flushFailures.increment();
+                if (!committed[0]) {
+                    // 실패한 증가분은 pending으로 먼저 되돌린 뒤 inFlight에서 뺌
+                    forEachEntry(batches, (key, delta) -> pending.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b));
+                    forEachEntry(batches, ReadCountAggregator::releaseInFlight);
+                }
+                throw e;
+            }
+            flushCount.increment();
+            flushedKeys.add(written);
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private static void forEachEntry(Map<Board, List<Map.Entry<Key, Long>>> batches, BiConsumer<Key, Long> action) {
+        for (List<Map.Entry<Key, Long>> entries : batches.values()) {
+            for (Map.Entry<Key, Long> entry : entries) {
+                action.accept(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static void releaseInFlight(Key key, long delta) {
+        inFlight.computeIfPresent(key, (k, v) -> v - delta == 0 ? null : v - delta);
+    }
+
+    private static int writeBatches(Map<Board, List<Map.Entry<Key, Long>>> batches, Runnable afterCommit)
+            throws SQLException {
+        int written = 0;
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                for (Map.Entry<Board, List<Map.Entry<Key, Long>>> batch : batches.entrySet()) {
+                    Board board = batch.getKey();
+                    List<Map.Entry<Key, Long>> entries = batch.getValue();
+                    // ID 순으로 정렬해 동시에 다른 트랜잭션과 행 잠금 순서가 엇갈리지 않도록 함
+                    entries.sort(Comparator.comparingLong(entry -> entry.getKey().id()));
+
+                    try (PreparedStatement pstmt = conn.prepareStatement(board.sql)) {
+                        for (Map.Entry<Key, Long> entry : entries) {
+                            bind(pstmt, entry.getKey(), entry.getValue());
+                            pstmt.addBatch();
+                        }
+                        pstmt.executeBatch();
+                    }
+                    written += entries.size();
+                }
+                conn.commit();
+                afterCommit.run();
+                return written;
+            } catch (SQLException e) {
+                TransactionHelper.rollback(conn);
+                throw e;
+            } finally {
+                TransactionHelper.setAutoCommit(conn, true);
+            }
+        }
+    }
+
+    private static void writeDirect(Key key, long delta) throws SQLException {
+        directWrites.increment();
+        try (Connection conn = DBConnectionUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(key.board().sql)) {
+            bind(pstmt, key, delta);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private static void bind(PreparedStatement pstmt, Key key, long delta) throws SQLException {
+        if (key.board().additive) {
+            pstmt.setLong(1, delta);
+            pstmt.setLong(2, key.id());
+        } else {
+            pstmt.setLong(1, key.id());
+        }
+    }
+
+    private static void requestEarlyFlush() {
+        if (earlyFlushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(ReadCountAggregator::flushQuietly);
+            } catch (RuntimeException e) {
+                earlyFlushRequested.set(false);
+            }
+        }
+    }
+
+    private static void flushQuietly() {
+        try {
+            flush();
+        } catch (SQLException | RuntimeException e) {
+            logger.log(Level.WARNING, "조회수 반영 실패, 다음 주기에 재시도합니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 집계기 상태 및 통계
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pendingKeys", pending.size());
+        stats.put("inFlightKeys", inFlight.size());
+        stats.put("maxPendingKeys", MAX_PENDING_KEYS);
+        stats.put("flushIntervalMs", FLUSH_INTERVAL_MS);
+        stats.put("increments", incrementCount.sum());
+        stats.put("flushes", flushCount.sum());
+        stats.put("flushedKeys", flushedKeys.sum());
+        stats.put("flushFailures", flushFailures.sum());
+        stats.put("directWrites", directWrites.sum());
+        return stats;
+    }
+
+    /**
+     * 남은 증가분을 반영하고 flush 스레드 종료
+     * 커넥션 풀 종료 전에 호출해야 함
+     */
+    public static void shutdown() {
+        shutdown = true;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } catch (SQLException e) {
+            logger.log(Level.SEVERE, "종료 시 조회수 반영 실패: " + pending.size() + "건 유실", e);
+        }
+    }
+}
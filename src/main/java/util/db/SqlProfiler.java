@@ -0,0 +1,409 @@
+package util.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import util.config.AppConfig;
+import util.metrics.LatencyHistogram;
+
+/**
+ * 레거시 DAO SQL 실행 통계 (DBConnectionUtil 이 내주는 커넥션을 프록시로 감쌈)
+ * - SQL 템플릿(PreparedStatement 에 넘긴 ? 포함 문자열)별 실행 시간 분포, 반환 행 수, 변경 행 수, 오류 수
+ *   (Statement 에 직접 넘긴 SQL은 문자열/숫자 리터럴을 ?로 바꿔 같은 템플릿으로 묶음)
+ *   반환 행 수는 결과셋을 감싸지 않고 JdbcTemplate 이 행 변환 루프에서 센 값을 recordRows 로 받음
+ *   (DAO가 결과셋을 직접 읽는 문장은 행 수 0으로 보임)
+ * - 커넥션 대여부터 close()까지의 보유 시간 분포
+ * - 기준 시간을 넘은 문장은 호출한 DAO 메소드와 함께 경고 로그 + 최근 목록에 남김
+ *   (호출 위치는 느린 문장에서만 스택을 훑어 찾으므로 평소 실행 경로에는 비용이 없음)
+ * - 실행마다 nanoTime 두 번과 LongAdder 증가만 하므로 운영 중에도 켜 둘 수 있음 (문장당 1us 미만)
+ *
+ * 설정 키 (AppConfig): db.profiler.enabled, db.profiler.slow-query-ms,
+ *                      db.profiler.max-templates (넘으면 새 템플릿은 "(기타)"로 집계), db.profiler.slow-log-size
+ */
+public final class SqlProfiler {
+    // 느린 문장 로그가 DB 로그 핸들러를 거치면 다시 이 프로파일러를 타므로 콘솔 전용 로거 사용
+    private static final Logger logger = Logger.getLogger(SqlProfiler.class.getName());
+
+    private static final boolean ENABLED =
+            AppConfig.getBoolean("db.profiler.enabled", "DB_PROFILER_ENABLED", true);
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(
+            Math.max(1, AppConfig.getLong("db.profiler.slow-query-ms", "DB_PROFILER_SLOW_QUERY_MS", 200)));
+    private static final int MAX_TEMPLATES =
+            Math.max(10, AppConfig.getInt("db.profiler.max-templates", "DB_PROFILER_MAX_TEMPLATES", 1000));
+    private static final int SLOW_LOG_SIZE =
+            Math.max(1, AppConfig.getInt("db.profiler.slow-log-size", "DB_PROFILER_SLOW_LOG_SIZE", 100));
+
+    // 호출 위치를 찾을 때 건너뛸 클래스 (JDBC 실행 계층)
+    private static final String[] INFRASTRUCTURE = {
+            "util.db.SqlProfiler", "util.db.JdbcTemplate", "util.db.TransactionHelper",
+            "util.db.ConnectionPool", "util.db.DBConnectionUtil", "java.", "javax.", "jdk.", "sun.", "com.sun."
+    };
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private static final Template OVERFLOW = new Template("(기타)");
+    private static final Template STATEMENT_BATCH = new Template("(Statement 배치)");
+
+    private static final LatencyHistogram connectionHold = new LatencyHistogram();
+    private static final LongAdder connections = new LongAdder();
+    private static final Deque<Map<String, Object>> recentSlow = new ArrayDeque<>();
+
+    private SqlProfiler() {
+    }
+
+    /**
+     * 커넥션을 실행 통계용 프록시로 감쌈 (비활성화 시 그대로 반환)
+     */
+    public static Connection wrap(Connection connection) {
+        if (!ENABLED || connection == null) {
+            return connection;
+        }
+        connections.increment();
+        ConnectionHandler handler = new ConnectionHandler(connection);
+        Connection proxy = (Connection) Proxy.newProxyInstance(SqlProfiler.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, handler);
+        handler.proxy = proxy;
+        return proxy;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    private static Template template(String sql) {
+        Template template = templates.get(sql);
+        if (template != null) {
+            return template;
+        }
+        if (templates.size() >= MAX_TEMPLATES) {
+            return OVERFLOW;
+        }
+        return templates.computeIfAbsent(sql, Template::new);
+    }
+
+    /**
+     * 조회 결과 행 수 기록 (JdbcTemplate 행 변환 루프에서 호출)
+     * 이미 실행 통계가 있는 템플릿에만 더함 - 프로파일러를 거치지 않은 커넥션의 SQL은 무시
+     */
+    static void recordRows(String sql, long rows) {
+        if (!ENABLED || rows <= 0) {
+            return;
+        }
+        Template template = templates.get(sql);
+        if (template == null && templates.size() >= MAX_TEMPLATES) {
+            template = OVERFLOW;
+        }
+        if (template != null) {
+            template.rowsReturned.add(rows);
+        }
+    }
+
+    /**
+     * 리터럴을 ?로 바꾼 SQL (Statement 에 직접 넘긴 SQL용)
+     */
+    static String normalize(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                // 문자열 리터럴 ('' 이스케이프 포함)
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                out.append('?');
+                i++;
+            } else if (Character.isDigit(c) && (i == 0 || !Character.isLetterOrDigit(sql.charAt(i - 1))
+                    && sql.charAt(i - 1) != '_')) {
+                // 식별자 일부가 아닌 숫자 리터럴
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    private static void recordSlow(Template template, long elapsedNanos) {
+        template.slow.increment();
+        String caller = STACK_WALKER.walk(frames -> frames
+                .filter(frame -> !isInfrastructure(frame.getClassName()))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("?"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        logger.warning("느린 SQL " + elapsedMs + "ms (" + caller + "): " + abbreviate(template.sql));
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("time", LocalDateTime.now().toString());
+        entry.put("elapsedMs", elapsedMs);
+        entry.put("caller", caller);
+        entry.put("sql", abbreviate(template.sql));
+        synchronized (recentSlow) {
+            recentSlow.addFirst(entry);
+            while (recentSlow.size() > SLOW_LOG_SIZE) {
+                recentSlow.removeLast();
+            }
+        }
+    }
+
+    private static boolean isInfrastructure(String className) {
+        for (String prefix : INFRASTRUCTURE) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String abbreviate(String sql) {
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        return compact.length() > 500 ? compact.substring(0, 500) + "..." : compact;
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * SQL 실행 통계
+     *
+     * @param limit 총 실행 시간이 긴 순으로 보여줄 템플릿 수
+     */
+    public static Map<String, Object> getStats(int limit) {
+        List<Template> sorted = new ArrayList<>(templates.values());
+        sorted.add(OVERFLOW);
+        sorted.add(STATEMENT_BATCH);
+        sorted.removeIf(template -> template.latency.getCount() == 0);
+        sorted.sort(Comparator.comparingLong((Template template) -> template.latency.getTotalNanos()).reversed());
+
+        List<Map<String, Object>> top = new ArrayList<>();
+        for (Template template : sorted.subList(0, Math.min(Math.max(1, limit), sorted.size()))) {
+            top.add(template.toMap());
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", ENABLED);
+        stats.put("slowQueryMs", TimeUnit.NANOSECONDS.toMillis(SLOW_NANOS));
+        stats.put("templateCount", templates.size());
+        stats.put("maxTemplates", MAX_TEMPLATES);
+        stats.put("connections", connections.sum());
+        stats.put("connectionHold", connectionHold.toMap());
+        stats.put("templates", top);
+        synchronized (recentSlow) {
+            stats.put("recentSlow", new ArrayList<>(recentSlow));
+        }
+        return stats;
+    }
+
+    /**
+     * 통계 초기화 (템플릿 목록과 최근 느린 문장 포함)
+     */
+    public static void reset() {
+        templates.clear();
+        OVERFLOW.reset();
+        STATEMENT_BATCH.reset();
+        connectionHold.reset();
+        connections.reset();
+        synchronized (recentSlow) {
+            recentSlow.clear();
+        }
+    }
+
+    /**
+     * SQL 템플릿 하나의 누적 통계
+     */
+    private static final class Template {
+        private final String sql;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rowsReturned = new LongAdder();
+        private final LongAdder rowsAffected = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+
+        private Template(String sql) {
+            this.sql = sql;
+        }
+
+        private void record(long elapsedNanos, boolean failed) {
+            latency.record(elapsedNanos);
+            if (failed) {
+                errors.increment();
+            }
+            if (elapsedNanos >= SLOW_NANOS) {
+                recordSlow(this, elapsedNanos);
+            }
+        }
+
+        private void reset() {
+            latency.reset();
+            errors.reset();
+            rowsReturned.reset();
+            rowsAffected.reset();
+            slow.reset();
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("sql", abbreviate(sql));
+            map.put("totalMs", TimeUnit.NANOSECONDS.toMillis(latency.getTotalNanos()));
+            map.put("latency", latency.toMap());
+            map.put("rowsReturned", rowsReturned.sum());
+            map.put("rowsAffected", rowsAffected.sum());
+            map.put("errors", errors.sum());
+            map.put("slow", slow.sum());
+            return map;
+        }
+    }
+
+    /**
+     * 커넥션 프록시 - 만든 Statement 를 감싸고 close() 시 보유 시간 기록
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final long openedAt = System.nanoTime();
+        private Connection proxy;
+        private boolean closed;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxyInstance, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return wrapStatement(delegate(target, method, args), PreparedStatement.class, template((String) args[0]));
+                case "prepareCall":
+                    return wrapStatement(delegate(target, method, args), CallableStatement.class, template((String) args[0]));
+                case "createStatement":
+                    return wrapStatement(delegate(target, method, args), Statement.class, null);
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        connectionHold.record(System.nanoTime() - openedAt);
+                    }
+                    return delegate(target, method, args);
+                case "equals":
+                    return proxyInstance == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxyInstance);
+                case "toString":
+                    return "ProfiledConnection[" + target + "]";
+                default:
+                    return delegate(target, method, args);
+            }
+        }
+
+        private Object wrapStatement(Object statement, Class<?> type, Template template) {
+            StatementHandler handler = new StatementHandler((Statement) statement, template, proxy);
+            return Proxy.newProxyInstance(SqlProfiler.class.getClassLoader(), new Class<?>[] { type }, handler);
+        }
+    }
+
+    /**
+     * Statement 프록시 - execute* 실행 시간과 변경 행 수를 기록 (결과셋은 그대로 반환)
+     */
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final Template prepared;
+        private final Connection connection;
+
+        private StatementHandler(Statement target, Template prepared, Connection connection) {
+            this.target = target;
+            this.prepared = prepared;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxyInstance, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args, name);
+            }
+            switch (name) {
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxyInstance == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxyInstance);
+                case "toString":
+                    return "ProfiledStatement[" + target + "]";
+                default:
+                    return delegate(target, method, args);
+            }
+        }
+
+        private Object execute(Method method, Object[] args, String name) throws Throwable {
+            Template template = prepared;
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                template = template(normalize((String) args[0]));
+            } else if (template == null) {
+                template = STATEMENT_BATCH;
+            }
+
+            long start = System.nanoTime();
+            boolean failed = true;
+            Object result;
+            try {
+                result = delegate(target, method, args);
+                failed = false;
+            } finally {
+                template.record(System.nanoTime() - start, failed);
+            }
+
+            if (name.contains("Update")) {
+                template.rowsAffected.add(((Number) result).longValue());
+            } else if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    if (count > 0) {
+                        template.rowsAffected.add(count);
+                    }
+                }
+            } else if (result instanceof long[]) {
+                for (long count : (long[]) result) {
+                    if (count > 0) {
+                        template.rowsAffected.add(count);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
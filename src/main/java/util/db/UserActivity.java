@@ -0,0 +1,398 @@
+package util.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import util.config.AppConfig;
+
+/**
+ * 사용자별 작성 글 색인 (user_activity 테이블)
+ * - 게시판마다 흩어진 사용자 글을 (user_uid, 작성 시각) 순서의 한 테이블에 모아 두어
+ *   마이페이지 "내가 쓴 글"을 다섯 게시판 UNION 없이 인덱스 범위 읽기 한 번으로 조회
+ * - 글 등록 시 행 추가, 삭제/숨김 시 행 제거, 관리자 복원 시 다시 추가 (삭제 상태 필터가 필요 없음)
+ * - 사용자별 게시판별 글 수는 메모리에 캐시하고, 색인 추가/제거 후에는 해당 사용자 항목을 지워 다음 조회 때 DB에서 다시 셈
+ * - 누락/오차는 rebuild가 원본 게시판 테이블 기준으로 바로잡음
+ *
+ * 설정 키 (AppConfig): activity.count-cache-size (글 수를 캐시할 최대 사용자 수)
+ */
+public final class UserActivity {
+
+    private static final Logger logger = Logger.getLogger(UserActivity.class.getName());
+
+    /**
+     * 색인 대상 게시판 (board_type 값은 PostDTO.boardType과 같음)
+     */
+    public enum Board {
+        FREEBOARD("freeboard"),
+        NEWS("news"),
+        NOTICE("notice"),
+        INQUIRY("inquiry"),
+        CHATBOARD("chatboard");
+
+        private final String type;
+        private final String idColumn;
+        private final String writeTimeColumn;
+        private final String deletedColumn;
+
+        Board(String type) {
+            this.type = type;
+            this.idColumn = type + "_uid";
+            this.writeTimeColumn = type + "_writetime";
+            this.deletedColumn = type + "_deleted";
+        }
+
+        /** board_type 값 (테이블 이름과 같음) */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * board_type 값으로 게시판 찾기
+         *
+         * @return 없으면 null
+         */
+        public static Board of(String type) {
+            for (Board board : values()) {
+                if (board.type.equals(type)) {
+                    return board;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 색인 항목 하나 (게시글 본문은 게시판 테이블에서 따로 읽음)
+     */
+    public static final class Entry {
+        private final String boardType;
+        private final long postId;
+        private final Timestamp writeTime;
+
+        Entry(String boardType, long postId, Timestamp writeTime) {
+            this.boardType = boardType;
+            this.postId = postId;
+            this.writeTime = writeTime;
+        }
+
+        public String getBoardType() {
+            return boardType;
+        }
+
+        public long getPostId() {
+            return postId;
+        }
+
+        public Timestamp getWriteTime() {
+            return writeTime;
+        }
+    }
+
+    private static final int COUNT_CACHE_SIZE =
+            Math.max(1, AppConfig.getInt("activity.count-cache-size", "ACTIVITY_COUNT_CACHE_SIZE", 10000));
+
+    // 내가 쓴 글 정렬 (최신순, 같은 시각이면 게시판/ID 역순)
+    // idx_user_activity_feed(user_uid, activity_writetime, board_type, post_uid)
+    // 게시판을 지정하면 idx_user_activity_board(user_uid, board_type, activity_writetime, post_uid)
+    private static final Keyset FEED_KEYSET = Keyset.of("posts")
+            .desc("a.activity_writetime", "write_time", Keyset.Type.TIMESTAMP)
+            .desc("a.board_type", "board_type", Keyset.Type.STRING)
+            .desc("a.post_uid", "post_id", Keyset.Type.LONG);
+
+    private static final String FEED_SELECT = "SELECT a.board_type AS board_type, a.post_uid AS post_id, "
+            + "a.activity_writetime AS write_time FROM user_activity a WHERE a.user_uid = ? ";
+
+    // 사용자 ID -> 게시판별 글 수 (Board 순서, 색인이 바뀌면 항목을 지우고 다음 조회 때 다시 읽음)
+    private static final Map<Long, int[]> counts = new ConcurrentHashMap<>();
+    // 캐시 항목을 지울 때마다 증가 - 지우기 전에 읽기 시작한 글 수를 캐시에 넣지 않기 위함
+    private static final AtomicLong countGeneration = new AtomicLong();
+    private static final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 통계
+    private static final LongAdder recorded = new LongAdder();
+    private static final LongAdder removed = new LongAdder();
+    private static final LongAdder failures = new LongAdder();
+    private static final LongAdder countHits = new LongAdder();
+    private static final LongAdder countMisses = new LongAdder();
+    private static volatile long lastRebuildAt;
+    private static volatile long lastRebuildMillis;
+
+    private UserActivity() {
+    }
+
+    /**
+     * 게시글을 작성자 색인에 추가 (호출한 쪽의 커넥션/트랜잭션에서 실행)
+     * 작성자/작성 시각은 게시판 테이블에서 읽으므로 INSERT 직후(커밋 전)에 호출
+     *
+     * @throws SQLException 추가 실패 시 (호출한 쪽에서 롤백)
+     */
+    public static void record(Connection conn, Board board, long postId) throws SQLException {
+        String sql = "INSERT IGNORE INTO user_activity (user_uid, board_type, post_uid, activity_writetime) "
+                + "SELECT user_uid, ?, " + board.idColumn + ", COALESCE(" + board.writeTimeColumn + ", NOW()) "
+                + "FROM " + board.type + " WHERE " + board.idColumn + " = ? AND " + board.deletedColumn + " <> 'deleted'";
+        int inserted;
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, board.type);
+            pstmt.setLong(2, postId);
+            inserted = pstmt.executeUpdate();
+        }
+        if (inserted > 0) {
+            recorded.increment();
+            evictCount(findAuthor(conn, board, postId));
+        }
+    }
+
+    /**
+     * 게시글을 작성자 색인에서 제거 (삭제/숨김 시, 호출한 쪽의 커넥션/트랜잭션에서 실행)
+     *
+     * @throws SQLException 제거 실패 시 (호출한 쪽에서 롤백)
+     */
+    public static void remove(Connection conn, Board board, long postId) throws SQLException {
+        // 캐시된 글 수를 지울 사용자는 행이 사라지기 전에 확인
+        Long userId = findAuthor(conn, board, postId);
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "DELETE FROM user_activity WHERE board_type = ? AND post_uid = ?")) {
+            pstmt.setString(1, board.type);
+            pstmt.setLong(2, postId);
+            if (pstmt.executeUpdate() > 0) {
+                removed.increment();
+                evictCount(userId);
+            }
+        }
+    }
+
+    /**
+     * 별도 커넥션으로 색인 추가 (트랜잭션 없이 등록하는 경로용)
+     * 실패해도 원래 작업에는 영향을 주지 않고 rebuild로 복구
+     */
+    public static void recordQuietly(Board board, long postId) {
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            record(conn, board, postId);
+        } catch (SQLException e) {
+            failures.increment();
+            logger.log(Level.WARNING, "작성 글 색인 추가 실패: " + board + " ID=" + postId, e);
+        }
+    }
+
+    /**
+     * 별도 커넥션으로 색인 제거 (트랜잭션 없이 삭제하는 경로용)
+     * 실패해도 원래 작업에는 영향을 주지 않고 rebuild로 복구
+     */
+    public static void removeQuietly(Board board, long postId) {
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            remove(conn, board, postId);
+        } catch (SQLException e) {
+            failures.increment();
+            logger.log(Level.WARNING, "작성 글 색인 제거 실패: " + board + " ID=" + postId, e);
+        }
+    }
+
+    /**
+     * 사용자의 작성 글 커서 조회 (최신순)
+     *
+     * @param board 게시판 (null이면 전체)
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @throws IllegalArgumentException 잘못된 커서인 경우
+     */
+    public static KeysetPage<Entry> findAfter(long userId, Board board, String cursor, int pageSize)
+            throws SQLException {
+        String sql = FEED_SELECT + (board != null ? "AND a.board_type = ? " : "")
+                + (cursor != null ? "AND " + FEED_KEYSET.seekCondition() + " " : "")
+                + FEED_KEYSET.orderBy() + " LIMIT ?";
+        try (Connection conn = DBConnectionUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            pstmt.setLong(index++, userId);
+            if (board != null) {
+                pstmt.setString(index++, board.type);
+            }
+            index = FEED_KEYSET.bind(pstmt, index, cursor);
+            pstmt.setInt(index, pageSize + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return FEED_KEYSET.read(rs, pageSize, UserActivity::mapEntry);
+            }
+        }
+    }
+
+    /**
+     * 사용자의 작성 글 페이지 번호 조회 (최신순)
+     * OFFSET이지만 색인 테이블의 커버링 인덱스만 읽으므로 게시판 테이블 UNION보다 훨씬 가벼움
+     *
+     * @param board 게시판 (null이면 전체)
+     */
+    public static List<Entry> findPage(long userId, Board board, int offset, int limit) throws SQLException {
+        String sql = FEED_SELECT + (board != null ? "AND a.board_type = ? " : "")
+                + FEED_KEYSET.orderBy() + " LIMIT ? OFFSET ?";
+        List<Entry> entries = new ArrayList<>();
+        try (Connection conn = DBConnectionUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            pstmt.setLong(index++, userId);
+            if (board != null) {
+                pstmt.setString(index++, board.type);
+            }
+            pstmt.setInt(index++, limit);
+            pstmt.setInt(index, Math.max(offset, 0));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    entries.add(mapEntry(rs));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 사용자의 작성 글 수 (캐시 우선)
+     *
+     * @param board 게시판 (null이면 전체)
+     */
+    public static int count(long userId, Board board) throws SQLException {
+        int[] perBoard = counts.get(userId);
+        if (perBoard != null) {
+            countHits.increment();
+        } else {
+            countMisses.increment();
+            long generation = countGeneration.get();
+            perBoard = loadCounts(userId);
+            // 읽는 동안 색인이 바뀌었으면 이번 값은 캐시하지 않음
+            if (countGeneration.get() == generation) {
+                if (counts.size() >= COUNT_CACHE_SIZE) {
+                    counts.clear();
+                }
+                counts.put(userId, perBoard);
+            }
+        }
+        if (board != null) {
+            return perBoard[board.ordinal()];
+        }
+        int total = 0;
+        for (int value : perBoard) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static int[] loadCounts(long userId) throws SQLException {
+        int[] perBoard = new int[Board.values().length];
+        try (Connection conn = DBConnectionUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "SELECT board_type, COUNT(*) FROM user_activity WHERE user_uid = ? GROUP BY board_type")) {
+            pstmt.setLong(1, userId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Board board = Board.of(rs.getString(1));
+                    if (board != null) {
+                        perBoard[board.ordinal()] = rs.getInt(2);
+                    }
+                }
+            }
+        }
+        return perBoard;
+    }
+
+    private static Long findAuthor(Connection conn, Board board, long postId) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT user_uid FROM user_activity WHERE board_type = ? AND post_uid = ?")) {
+            pstmt.setString(1, board.type);
+            pstmt.setLong(2, postId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        }
+    }
+
+    // 글 수를 직접 더하고 빼지 않고 항목을 지움 (롤백/동시 갱신과 어긋날 수 있어 다음 조회 때 DB 기준으로 다시 셈)
+    private static void evictCount(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        countGeneration.incrementAndGet();
+        counts.remove(userId);
+    }
+
+    private static Entry mapEntry(ResultSet rs) throws SQLException {
+        return new Entry(rs.getString("board_type"), rs.getLong("post_id"), rs.getTimestamp("write_time"));
+    }
+
+    /**
+     * 게시판 테이블 기준으로 색인 전체를 바로잡음 (누락된 글 추가, 삭제된 글 제거)
+     *
+     * @return 게시판별 추가/제거된 행 수 또는 오류 메시지
+     */
+    public static Map<String, Object> rebuild() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            for (Board board : Board.values()) {
+                try {
+                    result.put(board.name(), rebuild(board));
+                } catch (SQLException e) {
+                    failures.increment();
+                    logger.log(Level.WARNING, "작성 글 색인 재구성 실패: " + board, e);
+                    result.put(board.name(), "실패: " + e.getMessage());
+                }
+            }
+            countGeneration.incrementAndGet();
+            counts.clear();
+            lastRebuildAt = System.currentTimeMillis();
+            lastRebuildMillis = lastRebuildAt - start;
+            return result;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static Map<String, Object> rebuild(Board board) throws SQLException {
+        String insertSql = "INSERT IGNORE INTO user_activity (user_uid, board_type, post_uid, activity_writetime) "
+                + "SELECT user_uid, ?, " + board.idColumn + ", COALESCE(" + board.writeTimeColumn + ", NOW()) "
+                + "FROM " + board.type + " WHERE " + board.deletedColumn + " <> 'deleted'";
+        String deleteSql = "DELETE a FROM user_activity a LEFT JOIN " + board.type + " t ON t." + board.idColumn
+                + " = a.post_uid WHERE a.board_type = ? AND (t." + board.idColumn + " IS NULL OR t."
+                + board.deletedColumn + " = 'deleted')";
+
+        Map<String, Object> rows = new LinkedHashMap<>();
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
+                pstmt.setString(1, board.type);
+                rows.put("added", pstmt.executeUpdate());
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(deleteSql)) {
+                pstmt.setString(1, board.type);
+                rows.put("removed", pstmt.executeUpdate());
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 색인 통계
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cachedUsers", counts.size());
+        stats.put("countCacheSize", COUNT_CACHE_SIZE);
+        stats.put("countHits", countHits.sum());
+        stats.put("countMisses", countMisses.sum());
+        stats.put("recorded", recorded.sum());
+        stats.put("removed", removed.sum());
+        stats.put("failures", failures.sum());
+        stats.put("lastRebuildAt", lastRebuildAt);
+        stats.put("lastRebuildMillis", lastRebuildMillis);
+        return stats;
+    }
+}
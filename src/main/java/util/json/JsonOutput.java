@@ -0,0 +1,342 @@
+package util.json;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * JSON을 UTF-8 바이트로 바로 출력하는 스트리밍 작성기
+ * 중간 String/StringBuilder 없이 내부 버퍼가 차면 OutputStream으로 내보냄
+ *
+ * 출력 규칙은 기존 Gson 설정(LocalDateTimeAdapter, 기본 HTML 이스케이프)과 같음
+ * - LocalDateTime: "yyyy-MM-dd HH:mm:ss"
+ * - <, >, &, =, ' 는 \\u003c 형태로 이스케이프
+ */
+public final class JsonOutput implements Flushable {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+    private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+    private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+    // 다음 값/이름 앞에 쉼표가 필요한지 (이름 뒤에서는 false)
+    private boolean needComma;
+
+    public JsonOutput(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    public JsonOutput(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[Math.max(64, bufferSize)];
+    }
+
+    /**
+     * 속성 이름을 미리 인코딩 ("name": 형태의 UTF-8 바이트)
+     */
+    public static byte[] encodeName(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 3).append('"');
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                throw new IllegalArgumentException("속성 이름에 사용할 수 없는 문자: " + name);
+            }
+            sb.append(c);
+        }
+        return sb.append("\":").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public JsonOutput beginObject() throws IOException {
+        comma();
+        writeByte('{');
+        needComma = false;
+        return this;
+    }
+
+    public JsonOutput endObject() throws IOException {
+        writeByte('}');
+        needComma = true;
+        return this;
+    }
+
+    public JsonOutput beginArray() throws IOException {
+        comma();
+        writeByte('[');
+        needComma = false;
+        return this;
+    }
+
+    public JsonOutput endArray() throws IOException {
+        writeByte(']');
+        needComma = true;
+        return this;
+    }
+
+    /**
+     * 미리 인코딩한 속성 이름 (encodeName 결과)
+     */
+    public JsonOutput name(byte[] encodedName) throws IOException {
+        comma();
+        writeBytes(encodedName);
+        needComma = false;
+        return this;
+    }
+
+    /**
+     * 속성 이름 (Map 키처럼 미리 알 수 없는 이름)
+     */
+    public JsonOutput name(String name) throws IOException {
+        comma();
+        writeQuoted(name);
+        writeByte(':');
+        needComma = false;
+        return this;
+    }
+
+    public JsonOutput nullValue() throws IOException {
+        comma();
+        writeBytes(NULL);
+        needComma = true;
+        return this;
+    }
+
+    public JsonOutput value(boolean value) throws IOException {
+        comma();
+        writeBytes(value ? TRUE : FALSE);
+        needComma = true;
+        return this;
+    }
+
+    public JsonOutput value(long value) throws IOException {
+        comma();
+        writeLong(value);
+        needComma = true;
+        return this;
+    }
+
+    /**
+     * 실수 (NaN/무한대는 JSON으로 표현할 수 없으므로 null)
+     */
+    public JsonOutput value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nullValue();
+        }
+        comma();
+        writeAscii(Double.toString(value));
+        needComma = true;
+        return this;
+    }
+
+    public JsonOutput value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        comma();
+        writeQuoted(value);
+        needComma = true;
+        return this;
+    }
+
+    /**
+     * 날짜/시간 ("yyyy-MM-dd HH:mm:ss", 포매터 없이 자릿수로 직접 출력)
+     */
+    public JsonOutput value(LocalDateTime value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return value(value.toString());
+        }
+        comma();
+        ensure(21);
+        buffer[position++] = '"';
+        digits(year, 4);
+        buffer[position++] = '-';
+        digits(value.getMonthValue(), 2);
+        buffer[position++] = '-';
+        digits(value.getDayOfMonth(), 2);
+        buffer[position++] = ' ';
+        digits(value.getHour(), 2);
+        buffer[position++] = ':';
+        digits(value.getMinute(), 2);
+        buffer[position++] = ':';
+        digits(value.getSecond(), 2);
+        buffer[position++] = '"';
+        needComma = true;
+        return this;
+    }
+
+    /**
+     * 이미 직렬화된 JSON 조각을 그대로 출력 (Gson 대체 경로용)
+     */
+    public JsonOutput rawValue(String json) throws IOException {
+        comma();
+        writeUtf8(json, false);
+        needComma = true;
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        out.flush();
+    }
+
+    private void comma() throws IOException {
+        if (needComma) {
+            writeByte(',');
+        }
+    }
+
+    private void writeByte(char c) throws IOException {
+        ensure(1);
+        buffer[position++] = (byte) c;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - position) {
+            drain();
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeAscii(String s) throws IOException {
+        ensure(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            buffer[position++] = (byte) s.charAt(i);
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensure(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int length = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            length++;
+        }
+        int end = position + length;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+    }
+
+    private void digits(int value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += width;
+    }
+
+    private void writeQuoted(String s) throws IOException {
+        writeByte('"');
+        writeUtf8(s, true);
+        writeByte('"');
+    }
+
+    private void writeUtf8(String s, boolean escape) throws IOException {
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            // 문자 하나당 최대 6바이트 (\\u00XX 또는 4바이트 UTF-8)
+            ensure(6);
+            if (c < 0x80) {
+                if (escape && needsEscape(c)) {
+                    escape(c);
+                } else {
+                    buffer[position++] = (byte) c;
+                }
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 없는 서로게이트는 UTF-8로 표현할 수 없음
+                buffer[position++] = '?';
+            } else if (escape && (c == 0x2028 || c == 0x2029)) {
+                escape(c);
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static boolean needsEscape(char c) {
+        return c < 0x20 || c == '"' || c == '\\' || c == '<' || c == '>' || c == '&' || c == '=' || c == '\'';
+    }
+
+    private void escape(char c) {
+        buffer[position++] = '\\';
+        switch (c) {
+            case '"':
+                buffer[position++] = '"';
+                return;
+            case '\\':
+                buffer[position++] = '\\';
+                return;
+            case '\n':
+                buffer[position++] = 'n';
+                return;
+            case '\r':
+                buffer[position++] = 'r';
+                return;
+            case '\t':
+                buffer[position++] = 't';
+                return;
+            case '\b':
+                buffer[position++] = 'b';
+                return;
+            case '\f':
+                buffer[position++] = 'f';
+                return;
+            default:
+                buffer[position++] = 'u';
+                buffer[position++] = HEX[(c >> 12) & 0xF];
+                buffer[position++] = HEX[(c >> 8) & 0xF];
+                buffer[position++] = HEX[(c >> 4) & 0xF];
+                buffer[position++] = HEX[c & 0xF];
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.length - position < bytes) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -0,0 +1,372 @@
+package util.json;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import dto.board.AnswerDTO;
+import dto.board.AttachmentDTO;
+import dto.board.ChatboardDTO;
+import dto.board.CommentDTO;
+import dto.board.FreeboardCommentDTO;
+import dto.board.FreeboardDTO;
+import dto.board.NewsCommentDTO;
+import dto.board.NewsDTO;
+import dto.board.PostDTO;
+import dto.board.QuestionDTO;
+import dto.keyboard.GuideDTO;
+import dto.keyboard.KeyboardCategoryDTO;
+import dto.keyboard.KeyboardInfoDTO;
+import dto.keyboard.KeyboardScoreDTO;
+import dto.keyboard.KeyboardTagDTO;
+import dto.user.UserDTO;
+
+/**
+ * 레거시 컨트롤러 공용 JSON 직렬화
+ * 응답마다 Gson을 만들거나 StringBuilder로 문자열을 조립하지 않고
+ * response.getOutputStream()에 UTF-8 바이트로 바로 출력
+ *
+ * - dto.board / dto.keyboard / dto.user DTO는 미리 구성한 ObjectWriter로 출력 (리플렉션 없음)
+ *   속성 이름은 기존 Gson 출력과 같은 필드 이름을 사용 (UserDTO의 password는 출력하지 않음)
+ * - Map, 목록/배열, 문자열, 숫자, boolean, LocalDateTime, Date, enum은 직접 출력
+ * - 등록되지 않은 타입만 공용 Gson 인스턴스로 직렬화한 결과를 그대로 출력
+ */
+public final class JsonWriters {
+
+    private static final Map<Class<?>, ObjectWriter<?>> writers = new ConcurrentHashMap<>();
+
+    // 등록되지 않은 타입용 (한 번만 생성)
+    private static final Gson fallbackGson = new GsonBuilder()
+            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+            .create();
+
+    static {
+        registerBoardWriters();
+        registerKeyboardWriters();
+        registerUserWriters();
+    }
+
+    private JsonWriters() {
+    }
+
+    /**
+     * 타입별 작성기 등록 (같은 타입이면 교체)
+     */
+    public static <T> void register(Class<T> type, ObjectWriter<T> writer) {
+        writers.put(type, writer);
+    }
+
+    /**
+     * JSON 응답 전송 (상태 코드는 변경하지 않음)
+     */
+    public static void send(HttpServletResponse response, Object data) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        write(response.getOutputStream(), data);
+    }
+
+    /**
+     * 상태 코드와 함께 JSON 응답 전송
+     */
+    public static void send(HttpServletResponse response, int status, Object data) throws IOException {
+        response.setStatus(status);
+        send(response, data);
+    }
+
+    /**
+     * OutputStream에 JSON 출력 (스트림은 flush만 하고 닫지 않음)
+     */
+    public static void write(OutputStream out, Object data) throws IOException {
+        JsonOutput json = new JsonOutput(out);
+        writeValue(json, data);
+        json.flush();
+    }
+
+    /**
+     * JSON 문자열 (SSE 프레임처럼 문자열이 꼭 필요한 경우에만 사용)
+     */
+    public static String toJson(Object data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try {
+            write(bytes, data);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 값 하나 출력
+     */
+    @SuppressWarnings("unchecked")
+    public static void writeValue(JsonOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else if (value instanceof String) {
+            out.value((String) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            out.value(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.value(((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            out.rawValue(value.toString());
+        } else if (value instanceof Boolean) {
+            out.value((Boolean) value);
+        } else if (value instanceof LocalDateTime) {
+            out.value((LocalDateTime) value);
+        } else if (value instanceof Map) {
+            writeMap(out, (Map<?, ?>) value);
+        } else if (value instanceof Iterable) {
+            out.beginArray();
+            for (Object item : (Iterable<?>) value) {
+                writeValue(out, item);
+            }
+            out.endArray();
+        } else if (value instanceof Object[]) {
+            out.beginArray();
+            for (Object item : (Object[]) value) {
+                writeValue(out, item);
+            }
+            out.endArray();
+        } else if (value instanceof java.sql.Date) {
+            out.value(value.toString());
+        } else if (value instanceof java.sql.Timestamp) {
+            out.value(((java.sql.Timestamp) value).toLocalDateTime());
+        } else if (value instanceof java.util.Date) {
+            out.value(new java.sql.Timestamp(((java.util.Date) value).getTime()).toLocalDateTime());
+        } else if (value instanceof Enum) {
+            out.value(((Enum<?>) value).name());
+        } else if (value instanceof Character) {
+            out.value(value.toString());
+        } else {
+            ObjectWriter<Object> writer = (ObjectWriter<Object>) writers.get(value.getClass());
+            if (writer != null) {
+                writer.write(out, value);
+            } else {
+                out.rawValue(fallbackGson.toJson(value));
+            }
+        }
+    }
+
+    // Gson 기본 설정처럼 값이 null인 항목은 생략
+    private static void writeMap(JsonOutput out, Map<?, ?> map) throws IOException {
+        out.beginObject();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value != null) {
+                out.name(String.valueOf(entry.getKey()));
+                writeValue(out, value);
+            }
+        }
+        out.endObject();
+    }
+
+    private static void registerBoardWriters() {
+        register(FreeboardDTO.class, ObjectWriter.<FreeboardDTO>builder()
+                .longValue("freeboardUid", FreeboardDTO::getFreeboardUid)
+                .string("freeboardTitle", FreeboardDTO::getFreeboardTitle)
+                .string("freeboardContents", FreeboardDTO::getFreeboardContents)
+                .intValue("freeboardRead", FreeboardDTO::getFreeboardRead)
+                .intValue("freeboardRecommend", FreeboardDTO::getFreeboardRecommend)
+                .dateTime("freeboardWritetime", FreeboardDTO::getFreeboardWritetime)
+                .dateTime("freeboardModifyTime", FreeboardDTO::getFreeboardModifyTime)
+                .string("freeboardAuthorIp", FreeboardDTO::getFreeboardAuthorIp)
+                .string("freeboardNotify", FreeboardDTO::getFreeboardNotify)
+                .string("freeboardDeleted", FreeboardDTO::getFreeboardDeleted)
+                .longValue("userUid", FreeboardDTO::getUserUid)
+                .string("userName", FreeboardDTO::getUserName)
+                .intValue("commentCount", FreeboardDTO::getCommentCount)
+                .build());
+
+        register(FreeboardCommentDTO.class, ObjectWriter.<FreeboardCommentDTO>builder()
+                .longValue("freeboardCommentUid", FreeboardCommentDTO::getFreeboardCommentUid)
+                .string("freeboardCommentContents", FreeboardCommentDTO::getFreeboardCommentContents)
+                .dateTime("freeboardCommentWritetime", FreeboardCommentDTO::getFreeboardCommentWritetime)
+                .dateTime("freeboardCommentModifytime", FreeboardCommentDTO::getFreeboardCommentModifytime)
+                .string("freeboardCommentAuthorIp", FreeboardCommentDTO::getFreeboardCommentAuthorIp)
+                .longValue("freeboardUid", FreeboardCommentDTO::getFreeboardUid)
+                .longValue("userUid", FreeboardCommentDTO::getUserUid)
+                .string("userName", FreeboardCommentDTO::getUserName)
+                .build());
+
+        register(NewsDTO.class, ObjectWriter.<NewsDTO>builder()
+                .longValue("newsId", NewsDTO::getNewsId)
+                .string("newsTitle", NewsDTO::getNewsTitle)
+                .string("newsContents", NewsDTO::getNewsContents)
+                .intValue("newsRead", NewsDTO::getNewsRead)
+                .intValue("newsRecommend", NewsDTO::getNewsRecommend)
+                .dateTime("newsWritetime", NewsDTO::getNewsWritetime)
+                .dateTime("newsModifyTime", NewsDTO::getNewsModifyTime)
+                .string("newsAuthorIp", NewsDTO::getNewsAuthorIp)
+                .string("newsNotify", NewsDTO::getNewsNotify)
+                .string("newsDeleted", NewsDTO::getNewsDeleted)
+                .longValue("userId", NewsDTO::getUserId)
+                .string("userName", NewsDTO::getUserName)
+                .intValue("commentCount", NewsDTO::getCommentCount)
+                .build());
+
+        register(NewsCommentDTO.class, ObjectWriter.<NewsCommentDTO>builder()
+                .longValue("newsCommentId", NewsCommentDTO::getNewsCommentId)
+                .string("newsCommentContents", NewsCommentDTO::getNewsCommentContents)
+                .dateTime("newsCommentWritetime", NewsCommentDTO::getNewsCommentWritetime)
+                .dateTime("newsCommentModifytime", NewsCommentDTO::getNewsCommentModifytime)
+                .string("newsCommentAuthorIp", NewsCommentDTO::getNewsCommentAuthorIp)
+                .longValue("newsId", NewsCommentDTO::getNewsId)
+                .longValue("userId", NewsCommentDTO::getUserId)
+                .string("userName", NewsCommentDTO::getUserName)
+                .longValue("parentId", NewsCommentDTO::getParentId)
+                .build());
+
+        register(ChatboardDTO.class, ObjectWriter.<ChatboardDTO>builder()
+                .longValue("chatboardUid", ChatboardDTO::getChatboardUid)
+                .string("chatboardTitle", ChatboardDTO::getChatboardTitle)
+                .dateTime("chatboardWritetime", ChatboardDTO::getChatboardWritetime)
+                .dateTime("chatboardModifyTime", ChatboardDTO::getChatboardModifyTime)
+                .string("chatboardAuthorIp", ChatboardDTO::getChatboardAuthorIp)
+                .string("chatboardDeleted", ChatboardDTO::getChatboardDeleted)
+                .longValue("userUid", ChatboardDTO::getUserUid)
+                .string("anonymousNickname", ChatboardDTO::getAnonymousNickname)
+                .build());
+
+        register(CommentDTO.class, ObjectWriter.<CommentDTO>builder()
+                .longValue("commentId", CommentDTO::getCommentId)
+                .longValue("postId", CommentDTO::getPostId)
+                .longValue("userId", CommentDTO::getUserId)
+                .string("content", CommentDTO::getContent)
+                .dateTime("createDate", CommentDTO::getCreateDate)
+                .dateTime("updateDate", CommentDTO::getUpdateDate)
+                .string("boardType", CommentDTO::getBoardType)
+                .string("authorIp", CommentDTO::getAuthorIp)
+                .string("userName", CommentDTO::getUserName)
+                .build());
+
+        register(PostDTO.class, ObjectWriter.<PostDTO>builder()
+                .longValue("postId", PostDTO::getPostId)
+                .string("boardType", PostDTO::getBoardType)
+                .string("title", PostDTO::getTitle)
+                .string("content", PostDTO::getContent)
+                .intValue("readCount", PostDTO::getReadCount)
+                .intValue("recommendCount", PostDTO::getRecommendCount)
+                .dateTime("writeTime", PostDTO::getWriteTime)
+                .dateTime("modifyTime", PostDTO::getModifyTime)
+                .string("status", PostDTO::getStatus)
+                .longValue("userId", PostDTO::getUserId)
+                .build());
+
+        register(QuestionDTO.class, ObjectWriter.<QuestionDTO>builder()
+                .longValue("questionId", QuestionDTO::getQuestionId)
+                .string("title", QuestionDTO::getTitle)
+                .string("content", QuestionDTO::getContent)
+                .string("category", QuestionDTO::getCategory)
+                .intValue("viewCount", QuestionDTO::getViewCount)
+                .string("authorIp", QuestionDTO::getAuthorIp)
+                .longValue("userUid", QuestionDTO::getUserUid)
+                .string("userName", QuestionDTO::getUserName)
+                .dateTime("createdAt", QuestionDTO::getCreatedAt)
+                .dateTime("updatedAt", QuestionDTO::getUpdatedAt)
+                .string("status", QuestionDTO::getStatus)
+                .intValue("answerCount", QuestionDTO::getAnswerCount)
+                .build());
+
+        register(AnswerDTO.class, ObjectWriter.<AnswerDTO>builder()
+                .longValue("answerId", AnswerDTO::getAnswerId)
+                .longValue("questionId", AnswerDTO::getQuestionId)
+                .string("content", AnswerDTO::getContent)
+                .string("authorIp", AnswerDTO::getAuthorIp)
+                .longValue("userUid", AnswerDTO::getUserUid)
+                .string("userName", AnswerDTO::getUserName)
+                .dateTime("createdAt", AnswerDTO::getCreatedAt)
+                .dateTime("updatedAt", AnswerDTO::getUpdatedAt)
+                .string("status", AnswerDTO::getStatus)
+                .build());
+
+        register(AttachmentDTO.class, ObjectWriter.<AttachmentDTO>builder()
+                .longValue("attachId", AttachmentDTO::getAttachId)
+                .longValue("postId", AttachmentDTO::getPostId)
+                .string("fileName", AttachmentDTO::getFileName)
+                .string("filePath", AttachmentDTO::getFilePath)
+                .longValue("fileSize", AttachmentDTO::getFileSize)
+                .dateTime("uploadDate", AttachmentDTO::getUploadDate)
+                .build());
+    }
+
+    private static void registerKeyboardWriters() {
+        register(KeyboardInfoDTO.class, ObjectWriter.<KeyboardInfoDTO>builder()
+                .longValue("keyboardId", KeyboardInfoDTO::getKeyboardId)
+                .string("name", KeyboardInfoDTO::getName)
+                .string("manufacturer", KeyboardInfoDTO::getManufacturer)
+                .string("description", KeyboardInfoDTO::getDescription)
+                .string("imageUrl", KeyboardInfoDTO::getImageUrl)
+                .doubleValue("averageScore", KeyboardInfoDTO::getAverageScore)
+                .intValue("scoreCount", KeyboardInfoDTO::getScoreCount)
+                .string("switchType", KeyboardInfoDTO::getSwitchType)
+                .string("layoutType", KeyboardInfoDTO::getLayoutType)
+                .string("connectType", KeyboardInfoDTO::getConnectType)
+                .value("tags", KeyboardInfoDTO::getTags)
+                .value("tagIds", KeyboardInfoDTO::getTagIds)
+                .string("type", KeyboardInfoDTO::getType)
+                .string("layout", KeyboardInfoDTO::getLayout)
+                .value("releaseDate", KeyboardInfoDTO::getReleaseDate)
+                .intValue("price", KeyboardInfoDTO::getPrice)
+                .longValue("categoryId", KeyboardInfoDTO::getCategoryId)
+                .value("scrapDate", KeyboardInfoDTO::getScrapDate)
+                .build());
+
+        register(KeyboardScoreDTO.class, ObjectWriter.<KeyboardScoreDTO>builder()
+                .longValue("scoreId", KeyboardScoreDTO::getScoreId)
+                .longValue("keyboardId", KeyboardScoreDTO::getKeyboardId)
+                .longValue("userId", KeyboardScoreDTO::getUserId)
+                .string("userName", KeyboardScoreDTO::getUserName)
+                .intValue("scoreValue", KeyboardScoreDTO::getScoreValue)
+                .string("review", KeyboardScoreDTO::getReview)
+                .dateTime("createdAt", KeyboardScoreDTO::getCreatedAt)
+                .string("keyboardName", KeyboardScoreDTO::getKeyboardName)
+                .build());
+
+        register(KeyboardTagDTO.class, ObjectWriter.<KeyboardTagDTO>builder()
+                .longValue("tagId", KeyboardTagDTO::getTagId)
+                .string("tagName", KeyboardTagDTO::getTagName)
+                .string("tagType", KeyboardTagDTO::getTagType)
+                .intValue("voteCount", KeyboardTagDTO::getVoteCount)
+                .string("userVote", KeyboardTagDTO::getUserVote)
+                .build());
+
+        register(KeyboardCategoryDTO.class, ObjectWriter.<KeyboardCategoryDTO>builder()
+                .longValue("keyboardCategoryUid", KeyboardCategoryDTO::getKeyboardCategoryUid)
+                .string("keyboardCategoryName", KeyboardCategoryDTO::getKeyboardCategoryName)
+                .string("description", KeyboardCategoryDTO::getDescription)
+                .string("type", KeyboardCategoryDTO::getType)
+                .build());
+
+        register(GuideDTO.class, ObjectWriter.<GuideDTO>builder()
+                .longValue("guideId", GuideDTO::getGuideId)
+                .string("term", GuideDTO::getTerm)
+                .string("description", GuideDTO::getDescription)
+                .string("category", GuideDTO::getCategory)
+                .dateTime("createDate", GuideDTO::getCreateDate)
+                .dateTime("updateDate", GuideDTO::getUpdateDate)
+                .string("url", GuideDTO::getUrl)
+                .build());
+    }
+
+    private static void registerUserWriters() {
+        register(UserDTO.class, ObjectWriter.<UserDTO>builder()
+                .longValue("userId", UserDTO::getUserId)
+                .string("username", UserDTO::getUsername)
+                .string("email", UserDTO::getEmail)
+                .string("nickname", UserDTO::getNickname)
+                .intValue("userLevel", UserDTO::getUserLevel)
+                .dateTime("registerDate", UserDTO::getRegisterDate)
+                .dateTime("lastLoginDate", UserDTO::getLastLoginDate)
+                .booleanValue("isActive", UserDTO::isActive)
+                .string("introduce", UserDTO::getIntroduce)
+                .string("userStatus", UserDTO::getUserStatus)
+                .string("userAuthority", UserDTO::getUserAuthority)
+                .build());
+    }
+}
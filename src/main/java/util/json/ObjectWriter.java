@@ -0,0 +1,116 @@
+package util.json;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 타입 하나를 JSON 객체로 출력하는 작성기
+ * 속성 목록은 builder()로 한 번만 구성하고 (이름은 UTF-8 바이트로 미리 인코딩),
+ * 출력할 때는 getter 메소드 참조만 호출하므로 리플렉션이 없음
+ *
+ * null인 문자열/날짜/객체 속성은 Gson 기본 설정처럼 생략
+ */
+@FunctionalInterface
+public interface ObjectWriter<T> {
+
+    void write(JsonOutput out, T value) throws IOException;
+
+    static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 속성 하나 (미리 인코딩한 이름 + getter)
+     */
+    @FunctionalInterface
+    interface Property<T> {
+        void write(JsonOutput out, T bean) throws IOException;
+    }
+
+    final class Builder<T> {
+        private final List<Property<T>> properties = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> longValue(String name, ToLongFunction<T> getter) {
+            byte[] encoded = JsonOutput.encodeName(name);
+            properties.add((out, bean) -> out.name(encoded).value(getter.applyAsLong(bean)));
+            return this;
+        }
+
+        public Builder<T> intValue(String name, ToIntFunction<T> getter) {
+            byte[] encoded = JsonOutput.encodeName(name);
+            properties.add((out, bean) -> out.name(encoded).value(getter.applyAsInt(bean)));
+            return this;
+        }
+
+        public Builder<T> doubleValue(String name, ToDoubleFunction<T> getter) {
+            byte[] encoded = JsonOutput.encodeName(name);
+            properties.add((out, bean) -> out.name(encoded).value(getter.applyAsDouble(bean)));
+            return this;
+        }
+
+        public Builder<T> booleanValue(String name, Predicate<T> getter) {
+            byte[] encoded = JsonOutput.encodeName(name);
+            properties.add((out, bean) -> out.name(encoded).value(getter.test(bean)));
+            return this;
+        }
+
+        public Builder<T> string(String name, Function<T, String> getter) {
+            byte[] encoded = JsonOutput.encodeName(name);
+            properties.add((out, bean) -> {
+                String value = getter.apply(bean);
+                if (value != null) {
+                    out.name(encoded).value(value);
+                }
+            });
+            return this;
+        }
+
+        public Builder<T> dateTime(String name, Function<T, LocalDateTime> getter) {
+            byte[] encoded = JsonOutput.encodeName(name);
+            properties.add((out, bean) -> {
+                LocalDateTime value = getter.apply(bean);
+                if (value != null) {
+                    out.name(encoded).value(value);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * 그 밖의 값 (목록, Map, 다른 DTO 등은 JsonWriters 규칙으로 출력)
+         */
+        public Builder<T> value(String name, Function<T, ?> getter) {
+            byte[] encoded = JsonOutput.encodeName(name);
+            properties.add((out, bean) -> {
+                Object value = getter.apply(bean);
+                if (value != null) {
+                    out.name(encoded);
+                    JsonWriters.writeValue(out, value);
+                }
+            });
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public ObjectWriter<T> build() {
+            Property<T>[] compiled = properties.toArray(new Property[0]);
+            return (out, value) -> {
+                out.beginObject();
+                for (Property<T> property : compiled) {
+                    property.write(out, value);
+                }
+                out.endObject();
+            };
+        }
+    }
+}
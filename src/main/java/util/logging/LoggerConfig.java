@@ -1,5 +1,8 @@
 package util.logging;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -13,11 +16,11 @@ import repository.dao.log.SystemLogDAO;
 /**
  * 로깅 시스템 구성을 담당하는 클래스
  * - 모든 로그: 콘솔에 출력
- * - 비즈니스 로직 관련 로그: 데이터베이스 테이블에 저장
+ * - 비즈니스 로직 관련 로그: 데이터베이스 테이블에 저장 (SystemLogWriter를 통한 비동기 배치 저장)
  */
 public class LoggerConfig {
     
-    private static final SystemLogDAO logDAO = new SystemLogDAO();
+    private static final SystemLogWriter logWriter = new SystemLogWriter(new SystemLogDAO());
     
     /**
      * 주어진 클래스에 대한 로거 인스턴스 반환
@@ -53,16 +56,10 @@ public class LoggerConfig {
                     logDTO.setLogMessage(record.getMessage());
                     logDTO.setLogClass(record.getSourceClassName());
                     logDTO.setLogMethod(record.getSourceMethodName());
+                    logDTO.setLogTimestamp(LocalDateTime.ofInstant(record.getInstant(), ZoneId.systemDefault()));
                     
-                    // 비동기적으로 DB에 저장 (파일 락 방지)
-                    new Thread(() -> {
-                        try {
-                            logDAO.addLog(logDTO);
-                        } catch (Exception e) {
-                            // 로그 저장 실패 시 콘솔에만 출력
-                            System.err.println("[로그 저장 실패] " + e.getMessage());
-                        }
-                    }).start();
+                    // 저장 대기열에 추가 (DB 저장은 작성 스레드에서 배치로 처리)
+                    logWriter.enqueue(logDTO);
                 } catch (Exception e) {
                     // 로그 처리 중 오류 발생 시 콘솔에 출력
                     System.err.println("[로그 처리 오류] " + e.getMessage());
@@ -71,7 +68,7 @@ public class LoggerConfig {
             
             @Override
             public void flush() {
-                // 필요 없음
+                // 필요 없음 (주기적 flush는 SystemLogWriter가 담당)
             }
             
             @Override
@@ -129,17 +126,25 @@ public class LoggerConfig {
         logDTO.setLogMessage(action + ": " + details);
         logDTO.setLogClass(clazz.getName());
         logDTO.setLogMethod(method);
-        logDTO.setLogTimestamp(java.time.LocalDateTime.now());
+        logDTO.setLogTimestamp(LocalDateTime.now());
         logDTO.setUserId(userId);
         
-        // 비동기적으로 DB에 저장
-        new Thread(() -> {
-            try {
-                logDAO.addLog(logDTO);
-            } catch (Exception e) {
-                // 로그 저장 실패 시 콘솔에만 출력
-                System.err.println("[로그 저장 실패] " + e.getMessage());
-            }
-        }).start();
+        // 저장 대기열에 추가 (DB 저장은 작성 스레드에서 배치로 처리)
+        logWriter.enqueue(logDTO);
+    }
+    
+    /**
+     * DB 로그 저장기 통계 (대기열 크기, 저장/버림/실패 건수 등)
+     */
+    public static Map<String, Object> getLogWriterStats() {
+        return logWriter.getStats();
+    }
+    
+    /**
+     * 대기 중인 로그를 모두 저장하고 로그 저장기 종료
+     * 커넥션 풀 종료 전에 호출해야 함
+     */
+    public static void shutdown() {
+        logWriter.shutdown(5000);
     }
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+package util.logging;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import dto.log.SystemLogDTO;
+import repository.dao.log.SystemLogDAO;
+import util.config.AppConfig;
+
+/**
+ * system_log 테이블 비동기 배치 저장기
+ * - 로그 레코드는 크기가 제한된 큐에 쌓이고, 단일 작성 스레드가 꺼내서 저장
+ * - 배치 크기에 도달하거나 flush 주기가 지나면 JDBC 배치 INSERT 한 번으로 저장
+ * - 큐가 가득 찬 경우 overflow 정책에 따라 가장 오래된 로그 버림 / 새 로그 버림 / 잠시 대기 후 버림
+ *
+ * 설정 키 (AppConfig): log.writer.queue-capacity, log.writer.batch-size, log.writer.flush-interval-ms,
+ * log.writer.overflow-policy, log.writer.block-timeout-ms
+ */
+public class SystemLogWriter {
+
+    /**
+     * 큐가 가득 찼을 때의 처리 정책
+     */
+    public enum OverflowPolicy {
+        /** 가장 오래된 로그를 버리고 새 로그를 넣음 */
+        DROP_OLDEST,
+        /** 새 로그를 버림 */
+        DROP_NEW,
+        /** 잠시(block-timeout-ms) 대기 후에도 자리가 없으면 새 로그를 버림 */
+        BLOCK
+    }
+
+    private final SystemLogDAO logDAO;
+    private final BlockingQueue<SystemLogDTO> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+
+    // 종료 요청을 알아채는 최대 대기 시간 (인터럽트로 깨우면 JDBC 배치 저장 중인 소켓이 닫힐 수 있어 쓰지 않음)
+    private static final long STOP_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    // 통계
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder flushedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+
+    public SystemLogWriter(SystemLogDAO logDAO) {
+        this.logDAO = logDAO;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, AppConfig.getInt("log.writer.queue-capacity", "LOG_WRITER_QUEUE_CAPACITY", 10_000)));
+        this.batchSize = Math.max(1, AppConfig.getInt("log.writer.batch-size", "LOG_WRITER_BATCH_SIZE", 200));
+        this.flushIntervalMs = Math.max(10, AppConfig.getLong("log.writer.flush-interval-ms", "LOG_WRITER_FLUSH_INTERVAL_MS", 1_000));
+        this.overflowPolicy = parsePolicy(AppConfig.getValue("log.writer.overflow-policy", "LOG_WRITER_OVERFLOW_POLICY", "DROP_OLDEST"));
+        this.blockTimeoutMs = AppConfig.getLong("log.writer.block-timeout-ms", "LOG_WRITER_BLOCK_TIMEOUT_MS", 50);
+
+        this.writerThread = new Thread(this::runLoop, "kirini-system-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    private static OverflowPolicy parsePolicy(String value) {
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("[SystemLogWriter] 알 수 없는 overflow 정책, DROP_OLDEST 사용: " + value);
+            return OverflowPolicy.DROP_OLDEST;
+        }
+    }
+
+    /**
+     * 로그 레코드를 저장 대기열에 추가 (호출 스레드에서 DB 작업 없음)
+     *
+     * @param logDTO 저장할 로그
+     * @return 대기열에 들어갔으면 true, 버려졌으면 false
+     */
+    public boolean enqueue(SystemLogDTO logDTO) {
+        if (!running) {
+            droppedCount.increment();
+            return false;
+        }
+
+        boolean accepted;
+        switch (overflowPolicy) {
+            case DROP_NEW:
+                accepted = queue.offer(logDTO);
+                break;
+            case BLOCK:
+                try {
+                    accepted = queue.offer(logDTO, blockTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    accepted = false;
+                }
+                break;
+            case DROP_OLDEST:
+            default:
+                accepted = queue.offer(logDTO);
+                while (!accepted) {
+                    if (queue.poll() != null) {
+                        droppedCount.increment();
+                    }
+                    accepted = queue.offer(logDTO);
+                }
+                break;
+        }
+
+        if (accepted) {
+            enqueuedCount.increment();
+        } else {
+            droppedCount.increment();
+        }
+        return accepted;
+    }
+
+    /**
+     * 작성 스레드 루프
+     * 배치가 가득 차거나 flush 주기가 되면 저장, 종료 요청 후에는 남은 로그를 모두 비우고 끝냄
+     */
+    private void runLoop() {
+        List<SystemLogDTO> batch = new ArrayList<>(batchSize);
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+
+        while (true) {
+            try {
+                long waitNanos = Math.min(deadline - System.nanoTime(), STOP_CHECK_NANOS);
+                SystemLogDTO first = waitNanos > 0 && running ? queue.poll(waitNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // 종료는 running 플래그로만 알림 - 다른 곳에서 온 인터럽트는 무시하고 계속 저장
+            }
+
+            if (batch.size() >= batchSize || System.nanoTime() - deadline >= 0) {
+                flush(batch);
+                deadline = System.nanoTime() + flushIntervalNanos;
+            }
+
+            if (!running && queue.isEmpty()) {
+                Thread.interrupted(); // 남아 있는 인터럽트 상태로 마지막 저장이 실패하지 않도록 지움
+                flush(batch);
+                return;
+            }
+        }
+    }
+
+    private void flush(List<SystemLogDTO> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            int saved = logDAO.addLogs(batch);
+            flushedCount.add(saved);
+            batchCount.increment();
+        } catch (SQLException | RuntimeException e) {
+            // 로그 저장 실패 시 콘솔에만 출력
+            failedCount.add(batch.size());
+            System.err.println("[로그 저장 실패] " + batch.size() + "건: " + e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * 새 로그 수신을 중단하고 대기열에 남은 로그를 모두 저장한 뒤 종료
+     *
+     * @param timeoutMs 최대 대기 시간
+     */
+    public void shutdown(long timeoutMs) {
+        running = false;
+        try {
+            writerThread.join(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int remaining = queue.size();
+        if (writerThread.isAlive() || remaining > 0) {
+            droppedCount.add(remaining);
+            System.err.println("[SystemLogWriter] 종료 시간 초과로 저장하지 못한 로그: " + remaining + "건");
+        }
+    }
+
+    /**
+     * 저장기 상태 및 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("running", running);
+        stats.put("overflowPolicy", overflowPolicy.name());
+        stats.put("queueSize", queue.size());
+        stats.put("queueRemainingCapacity", queue.remainingCapacity());
+        stats.put("batchSize", batchSize);
+        stats.put("flushIntervalMs", flushIntervalMs);
+        stats.put("enqueued", enqueuedCount.sum());
+        stats.put("dropped", droppedCount.sum());
+        stats.put("flushed", flushedCount.sum());
+        stats.put("failed", failedCount.sum());
+        stats.put("batches", batchCount.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,132 @@
+package util.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 분포를 기록하는 경량 히스토그램
+ * - 마이크로초 단위의 2의 거듭제곱 버킷으로 누적 (1us, 2us, 4us ... 약 33초)
+ * - 기록 시 락/할당 없이 LongAdder만 증가시키므로 요청 경로에서 사용 가능
+ * - 백분위 값은 해당 버킷의 상한값으로 근사
+ */
+public class LatencyHistogram {
+
+    // 버킷 i의 상한: 2^i 마이크로초 (마지막 버킷은 그 이상 전부)
+    private static final int BUCKET_COUNT = 26;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 지연 시간 기록
+     *
+     * @param nanos 소요 시간 (나노초)
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        long micros = nanos / 1_000;
+        int index = micros <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(micros - 1);
+        if (index >= BUCKET_COUNT) {
+            index = BUCKET_COUNT - 1;
+        }
+        buckets[index].increment();
+        count.increment();
+        totalNanos.add(nanos);
+
+        long currentMax = maxNanos.get();
+        while (nanos > currentMax && !maxNanos.compareAndSet(currentMax, nanos)) {
+            currentMax = maxNanos.get();
+        }
+    }
+
+    /**
+     * 기록된 요청 수
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 백분위 지연 시간 근사값 (마이크로초)
+     *
+     * @param percentile 0~100 사이 백분위 (예: 99.9)
+     * @return 해당 백분위가 속한 버킷의 상한값, 기록이 없으면 0
+     */
+    public long getPercentileMicros(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * (percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i].sum();
+            if (seen >= threshold) {
+                return 1L << i;
+            }
+        }
+        return 1L << (BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 평균 지연 시간 (마이크로초)
+     */
+    public double getMeanMicros() {
+        long total = count.sum();
+        return total == 0 ? 0.0 : (totalNanos.sum() / 1_000.0) / total;
+    }
+
+    /**
+     * 누적 지연 시간 (나노초)
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * 최대 지연 시간 (마이크로초)
+     */
+    public long getMaxMicros() {
+        return maxNanos.get() / 1_000;
+    }
+
+    /**
+     * 모든 기록 초기화
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+
+    /**
+     * JSON 응답용 요약 정보
+     *
+     * @return count, mean, p50, p99, p999, max (마이크로초)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", getCount());
+        summary.put("meanMicros", Math.round(getMeanMicros() * 10) / 10.0);
+        summary.put("p50Micros", getPercentileMicros(50));
+        summary.put("p99Micros", getPercentileMicros(99));
+        summary.put("p999Micros", getPercentileMicros(99.9));
+        summary.put("maxMicros", getMaxMicros());
+        return summary;
+    }
+}
@@ -0,0 +1,268 @@
+package util.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 (문서 하나 = 게시글 하나, 필드별 n-gram 빈도 보관)
+ * - 검색어의 모든 n-gram을 포함한 문서만 후보로 삼고, 가장 희귀한 n-gram의 posting부터 교집합을 구함
+ * - 점수는 필드 가중치를 둔 BM25 변형 + 첫 번째 필드(제목)에 검색어 전체가 포함되면 가산점
+ * - 읽기/쓰기 잠금으로 검색은 동시에, 색인 갱신은 단독으로 수행
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PHRASE_BONUS = 2.0;
+
+    private final String[] fieldNames;
+    private final double[] fieldWeights;
+
+    // n-gram -> (문서 ID -> 필드별 빈도)
+    private final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final long[] totalFieldLengths;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Hit(long id, double score) { }
+
+    private static final class Document {
+        final int[] fieldLengths;
+        final String[] terms;
+        final String normalizedTitle;
+
+        Document(int[] fieldLengths, String[] terms, String normalizedTitle) {
+            this.fieldLengths = fieldLengths;
+            this.terms = terms;
+            this.normalizedTitle = normalizedTitle;
+        }
+    }
+
+    /**
+     * 검색 결과 한 페이지
+     */
+    public static final class Result {
+        private final List<Long> ids;
+        private final int totalHits;
+
+        Result(List<Long> ids, int totalHits) {
+            this.ids = ids;
+            this.totalHits = totalHits;
+        }
+
+        /** 점수 순으로 정렬된 문서 ID */
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        /** 조건에 맞는 전체 문서 수 */
+        public int getTotalHits() {
+            return totalHits;
+        }
+    }
+
+    /**
+     * @param fieldNames 필드 이름 (첫 번째 필드는 제목으로 취급)
+     * @param fieldWeights 필드별 가중치
+     */
+    public InvertedIndex(String[] fieldNames, double[] fieldWeights) {
+        this.fieldNames = fieldNames.clone();
+        this.fieldWeights = fieldWeights.clone();
+        this.totalFieldLengths = new long[fieldNames.length];
+    }
+
+    /**
+     * 문서 색인 (같은 ID가 있으면 교체)
+     *
+     * @param id 문서 ID
+     * @param fieldValues 필드 값 (생성자의 필드 순서와 동일)
+     */
+    public void put(long id, String... fieldValues) {
+        int fieldCount = fieldNames.length;
+        Map<String, int[]> termFrequencies = new HashMap<>();
+        int[] fieldLengths = new int[fieldCount];
+
+        for (int field = 0; field < fieldCount && field < fieldValues.length; field++) {
+            List<String> tokens = NgramTokenizer.tokenize(fieldValues[field]);
+            fieldLengths[field] = tokens.size();
+            for (String token : tokens) {
+                termFrequencies.computeIfAbsent(token, t -> new int[fieldCount])[field]++;
+            }
+        }
+        String normalizedTitle = fieldValues.length > 0 ? NgramTokenizer.normalize(fieldValues[0]) : "";
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            for (Map.Entry<String, int[]> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(id, entry.getValue());
+            }
+            for (int field = 0; field < fieldCount; field++) {
+                totalFieldLengths[field] += fieldLengths[field];
+            }
+            documents.put(id, new Document(fieldLengths, termFrequencies.keySet().toArray(new String[0]), normalizedTitle));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(long id) {
+        Document old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String term : old.terms) {
+            Map<Long, int[]> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        for (int field = 0; field < fieldNames.length; field++) {
+            totalFieldLengths[field] -= old.fieldLengths[field];
+        }
+    }
+
+    /**
+     * 검색
+     *
+     * @param query 검색어
+     * @param fields 검색할 필드 번호 (비어 있으면 전체 필드)
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 결과 수
+     * @return 점수 순 문서 ID와 전체 일치 수
+     */
+    public Result search(String query, int[] fields, int offset, int limit) {
+        Set<String> terms = NgramTokenizer.queryTerms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return new Result(List.of(), 0);
+        }
+        boolean[] selected = selectFields(fields);
+        String normalizedQuery = NgramTokenizer.normalize(query);
+
+        lock.readLock().lock();
+        try {
+            // 희귀한 n-gram부터 교집합 (후보 수가 가장 적은 posting을 기준으로 순회)
+            List<Map<Long, int[]>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, int[]> docs = postings.get(term);
+                if (docs == null) {
+                    return new Result(List.of(), 0);
+                }
+                termPostings.add(docs);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int docCount = documents.size();
+            double[] avgLengths = new double[fieldNames.length];
+            for (int field = 0; field < fieldNames.length; field++) {
+                avgLengths[field] = docCount == 0 ? 1 : Math.max(1.0, (double) totalFieldLengths[field] / docCount);
+            }
+            double[] idf = new double[termPostings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = termPostings.get(i).size();
+                idf[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            candidates:
+            for (Map.Entry<Long, int[]> candidate : termPostings.get(0).entrySet()) {
+                long id = candidate.getKey();
+                Document doc = documents.get(id);
+                double score = 0;
+                for (int i = 0; i < termPostings.size(); i++) {
+                    int[] tf = i == 0 ? candidate.getValue() : termPostings.get(i).get(id);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    double weighted = 0;
+                    for (int field = 0; field < tf.length; field++) {
+                        if (selected[field] && tf[field] > 0) {
+                            double norm = 1 - B + B * doc.fieldLengths[field] / avgLengths[field];
+                            weighted += fieldWeights[field] * tf[field] / norm;
+                        }
+                    }
+                    if (weighted == 0) {
+                        continue candidates;
+                    }
+                    score += idf[i] * weighted * (K1 + 1) / (weighted + K1);
+                }
+                if (selected[0] && !normalizedQuery.isEmpty() && doc.normalizedTitle.contains(normalizedQuery)) {
+                    score += PHRASE_BONUS * fieldWeights[0];
+                }
+                hits.add(new Hit(id, score));
+            }
+
+            // 점수 내림차순, 동점이면 최신 문서(큰 ID) 우선
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Comparator.comparingLong(Hit::id).reversed()));
+
+            int from = Math.min(Math.max(offset, 0), hits.size());
+            int to = (int) Math.min((long) from + limit, hits.size());
+            List<Long> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ids.add(hits.get(i).id());
+            }
+            return new Result(ids, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean[] selectFields(int[] fields) {
+        boolean[] selected = new boolean[fieldNames.length];
+        if (fields == null || fields.length == 0) {
+            Arrays.fill(selected, true);
+            return selected;
+        }
+        for (int field : fields) {
+            if (field >= 0 && field < selected.length) {
+                selected[field] = true;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 n-gram 종류 수
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
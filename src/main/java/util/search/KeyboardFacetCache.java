@@ -0,0 +1,391 @@
+package util.search;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import util.config.AppConfig;
+import util.db.DBConnectionUtil;
+
+/**
+ * 키보드 정보 필터(제조사/스위치/레이아웃/연결 방식) 캐시
+ * - 키보드별 필터 값만 메모리에 한 번 읽어 두고 필터 드롭다운 목록, 필터별 키보드 수, 검색 결과 수를 DB 없이 계산
+ * - 키보드 정보는 관리자 화면에서만 바뀌므로 AdminKeyboardService의 등록/수정/삭제가 해당 키보드 한 건만 다시 읽어 반영
+ * - 반영할 때마다 버전이 올라가며, 필터 조건별 키보드 수 계산 결과는 같은 버전 안에서만 재사용
+ * - 한 건 반영에 실패하면 캐시를 비워 다음 조회 때 전체를 다시 읽음
+ *
+ * 설정 키 (AppConfig): keyboard.facet.count-cache-size (버전별로 보관할 필터 조건 수)
+ */
+public final class KeyboardFacetCache {
+
+    private static final Logger logger = Logger.getLogger(KeyboardFacetCache.class.getName());
+
+    /**
+     * 필터 항목 (keyboard_information 컬럼)
+     */
+    public enum Facet {
+        MANUFACTURER("keyboard_manufacturer"),
+        SWITCH_TYPE("keyboard_switch_type"),
+        LAYOUT_TYPE("keyboard_layout_type"),
+        CONNECT_TYPE("keyboard_connect_type");
+
+        private final String column;
+
+        Facet(String column) {
+            this.column = column;
+        }
+    }
+
+    private static final Facet[] FACETS = Facet.values();
+
+    private static final String SELECT_SQL = "SELECT k.keyboard_uid, k.keyboard_manufacturer, k.keyboard_switch_type, "
+            + "k.keyboard_layout_type, k.keyboard_connect_type FROM keyboard_information k";
+
+    private static final int COUNT_CACHE_SIZE =
+            Math.max(1, AppConfig.getInt("keyboard.facet.count-cache-size", "KEYBOARD_FACET_COUNT_CACHE_SIZE", 1000));
+
+    // 드롭다운 정렬 (MySQL 기본 collation처럼 대소문자 구분 없이, 같으면 원래 문자열 순)
+    private static final Comparator<String> VALUE_ORDER =
+            String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+
+    /**
+     * 한 시점의 캐시 내용 (변경 시 새로 만들어 통째로 교체)
+     */
+    private static final class Snapshot {
+        final long version;
+        final Map<Long, String[]> rows;
+        final Map<Facet, List<String>> values = new EnumMap<>(Facet.class);
+        final Map<String, Object> counts = new ConcurrentHashMap<>();
+
+        Snapshot(long version, Map<Long, String[]> rows) {
+            this.version = version;
+            this.rows = rows;
+            for (Facet facet : FACETS) {
+                Set<String> distinct = new TreeSet<>(VALUE_ORDER);
+                for (String[] row : rows.values()) {
+                    if (row[facet.ordinal()] != null && !row[facet.ordinal()].isEmpty()) {
+                        distinct.add(row[facet.ordinal()]);
+                    }
+                }
+                values.put(facet, Collections.unmodifiableList(new ArrayList<>(distinct)));
+            }
+        }
+    }
+
+    private static volatile Snapshot snapshot;
+    private static final ReentrantLock writeLock = new ReentrantLock();
+    private static long nextVersion = 1;
+
+    // 통계
+    private static final LongAdder loads = new LongAdder();
+    private static final LongAdder refreshes = new LongAdder();
+    private static final LongAdder countHits = new LongAdder();
+    private static final LongAdder countMisses = new LongAdder();
+    private static volatile long lastLoadMillis;
+    private static volatile long lastLoadAt;
+
+    private KeyboardFacetCache() {
+    }
+
+    /**
+     * 필터 드롭다운 값 목록 (정렬됨, 빈 값 제외, 수정 불가)
+     */
+    public static List<String> values(Facet facet) throws SQLException {
+        return current().values.get(facet);
+    }
+
+    /**
+     * 현재 조건에서 필터 값별 키보드 수
+     * 각 항목의 수는 그 항목 자신의 선택은 빼고 나머지 조건만 적용해 계산 (다른 값으로 바꿨을 때의 결과 수)
+     *
+     * @param keyword 검색어 (전문 검색 색인으로 찾은 키보드만 대상, 비어 있으면 전체)
+     * @param selected 항목별 선택 값 (null이거나 비어 있으면 조건 없음)
+     * @return 항목 이름 -> (값 -> 키보드 수), 값 순서는 드롭다운과 같음
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Map<String, Integer>> facetCounts(String keyword, Map<Facet, String> selected)
+            throws SQLException {
+        Snapshot current = current();
+        String[] filter = toFilter(selected);
+        String key = "facets|" + cacheKey(keyword, filter);
+        Object cached = current.counts.get(key);
+        if (cached != null) {
+            countHits.increment();
+            return (Map<String, Map<String, Integer>>) cached;
+        }
+        countMisses.increment();
+
+        Set<Long> keywordIds = keywordIds(keyword);
+        Map<Facet, Map<String, Integer>> tally = new EnumMap<>(Facet.class);
+        for (Facet facet : FACETS) {
+            tally.put(facet, new HashMap<>());
+        }
+        for (Map.Entry<Long, String[]> entry : current.rows.entrySet()) {
+            if (keywordIds != null && !keywordIds.contains(entry.getKey())) {
+                continue;
+            }
+            String[] row = entry.getValue();
+            int mismatch = -1;
+            boolean excluded = false;
+            for (int i = 0; i < filter.length; i++) {
+                if (filter[i] != null && !filter[i].equals(row[i])) {
+                    if (mismatch >= 0) {
+                        excluded = true;
+                        break;
+                    }
+                    mismatch = i;
+                }
+            }
+            if (excluded) {
+                continue;
+            }
+            // 모든 조건을 만족하면 모든 항목에, 한 조건만 어긋나면 그 항목에만 셈
+            for (Facet facet : FACETS) {
+                if ((mismatch < 0 || mismatch == facet.ordinal()) && row[facet.ordinal()] != null) {
+                    tally.get(facet).merge(row[facet.ordinal()], 1, Integer::sum);
+                }
+            }
+        }
+
+        Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+        for (Facet facet : FACETS) {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (String value : current.values.get(facet)) {
+                counts.put(value, tally.get(facet).getOrDefault(value, 0));
+            }
+            result.put(facet.name(), Collections.unmodifiableMap(counts));
+        }
+        result = Collections.unmodifiableMap(result);
+        remember(current, key, result);
+        return result;
+    }
+
+    /**
+     * 조건에 맞는 키보드 수 (검색 결과 페이지 수 계산용)
+     *
+     * @see #facetCounts(String, Map)
+     */
+    public static int count(String keyword, Map<Facet, String> selected) throws SQLException {
+        Snapshot current = current();
+        String[] filter = toFilter(selected);
+        String key = "count|" + cacheKey(keyword, filter);
+        Object cached = current.counts.get(key);
+        if (cached != null) {
+            countHits.increment();
+            return (Integer) cached;
+        }
+        countMisses.increment();
+
+        Set<Long> keywordIds = keywordIds(keyword);
+        int count = 0;
+        for (Map.Entry<Long, String[]> entry : current.rows.entrySet()) {
+            if (keywordIds != null && !keywordIds.contains(entry.getKey())) {
+                continue;
+            }
+            if (matches(entry.getValue(), filter)) {
+                count++;
+            }
+        }
+        remember(current, key, count);
+        return count;
+    }
+
+    /**
+     * 키보드 한 건을 DB에서 다시 읽어 반영 (등록/수정 후, 없으면 제거)
+     * 캐시를 아직 읽지 않았으면 아무것도 하지 않음
+     */
+    public static void refresh(long keyboardId) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            String[] row = null;
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + " WHERE k.keyboard_uid = ?")) {
+                pstmt.setLong(1, keyboardId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        row = readRow(rs);
+                    }
+                }
+            } catch (SQLException e) {
+                snapshot = null;
+                logger.log(Level.WARNING, "키보드 필터 캐시 갱신 실패, 다음 조회 시 다시 읽습니다: ID=" + keyboardId, e);
+                return;
+            }
+            replace(current, keyboardId, row);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 키보드 한 건을 캐시에서 제거 (삭제 후)
+     */
+    public static void remove(long keyboardId) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null && current.rows.containsKey(keyboardId)) {
+                replace(current, keyboardId, null);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 캐시를 비워 다음 조회 때 전체를 다시 읽음 (ID를 알 수 없는 일괄 변경 후)
+     */
+    public static void invalidate() {
+        writeLock.lock();
+        try {
+            snapshot = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 호출 전 writeLock 보유
+    private static void replace(Snapshot current, long keyboardId, String[] row) {
+        Map<Long, String[]> rows = new HashMap<>(current.rows);
+        if (row == null) {
+            rows.remove(keyboardId);
+        } else {
+            String[] previous = rows.put(keyboardId, row);
+            if (previous != null && Arrays.equals(previous, row)) {
+                return;
+            }
+        }
+        snapshot = new Snapshot(nextVersion++, rows);
+        refreshes.increment();
+    }
+
+    private static Snapshot current() throws SQLException {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 호출 전 writeLock 보유
+    private static Snapshot load() throws SQLException {
+        long start = System.currentTimeMillis();
+        Map<Long, String[]> rows = new HashMap<>();
+        try (Connection conn = DBConnectionUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                rows.put(rs.getLong(1), readRow(rs));
+            }
+        }
+        Snapshot loaded = new Snapshot(nextVersion++, rows);
+        loads.increment();
+        lastLoadAt = System.currentTimeMillis();
+        lastLoadMillis = lastLoadAt - start;
+        logger.info("키보드 필터 캐시 로드: 키보드 " + rows.size() + "건, " + lastLoadMillis + "ms");
+        return loaded;
+    }
+
+    private static String[] readRow(ResultSet rs) throws SQLException {
+        String[] row = new String[FACETS.length];
+        for (Facet facet : FACETS) {
+            row[facet.ordinal()] = rs.getString(facet.column);
+        }
+        return row;
+    }
+
+    private static String[] toFilter(Map<Facet, String> selected) {
+        String[] filter = new String[FACETS.length];
+        if (selected != null) {
+            for (Map.Entry<Facet, String> entry : selected.entrySet()) {
+                String value = entry.getValue();
+                if (value != null && !value.trim().isEmpty()) {
+                    filter[entry.getKey().ordinal()] = value;
+                }
+            }
+        }
+        return filter;
+    }
+
+    private static boolean matches(String[] row, String[] filter) {
+        for (int i = 0; i < filter.length; i++) {
+            if (filter[i] != null && !filter[i].equals(row[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Long> keywordIds(String keyword) throws SQLException {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        return new HashSet<>(SearchIndexManager.searchIds(SearchIndexManager.Collection.KEYBOARD, keyword, null));
+    }
+
+    private static String cacheKey(String keyword, String[] filter) {
+        StringBuilder sb = new StringBuilder(keyword == null ? "" : keyword.trim());
+        for (String value : filter) {
+            sb.append('\u0000').append(value == null ? "" : value);
+        }
+        return sb.toString();
+    }
+
+    // 키보드 검색 색인도 같은 관리자 작업에서만 바뀌므로 검색어 조건도 버전 안에서 재사용
+    private static void remember(Snapshot current, String key, Object value) {
+        if (current.counts.size() >= COUNT_CACHE_SIZE) {
+            current.counts.clear();
+        }
+        current.counts.put(key, value);
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public static Map<String, Object> getStats() {
+        Snapshot current = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("loaded", current != null);
+        stats.put("version", current != null ? current.version : 0);
+        stats.put("keyboards", current != null ? current.rows.size() : 0);
+        stats.put("cachedConditions", current != null ? current.counts.size() : 0);
+        stats.put("countCacheSize", COUNT_CACHE_SIZE);
+        stats.put("countHits", countHits.sum());
+        stats.put("countMisses", countMisses.sum());
+        stats.put("loads", loads.sum());
+        stats.put("refreshes", refreshes.sum());
+        stats.put("lastLoadMillis", lastLoadMillis);
+        stats.put("lastLoadAt", lastLoadAt);
+        return stats;
+    }
+}
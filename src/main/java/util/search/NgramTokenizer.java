@@ -0,0 +1,90 @@
+package util.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인용 n-gram 토크나이저
+ * - 한국어는 형태소 분석 없이도 부분 일치가 되도록 음절 단위 1-gram + 2-gram으로 분해
+ * - 영문/숫자도 같은 방식으로 분해해 기존 LIKE '%키워드%' 검색과 비슷한 부분 일치 결과를 냄
+ * - 글자/숫자가 아닌 문자(공백, 문장부호 등)는 구분자로 취급
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 분해 (중복 포함, 빈도 계산용)
+     *
+     * @param text 원문
+     * @return 1-gram, 2-gram 토큰 목록
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String run : splitRuns(text)) {
+            for (int i = 0; i < run.length(); i++) {
+                tokens.add(run.substring(i, i + 1));
+                if (i + 1 < run.length()) {
+                    tokens.add(run.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰 분해 (중복 제거)
+     * 두 글자 이상인 구간은 2-gram만 사용하고, 한 글자 구간만 1-gram 사용
+     *
+     * @param query 검색어
+     * @return 모두 포함되어야 하는 토큰 집합
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String run : splitRuns(query)) {
+            if (run.length() == 1) {
+                terms.add(run);
+                continue;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 비교용 정규화 (NFKC + 소문자 + 공백 정리)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static List<String> splitRuns(String text) {
+        List<String> runs = new ArrayList<>();
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                runs.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            runs.add(normalized.substring(start));
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,300 @@
+package util.search;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import util.config.AppConfig;
+import util.db.DBConnectionUtil;
+import util.metrics.LatencyHistogram;
+
+/**
+ * 게시판/용어집/키보드 정보 전문 검색 색인 관리
+ * - 컬렉션별 InvertedIndex를 메모리에 보관, 첫 검색 시 DB에서 전체 색인 (또는 관리자 재색인 요청 시)
+ * - 글 등록/수정 시 refresh, 삭제/숨김 시 remove로 해당 문서만 갱신
+ * - 재색인 중 들어온 갱신은 기록해 두었다가 새 색인으로 교체한 뒤 다시 반영
+ *
+ * 설정 키 (AppConfig): search.max-results (키워드 조건으로 넘길 최대 ID 수, 기본 1000)
+ */
+public final class SearchIndexManager {
+
+    private static final Logger logger = Logger.getLogger(SearchIndexManager.class.getName());
+
+    private static final int MAX_RESULTS =
+            Math.max(1, AppConfig.getInt("search.max-results", "SEARCH_MAX_RESULTS", 1000));
+
+    /** 게시판 공통 필드 번호 */
+    public static final int FIELD_TITLE = 0;
+    public static final int FIELD_CONTENT = 1;
+    public static final int FIELD_AUTHOR = 2;
+
+    /**
+     * 색인 대상 컬렉션
+     * 조회 SQL의 컬럼 순서: ID, 제목, 내용, (작성자)
+     */
+    public enum Collection {
+        FREEBOARD("SELECT f.freeboard_uid, f.freeboard_title, f.freeboard_contents, u.user_name "
+                + "FROM freeboard f JOIN user u ON f.user_uid = u.user_uid "
+                + "WHERE f.freeboard_deleted = 'maintained'",
+                "f.freeboard_uid", new String[]{"title", "content", "author"}, new double[]{3.0, 1.0, 2.0}),
+        NEWS("SELECT n.news_uid, n.news_title, n.news_contents, u.user_name "
+                + "FROM news n JOIN user u ON n.user_uid = u.user_uid "
+                + "WHERE n.news_deleted = 'maintained'",
+                "n.news_uid", new String[]{"title", "content", "author"}, new double[]{3.0, 1.0, 2.0}),
+        GUIDE("SELECT g.keyboard_glossary_uid, g.keyboard_glossary_title, g.keyboard_glossary_summary "
+                + "FROM keyboard_glossary g WHERE 1=1",
+                "g.keyboard_glossary_uid", new String[]{"title", "content"}, new double[]{3.0, 1.0}),
+        KEYBOARD("SELECT k.keyboard_uid, k.keyboard_name, k.keyboard_description "
+                + "FROM keyboard_information k WHERE 1=1",
+                "k.keyboard_uid", new String[]{"title", "content"}, new double[]{3.0, 1.0});
+
+        private final String selectSql;
+        private final String idColumn;
+        private final String[] fieldNames;
+        private final double[] fieldWeights;
+
+        Collection(String selectSql, String idColumn, String[] fieldNames, double[] fieldWeights) {
+            this.selectSql = selectSql;
+            this.idColumn = idColumn;
+            this.fieldNames = fieldNames;
+            this.fieldWeights = fieldWeights;
+        }
+    }
+
+    private static final class State {
+        volatile InvertedIndex index;
+        volatile boolean built;
+        volatile boolean rebuilding;
+        volatile long lastRebuildMillis;
+        volatile long lastRebuildAt;
+        final Set<Long> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+        final ReentrantLock buildLock = new ReentrantLock();
+        final LatencyHistogram searchLatency = new LatencyHistogram();
+
+        State(Collection collection) {
+            this.index = new InvertedIndex(collection.fieldNames, collection.fieldWeights);
+        }
+    }
+
+    private static final Map<Collection, State> states = new EnumMap<>(Collection.class);
+
+    static {
+        for (Collection collection : Collection.values()) {
+            states.put(collection, new State(collection));
+        }
+    }
+
+    private SearchIndexManager() {
+    }
+
+    /**
+     * 게시판 검색 유형(title/content/author/그 외)을 필드 번호로 변환
+     * 그 외(기본)는 기존 검색과 동일하게 제목 + 내용
+     */
+    public static int[] fieldsFor(String searchType) {
+        if ("title".equals(searchType)) {
+            return new int[]{FIELD_TITLE};
+        } else if ("content".equals(searchType)) {
+            return new int[]{FIELD_CONTENT};
+        } else if ("author".equals(searchType)) {
+            return new int[]{FIELD_AUTHOR};
+        }
+        return new int[]{FIELD_TITLE, FIELD_CONTENT};
+    }
+
+    /**
+     * 검색 (점수 순 페이지)
+     *
+     * @param collection 컬렉션
+     * @param keyword 검색어
+     * @param fields 검색할 필드 번호 (null이면 전체)
+     * @param page 페이지 (1부터)
+     * @param pageSize 페이지 크기
+     * @return 해당 페이지의 문서 ID와 전체 일치 수
+     * @throws SQLException 최초 색인 실패 시
+     */
+    public static InvertedIndex.Result search(Collection collection, String keyword, int[] fields,
+            int page, int pageSize) throws SQLException {
+        State state = states.get(collection);
+        ensureBuilt(collection, state);
+
+        long start = System.nanoTime();
+        try {
+            return state.index.search(keyword, fields, (Math.max(page, 1) - 1) * pageSize, pageSize);
+        } finally {
+            state.searchLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 검색 (점수 순 ID 전체, search.max-results 개까지)
+     * 다른 SQL 조건과 함께 IN 조건으로 사용할 때 사용
+     */
+    public static List<Long> searchIds(Collection collection, String keyword, int[] fields) throws SQLException {
+        return search(collection, keyword, fields, 1, MAX_RESULTS).getIds();
+    }
+
+    /**
+     * 문서 하나를 DB에서 다시 읽어 색인 갱신 (없거나 삭제 상태면 색인에서 제거)
+     * 실패해도 원래 작업에는 영향을 주지 않고, 다음 검색 때 전체 재색인
+     */
+    public static void refresh(Collection collection, long id) {
+        State state = states.get(collection);
+        if (state.rebuilding) {
+            state.touchedDuringRebuild.add(id);
+        }
+        if (!state.built) {
+            return;
+        }
+
+        String sql = collection.selectSql + " AND " + collection.idColumn + " = ?";
+        try (Connection conn = DBConnectionUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    state.index.put(id, readFields(collection, rs));
+                } else {
+                    state.index.remove(id);
+                }
+            }
+        } catch (SQLException e) {
+            state.built = false;
+            logger.log(Level.WARNING, "검색 색인 갱신 실패, 다음 검색 시 재색인합니다: "
+                    + collection + " ID=" + id, e);
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거 (삭제/숨김 처리 시)
+     */
+    public static void remove(Collection collection, long id) {
+        State state = states.get(collection);
+        if (state.rebuilding) {
+            state.touchedDuringRebuild.add(id);
+        }
+        state.index.remove(id);
+    }
+
+    /**
+     * 컬렉션 색인을 무효화해 다음 검색 때 전체 재색인
+     * 생성된 ID를 알 수 없는 등록 작업 후 사용 (용어집/키보드 정보처럼 규모가 작은 컬렉션용)
+     */
+    public static void invalidate(Collection collection) {
+        states.get(collection).built = false;
+    }
+
+    /**
+     * DB에서 컬렉션 전체를 다시 색인
+     * 새 색인을 만든 뒤 교체하므로 재색인 중에도 기존 색인으로 검색 가능
+     *
+     * @return 색인된 문서 수
+     */
+    public static int rebuild(Collection collection) throws SQLException {
+        State state = states.get(collection);
+        state.buildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            state.touchedDuringRebuild.clear();
+            state.rebuilding = true;
+
+            InvertedIndex fresh = new InvertedIndex(collection.fieldNames, collection.fieldWeights);
+            try (Connection conn = DBConnectionUtil.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(collection.selectSql);
+                 ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    fresh.put(rs.getLong(1), readFields(collection, rs));
+                }
+                state.index = fresh;
+                state.built = true;
+            } finally {
+                state.rebuilding = false;
+            }
+
+            // 재색인 중 변경된 문서는 새 색인에 다시 반영
+            for (Long id : state.touchedDuringRebuild) {
+                refresh(collection, id);
+            }
+            state.touchedDuringRebuild.clear();
+
+            state.lastRebuildMillis = System.currentTimeMillis() - start;
+            state.lastRebuildAt = System.currentTimeMillis();
+            logger.info("검색 색인 재구성 완료: " + collection + ", 문서 " + fresh.size() + "건, "
+                    + state.lastRebuildMillis + "ms");
+            return fresh.size();
+        } finally {
+            state.buildLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 컬렉션 재색인
+     *
+     * @return 컬렉션별 색인 문서 수 또는 오류 메시지
+     */
+    public static Map<String, Object> rebuildAll() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Collection collection : Collection.values()) {
+            try {
+                result.put(collection.name(), rebuild(collection));
+            } catch (SQLException e) {
+                logger.log(Level.WARNING, "검색 색인 재구성 실패: " + collection, e);
+                result.put(collection.name(), "실패: " + e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private static void ensureBuilt(Collection collection, State state) throws SQLException {
+        if (state.built) {
+            return;
+        }
+        state.buildLock.lock();
+        try {
+            if (!state.built) {
+                rebuild(collection);
+            }
+        } finally {
+            state.buildLock.unlock();
+        }
+    }
+
+    private static String[] readFields(Collection collection, ResultSet rs) throws SQLException {
+        String[] values = new String[collection.fieldNames.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rs.getString(i + 2);
+        }
+        return values;
+    }
+
+    /**
+     * 컬렉션별 색인 상태 및 검색 지연 시간
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxResults", MAX_RESULTS);
+        for (Collection collection : Collection.values()) {
+            State state = states.get(collection);
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("built", state.built);
+            item.put("rebuilding", state.rebuilding);
+            item.put("documents", state.index.size());
+            item.put("terms", state.index.termCount());
+            item.put("lastRebuildMillis", state.lastRebuildMillis);
+            item.put("lastRebuildAt", state.lastRebuildAt);
+            item.put("searchLatency", state.searchLatency.toMap());
+            stats.put(collection.name(), item);
+        }
+        return stats;
+    }
+}
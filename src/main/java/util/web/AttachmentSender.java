@@ -0,0 +1,349 @@
+package util.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import util.config.AppConfig;
+
+/**
+ * 첨부파일 다운로드 응답 전송 (게시판 공용)
+ * - ETag / Last-Modified 를 내려 주고 If-None-Match / If-Modified-Since 가 맞으면 304
+ * - Range: bytes=... 단일 구간 요청은 206 (이어받기), 범위를 벗어나면 416
+ *   여러 구간 요청이나 형식이 잘못된 Range 는 무시하고 전체 전송, If-Range 가 다르면 전체 전송
+ * - Content-Length 는 long 으로 설정 (2GB 초과 파일)
+ * - 본문은 컨테이너가 sendfile 을 지원하면(Tomcat) 파일 경로만 넘기고,
+ *   아니면 FileChannel.transferTo 로 응답 스트림에 바로 복사 (힙 버퍼 복사 루프 없음)
+ *
+ * 설정 키 (AppConfig): download.sendfile-min-bytes (이보다 작은 파일은 직접 전송)
+ *
+ * 전송 결과별 건수와 전송 바이트는 getStats()로 조회 (관리자 /admin/system/downloads)
+ */
+public final class AttachmentSender {
+
+    /** 전송 결과 */
+    public enum Result {
+        /** 전체 전송 */
+        FULL,
+        /** 0번째 바이트부터 시작하는 구간 전송 (새 다운로드) */
+        PARTIAL_FROM_START,
+        /** 중간부터 이어받기 */
+        PARTIAL,
+        /** 캐시된 사본 사용 (304) */
+        NOT_MODIFIED,
+        /** 범위 오류 (416) */
+        NOT_SATISFIABLE,
+        /** HEAD 요청 (헤더만 전송) */
+        HEAD;
+
+        /** 다운로드 수에 반영할 결과인지 (이어받기/304/HEAD 는 제외) */
+        public boolean isNewDownload() {
+            return this == FULL || this == PARTIAL_FROM_START;
+        }
+    }
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final long SENDFILE_MIN_BYTES =
+            Math.max(0, AppConfig.getLong("download.sendfile-min-bytes", "DOWNLOAD_SENDFILE_MIN_BYTES", 48 * 1024));
+
+    // parseRange 결과: 범위를 만족할 수 없음 (416)
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private static final DateTimeFormatter DATE_DIR = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    // 통계
+    private static final LongAdder requests = new LongAdder();
+    private static final LongAdder fullResponses = new LongAdder();
+    private static final LongAdder partialResponses = new LongAdder();
+    private static final LongAdder notModified = new LongAdder();
+    private static final LongAdder notSatisfiable = new LongAdder();
+    private static final LongAdder sendfileResponses = new LongAdder();
+    private static final LongAdder aborted = new LongAdder();
+    private static final LongAdder bytesSent = new LongAdder();
+
+    private AttachmentSender() {
+    }
+
+    /**
+     * 저장된 첨부파일 위치 찾기 (디렉토리를 만들지 않음)
+     * 내용 해시면 AttachmentStore 저장 위치, 아니면 업로드 날짜 폴더(yyyy/MM/dd) -> 업로드 기본 폴더 순으로 확인
+     *
+     * @param storedName DB에 저장된 파일명 (경로 부분은 무시)
+     * @param uploadDate 업로드 날짜 (없으면 기본 폴더만 확인)
+     * @return 파일, 없으면 null
+     */
+    public static File resolve(String storedName, LocalDateTime uploadDate) {
+        if (storedName == null) {
+            return null;
+        }
+        // 경로 조작 방지: 파일명 부분만 사용
+        String name = new File(storedName).getName();
+        if (name.isEmpty() || name.equals("..") || name.equals(".")) {
+            return null;
+        }
+
+        if (AttachmentStore.isContentHash(name)) {
+            File object = AttachmentStore.objectFile(name);
+            return object.isFile() ? object : null;
+        }
+
+        File baseDir = new File(AppConfig.getUploadPath());
+        if (uploadDate != null) {
+            File dated = new File(new File(baseDir, uploadDate.format(DATE_DIR)), name);
+            if (dated.isFile()) {
+                return dated;
+            }
+        }
+        File plain = new File(baseDir, name);
+        return plain.isFile() ? plain : null;
+    }
+
+    /**
+     * 첨부파일 전송 (조건부 요청/구간 요청 처리 포함)
+     *
+     * @param downloadName 내려받을 때 보여 줄 파일명 (원본 파일명)
+     * @param contentType MIME 타입 (null이면 application/octet-stream)
+     * @return 전송 결과
+     * @throws IOException 파일을 읽거나 응답을 쓰다 실패한 경우 (클라이언트 연결 끊김 포함)
+     */
+    public static Result send(HttpServletRequest request, HttpServletResponse response,
+                              File file, String downloadName, String contentType) throws IOException {
+        requests.increment();
+
+        long length = file.length();
+        // HTTP 날짜는 초 단위이므로 비교도 초 단위로
+        long lastModified = file.lastModified() / 1000 * 1000;
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Accept-Ranges", "bytes");
+        response.setHeader("Cache-Control", "private, no-cache");
+
+        if (isNotModified(request, etag, lastModified)) {
+            notModified.increment();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return Result.NOT_MODIFIED;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+
+        String range = request.getHeader("Range");
+        if (range != null && ifRangeMatches(request, etag, lastModified)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == UNSATISFIABLE) {
+                notSatisfiable.increment();
+                response.setHeader("Content-Range", "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return Result.NOT_SATISFIABLE;
+            }
+            if (parsed != null) {
+                start = parsed[0];
+                end = parsed[1];
+                partial = true;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(contentType != null ? contentType : "application/octet-stream");
+        response.setHeader("Content-Disposition", contentDisposition(downloadName != null ? downloadName : file.getName()));
+        if (partial) {
+            partialResponses.increment();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + length);
+        } else {
+            fullResponses.increment();
+            response.setStatus(HttpServletResponse.SC_OK);
+        }
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+            return Result.HEAD;
+        }
+
+        transfer(request, response, file, start, count);
+        if (!partial) {
+            return Result.FULL;
+        }
+        return start == 0 ? Result.PARTIAL_FROM_START : Result.PARTIAL;
+    }
+
+    /**
+     * 본문 전송: sendfile 위임 또는 FileChannel.transferTo
+     */
+    private static void transfer(HttpServletRequest request, HttpServletResponse response,
+                                 File file, long start, long count) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+
+        if (count >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 응답 본문은 컨테이너가 커널 sendfile로 직접 전송 (end는 배타적)
+            request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            sendfileResponses.increment();
+            bytesSent.add(count);
+            return;
+        }
+
+        long position = start;
+        long end = start + count;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // 응답 스트림은 컨테이너가 닫으므로 채널은 닫지 않음
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            while (position < end) {
+                long written = channel.transferTo(position, end - position, out);
+                if (written <= 0) {
+                    // 전송 중 파일이 줄어든 경우
+                    throw new IOException("파일 크기가 전송 중 변경되었습니다: " + file.getName());
+                }
+                position += written;
+            }
+        } catch (IOException e) {
+            aborted.increment();
+            throw e;
+        } finally {
+            bytesSent.add(position - start);
+        }
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            // If-None-Match 가 있으면 If-Modified-Since 는 보지 않음 (약한 비교)
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.equals("*")) {
+                    return true;
+                }
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long ifModifiedSince = dateHeader(request, "If-Modified-Since");
+        return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+    }
+
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // 강한 비교 (약한 ETag 는 항상 불일치)
+            return ifRange.equals(etag);
+        }
+        return dateHeader(request, "If-Range") == lastModified;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            // 날짜 형식이 잘못된 헤더는 없는 것으로 처리
+            return -1;
+        }
+    }
+
+    /**
+     * 단일 구간 Range 해석
+     *
+     * @return {시작, 끝(포함)}, 무시해야 하면 null, 범위를 벗어나면 UNSATISFIABLE
+     */
+    static long[] parseRange(String header, long length) {
+        String value = header.trim();
+        if (!value.regionMatches(true, 0, "bytes=", 0, 6) || value.indexOf(',') >= 0) {
+            return null;
+        }
+        value = value.substring(6).trim();
+        int dash = value.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        try {
+            String first = value.substring(0, dash).trim();
+            String last = value.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // 마지막 N 바이트 (bytes=-500)
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[] { Math.max(0, length - suffix), length - 1 };
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new long[] { start, Math.min(end, length - 1) };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Content-Disposition 헤더 값 (RFC 6266)
+     * ASCII 대체 이름과 UTF-8 인코딩 이름을 함께 내려 브라우저별 분기가 필요 없음
+     */
+    public static String contentDisposition(String fileName) {
+        StringBuilder fallback = new StringBuilder(fileName.length());
+        for (int i = 0; i < fileName.length(); i++) {
+            char c = fileName.charAt(i);
+            fallback.append(c >= 0x20 && c < 0x7f && c != '"' && c != '\\' ? c : '_');
+        }
+        String encoded = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20");
+        return "attachment; filename=\"" + fallback + "\"; filename*=UTF-8''" + encoded;
+    }
+
+    /**
+     * 다운로드 전송 통계
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", requests.sum());
+        stats.put("full", fullResponses.sum());
+        stats.put("partial", partialResponses.sum());
+        stats.put("notModified", notModified.sum());
+        stats.put("notSatisfiable", notSatisfiable.sum());
+        stats.put("sendfile", sendfileResponses.sum());
+        stats.put("sendfileMinBytes", SENDFILE_MIN_BYTES);
+        stats.put("aborted", aborted.sum());
+        stats.put("bytesSent", bytesSent.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,277 @@
+package util.web;
+
+import jakarta.servlet.http.Part;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import util.FileUtil;
+import util.config.AppConfig;
+import util.db.DBConnectionUtil;
+
+/**
+ * 첨부파일 내용 주소 저장소 (게시판 공용)
+ * - 업로드 파트를 한 번 읽으면서 임시 파일로 쓰고 SHA-256을 함께 계산 (Part.write 처럼 통째로 버퍼링하지 않음)
+ * - MIME 타입은 클라이언트 Content-Type 대신 앞부분 매직 바이트로 판별 (FileUtil.sniffMimeType)
+ * - 파일은 {업로드 경로}/objects/ab/cd/{sha256} 에 한 번만 저장하고,
+ *   freeboard_attach.file_path 에는 해시를 기록 (같은 내용은 같은 파일을 가리킴)
+ * - 참조 수는 같은 file_path 를 가진 freeboard_attach 행 수이며, 마지막 참조가 지워질 때 파일 삭제
+ *   저장+행 등록과 행 삭제 후 파일 정리는 해시별 잠금 안에서 수행 (정리 중인 파일에 새 참조가 붙지 않음)
+ *
+ * 전송/중복 제거 통계는 getStats()로 조회 (관리자 /admin/system/uploads)
+ */
+public final class AttachmentStore {
+
+    private static final Logger logger = Logger.getLogger(AttachmentStore.class.getName());
+
+    /** 저장된 파일 정보 */
+    public record StoredFile(String hash, long size, String mimeType, boolean deduplicated) {
+    }
+
+    /** 저장된 파일을 DB에 등록 (해시 잠금 안에서 호출) */
+    @FunctionalInterface
+    public interface Registrar {
+        boolean register(StoredFile file) throws SQLException;
+    }
+
+    /** 허용되지 않는 파일 (확장자와 실제 형식 불일치 등) */
+    public static class RejectedFileException extends IOException {
+        public RejectedFileException(String message) {
+            super(message);
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    static {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // 통계
+    private static final LongAdder uploads = new LongAdder();
+    private static final LongAdder deduplicated = new LongAdder();
+    private static final LongAdder rejected = new LongAdder();
+    private static final LongAdder bytesStored = new LongAdder();
+    private static final LongAdder bytesDeduplicated = new LongAdder();
+    private static final LongAdder objectsDeleted = new LongAdder();
+
+    private AttachmentStore() {
+    }
+
+    /**
+     * 업로드 파트 저장 후 등록
+     *
+     * @param part 업로드 파트
+     * @param fileName 원본 파일명 (확장자 확인용)
+     * @param registrar 저장된 파일을 DB에 등록 (false/예외면 새로 만든 파일을 되돌림)
+     * @return 저장된 파일, 등록에 실패하면 null
+     * @throws RejectedFileException 허용되지 않는 형식
+     */
+    public static StoredFile store(Part part, String fileName, Registrar registrar) throws IOException, SQLException {
+        Path baseDir = baseDir();
+        Path tmpDir = baseDir.resolve("tmp");
+        Files.createDirectories(tmpDir);
+
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            String mimeType;
+            long size;
+            try (InputStream in = part.getInputStream();
+                 OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+
+                // 앞부분으로 형식을 먼저 확인해 맞지 않으면 나머지를 쓰지 않음
+                int headLength = in.readNBytes(buffer, 0, FileUtil.MAGIC_BYTES_LENGTH);
+                mimeType = FileUtil.sniffMimeType(buffer, headLength, fileName);
+                if (mimeType == null) {
+                    rejected.increment();
+                    throw new RejectedFileException("허용되지 않는 파일 형식입니다: " + fileName);
+                }
+                digest.update(buffer, 0, headLength);
+                out.write(buffer, 0, headLength);
+                size = headLength;
+
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+
+            String hash = HEX.formatHex(digest.digest());
+            Path target = objectPath(baseDir, hash);
+            uploads.increment();
+
+            ReentrantLock lock = lockFor(hash);
+            lock.lock();
+            try {
+                boolean exists = Files.exists(target);
+                if (!exists) {
+                    Files.createDirectories(target.getParent());
+                    move(temp, target);
+                }
+
+                StoredFile stored = new StoredFile(hash, size, mimeType, exists);
+                boolean registered = false;
+                try {
+                    registered = registrar.register(stored);
+                } finally {
+                    if (!registered) {
+                        // 새로 만든 파일에 참조가 생기지 않았으면 정리
+                        deleteIfUnreferenced(hash, target);
+                    }
+                }
+                if (!registered) {
+                    return null;
+                }
+
+                if (exists) {
+                    deduplicated.increment();
+                    bytesDeduplicated.add(size);
+                } else {
+                    bytesStored.add(size);
+                }
+                return stored;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 첨부파일 행 삭제 후 호출: 남은 참조가 없으면 저장된 파일 삭제
+     * 해시가 아닌 예전 경로(날짜 폴더의 고유 파일명)는 행마다 파일이 따로 있으므로 바로 삭제
+     *
+     * @param filePath 삭제된 행의 file_path
+     */
+    public static void release(String filePath) {
+        try {
+            if (isContentHash(filePath)) {
+                ReentrantLock lock = lockFor(filePath);
+                lock.lock();
+                try {
+                    deleteIfUnreferenced(filePath, objectPath(baseDir(), filePath));
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+            File legacy = AttachmentSender.resolve(filePath, null);
+            if (legacy != null && legacy.delete()) {
+                objectsDeleted.increment();
+            }
+        } catch (IOException | SQLException e) {
+            logger.log(Level.WARNING, "첨부파일 정리 실패: " + filePath, e);
+        }
+    }
+
+    /**
+     * 해시로 저장된 파일 위치 (없을 수 있음)
+     */
+    public static File objectFile(String hash) {
+        return objectPath(baseDir(), hash).toFile();
+    }
+
+    /**
+     * file_path 값이 내용 주소(SHA-256 16진수)인지 확인
+     */
+    public static boolean isContentHash(String filePath) {
+        if (filePath == null || filePath.length() != 64) {
+            return false;
+        }
+        for (int i = 0; i < filePath.length(); i++) {
+            char c = filePath.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void deleteIfUnreferenced(String hash, Path target) throws IOException, SQLException {
+        if (countReferences(hash) == 0 && Files.deleteIfExists(target)) {
+            objectsDeleted.increment();
+        }
+    }
+
+    private static int countReferences(String hash) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM freeboard_attach WHERE file_path = ?";
+        try (Connection conn = DBConnectionUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, hash);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target);
+        }
+    }
+
+    private static Path baseDir() {
+        return Paths.get(AppConfig.getUploadPath());
+    }
+
+    private static Path objectPath(Path baseDir, String hash) {
+        return baseDir.resolve("objects").resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static ReentrantLock lockFor(String hash) {
+        return locks[Integer.parseInt(hash.substring(0, 2), 16) % LOCK_STRIPES];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 업로드 저장 통계
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("uploads", uploads.sum());
+        stats.put("deduplicated", deduplicated.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("bytesStored", bytesStored.sum());
+        stats.put("bytesDeduplicated", bytesDeduplicated.sum());
+        stats.put("objectsDeleted", objectsDeleted.sum());
+        return stats;
+    }
+}
@@ -3,134 +3,362 @@ package util.web;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.lang.reflect.Type;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.function.Function;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-import util.json.LocalDateTimeAdapter;
+import util.json.JsonWriters;
+import util.metrics.LatencyHistogram;
 
 /**
  * URL 경로에 따라 적절한 핸들러를 매핑하고 실행하는 유틸리티 클래스
  * JSON 응답을 위한 기능 제공
+ *
+ * 경로 패턴 (등록 시 한 번만 해석해 세그먼트 트라이로 구성)
+ * - 고정 경로: /list, /api/questions (해시 조회 한 번)
+ * - 경로 변수: /api/questions/{id:long}, /{id:int}, /{slug} (문자열)
+ *   핸들러에서는 RequestRouter.pathLong(req, "id") / pathVariable(req, "slug")로 조회
+ * - 정규식 세그먼트: /api/questions/([0-9]+) (기존 방식 호환, 세그먼트 단위로 미리 컴파일)
+ *   "." 만 있는 세그먼트(/file.json)는 고정 경로로 보고, 정규식 문자는 \로 이스케이프하면 고정 문자로 씀 (/a\+b -> "/a+b")
+ *
+ * 매칭 우선순위는 세그먼트마다 고정 경로 > long > int > 문자열 변수 > 정규식 순이며,
+ * 뒤 세그먼트가 맞지 않으면 다음 후보로 되돌아가 다시 시도
+ * 매칭 자체는 경로 문자열을 자르지 않고 위치만 옮겨 가며 비교하므로 할당이 없음
+ * (경로 변수가 있는 경로만 매칭 후 변수 값 맵을 만들고, 정규식 세그먼트는 Matcher를 만듦)
+ *
+ * JSON 핸들러의 반환값은 JsonWriters로 응답 스트림에 바로 출력
+ * getJsonCached로 등록한 경로는 비로그인 요청의 응답 바이트를 ResponseCache에 저장해 다시 씀
+ *
+ * 경로별 호출 수와 처리 시간은 getAllStats()로 조회 (관리자 /admin/system/routes)
  */
-public class RequestRouter {    private Map<String, BiConsumer<HttpServletRequest, HttpServletResponse>> getHandlers = new HashMap<>();
-    private Map<String, BiConsumer<HttpServletRequest, HttpServletResponse>> postHandlers = new HashMap<>();    private Map<String, BiFunction<HttpServletRequest, HttpServletResponse, Object>> getJsonHandlers = new HashMap<>();
-    private Map<String, BiFunction<HttpServletRequest, HttpServletResponse, Object>> postJsonHandlers = new HashMap<>();
-    
-    // GsonBuilder를 사용하여 LocalDateTime을 처리할 수 있는 Gson 인스턴스 생성
-    private static final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new util.json.LocalDateTimeAdapter())
-            .create();
-    
+public class RequestRouter {
+
+    /** 경로 변수 값 맵을 담는 요청 속성 이름 */
+    public static final String PATH_VARIABLES = RequestRouter.class.getName() + ".pathVariables";
+
+    /** 지원하는 HTTP 메소드 */
+    private enum Method {
+        GET, POST, PUT, DELETE;
+
+        static Method of(String method) {
+            for (Method value : VALUES) {
+                if (value.name().equalsIgnoreCase(method)) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        private static final Method[] VALUES = values();
+    }
+
+    /** 경로 변수 타입 (매칭 우선순위 순) */
+    private enum VarType {
+        LONG(18), INT(9), STRING(Integer.MAX_VALUE);
+
+        // 넘침 없이 파싱할 수 있는 최대 자릿수
+        private final int maxDigits;
+
+        VarType(int maxDigits) {
+            this.maxDigits = maxDigits;
+        }
+
+        boolean accepts(String path, int start, int end) {
+            if (this == STRING) {
+                return end > start;
+            }
+            if (end <= start || end - start > maxDigits) {
+                return false;
+            }
+            for (int i = start; i < end; i++) {
+                char c = path.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Object parse(String path, int start, int end) {
+            switch (this) {
+                case LONG:
+                    return Long.parseLong(path, start, end, 10);
+                case INT:
+                    return Integer.parseInt(path, start, end, 10);
+                default:
+                    return path.substring(start, end);
+            }
+        }
+    }
+
+    /**
+     * 등록된 경로 하나 (핸들러와 호출 통계)
+     */
+    private static final class Route {
+        final Method method;
+        final String pattern;
+        final BiConsumer<HttpServletRequest, HttpServletResponse> handler;
+        final BiFunction<HttpServletRequest, HttpServletResponse, Object> jsonHandler;
+        final ResponseCache.Board cacheBoard;
+        final BiConsumer<HttpServletRequest, HttpServletResponse> onCacheHit;
+        final String[] varNames;
+        final VarType[] varTypes;
+        final LongAdder hits = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        Route(Method method, String pattern, BiConsumer<HttpServletRequest, HttpServletResponse> handler,
+                BiFunction<HttpServletRequest, HttpServletResponse, Object> jsonHandler,
+                ResponseCache.Board cacheBoard, BiConsumer<HttpServletRequest, HttpServletResponse> onCacheHit,
+                String[] varNames, VarType[] varTypes) {
+            this.method = method;
+            this.pattern = pattern;
+            this.handler = handler;
+            this.jsonHandler = jsonHandler;
+            this.cacheBoard = cacheBoard;
+            this.onCacheHit = onCacheHit;
+            this.varNames = varNames;
+            this.varTypes = varTypes;
+        }
+    }
+
+    /**
+     * 트라이 노드 (경로 세그먼트 하나)
+     */
+    private static final class Node {
+        String[] literals = new String[0];
+        Node[] literalChildren = new Node[0];
+        final Node[] varChildren = new Node[VarType.values().length];
+        final String[] varChildNames = new String[VarType.values().length];
+        final List<Pattern> regexes = new ArrayList<>();
+        final List<Node> regexChildren = new ArrayList<>();
+        Route route;
+
+        Node literal(String segment) {
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            Node child = new Node();
+            literals = append(literals, segment);
+            literalChildren = append(literalChildren, child);
+            return child;
+        }
+
+        Node variable(VarType type, String name, String pattern) {
+            int index = type.ordinal();
+            if (varChildren[index] == null) {
+                varChildren[index] = new Node();
+                varChildNames[index] = name;
+            } else if (!varChildNames[index].equals(name)) {
+                throw new IllegalArgumentException("같은 위치의 " + type + " 경로 변수 이름이 다릅니다: " + pattern);
+            }
+            return varChildren[index];
+        }
+
+        Node regex(String segment) {
+            for (int i = 0; i < regexes.size(); i++) {
+                if (regexes.get(i).pattern().equals(segment)) {
+                    return regexChildren.get(i);
+                }
+            }
+            Node child = new Node();
+            regexes.add(Pattern.compile(segment));
+            regexChildren.add(child);
+            return child;
+        }
+
+        private static <T> T[] append(T[] array, T value) {
+            T[] copy = java.util.Arrays.copyOf(array, array.length + 1);
+            copy[array.length] = value;
+            return copy;
+        }
+    }
+
+    /**
+     * 메소드 하나의 경로 테이블 (고정 경로 해시 + 패턴 트라이)
+     */
+    private static final class RouteTable {
+        final Map<String, Route> exact = new HashMap<>();
+        final Node root = new Node();
+        int maxVariables;
+    }
+
+    // 경로 변수 위치 기록용 (스레드마다 재사용)
+    private static final int MAX_VARIABLES = 16;
+    private static final ThreadLocal<int[]> captureBuffer = ThreadLocal.withInitial(() -> new int[MAX_VARIABLES * 2]);
+
+    private static final List<RequestRouter> routers = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final Map<Method, RouteTable> pageRoutes = new EnumMap<>(Method.class);
+    private final Map<Method, RouteTable> jsonRoutes = new EnumMap<>(Method.class);
+    private final List<Route> allRoutes = new CopyOnWriteArrayList<>();
+
+    /**
+     * 라우터 생성 (통계 이름은 생성한 클래스 이름)
+     */
+    public RequestRouter() {
+        this(StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).getCallerClass().getSimpleName());
+    }
+
+    /**
+     * @param name 통계에 표시할 라우터 이름
+     */
+    public RequestRouter(String name) {
+        this.name = name;
+        for (Method method : Method.VALUES) {
+            pageRoutes.put(method, new RouteTable());
+            jsonRoutes.put(method, new RouteTable());
+        }
+        routers.add(this);
+    }
+
     /**
      * GET 요청 핸들러 등록
-     * 
+     *
      * @param path 요청 경로
      * @param handler 요청 처리 핸들러
      * @return 현재 라우터 인스턴스 (체이닝 지원)
      */
     public RequestRouter get(String path, BiConsumer<HttpServletRequest, HttpServletResponse> handler) {
-        getHandlers.put(path, handler);
-        return this;
+        return register(pageRoutes, Method.GET, path, handler, null);
     }
-    
+
     /**
      * POST 요청 핸들러 등록
-     * 
+     *
      * @param path 요청 경로
      * @param handler 요청 처리 핸들러
      * @return 현재 라우터 인스턴스 (체이닝 지원)
      */
     public RequestRouter post(String path, BiConsumer<HttpServletRequest, HttpServletResponse> handler) {
-        postHandlers.put(path, handler);
-        return this;
+        return register(pageRoutes, Method.POST, path, handler, null);
     }
-    
+
+    /**
+     * PUT 요청 핸들러 등록
+     */
+    public RequestRouter put(String path, BiConsumer<HttpServletRequest, HttpServletResponse> handler) {
+        return register(pageRoutes, Method.PUT, path, handler, null);
+    }
+
+    /**
+     * DELETE 요청 핸들러 등록
+     */
+    public RequestRouter delete(String path, BiConsumer<HttpServletRequest, HttpServletResponse> handler) {
+        return register(pageRoutes, Method.DELETE, path, handler, null);
+    }
+
     /**
      * 요청 경로에 해당하는 핸들러 찾기
-     * 
+     *
      * @param method HTTP 메소드
      * @param path 요청 경로
      * @return 해당 경로의 핸들러, 없으면 null
      */
     public BiConsumer<HttpServletRequest, HttpServletResponse> getHandler(String method, String path) {
-        if ("GET".equalsIgnoreCase(method)) {
-            return getHandlers.get(path);
-        } else if ("POST".equalsIgnoreCase(method)) {
-            return postHandlers.get(path);
-        }
-        return null;
+        Route route = find(pageRoutes, Method.of(method), path);
+        return route != null ? route.handler : null;
     }
-    
+
     /**
      * 라우터에 등록된 핸들러 수 반환
-     * 
-     * @return 등록된 총 핸들러 수
+     *
+     * @return 등록된 총 핸들러 수 (JSON 핸들러 제외)
      */
     public int getHandlerCount() {
-        return getHandlers.size() + postHandlers.size();
+        int count = 0;
+        for (Route route : allRoutes) {
+            if (route.handler != null) {
+                count++;
+            }
+        }
+        return count;
     }
-    
+
     /**
      * GET 요청 JSON 핸들러 등록
-     * 
+     *
      * @param path 요청 경로
      * @param handler 요청 처리 핸들러 (Object 반환, JSON으로 변환됨)
      * @return 현재 라우터 인스턴스 (체이닝 지원)
      */
     public RequestRouter getJson(String path, BiFunction<HttpServletRequest, HttpServletResponse, Object> handler) {
-        getJsonHandlers.put(path, handler);
-        return this;
+        return register(jsonRoutes, Method.GET, path, null, handler);
     }
-    
+
+    /**
+     * 응답을 캐시하는 GET 요청 JSON 핸들러 등록 (비로그인 요청만 ResponseCache에 저장/적중)
+     *
+     * @param path URL 경로
+     * @param board 무효화 단위 게시판
+     * @param handler 요청 처리 핸들러 (HTTP 200으로 끝난 응답만 저장)
+     */
+    public RequestRouter getJsonCached(String path, ResponseCache.Board board,
+            BiFunction<HttpServletRequest, HttpServletResponse, Object> handler) {
+        return getJsonCached(path, board, handler, null);
+    }
+
+    /**
+     * @param onCacheHit 캐시 적중으로 핸들러를 건너뛸 때도 실행해야 하는 부수 효과 (예: 조회수 증가)
+     */
+    public RequestRouter getJsonCached(String path, ResponseCache.Board board,
+            BiFunction<HttpServletRequest, HttpServletResponse, Object> handler,
+            BiConsumer<HttpServletRequest, HttpServletResponse> onCacheHit) {
+        return register(jsonRoutes, Method.GET, path, null, handler, board, onCacheHit);
+    }
+
     /**
      * POST 요청 JSON 핸들러 등록
-     * 
+     *
      * @param path 요청 경로
      * @param handler 요청 처리 핸들러 (Object 반환, JSON으로 변환됨)
      * @return 현재 라우터 인스턴스 (체이닝 지원)
      */
     public RequestRouter postJson(String path, BiFunction<HttpServletRequest, HttpServletResponse, Object> handler) {
-        postJsonHandlers.put(path, handler);
-        return this;
+        return register(jsonRoutes, Method.POST, path, null, handler);
+    }
+
+    /**
+     * PUT 요청 JSON 핸들러 등록
+     */
+    public RequestRouter putJson(String path, BiFunction<HttpServletRequest, HttpServletResponse, Object> handler) {
+        return register(jsonRoutes, Method.PUT, path, null, handler);
     }
-    
+
+    /**
+     * DELETE 요청 JSON 핸들러 등록
+     */
+    public RequestRouter deleteJson(String path, BiFunction<HttpServletRequest, HttpServletResponse, Object> handler) {
+        return register(jsonRoutes, Method.DELETE, path, null, handler);
+    }
+
     /**
      * 요청 경로에 해당하는 JSON 핸들러 찾기
-     * 
+     *
      * @param method HTTP 메소드
      * @param path 요청 경로
      * @return 해당 경로의 JSON 핸들러, 없으면 null
      */
     public BiFunction<HttpServletRequest, HttpServletResponse, Object> getJsonHandler(String method, String path) {
-        if ("GET".equalsIgnoreCase(method)) {
-            return getJsonHandlers.get(path);
-        } else if ("POST".equalsIgnoreCase(method)) {
-            return postJsonHandlers.get(path);
-        }
-        return null;
+        Route route = find(jsonRoutes, Method.of(method), path);
+        return route != null ? route.jsonHandler : null;
     }
-    
+
     /**
      * 요청을 처리합니다.
-     * 
+     *
      * @param request HTTP 요청
      * @param response HTTP 응답
      * @return 요청 처리 여부 (적절한 핸들러가 있어서 처리되었으면 true)
@@ -138,129 +366,371 @@ public class RequestRouter {    private Map<String, BiConsumer<HttpServletReques
      * @throws IOException 입출력 예외
      */
     public boolean handle(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
-        String method = request.getMethod();
+        Method method = Method.of(request.getMethod());
+        if (method == null) {
+            return false;
+        }
         String path = request.getPathInfo();
-        
+
         if (path == null) {
             path = "/";
         }
-        
+
         // JSON 핸들러 먼저 시도
-        if ("GET".equalsIgnoreCase(method)) {
-            if (handleGetJson(request, response)) {
-                return true;
-            }
-        } else if ("POST".equalsIgnoreCase(method)) {
-            if (handlePostJson(request, response)) {
-                return true;
-            }
+        if (request.getPathInfo() != null && handleJson(method, request, response)) {
+            return true;
         }
-        
+
         // 일반 핸들러 시도
-        BiConsumer<HttpServletRequest, HttpServletResponse> handler = getHandler(method, path);
-        if (handler != null) {
-            handler.accept(request, response);
+        Route route = find(pageRoutes, method, path);
+        if (route != null) {
+            bindVariables(route, path, request);
+            long start = System.nanoTime();
+            try {
+                route.handler.accept(request, response);
+            } finally {
+                record(route, start);
+            }
             return true;
         }
-        
+
         return false;
     }
-    
+
     /**
      * GET 요청의 JSON 핸들러를 실행하고 JSON 응답을 전송합니다.
-     * 
+     *
      * @param request HTTP 요청
      * @param response HTTP 응답
      * @return 요청 처리 여부 (적절한 핸들러가 있어서 처리되었으면 true)
      * @throws ServletException 서블릿 예외
      * @throws IOException 입출력 예외
      */
-    public boolean handleGetJson(HttpServletRequest request, HttpServletResponse response) 
+    public boolean handleGetJson(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        String pathInfo = request.getPathInfo();
-        
-        if (pathInfo == null) {
-            return false;
-        }
-        
-        // 정확히 일치하는 핸들러 먼저 확인
-        BiFunction<HttpServletRequest, HttpServletResponse, Object> handler = getJsonHandlers.get(pathInfo);
-        
-        // 정확히 일치하는 것이 없으면 정규식 패턴 확인
-        if (handler == null) {
-            for (Map.Entry<String, BiFunction<HttpServletRequest, HttpServletResponse, Object>> entry : getJsonHandlers.entrySet()) {
-                String pattern = entry.getKey();
-                if (pattern.contains("(") && pattern.contains(")")) {
-                    Pattern p = Pattern.compile(pattern);
-                    Matcher m = p.matcher(pathInfo);
-                    if (m.matches()) {
-                        handler = entry.getValue();
-                        break;
-                    }
-                }
-            }
-        }
-        
-        if (handler != null) {
-            Object result = handler.apply(request, response);
-            if (result != null) {
-                response.setContentType("application/json;charset=UTF-8");
-                PrintWriter out = response.getWriter();
-                out.print(gson.toJson(result));
-                out.flush();
-                return true;
-            }
-        }
-        
-        return false;
+        return handleJson(Method.GET, request, response);
     }
-    
+
     /**
      * POST 요청의 JSON 핸들러를 실행하고 JSON 응답을 전송합니다.
-     * 
+     *
      * @param request HTTP 요청
      * @param response HTTP 응답
      * @return 요청 처리 여부 (적절한 핸들러가 있어서 처리되었으면 true)
      * @throws ServletException 서블릿 예외
      * @throws IOException 입출력 예외
      */
-    public boolean handlePostJson(HttpServletRequest request, HttpServletResponse response) 
+    public boolean handlePostJson(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        return handleJson(Method.POST, request, response);
+    }
+
+    /**
+     * PUT 요청의 JSON 핸들러를 실행하고 JSON 응답을 전송합니다.
+     */
+    public boolean handlePutJson(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        return handleJson(Method.PUT, request, response);
+    }
+
+    /**
+     * DELETE 요청의 JSON 핸들러를 실행하고 JSON 응답을 전송합니다.
+     */
+    public boolean handleDeleteJson(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
+        return handleJson(Method.DELETE, request, response);
+    }
+
+    private boolean handleJson(Method method, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
         String pathInfo = request.getPathInfo();
-        
+
         if (pathInfo == null) {
             return false;
         }
-        
-        // 정확히 일치하는 핸들러 먼저 확인
-        BiFunction<HttpServletRequest, HttpServletResponse, Object> handler = postJsonHandlers.get(pathInfo);
-        
-        // 정확히 일치하는 것이 없으면 정규식 패턴 확인
-        if (handler == null) {
-            for (Map.Entry<String, BiFunction<HttpServletRequest, HttpServletResponse, Object>> entry : postJsonHandlers.entrySet()) {
-                String pattern = entry.getKey();
-                if (pattern.contains("(") && pattern.contains(")")) {
-                    Pattern p = Pattern.compile(pattern);
-                    Matcher m = p.matcher(pathInfo);
-                    if (m.matches()) {
-                        handler = entry.getValue();
-                        break;
-                    }
-                }
-            }
+
+        Route route = find(jsonRoutes, method, pathInfo);
+        if (route == null) {
+            return false;
         }
-        
-        if (handler != null) {
-            Object result = handler.apply(request, response);
+
+        bindVariables(route, pathInfo, request);
+        long start = System.nanoTime();
+        try {
+            if (route.cacheBoard != null && ResponseCache.isCacheable(request)) {
+                return handleCachedJson(route, request, response);
+            }
+            Object result = route.jsonHandler.apply(request, response);
             if (result != null) {
-                response.setContentType("application/json;charset=UTF-8");
-                PrintWriter out = response.getWriter();
-                out.print(gson.toJson(result));
-                out.flush();
+                JsonWriters.send(response, result);
                 return true;
             }
+            return false;
+        } finally {
+            record(route, start);
         }
-        
-        return false;
+    }
+
+    private static boolean handleCachedJson(Route route, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String key = ResponseCache.key(route.cacheBoard, request);
+        if (ResponseCache.serve(key, request, response)) {
+            if (route.onCacheHit != null) {
+                route.onCacheHit.accept(request, response);
+            }
+            return true;
+        }
+
+        // 핸들러 실행 전 세대 번호 (실행 도중 무효화되면 저장하지 않음)
+        long generation = ResponseCache.generation(route.cacheBoard);
+        Object result = route.jsonHandler.apply(request, response);
+        if (result == null) {
+            return false;
+        }
+        if (response.getStatus() != HttpServletResponse.SC_OK) {
+            JsonWriters.send(response, result);
+            return true;
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+        JsonWriters.write(body, result);
+        ResponseCache.store(key, route.cacheBoard, generation, body.toByteArray(), request, response);
+        return true;
+    }
+
+    /**
+     * 경로 변수 값 (문자열)
+     *
+     * @return 변수가 없으면 null
+     */
+    public static String pathVariable(HttpServletRequest request, String name) {
+        Object value = pathVariables(request).get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * 경로 변수 값 (숫자, {name:long} 또는 {name:int}로 등록한 변수)
+     *
+     * @throws IllegalArgumentException 변수가 없거나 숫자가 아닌 경우
+     */
+    public static long pathLong(HttpServletRequest request, String name) {
+        Object value = pathVariables(request).get(name);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("경로 변수가 없습니다: " + name);
+        }
+        return Long.parseLong(value.toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> pathVariables(HttpServletRequest request) {
+        Object variables = request.getAttribute(PATH_VARIABLES);
+        return variables instanceof Map ? (Map<String, Object>) variables : Collections.emptyMap();
+    }
+
+    private RequestRouter register(Map<Method, RouteTable> tables, Method method, String path,
+            BiConsumer<HttpServletRequest, HttpServletResponse> handler,
+            BiFunction<HttpServletRequest, HttpServletResponse, Object> jsonHandler) {
+        return register(tables, method, path, handler, jsonHandler, null, null);
+    }
+
+    private RequestRouter register(Map<Method, RouteTable> tables, Method method, String path,
+            BiConsumer<HttpServletRequest, HttpServletResponse> handler,
+            BiFunction<HttpServletRequest, HttpServletResponse, Object> jsonHandler,
+            ResponseCache.Board cacheBoard, BiConsumer<HttpServletRequest, HttpServletResponse> onCacheHit) {
+        RouteTable table = tables.get(method);
+        List<String> names = new ArrayList<>();
+        List<VarType> types = new ArrayList<>();
+        Node node = table.root;
+        boolean dynamic = false;
+        // 이스케이프를 푼 고정 경로 (정적 경로 해시 키)
+        StringBuilder literalPath = new StringBuilder(path.length());
+
+        // 첫 "/" 뒤부터 세그먼트 단위로 트라이에 추가
+        int pos = path.startsWith("/") ? 1 : 0;
+        while (pos <= path.length()) {
+            int end = path.indexOf('/', pos);
+            if (end < 0) {
+                end = path.length();
+            }
+            String segment = path.substring(pos, end);
+            if (pos > 0) {
+                literalPath.append('/');
+            }
+            String literal;
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                String[] parts = segment.substring(1, segment.length() - 1).split(":", 2);
+                VarType type = parts.length == 2 ? VarType.valueOf(parts[1].trim().toUpperCase()) : VarType.STRING;
+                names.add(parts[0].trim());
+                types.add(type);
+                node = node.variable(type, parts[0].trim(), path);
+                dynamic = true;
+            } else if ((literal = literalSegment(segment)) == null) {
+                node = node.regex(segment);
+                dynamic = true;
+            } else {
+                node = node.literal(literal);
+                literalPath.append(literal);
+            }
+            pos = end + 1;
+        }
+        if (names.size() > MAX_VARIABLES) {
+            throw new IllegalArgumentException("경로 변수는 최대 " + MAX_VARIABLES + "개입니다: " + path);
+        }
+
+        Route route = new Route(method, path, handler, jsonHandler, cacheBoard, onCacheHit,
+                names.toArray(new String[0]), types.toArray(new VarType[0]));
+        Route previous = dynamic ? node.route : table.exact.get(literalPath.toString());
+        if (previous != null) {
+            allRoutes.remove(previous);
+        }
+        if (dynamic) {
+            node.route = route;
+            table.maxVariables = Math.max(table.maxVariables, names.size());
+        } else {
+            table.exact.put(literalPath.toString(), route);
+        }
+        allRoutes.add(route);
+        return this;
+    }
+
+    /**
+     * 고정 세그먼트면 이스케이프(\x)를 푼 문자열, 정규식이면 null
+     * 이스케이프되지 않은 정규식 문자가 하나라도 있으면 정규식 ("."은 파일 확장자에 흔하므로 고정 문자로 봄)
+     */
+    private static String literalSegment(String segment) {
+        StringBuilder literal = null;
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '\\' && i + 1 < segment.length() && !Character.isLetterOrDigit(segment.charAt(i + 1))) {
+                // \. \( 등 기호 이스케이프는 그 문자 자체 (\d 같은 문자 클래스는 정규식)
+                if (literal == null) {
+                    literal = new StringBuilder(segment.length()).append(segment, 0, i);
+                }
+                literal.append(segment.charAt(++i));
+                continue;
+            }
+            if ("()[]*+?\\|^$".indexOf(c) >= 0) {
+                return null;
+            }
+            if (literal != null) {
+                literal.append(c);
+            }
+        }
+        return literal != null ? literal.toString() : segment;
+    }
+
+    private Route find(Map<Method, RouteTable> tables, Method method, String path) {
+        if (method == null || path == null) {
+            return null;
+        }
+        RouteTable table = tables.get(method);
+        Route route = table.exact.get(path);
+        if (route != null) {
+            return route;
+        }
+        int start = path.startsWith("/") ? 1 : 0;
+        return match(table.root, path, start, captureBuffer.get(), 0);
+    }
+
+    /**
+     * 트라이 매칭 (pos부터 다음 "/" 전까지가 현재 세그먼트)
+     * 경로 변수의 시작/끝 위치를 captures에 기록
+     */
+    private static Route match(Node node, String path, int pos, int[] captures, int variables) {
+        int end = path.indexOf('/', pos);
+        if (end < 0) {
+            end = path.length();
+        }
+        boolean last = end == path.length();
+        int length = end - pos;
+
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == length && path.regionMatches(pos, literal, 0, length)) {
+                Route route = next(node.literalChildren[i], path, end, last, captures, variables);
+                if (route != null) {
+                    return route;
+                }
+            }
+        }
+
+        for (VarType type : VarType.values()) {
+            Node child = node.varChildren[type.ordinal()];
+            if (child != null && variables < MAX_VARIABLES && type.accepts(path, pos, end)) {
+                captures[variables * 2] = pos;
+                captures[variables * 2 + 1] = end;
+                Route route = next(child, path, end, last, captures, variables + 1);
+                if (route != null) {
+                    return route;
+                }
+            }
+        }
+
+        for (int i = 0; i < node.regexes.size(); i++) {
+            if (node.regexes.get(i).matcher(path).region(pos, end).matches()) {
+                Route route = next(node.regexChildren.get(i), path, end, last, captures, variables);
+                if (route != null) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Route next(Node child, String path, int end, boolean last, int[] captures, int variables) {
+        if (last) {
+            return child.route;
+        }
+        return match(child, path, end + 1, captures, variables);
+    }
+
+    // 경로 변수가 있는 경로만 변수 맵을 만들어 요청 속성에 저장 (매칭 직후 같은 스레드에서 호출)
+    private static void bindVariables(Route route, String path, HttpServletRequest request) {
+        if (route.varNames.length == 0) {
+            return;
+        }
+        int[] captures = captureBuffer.get();
+        Map<String, Object> variables = new HashMap<>(route.varNames.length * 2);
+        for (int i = 0; i < route.varNames.length; i++) {
+            variables.put(route.varNames[i], route.varTypes[i].parse(path, captures[i * 2], captures[i * 2 + 1]));
+        }
+        request.setAttribute(PATH_VARIABLES, variables);
+    }
+
+    private static void record(Route route, long start) {
+        route.hits.increment();
+        route.latency.record(System.nanoTime() - start);
+    }
+
+    /**
+     * 이 라우터의 경로별 호출 수와 처리 시간
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Route route : allRoutes) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("type", route.jsonHandler != null ? "json" : "page");
+            item.put("hits", route.hits.sum());
+            item.put("latency", route.latency.toMap());
+            stats.put(route.method + " " + route.pattern, item);
+        }
+        return stats;
+    }
+
+    /**
+     * 생성된 모든 라우터의 경로별 통계 (라우터 이름별)
+     */
+    public static Map<String, Object> getAllStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (RequestRouter router : routers) {
+            String key = router.name;
+            for (int i = 2; stats.containsKey(key); i++) {
+                key = router.name + "#" + i;
+            }
+            stats.put(key, router.getStats());
+        }
+        return stats;
     }
 }
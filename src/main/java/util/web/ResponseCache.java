@@ -0,0 +1,254 @@
+package util.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPOutputStream;
+
+import util.config.AppConfig;
+
+/**
+ * 비로그인 게시판 조회 응답 캐시 (RequestRouter.getJsonCached 로 등록한 경로에만 적용)
+ * - 키: 게시판 + 요청 경로 + 이름순으로 정렬한 파라미터 (파라미터 순서가 달라도 같은 항목)
+ * - 값: 인코딩이 끝난 JSON 바이트와 (일정 크기 이상이면) 미리 gzip으로 압축한 바이트, ETag
+ *   적중 시 JSON 변환 없이 바이트를 그대로 보내고, If-None-Match가 같으면 304로 본문 없이 응답
+ * - 게시판마다 세대 번호가 있어 글 작성/수정/삭제/숨김/공지 설정, 댓글 변경 시 invalidate(게시판)로 번호만 올림
+ *   (조회 시작 전에 읽은 세대 번호로 저장하므로 조회 도중 바뀐 내용이 새 세대로 남지 않음)
+ * - 조회수·추천 수는 바뀔 때마다 무효화하지 않고 TTL(기본 30초) 동안 캐시된 값을 보여줌
+ * - 로그인 사용자 요청은 사용자별 내용이 섞일 수 있으므로 캐시하지 않음
+ * - 크기 제한과 축출은 TinyLfuCache (한 번만 읽히는 상세 페이지가 자주 읽는 목록을 밀어내지 않음)
+ *
+ * 설정 키 (AppConfig): response-cache.max-entries (0이면 캐시 안 함), response-cache.ttl-ms,
+ *                      response-cache.gzip-min-bytes, response-cache.max-entry-bytes
+ */
+public final class ResponseCache {
+
+    /**
+     * 캐시 무효화 단위
+     */
+    public enum Board {
+        FREEBOARD, NEWS, GUIDE
+    }
+
+    private record Entry(Board board, long generation, long expiresAt, byte[] body, byte[] gzipped, String etag) { }
+
+    private static final int MAX_ENTRIES =
+            Math.max(0, AppConfig.getInt("response-cache.max-entries", "RESPONSE_CACHE_MAX_ENTRIES", 2000));
+    private static final long TTL_MS =
+            Math.max(0, AppConfig.getLong("response-cache.ttl-ms", "RESPONSE_CACHE_TTL_MS", 30000));
+    private static final int GZIP_MIN_BYTES =
+            Math.max(0, AppConfig.getInt("response-cache.gzip-min-bytes", "RESPONSE_CACHE_GZIP_MIN_BYTES", 1024));
+    private static final int MAX_ENTRY_BYTES =
+            Math.max(1, AppConfig.getInt("response-cache.max-entry-bytes", "RESPONSE_CACHE_MAX_ENTRY_BYTES", 512 * 1024));
+
+    private static final TinyLfuCache<String, Entry> cache = new TinyLfuCache<>(Math.max(2, MAX_ENTRIES));
+    private static final Map<Board, AtomicLong> generations = new EnumMap<>(Board.class);
+
+    static {
+        for (Board board : Board.values()) {
+            generations.put(board, new AtomicLong());
+        }
+    }
+
+    // 통계
+    private static final LongAdder notModified = new LongAdder();
+    private static final LongAdder stale = new LongAdder();
+    private static final LongAdder stored = new LongAdder();
+    private static final LongAdder tooLarge = new LongAdder();
+    private static final LongAdder gzipResponses = new LongAdder();
+    private static final Map<Board, LongAdder> invalidations = new EnumMap<>(Board.class);
+
+    static {
+        for (Board board : Board.values()) {
+            invalidations.put(board, new LongAdder());
+        }
+    }
+
+    private ResponseCache() {
+    }
+
+    /**
+     * 게시판 캐시 무효화 (쓰기 경로에서 호출)
+     */
+    public static void invalidate(Board board) {
+        generations.get(board).incrementAndGet();
+        invalidations.get(board).increment();
+    }
+
+    /**
+     * 캐시 대상 요청인지 (GET이고 로그인하지 않은 사용자)
+     */
+    public static boolean isCacheable(HttpServletRequest request) {
+        if (MAX_ENTRIES == 0 || !"GET".equalsIgnoreCase(request.getMethod())) {
+            return false;
+        }
+        HttpSession session = request.getSession(false);
+        return session == null || session.getAttribute("user") == null;
+    }
+
+    /**
+     * 캐시 키 (게시판 + 경로 + 이름순으로 정렬한 파라미터)
+     */
+    public static String key(Board board, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(64).append(board.name()).append(' ')
+                .append(request.getServletPath());
+        if (request.getPathInfo() != null) {
+            key.append(request.getPathInfo());
+        }
+        Map<String, String[]> params = request.getParameterMap();
+        if (!params.isEmpty()) {
+            String[] names = params.keySet().toArray(new String[0]);
+            Arrays.sort(names);
+            char separator = '?';
+            for (String name : names) {
+                for (String value : params.get(name)) {
+                    key.append(separator).append(name).append('=').append(value);
+                    separator = '&';
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 현재 세대 번호 (응답을 만들기 전에 읽어 store에 넘김)
+     */
+    public static long generation(Board board) {
+        return generations.get(board).get();
+    }
+
+    /**
+     * 캐시된 응답이 있으면 전송
+     *
+     * @return 전송했으면 true, 없거나 만료/무효화되었으면 false
+     */
+    public static boolean serve(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.generation() != generation(entry.board()) || entry.expiresAt() < System.currentTimeMillis()) {
+            stale.increment();
+            cache.remove(key);
+            return false;
+        }
+        send(entry, request, response);
+        return true;
+    }
+
+    /**
+     * 응답 본문을 인코딩해 캐시에 저장하고 전송
+     *
+     * @param generation 응답을 만들기 전에 읽은 세대 번호
+     */
+    public static void store(String key, Board board, long generation, byte[] body,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (body.length > MAX_ENTRY_BYTES) {
+            tooLarge.increment();
+            response.setContentType("application/json;charset=UTF-8");
+            response.getOutputStream().write(body);
+            return;
+        }
+        Entry entry = new Entry(board, generation, System.currentTimeMillis() + TTL_MS,
+                body, body.length >= GZIP_MIN_BYTES ? gzip(body) : null, etag(body));
+        if (generation == generation(board)) {
+            cache.put(key, entry);
+            stored.increment();
+        }
+        send(entry, request, response);
+    }
+
+    private static void send(Entry entry, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader("ETag", entry.etag());
+        // 브라우저는 저장해 두되 매번 ETag로 재검증
+        response.setHeader("Cache-Control", "no-cache");
+        if (entry.gzipped() != null) {
+            response.setHeader("Vary", "Accept-Encoding");
+        }
+
+        if (matches(request.getHeader("If-None-Match"), entry.etag())) {
+            notModified.increment();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType("application/json;charset=UTF-8");
+        byte[] bytes = entry.body();
+        if (entry.gzipped() != null && acceptsGzip(request)) {
+            bytes = entry.gzipped();
+            response.setHeader("Content-Encoding", "gzip");
+            gzipResponses.increment();
+        }
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals(etag.substring(2))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders("Accept-Encoding");
+        while (headers != null && headers.hasMoreElements()) {
+            String header = headers.nextElement();
+            if (header != null && header.contains("gzip") && !header.replace(" ", "").contains("gzip;q=0")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // gzip 본문과 원본 본문 모두에 쓰므로 약한 ETag (내용 길이 + CRC32C)
+    private static String etag(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return "W/\"" + Integer.toHexString(body.length) + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 응답 캐시 통계
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(cache.getStats());
+        stats.put("ttlMs", TTL_MS);
+        stats.put("gzipMinBytes", GZIP_MIN_BYTES);
+        stats.put("stored", stored.sum());
+        stats.put("stale", stale.sum());
+        stats.put("notModified", notModified.sum());
+        stats.put("gzipResponses", gzipResponses.sum());
+        stats.put("tooLarge", tooLarge.sum());
+        Map<String, Object> boards = new LinkedHashMap<>();
+        for (Board board : Board.values()) {
+            boards.put(board.name(), Map.of("generation", generation(board), "invalidations", invalidations.get(board).sum()));
+        }
+        stats.put("boards", boards);
+        return stats;
+    }
+}
@@ -0,0 +1,307 @@
+package util.web;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크기 제한 W-TinyLFU 캐시
+ * - 새 항목은 작은 윈도우 LRU(전체의 1%)에 먼저 들어감
+ * - 윈도우에서 밀려난 항목은 메인 영역의 가장 오래된 항목(희생자)과 최근 접근 빈도를 비교해 더 자주 쓰인 쪽만 남김
+ *   (한 번 보고 마는 키가 대량으로 들어와도 자주 읽는 항목이 밀려나지 않음)
+ * - 메인 영역은 SLRU (시험 구간 20% / 보호 구간 80%), 시험 구간에서 다시 읽히면 보호 구간으로 승격
+ * - 접근 빈도는 4비트 count-min sketch로 근사하고, 샘플 수가 최대 크기의 10배가 되면 전체를 절반으로 줄여 오래된 빈도를 잊음
+ *
+ * 읽기도 순서를 바꾸므로 get/put 모두 잠금 하나로 보호 (항목 수가 작고 연산이 O(1)이라 경합 구간이 짧음)
+ */
+public final class TinyLfuCache<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private static final class Node<K, V> {
+        final K key;
+        V value;
+        int queue;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /** 원형 이중 연결 리스트 (head.next가 가장 오래된 항목) */
+    private static final class Queue<K, V> {
+        final Node<K, V> head = new Node<>(null, null);
+        int size;
+
+        Queue() {
+            clear();
+        }
+
+        void clear() {
+            head.prev = head;
+            head.next = head;
+            size = 0;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+            size++;
+        }
+
+        void remove(Node<K, V> node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        Node<K, V> first() {
+            return head.next == head ? null : head.next;
+        }
+    }
+
+    private final int maxSize;
+    private final int windowMax;
+    private final int protectedMax;
+    private final Map<K, Node<K, V>> data = new HashMap<>();
+    // WINDOW / PROBATION / PROTECTED 순서
+    private final List<Queue<K, V>> queues = List.of(new Queue<>(), new Queue<>(), new Queue<>());
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 통계
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param maxSize 최대 항목 수
+     */
+    public TinyLfuCache(int maxSize) {
+        this.maxSize = Math.max(2, maxSize);
+        this.windowMax = Math.max(1, this.maxSize / 100);
+        int mainMax = this.maxSize - windowMax;
+        this.protectedMax = Math.max(1, mainMax * 4 / 5);
+        this.sketch = new FrequencySketch(this.maxSize);
+    }
+
+    /**
+     * 캐시된 값 (없으면 null)
+     */
+    public V get(K key) {
+        lock.lock();
+        try {
+            sketch.increment(key.hashCode());
+            Node<K, V> node = data.get(key);
+            if (node == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            onAccess(node);
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 값 저장 (이미 있으면 값만 바꾸고 접근으로 처리)
+     */
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            sketch.increment(key.hashCode());
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                onAccess(node);
+                return;
+            }
+            node = new Node<>(key, value);
+            node.queue = WINDOW;
+            data.put(key, node);
+            queues.get(WINDOW).addLast(node);
+            evictFromWindow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 항목 제거
+     */
+    public void remove(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node != null) {
+                queues.get(node.queue).remove(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 비우기 (접근 빈도 기록은 유지)
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            data.clear();
+            for (Queue<K, V> queue : queues) {
+                queue.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return data.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == PROBATION) {
+            // 시험 구간에서 다시 읽힘 → 보호 구간으로 승격, 넘치면 보호 구간의 가장 오래된 항목을 시험 구간으로 강등
+            queues.get(PROBATION).remove(node);
+            node.queue = PROTECTED;
+            queues.get(PROTECTED).addLast(node);
+            if (queues.get(PROTECTED).size > protectedMax) {
+                Node<K, V> demoted = queues.get(PROTECTED).first();
+                queues.get(PROTECTED).remove(demoted);
+                demoted.queue = PROBATION;
+                queues.get(PROBATION).addLast(demoted);
+            }
+        } else {
+            queues.get(node.queue).remove(node);
+            queues.get(node.queue).addLast(node);
+        }
+    }
+
+    private void evictFromWindow() {
+        while (queues.get(WINDOW).size > windowMax) {
+            Node<K, V> candidate = queues.get(WINDOW).first();
+            queues.get(WINDOW).remove(candidate);
+
+            if (queues.get(PROBATION).size + queues.get(PROTECTED).size < maxSize - windowMax) {
+                candidate.queue = PROBATION;
+                queues.get(PROBATION).addLast(candidate);
+                continue;
+            }
+
+            Node<K, V> victim = queues.get(PROBATION).first();
+            if (victim == null) {
+                victim = queues.get(PROTECTED).first();
+            }
+            // 후보가 희생자보다 자주 쓰였을 때만 교체 (같으면 기존 항목 유지)
+            if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                queues.get(victim.queue).remove(victim);
+                data.remove(victim.key);
+                evictions.increment();
+                candidate.queue = PROBATION;
+                queues.get(PROBATION).addLast(candidate);
+            } else {
+                data.remove(candidate.key);
+                rejections.increment();
+            }
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            stats.put("size", data.size());
+            stats.put("maxSize", maxSize);
+            stats.put("window", queues.get(WINDOW).size);
+            stats.put("probation", queues.get(PROBATION).size);
+            stats.put("protected", queues.get(PROTECTED).size);
+        } finally {
+            lock.unlock();
+        }
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("rejections", rejections.sum());
+        return stats;
+    }
+
+    /**
+     * 4비트 카운터 count-min sketch (행 4개, 키마다 행별로 다른 위치의 카운터 사용)
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = { 0x97cb3127, 0xb2d8fc55, 0x5bd1e995, 0x7feb352d };
+
+        private final byte[][] rows;
+        private final int mask;
+        private final int sampleSize;
+        private int samples;
+
+        FrequencySketch(int maxSize) {
+            int width = Integer.highestOneBit(Math.max(16, maxSize - 1) << 1);
+            this.rows = new byte[SEEDS.length][width];
+            this.mask = width - 1;
+            this.sampleSize = maxSize * 10;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < rows.length; i++) {
+                int index = index(hash, i);
+                if (rows[i][index] < 15) {
+                    rows[i][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++samples >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(int hash) {
+            int frequency = 15;
+            for (int i = 0; i < rows.length; i++) {
+                frequency = Math.min(frequency, rows[i][index(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int row) {
+            int h = hash * SEEDS[row];
+            h ^= h >>> 16;
+            return h & mask;
+        }
+
+        private void reset() {
+            for (byte[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = (byte) (row[i] >>> 1);
+                }
+            }
+            samples /= 2;
+        }
+    }
+}
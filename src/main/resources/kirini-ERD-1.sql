@@ -78,7 +78,8 @@ CREATE TABLE `log_recommend` (
 	`log_recommend_post_id`	int	NOT NULL,
 	`log_recommend_date`	datetime	NOT NULL,
 	`user_uid`	int	NOT NULL,
-	PRIMARY KEY (`log_recommend_uid`)
+	PRIMARY KEY (`log_recommend_uid`),
+	UNIQUE KEY `uk_log_recommend_post_user` (`log_recommend_boardtype`, `log_recommend_post_id`, `user_uid`)
 );
 
 CREATE TABLE `log_modify_comment` (
@@ -95,6 +96,8 @@ CREATE TABLE `keyboard_information` (
 	`keyboard_information_name`	varchar(50)	NULL,
 	`keyboard_information_price`	int	NULL,
 	`keyboard_category_uid`	int	NOT NULL,
+	`keyboard_score_avg`	double	NOT NULL DEFAULT 0,
+	`keyboard_score_count`	int	NOT NULL DEFAULT 0,
 	PRIMARY KEY (`keyboard_information_uid`)
 );
 
@@ -129,6 +132,7 @@ CREATE TABLE `news` (
 	`news_modify_time`	datetime	NULL,
 	`news_author_ip`	varchar(20)	NULL,
 	`news_deleted`	enum('maintained', 'deleted')	NULL,
+	`news_comment_count`	int	NOT NULL DEFAULT 0,
 	`user_uid`	int	NOT NULL,
 	PRIMARY KEY (`news_uid`)
 );
@@ -174,6 +178,7 @@ CREATE TABLE `freeboard` (
 	`freeboard_author_ip`	varchar(20)	NULL,
 	`freeboard_notify`	enum('common', 'notification')	NULL,
 	`freeboard_deleted`	enum('maintained', 'deleted')	NULL,
+	`freeboard_comment_count`	int	NOT NULL DEFAULT 0,
 	`user_uid`	int	NOT NULL,
 	PRIMARY KEY (`freeboard_uid`)
 );
@@ -235,6 +240,7 @@ CREATE TABLE `inquiry` (
 	`inquiry_parent_uid`	int	NULL,
 	`inquiry_category`	enum('question','feedback')	NOT NULL,
 	`inquiry_read_status`	enum('read','unread')	NOT NULL,
+	`inquiry_comment_count`	int	NOT NULL DEFAULT 0,
 	PRIMARY KEY (`inquiry_uid`)
 );
 
@@ -245,10 +251,22 @@ CREATE TABLE `freeboard_attach` (
   `file_path` varchar(500) NOT NULL,
   `file_size` int NOT NULL,
   `upload_date` datetime NOT NULL,
+  `download_count` int NOT NULL DEFAULT 0,
   PRIMARY KEY (`attach_uid`),
+  -- file_path 는 내용 해시 (같은 해시의 행 수 = 저장 파일 참조 수)
+  INDEX `idx_attach_file_path` (`file_path`),
   FOREIGN KEY (`freeboard_uid`) REFERENCES `freeboard` (`freeboard_uid`)
 );
 
+-- 사용자별 작성 글 색인 (마이페이지 내가 쓴 글, 삭제/숨김된 글은 행을 지움)
+CREATE TABLE `user_activity` (
+	`user_uid`	int	NOT NULL,
+	`board_type`	varchar(20)	NOT NULL,
+	`post_uid`	int	NOT NULL,
+	`activity_writetime`	datetime	NOT NULL,
+	PRIMARY KEY (`board_type`, `post_uid`)
+);
+
 -- keyboard_score
 ALTER TABLE `keyboard_score` ADD CONSTRAINT `FK_keyboard_information_TO_keyboard_score` 
 FOREIGN KEY (`keyboard_information_uid`) REFERENCES `keyboard_information` (`keyboard_information_uid`);
@@ -341,6 +359,17 @@ CREATE INDEX idx_user_uid ON freeboard(user_uid);
 CREATE INDEX idx_freeboard_notify ON freeboard(freeboard_notify);
 CREATE INDEX idx_freeboard_deleted ON freeboard(freeboard_deleted);
 
+-- 목록 조회용 복합 인덱스 (정렬 순서까지 인덱스 범위 스캔 한 번으로 처리)
+CREATE INDEX idx_freeboard_list ON freeboard(freeboard_deleted, freeboard_notify, freeboard_writetime);
+CREATE INDEX idx_news_list ON news(news_deleted, news_writetime);
+CREATE INDEX idx_inquiry_list ON inquiry(inquiry_parent_uid, inquiry_deleted, inquiry_writetime);
+
+-- 키셋(커서) 페이징용 인덱스 (InnoDB 보조 인덱스 끝에 PK가 붙으므로 마지막 정렬 키인 uid까지 인덱스 순서로 읽음)
+CREATE INDEX idx_keyboard_information_name ON keyboard_information(keyboard_information_name);
+-- 내가 쓴 글 목록 (전체 / 게시판별로 사용자 글을 최신순으로 한 페이지만 읽음)
+CREATE INDEX idx_user_activity_feed ON user_activity(user_uid, activity_writetime, board_type, post_uid);
+CREATE INDEX idx_user_activity_board ON user_activity(user_uid, board_type, activity_writetime, post_uid);
+
 -- 전문 검색용 인덱스 (MySQL 기준)
 CREATE FULLTEXT INDEX idx_freeboard_title_contents 
 ON freeboard(freeboard_title, freeboard_contents);
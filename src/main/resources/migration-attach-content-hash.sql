@@ -0,0 +1,6 @@
+-- 첨부파일 내용 주소 저장 (kirini-ERD-1.sql로 새로 만든 DB에는 이미 포함되어 있음)
+-- 새 첨부파일의 file_path 에는 SHA-256 해시가 들어가며, 같은 해시를 가진 행 수가 저장 파일의 참조 수
+-- 참조 수 확인과 파일명 조회(getAttachmentByFilename)가 이 인덱스를 사용
+-- 기존 행(날짜 폴더의 고유 파일명)은 그대로 두어도 다운로드/삭제 모두 동작함
+
+CREATE INDEX idx_attach_file_path ON freeboard_attach(file_path);
@@ -0,0 +1,4 @@
+-- 기존 DB에 첨부파일 다운로드 수 컬럼 추가 (kirini-ERD-1.sql로 새로 만든 DB에는 이미 포함되어 있음)
+-- 다운로드 수는 ReadCountAggregator가 모아 두었다가 주기적으로 일괄 반영함
+
+ALTER TABLE `freeboard_attach` ADD COLUMN `download_count` int NOT NULL DEFAULT 0;
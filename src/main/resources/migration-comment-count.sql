@@ -0,0 +1,28 @@
+-- 기존 DB에 게시글 댓글 수 컬럼 추가 (kirini-ERD-1.sql로 새로 만든 DB에는 이미 포함되어 있음)
+-- 추가 후 한 번 채워 두고, 이후에는 댓글 등록/삭제/복원 시 함께 갱신되며 CommentCounter 대조 작업이 오차를 바로잡음
+
+ALTER TABLE `freeboard` ADD COLUMN `freeboard_comment_count` int NOT NULL DEFAULT 0;
+ALTER TABLE `news` ADD COLUMN `news_comment_count` int NOT NULL DEFAULT 0;
+ALTER TABLE `inquiry` ADD COLUMN `inquiry_comment_count` int NOT NULL DEFAULT 0;
+
+UPDATE freeboard f
+JOIN (SELECT freeboard_uid, COUNT(*) AS cnt FROM freeboard_comment GROUP BY freeboard_uid) c
+  ON c.freeboard_uid = f.freeboard_uid
+SET f.freeboard_comment_count = c.cnt;
+
+UPDATE news n
+JOIN (SELECT news_uid, COUNT(*) AS cnt FROM news_comment GROUP BY news_uid) c
+  ON c.news_uid = n.news_uid
+SET n.news_comment_count = c.cnt;
+
+UPDATE inquiry q
+JOIN (SELECT inquiry_parent_uid, COUNT(*) AS cnt FROM inquiry
+      WHERE inquiry_parent_uid IS NOT NULL AND inquiry_deleted = 'maintained'
+      GROUP BY inquiry_parent_uid) c
+  ON c.inquiry_parent_uid = q.inquiry_uid
+SET q.inquiry_comment_count = c.cnt;
+
+-- 목록 조회용 복합 인덱스
+CREATE INDEX idx_freeboard_list ON freeboard(freeboard_deleted, freeboard_notify, freeboard_writetime);
+CREATE INDEX idx_news_list ON news(news_deleted, news_writetime);
+CREATE INDEX idx_inquiry_list ON inquiry(inquiry_parent_uid, inquiry_deleted, inquiry_writetime);
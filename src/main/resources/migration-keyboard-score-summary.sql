@@ -0,0 +1,16 @@
+-- 기존 DB에 키보드 평균 점수/별점 수 컬럼 추가 (kirini-ERD-1.sql로 새로 만든 DB에는 이미 포함되어 있음)
+-- 추가 후 한 번 채워 두고, 이후에는 별점/한줄평 등록/수정/삭제 시 같은 트랜잭션에서 다시 집계됨
+-- 컬럼 이름은 KeyboardInfoDAO가 사용하는 이름(keyboard_uid) 기준
+
+ALTER TABLE `keyboard_information` ADD COLUMN `keyboard_score_avg` double NOT NULL DEFAULT 0;
+ALTER TABLE `keyboard_information` ADD COLUMN `keyboard_score_count` int NOT NULL DEFAULT 0;
+
+UPDATE keyboard_information k
+JOIN (SELECT keyboard_uid, COUNT(*) AS cnt, AVG(score_value) AS avg_value
+      FROM keyboard_score GROUP BY keyboard_uid) s
+  ON s.keyboard_uid = k.keyboard_uid
+SET k.keyboard_score_count = s.cnt, k.keyboard_score_avg = s.avg_value;
+
+-- 별점 집계 / 태그 일괄 조회용 인덱스
+CREATE INDEX idx_keyboard_score_keyboard ON keyboard_score(keyboard_uid);
+CREATE INDEX idx_keyboard_tag_relation_keyboard ON keyboard_tag_relation(keyboard_uid, vote_count);
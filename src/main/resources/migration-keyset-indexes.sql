@@ -0,0 +1,10 @@
+-- 기존 DB에 키셋(커서) 페이징용 인덱스 추가 (kirini-ERD-1.sql로 새로 만든 DB에는 이미 포함되어 있음)
+-- 목록 정렬 컬럼 순서와 같은 인덱스가 있어야 커서 다음 행을 인덱스 범위 탐색 한 번으로 읽음
+
+CREATE INDEX idx_keyboard_information_name ON keyboard_information(keyboard_information_name);
+
+CREATE INDEX idx_freeboard_user_writetime ON freeboard(user_uid, freeboard_writetime);
+CREATE INDEX idx_news_user_writetime ON news(user_uid, news_writetime);
+CREATE INDEX idx_notice_user_writetime ON notice(user_uid, notice_writetime);
+CREATE INDEX idx_inquiry_user_writetime ON inquiry(user_uid, inquiry_writetime);
+CREATE INDEX idx_chatboard_user_writetime ON chatboard(user_uid, chatboard_writetime);
@@ -0,0 +1,41 @@
+-- 기존 DB에 추천/태그 투표 유니크 키 추가 (kirini-ERD-1.sql로 새로 만든 DB에는 log_recommend 유니크 키가 이미 포함되어 있음)
+-- 추천 토글은 유니크 키에 기대어 INSERT IGNORE / DELETE 한 문장의 영향 행 수로 추천/취소를 판정함 (ReactionEngine)
+-- 키가 없으면 동시 클릭 두 번이 모두 INSERT 되어 추천 수가 두 번 오를 수 있음
+-- 유니크 키를 만들기 전에 이미 중복된 추천 로그는 가장 먼저 남은 행만 두고 지움
+
+DELETE r1 FROM log_recommend r1
+JOIN log_recommend r2
+  ON r1.log_recommend_boardtype = r2.log_recommend_boardtype
+ AND r1.log_recommend_post_id = r2.log_recommend_post_id
+ AND r1.user_uid = r2.user_uid
+ AND r1.log_recommend_uid > r2.log_recommend_uid;
+
+ALTER TABLE log_recommend
+  ADD UNIQUE KEY uk_log_recommend_post_user (log_recommend_boardtype, log_recommend_post_id, user_uid);
+
+-- 추천 수를 로그 기준으로 다시 맞춤 (중복 로그로 부풀었던 값 정리)
+UPDATE freeboard f
+   SET f.freeboard_recommend = (SELECT COUNT(*) FROM log_recommend r
+                                 WHERE r.log_recommend_boardtype = 'freeboard' AND r.log_recommend_post_id = f.freeboard_uid);
+UPDATE news n
+   SET n.news_recommend = (SELECT COUNT(*) FROM log_recommend r
+                            WHERE r.log_recommend_boardtype = 'news' AND r.log_recommend_post_id = n.news_uid);
+
+-- 키보드 태그 투표 (keyboard_tag_vote 테이블을 사용하는 DB에만 적용)
+-- KeyboardInfoDAO.voteKeyboardTag 도 같은 방식으로 (키보드, 태그, 사용자) 유니크 키를 사용함
+
+DELETE v1 FROM keyboard_tag_vote v1
+JOIN keyboard_tag_vote v2
+  ON v1.keyboard_uid = v2.keyboard_uid
+ AND v1.tag_uid = v2.tag_uid
+ AND v1.user_uid = v2.user_uid
+ AND v1.vote_date > v2.vote_date;
+
+ALTER TABLE keyboard_tag_vote
+  ADD UNIQUE KEY uk_keyboard_tag_vote_user (keyboard_uid, tag_uid, user_uid);
+
+UPDATE keyboard_tag_relation r
+   SET r.vote_count = (SELECT COUNT(*) FROM keyboard_tag_vote v
+                        WHERE v.keyboard_uid = r.keyboard_uid AND v.tag_uid = r.tag_uid AND v.vote_type = 'up')
+                    - (SELECT COUNT(*) FROM keyboard_tag_vote v
+                        WHERE v.keyboard_uid = r.keyboard_uid AND v.tag_uid = r.tag_uid AND v.vote_type = 'down');
@@ -0,0 +1,34 @@
+-- 기존 DB에 사용자별 작성 글 색인(user_activity) 추가 (kirini-ERD-1.sql로 새로 만든 DB에는 이미 포함되어 있음)
+-- 추가 후 한 번 채워 두고, 이후에는 글 등록/삭제/숨김/복원 시 함께 갱신되며
+-- 누락분은 관리자 POST /admin/system/user-activity/rebuild로 바로잡음
+
+CREATE TABLE `user_activity` (
+	`user_uid`	int	NOT NULL,
+	`board_type`	varchar(20)	NOT NULL,
+	`post_uid`	int	NOT NULL,
+	`activity_writetime`	datetime	NOT NULL,
+	PRIMARY KEY (`board_type`, `post_uid`)
+);
+
+CREATE INDEX idx_user_activity_feed ON user_activity(user_uid, activity_writetime, board_type, post_uid);
+CREATE INDEX idx_user_activity_board ON user_activity(user_uid, board_type, activity_writetime, post_uid);
+
+INSERT IGNORE INTO user_activity (user_uid, board_type, post_uid, activity_writetime)
+SELECT user_uid, 'freeboard', freeboard_uid, COALESCE(freeboard_writetime, NOW()) FROM freeboard WHERE freeboard_deleted <> 'deleted';
+
+INSERT IGNORE INTO user_activity (user_uid, board_type, post_uid, activity_writetime)
+SELECT user_uid, 'news', news_uid, COALESCE(news_writetime, NOW()) FROM news WHERE news_deleted <> 'deleted';
+
+INSERT IGNORE INTO user_activity (user_uid, board_type, post_uid, activity_writetime)
+SELECT user_uid, 'notice', notice_uid, COALESCE(notice_writetime, NOW()) FROM notice WHERE notice_deleted <> 'deleted';
+
+INSERT IGNORE INTO user_activity (user_uid, board_type, post_uid, activity_writetime)
+SELECT user_uid, 'inquiry', inquiry_uid, inquiry_writetime FROM inquiry WHERE inquiry_deleted <> 'deleted';
+
+INSERT IGNORE INTO user_activity (user_uid, board_type, post_uid, activity_writetime)
+SELECT user_uid, 'chatboard', chatboard_uid, COALESCE(chatboard_writetime, NOW()) FROM chatboard WHERE chatboard_deleted <> 'deleted';
+
+-- migration-keyset-indexes.sql의 게시판별 작성자 인덱스(idx_*_user_writetime)는 그대로 둠
+-- 내가 쓴 글 목록은 이제 user_activity를 읽으므로 그 용도로는 중복이지만,
+-- user_uid 외래 키를 받치는 인덱스라 지우면 외래 키 검사/사용자별 조회가 다른 인덱스 없이 남게 됨
+-- (news, notice 등은 user_uid로 시작하는 다른 인덱스가 없어 MySQL이 DROP INDEX 자체를 거부함)
@@ -102,6 +102,8 @@ CREATE TABLE IF NOT EXISTS `freeboard` (
     INDEX `idx_freeboard_account_uid` (`account_uid`),
     INDEX `idx_freeboard_notify` (`freeboard_notify`),
     INDEX `idx_freeboard_deleted` (`freeboard_deleted`),
+    -- 목록 키셋 페이징 (공지 우선, 최신순) 정렬과 같은 순서
+    INDEX `idx_freeboard_list` (`freeboard_deleted`, `freeboard_notify`, `freeboard_writetime`, `freeboard_uid`),
     CONSTRAINT `fk_freeboard_account` FOREIGN KEY (`account_uid`) REFERENCES `account` (`account_uid`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
@@ -113,8 +115,10 @@ CREATE TABLE IF NOT EXISTS `freeboard_attach` (
     `file_path` VARCHAR(500) NOT NULL,
     `file_size` BIGINT NULL,
     `upload_time` DATETIME NULL,
+    `download_count` INT NOT NULL DEFAULT 0,
     PRIMARY KEY (`attach_uid`),
     INDEX `idx_attach_freeboard` (`freeboard_uid`),
+    INDEX `idx_attach_file_path` (`file_path`),
     CONSTRAINT `fk_attach_freeboard` FOREIGN KEY (`freeboard_uid`) REFERENCES `freeboard` (`freeboard_uid`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
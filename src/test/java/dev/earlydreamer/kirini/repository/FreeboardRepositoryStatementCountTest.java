@@ -0,0 +1,154 @@
+package dev.earlydreamer.kirini.repository;
+
+import dev.earlydreamer.kirini.KiriniSpringApplication;
+import dev.earlydreamer.kirini.domain.Freeboard;
+import dev.earlydreamer.kirini.domain.Freeboard.DeleteStatus;
+import dev.earlydreamer.kirini.domain.Freeboard.NotifyType;
+import dev.earlydreamer.kirini.domain.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 자유게시판 목록/상세 조회가 게시글 수와 관계없이 정해진 수의 SQL만 실행하는지 확인
+ * (Hibernate 통계의 prepared statement 수로 판단, 쿼리 캐시를 쓰지 않는 메서드 기준)
+ */
+@SpringBootTest(classes = KiriniSpringApplication.class)
+@ActiveProfiles("test")
+class FreeboardRepositoryStatementCountTest {
+
+    private static final int POSTS = 25;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private FreeboardRepository freeboardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Freeboard> posts;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("delete from freeboard_comment");
+        freeboardRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            authors.add(userRepository.save(User.createForSignUp("author" + i + "@kirini.test", "pw", "author" + i)));
+        }
+
+        posts = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < POSTS; i++) {
+            Freeboard post = new Freeboard();
+            post.setTitle("title" + i);
+            post.setContents("contents" + i);
+            post.setReadCount(0);
+            post.setRecommendCount(0);
+            post.setWriteTime(base.plusMinutes(i));
+            post.setNotifyType(i == 0 ? NotifyType.NOTIFICATION : NotifyType.COMMON);
+            post.setDeleteStatus(DeleteStatus.MAINTAINED);
+            post.setUser(authors.get(i % authors.size()));
+            posts.add(freeboardRepository.save(post));
+        }
+        // 게시글 i에는 댓글 i % 4개
+        for (int i = 0; i < POSTS; i++) {
+            for (int c = 0; c < i % 4; c++) {
+                jdbcTemplate.update("insert into freeboard_comment (freeboard_comment_contents, freeboard_comment_writetime, "
+                                + "freeboard_uid, account_uid) values (?, ?, ?, ?)",
+                        "comment" + c, base, posts.get(i).getId(), authors.get(c % authors.size()).getId());
+            }
+        }
+
+        // 2차 캐시에 남은 작성자 때문에 실행 횟수가 달라지지 않도록 비우고 통계 초기화
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("페이지 목록은 페이지마다 요약 1회 + COUNT 1회 (마지막 페이지는 COUNT 생략)")
+    void pagedListRunsTwoStatementsPerPage() {
+        for (int page = 0; page * PAGE_SIZE < POSTS; page++) {
+            statistics.clear();
+            Page<FreeboardSummary> result = freeboardRepository.findSummaries(DeleteStatus.MAINTAINED,
+                    PageRequest.of(page, PAGE_SIZE));
+
+            // 덜 찬 마지막 페이지는 Spring Data가 전체 건수를 계산할 수 있어 COUNT를 실행하지 않음
+            int expected = result.getNumberOfElements() < PAGE_SIZE ? 1 : 2;
+            assertEquals(expected, statistics.getPrepareStatementCount(), "page " + page);
+            assertEquals(POSTS, result.getTotalElements());
+        }
+    }
+
+    @Test
+    @DisplayName("요약에 작성자와 댓글 수가 함께 담김")
+    void summaryCarriesAuthorAndCommentCount() {
+        List<FreeboardSummary> rows = freeboardRepository.findSummariesFirst(DeleteStatus.MAINTAINED,
+                PageRequest.of(0, POSTS));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(POSTS, rows.size());
+        // 공지가 먼저, 나머지는 최신순
+        assertEquals(posts.get(0).getId(), rows.get(0).id());
+        assertEquals(posts.get(POSTS - 1).getId(), rows.get(1).id());
+        for (FreeboardSummary row : rows) {
+            int index = Integer.parseInt(row.title().substring("title".length()));
+            assertEquals("author" + (index % 3), row.authorName());
+            assertEquals(index % 4, row.commentCount());
+        }
+    }
+
+    @Test
+    @DisplayName("키셋 다음 페이지도 1회")
+    void keysetNextPageRunsOneStatement() {
+        Freeboard cursor = posts.get(POSTS - 1);
+        List<FreeboardSummary> rows = freeboardRepository.findSummariesAfter(DeleteStatus.MAINTAINED,
+                cursor.getNotifyType(), cursor.getWriteTime(), cursor.getId(),
+                List.of(NotifyType.NOTIFICATION, NotifyType.COMMON), PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(PAGE_SIZE, rows.size());
+    }
+
+    @Test
+    @DisplayName("상세 조회는 작성자까지 1회")
+    void detailFetchesAuthorInSameStatement() {
+        Freeboard post = posts.get(5);
+        String authorName = transactionTemplate.execute(status -> freeboardRepository
+                .findByIdAndDeleteStatus(post.getId(), DeleteStatus.MAINTAINED)
+                .map(found -> found.getUser().getName())
+                .orElseThrow());
+
+        assertEquals("author2", authorName);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
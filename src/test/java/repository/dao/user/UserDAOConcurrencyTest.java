@@ -0,0 +1,115 @@
+package repository.dao.user;
+
+import dto.user.UserDTO;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.db.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DAO 인스턴스 하나를 여러 스레드가 동시에 사용해도 커넥션/결과셋이 섞이지 않는지 확인
+ * (DBConnectionUtil 대신 H2 커넥션 풀로 만든 JdbcTemplate 주입)
+ */
+class UserDAOConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int USERS_PER_THREAD = 20;
+
+    private JdbcConnectionPool pool;
+    private UserDAO userDAO;
+
+    @BeforeEach
+    void setup() throws Exception {
+        // 매핑마다 남기는 INFO 로그(DB 로그 핸들러 포함)는 이 테스트와 무관하므로 끔
+        Logger.getLogger(UserDAO.class.getName()).setLevel(Level.WARNING);
+
+        pool = JdbcConnectionPool.create(
+                "jdbc:h2:mem:userdao_concurrency;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER", "sa", "");
+        pool.setMaxConnections(16); // 스레드보다 커넥션이 적어 커넥션을 기다리며 교차 실행되도록
+
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS user");
+            stmt.execute("CREATE TABLE user ("
+                    + "user_uid INT AUTO_INCREMENT PRIMARY KEY, "
+                    + "user_id VARCHAR(50) NULL, "
+                    + "user_password VARCHAR(255) NOT NULL, "
+                    + "user_name VARCHAR(50) NOT NULL, "
+                    + "user_email VARCHAR(100) NOT NULL, "
+                    + "user_introduce TEXT NULL, "
+                    + "user_authority VARCHAR(20) NOT NULL, "
+                    + "user_point INT NOT NULL DEFAULT 0, "
+                    + "user_status VARCHAR(20) NOT NULL DEFAULT 'active', "
+                    + "last_login_date DATETIME NULL)");
+        }
+
+        userDAO = new UserDAO(new JdbcTemplate(pool::getConnection));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.dispose();
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 DAO 하나로 등록/조회해도 서로의 결과가 섞이지 않음")
+    void sharedInstanceUnderConcurrency() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int threadNo = t;
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < USERS_PER_THREAD; i++) {
+                    String email = "t" + threadNo + "_" + i + "@kirini.test";
+                    String nickname = "nick_" + threadNo + "_" + i;
+
+                    UserDTO user = new UserDTO();
+                    user.setEmail(email);
+                    user.setNickname(nickname);
+                    user.setPassword("pw" + threadNo);
+                    assertTrue(userDAO.registerUser(user));
+
+                    // 방금 등록한 행을 다시 읽었을 때 다른 스레드의 결과가 오면 안 됨
+                    UserDTO found = userDAO.getUserByEmail(email);
+                    assertNotNull(found, email);
+                    assertEquals(email, found.getEmail());
+                    assertEquals(nickname, found.getNickname());
+                    assertTrue(userDAO.isNicknameExists(nickname));
+                }
+                return USERS_PER_THREAD;
+            }));
+        }
+
+        start.countDown();
+        int registered = 0;
+        for (Future<Integer> result : results) {
+            registered += result.get(60, TimeUnit.SECONDS); // 스레드 안의 단언 실패는 여기서 다시 던져짐
+        }
+        executor.shutdown();
+
+        assertEquals(THREADS * USERS_PER_THREAD, registered);
+        assertEquals(THREADS * USERS_PER_THREAD, userDAO.getAllUsers().size());
+        // 커넥션이 모두 반납되었는지 (예전처럼 필드를 덮어쓰면 닫히지 않은 커넥션이 남음)
+        assertEquals(0, pool.getActiveConnections());
+    }
+}
@@ -0,0 +1,133 @@
+package util.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 복합 조회기의 동시 실행, 조회별 제한 시간, 부분 실패 처리 확인 (DB 대신 sleep으로 조회 시간을 흉내 냄)
+ */
+class AggregateLoaderTest {
+
+    private static <T> T slow(long millis, T value) throws InterruptedException {
+        Thread.sleep(millis);
+        return value;
+    }
+
+    @Test
+    @DisplayName("하위 조회 시간의 합이 아니라 가장 느린 조회 시간만큼 걸림")
+    void latencyIsSlowestSubquery() throws Exception {
+        long start;
+        try (AggregateLoader loader = AggregateLoader.open("test.parallel")) {
+            start = System.nanoTime(); // 설정 로딩(클래스 초기화) 시간은 제외
+            AggregateLoader.Part<String> info = loader.forkRequired("info", () -> slow(200, "keyboard"));
+            AggregateLoader.Part<List<String>> comments = loader.fork("comments", () -> slow(200, List.of("a", "b")));
+            AggregateLoader.Part<Integer> score = loader.fork("score", () -> slow(200, 5));
+            loader.join();
+
+            assertEquals("keyboard", info.get());
+            assertEquals(2, comments.get().size());
+            assertEquals(5, score.get());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis < 500, "동시에 실행되지 않음: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("선택 조회가 실패하거나 시간을 넘기면 기본값으로 대체하고 나머지 결과는 그대로 사용")
+    void optionalFailuresFallBack() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (AggregateLoader loader = AggregateLoader.open("test.partial")) {
+            AggregateLoader.Part<String> info = loader.forkRequired("info", () -> "keyboard");
+            AggregateLoader.Part<List<String>> tags = loader.fork("tags", 100, () -> {
+                try {
+                    return slow(5_000, List.of("tag"));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+            });
+            AggregateLoader.Part<Boolean> scrap = loader.fork("scrap", () -> {
+                throw new SQLException("scrap 조회 실패");
+            });
+            loader.join();
+
+            assertEquals("keyboard", info.get());
+            assertEquals(AggregateLoader.State.TIMED_OUT, tags.state());
+            assertEquals(List.of(), tags.orElse(List.of()));
+            assertEquals(AggregateLoader.State.FAILED, scrap.state());
+            assertEquals(false, scrap.orElse(false));
+        }
+        // 시간을 넘긴 조회는 인터럽트로 취소됨
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("필수 조회가 실패하면 나머지를 취소하고 join이 바로 예외를 던짐")
+    void requiredFailureCancelsSiblings() {
+        long start = System.nanoTime();
+        AggregateLoader.Part<?>[] parts = new AggregateLoader.Part<?>[2];
+        try (AggregateLoader loader = AggregateLoader.open("test.required")) {
+            parts[0] = loader.forkRequired("info", () -> {
+                throw new IllegalStateException("info 조회 실패");
+            });
+            parts[1] = loader.fork("comments", 5_000, () -> slow(5_000, List.of()));
+            SQLException e = assertThrows(SQLException.class, loader::join);
+            assertTrue(e.getMessage().contains("info"));
+        }
+        assertEquals(AggregateLoader.State.FAILED, parts[0].state());
+        assertEquals(AggregateLoader.State.CANCELLED, parts[1].state());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+    }
+
+    @Test
+    @DisplayName("필수 조회가 제한 시간을 넘기면 SQLTimeoutException")
+    void requiredTimeout() {
+        try (AggregateLoader loader = AggregateLoader.open("test.timeout")) {
+            loader.forkRequired("info", 100, () -> slow(5_000, "keyboard"));
+            assertThrows(SQLTimeoutException.class, loader::join);
+        }
+    }
+
+    @Test
+    @DisplayName("취소된 조회가 빌린 커넥션은 풀에 돌아가지 않고 폐기됨")
+    void cancelledPartDiscardsConnection() throws Exception {
+        ConnectionPool pool = new ConnectionPool("jdbc:h2:mem:aggregate_cancel;DB_CLOSE_DELAY=-1", "sa", "");
+        CountDownLatch released = new CountDownLatch(1);
+        try {
+            try (AggregateLoader loader = AggregateLoader.open("test.cancel")) {
+                loader.forkRequired("info", () -> "keyboard");
+                loader.fork("comments", 100, () -> {
+                    try (Connection conn = pool.getConnection()) {
+                        // 소켓 읽기 대신 커넥션을 쥔 채 블로킹
+                        return slow(5_000, List.of());
+                    } finally {
+                        released.countDown();
+                    }
+                });
+                loader.join();
+            }
+            assertTrue(released.await(1, TimeUnit.SECONDS));
+
+            assertEquals(1L, pool.getStats().get("cancelledDiscarded"));
+            assertEquals(0, pool.getIdleCount());
+            // 정상 반환된 커넥션은 그대로 재사용
+            try (Connection conn = pool.getConnection()) {
+                assertTrue(conn.isValid(1));
+            }
+            assertEquals(1, pool.getIdleCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package util.web;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 첨부파일 구간 요청(Range / If-Range) 응답 확인
+ */
+class AttachmentSenderTest {
+
+    private static final int LENGTH = 1000;
+    // HTTP 날짜와 같은 초 단위 시각 (ETag/If-Range 비교가 흔들리지 않도록 고정)
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+    private static final DateTimeFormatter HTTP_DATE =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+    @TempDir
+    Path dir;
+
+    private File file;
+    private byte[] content;
+
+    @BeforeEach
+    void createFile() throws Exception {
+        content = new byte[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            content[i] = (byte) i;
+        }
+        file = Files.write(dir.resolve("attach.bin"), content).toFile();
+        file.setLastModified(LAST_MODIFIED);
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, AttachmentSender.Result expected) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertEquals(expected, AttachmentSender.send(request, response, file, "첨부.bin", null));
+        return response;
+    }
+
+    private static MockHttpServletRequest range(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/freeboard.do/download");
+        request.addHeader("Range", value);
+        return request;
+    }
+
+    private String etag() {
+        return "\"" + Long.toHexString(LENGTH) + "-" + Long.toHexString(LAST_MODIFIED) + "\"";
+    }
+
+    @Test
+    @DisplayName("시작-끝 구간 요청은 206과 해당 구간만 전송")
+    void validRange() throws Exception {
+        MockHttpServletResponse response = send(range("bytes=100-199"), AttachmentSender.Result.PARTIAL);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 100-199/" + LENGTH, response.getHeader("Content-Range"));
+        assertEquals(100, response.getContentLengthLong());
+        assertArrayEquals(Arrays.copyOfRange(content, 100, 200), response.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("끝이 파일 길이를 넘으면 마지막 바이트까지로 줄이고, 0부터면 새 다운로드로 셈")
+    void openEndedRange() throws Exception {
+        MockHttpServletResponse response = send(range("bytes=0-5000"), AttachmentSender.Result.PARTIAL_FROM_START);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 0-999/" + LENGTH, response.getHeader("Content-Range"));
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("마지막 N 바이트 요청(bytes=-N)은 파일 끝 구간 전송")
+    void suffixRange() throws Exception {
+        MockHttpServletResponse response = send(range("bytes=-300"), AttachmentSender.Result.PARTIAL);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 700-999/" + LENGTH, response.getHeader("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(content, 700, LENGTH), response.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("파일 길이를 벗어난 구간은 416과 Content-Range: bytes */길이")
+    void unsatisfiableRange() throws Exception {
+        MockHttpServletResponse response = send(range("bytes=1000-"), AttachmentSender.Result.NOT_SATISFIABLE);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */" + LENGTH, response.getHeader("Content-Range"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("여러 구간 요청은 무시하고 200으로 전체 전송")
+    void multiRangeFallsBackToFull() throws Exception {
+        MockHttpServletResponse response = send(range("bytes=0-9,20-29"), AttachmentSender.Result.FULL);
+
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader("Content-Range"));
+        assertEquals(LENGTH, response.getContentLengthLong());
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("If-Range ETag가 현재 파일과 같으면 구간 전송")
+    void matchingIfRange() throws Exception {
+        MockHttpServletRequest request = range("bytes=100-199");
+        request.addHeader("If-Range", etag());
+
+        MockHttpServletResponse response = send(request, AttachmentSender.Result.PARTIAL);
+        assertEquals(206, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("If-Range ETag가 바뀌었으면 200으로 전체 전송")
+    void staleIfRangeEtag() throws Exception {
+        MockHttpServletRequest request = range("bytes=100-199");
+        request.addHeader("If-Range", "\"3e8-0\"");
+
+        MockHttpServletResponse response = send(request, AttachmentSender.Result.FULL);
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader("Content-Range"));
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("If-Range 날짜가 수정 시각과 다르면 200으로 전체 전송")
+    void staleIfRangeDate() throws Exception {
+        MockHttpServletRequest request = range("bytes=100-199");
+        request.addHeader("If-Range", HTTP_DATE.format(Instant.ofEpochMilli(LAST_MODIFIED - 60_000)));
+
+        MockHttpServletResponse response = send(request, AttachmentSender.Result.FULL);
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("If-Range 날짜가 수정 시각과 같으면 구간 전송")
+    void matchingIfRangeDate() throws Exception {
+        MockHttpServletRequest request = range("bytes=100-199");
+        request.addHeader("If-Range", HTTP_DATE.format(Instant.ofEpochMilli(LAST_MODIFIED)));
+
+        MockHttpServletResponse response = send(request, AttachmentSender.Result.PARTIAL);
+        assertEquals(206, response.getStatus());
+    }
+}
@@ -0,0 +1,129 @@
+package util.web;
+
+import java.util.function.BiConsumer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 경로 트라이 매칭: 고정 경로/경로 변수/정규식 세그먼트 우선순위와 되돌아가기(backtracking)
+ */
+class RequestRouterTest {
+
+    // 처리한 경로 이름과 경로 변수를 응답 헤더로 남기는 핸들러
+    private static BiConsumer<HttpServletRequest, HttpServletResponse> named(String name, String... variables) {
+        return (req, res) -> {
+            res.setHeader("route", name);
+            for (String variable : variables) {
+                res.setHeader(variable, RequestRouter.pathVariable(req, variable));
+            }
+        };
+    }
+
+    private static MockHttpServletRequest request(String pathInfo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test.do" + pathInfo);
+        request.setServletPath("/test.do");
+        request.setPathInfo(pathInfo);
+        return request;
+    }
+
+    private static MockHttpServletResponse handle(RequestRouter router, String pathInfo) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(router.handle(request(pathInfo), response), "처리되지 않음: " + pathInfo);
+        return response;
+    }
+
+    @Test
+    @DisplayName("점이 들어간 경로는 정규식이 아닌 고정 경로로 등록")
+    void dotIsLiteral() throws Exception {
+        RequestRouter router = new RequestRouter("test.dot")
+                .get("/file.json", named("json"));
+
+        assertEquals("json", handle(router, "/file.json").getHeader("route"));
+        // 정규식이었다면 "."이 아무 문자와 맞았을 경로
+        assertNull(router.getHandler("GET", "/fileXjson"));
+    }
+
+    @Test
+    @DisplayName("이스케이프한 정규식 문자는 고정 문자로 매칭")
+    void escapedMetacharactersAreLiteral() throws Exception {
+        RequestRouter router = new RequestRouter("test.escape")
+                .get("/a\\+b", named("plus"))
+                .get("/v\\(1\\)/{id:long}", named("paren", "id"));
+
+        assertEquals("plus", handle(router, "/a+b").getHeader("route"));
+        assertNull(router.getHandler("GET", "/aab"));
+        MockHttpServletResponse response = handle(router, "/v(1)/7");
+        assertEquals("paren", response.getHeader("route"));
+        assertEquals("7", response.getHeader("id"));
+    }
+
+    @Test
+    @DisplayName("이스케이프되지 않은 정규식 문자가 있으면 정규식 세그먼트")
+    void regexSegment() throws Exception {
+        RequestRouter router = new RequestRouter("test.regex")
+                .get("/files/([a-z]+)\\.json", named("regex"))
+                .get("/digits/\\d+", named("digits"));
+
+        assertEquals("regex", handle(router, "/files/report.json").getHeader("route"));
+        assertNull(router.getHandler("GET", "/files/report.xml"));
+        assertEquals("digits", handle(router, "/digits/123").getHeader("route"));
+        assertNull(router.getHandler("GET", "/digits/abc"));
+    }
+
+    @Test
+    @DisplayName("고정 경로와 경로 변수가 겹치면 고정 경로 우선, 나머지는 변수로")
+    void overlappingStaticAndParam() throws Exception {
+        RequestRouter router = new RequestRouter("test.overlap")
+                .get("/posts/{id:long}", named("byId", "id"))
+                .get("/posts/latest", named("latest"))
+                .get("/posts/{slug}", named("bySlug", "slug"));
+
+        assertEquals("latest", handle(router, "/posts/latest").getHeader("route"));
+        MockHttpServletResponse byId = handle(router, "/posts/42");
+        assertEquals("byId", byId.getHeader("route"));
+        assertEquals("42", byId.getHeader("id"));
+        MockHttpServletResponse bySlug = handle(router, "/posts/hello");
+        assertEquals("bySlug", bySlug.getHeader("route"));
+        assertEquals("hello", bySlug.getHeader("slug"));
+    }
+
+    @Test
+    @DisplayName("고정 경로 쪽 뒤 세그먼트가 맞지 않으면 경로 변수로 되돌아가 다시 시도")
+    void backtracksFromStaticToParam() throws Exception {
+        RequestRouter router = new RequestRouter("test.backtrack.static")
+                .get("/users/me/settings", named("mySettings"))
+                .get("/users/{name}/posts", named("userPosts", "name"));
+
+        assertEquals("mySettings", handle(router, "/users/me/settings").getHeader("route"));
+        MockHttpServletResponse response = handle(router, "/users/me/posts");
+        assertEquals("userPosts", response.getHeader("route"));
+        assertEquals("me", response.getHeader("name"));
+    }
+
+    @Test
+    @DisplayName("숫자 변수 쪽이 막히면 문자열 변수, 그다음 정규식 세그먼트로 되돌아감")
+    void backtracksFromParamToRegex() throws Exception {
+        RequestRouter router = new RequestRouter("test.backtrack.regex")
+                .get("/items/{id:long}/detail", named("detail", "id"))
+                .get("/items/{code}/history", named("history", "code"))
+                .get("/items/([0-9]+)/raw", named("raw"));
+
+        assertEquals("detail", handle(router, "/items/5/detail").getHeader("route"));
+        MockHttpServletResponse history = handle(router, "/items/5/history");
+        assertEquals("history", history.getHeader("route"));
+        assertEquals("5", history.getHeader("code"));
+        assertEquals("raw", handle(router, "/items/5/raw").getHeader("route"));
+        assertFalse(router.handle(request("/items/x/raw"), new MockHttpServletResponse()));
+    }
+}
@@ -0,0 +1,142 @@
+package util.web;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 응답 캐시의 세대 무효화, 비로그인 전용 캐시, ETag 재검증(304) 확인
+ * 캐시는 정적이므로 테스트마다 다른 경로를 키로 씀
+ */
+class ResponseCacheTest {
+
+    private static final byte[] BODY = "{\"status\":\"success\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static MockHttpServletRequest request(String pathInfo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/guide.do" + pathInfo);
+        request.setServletPath("/guide.do");
+        request.setPathInfo(pathInfo);
+        return request;
+    }
+
+    private static String store(String pathInfo, long generation) throws Exception {
+        MockHttpServletRequest request = request(pathInfo);
+        String key = ResponseCache.key(ResponseCache.Board.GUIDE, request);
+        ResponseCache.store(key, ResponseCache.Board.GUIDE, generation, BODY, request, new MockHttpServletResponse());
+        return key;
+    }
+
+    @Test
+    @DisplayName("저장한 응답은 다음 요청에서 같은 바이트로 전송")
+    void servesStoredResponse() throws Exception {
+        String key = store("/stored", ResponseCache.generation(ResponseCache.Board.GUIDE));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(ResponseCache.serve(key, request("/stored"), response));
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+        assertNotNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("파라미터 순서가 달라도 같은 키")
+    void keyIgnoresParameterOrder() {
+        MockHttpServletRequest first = request("/list");
+        first.addParameter("page", "2");
+        first.addParameter("sort", "new");
+        MockHttpServletRequest second = request("/list");
+        second.addParameter("sort", "new");
+        second.addParameter("page", "2");
+
+        assertEquals(ResponseCache.key(ResponseCache.Board.GUIDE, first), ResponseCache.key(ResponseCache.Board.GUIDE, second));
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 캐시된 응답을 쓰지 않음")
+    void invalidateDropsEntries() throws Exception {
+        String key = store("/invalidated", ResponseCache.generation(ResponseCache.Board.GUIDE));
+        ResponseCache.invalidate(ResponseCache.Board.GUIDE);
+
+        assertFalse(ResponseCache.serve(key, request("/invalidated"), new MockHttpServletResponse()));
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 이전 세대로 만든 응답은 전송만 하고 저장하지 않음")
+    void stalePutIsDropped() throws Exception {
+        // 조회 시작 전에 세대 번호를 읽고, 응답을 만드는 사이에 글이 수정된 경우
+        long generation = ResponseCache.generation(ResponseCache.Board.GUIDE);
+        ResponseCache.invalidate(ResponseCache.Board.GUIDE);
+
+        MockHttpServletRequest request = request("/race");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String key = ResponseCache.key(ResponseCache.Board.GUIDE, request);
+        ResponseCache.store(key, ResponseCache.Board.GUIDE, generation, BODY, request, response);
+
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+        assertFalse(ResponseCache.serve(key, request("/race"), new MockHttpServletResponse()));
+    }
+
+    @Test
+    @DisplayName("비로그인 GET 요청만 캐시 대상")
+    void onlyAnonymousGetIsCacheable() {
+        assertTrue(ResponseCache.isCacheable(request("/view")));
+
+        MockHttpServletRequest loggedIn = request("/view");
+        loggedIn.getSession().setAttribute("user", new Object());
+        assertFalse(ResponseCache.isCacheable(loggedIn));
+
+        MockHttpServletRequest anonymousSession = request("/view");
+        anonymousSession.getSession();
+        assertTrue(ResponseCache.isCacheable(anonymousSession));
+
+        MockHttpServletRequest post = request("/view");
+        post.setMethod("POST");
+        assertFalse(ResponseCache.isCacheable(post));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 약한 ETag와 같으면 본문 없이 304")
+    void matchingWeakEtagIsNotModified() throws Exception {
+        String key = store("/etag", ResponseCache.generation(ResponseCache.Board.GUIDE));
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertTrue(ResponseCache.serve(key, request("/etag"), first));
+        String etag = first.getHeader("ETag");
+        assertTrue(etag.startsWith("W/"));
+
+        MockHttpServletRequest revalidate = request("/etag");
+        revalidate.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(ResponseCache.serve(key, revalidate, response));
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+
+        // 프록시가 W/ 를 떼고 보낸 경우도 약한 비교로 일치
+        MockHttpServletRequest stripped = request("/etag");
+        stripped.addHeader("If-None-Match", etag.substring(2));
+        MockHttpServletResponse strippedResponse = new MockHttpServletResponse();
+        assertTrue(ResponseCache.serve(key, stripped, strippedResponse));
+        assertEquals(304, strippedResponse.getStatus());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 다르면 200과 본문")
+    void differentEtagSendsBody() throws Exception {
+        String key = store("/etag-miss", ResponseCache.generation(ResponseCache.Board.GUIDE));
+
+        MockHttpServletRequest request = request("/etag-miss");
+        request.addHeader("If-None-Match", "W/\"0-0\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(ResponseCache.serve(key, request, response));
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+}
@@ -0,0 +1,78 @@
+package util.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * W-TinyLFU 캐시의 크기 제한, 빈도 기반 진입(admission) 확인
+ */
+class TinyLfuCacheTest {
+
+    private static long stat(TinyLfuCache<?, ?> cache, String name) {
+        return ((Number) cache.getStats().get(name)).longValue();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 넘친 만큼 축출 또는 진입 거절")
+    void evictsDownToMaxSize() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("key-" + i, i);
+            assertTrue(cache.size() <= 100);
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(900, stat(cache, "evictions") + stat(cache, "rejections"));
+    }
+
+    @Test
+    @DisplayName("한 번만 쓰인 키가 대량으로 들어와도 자주 읽은 항목은 남음")
+    void frequentEntriesSurviveScan() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100);
+        for (int i = 0; i < 50; i++) {
+            cache.put("hot-" + i, i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.get("hot-" + i);
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put("scan-" + i, i);
+        }
+
+        int kept = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get("hot-" + i) != null) {
+                kept++;
+            }
+        }
+        // LRU였다면 모두 밀려났을 상황 (sketch 충돌로 한두 개는 밀려날 수 있음)
+        assertTrue(kept >= 45, "남은 자주 읽은 항목: " + kept);
+        assertTrue(stat(cache, "rejections") > 0);
+    }
+
+    @Test
+    @DisplayName("가득 찬 뒤에도 희생자보다 자주 요청된 새 키는 진입")
+    void admitsKeyMoreFrequentThanVictim() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100);
+        for (int i = 0; i < 100; i++) {
+            cache.put("key-" + i, i);
+        }
+        // 캐시에 없는 동안의 조회도 빈도에 반영됨
+        for (int i = 0; i < 3; i++) {
+            cache.get("popular");
+        }
+        cache.put("popular", 1);
+        cache.put("one-off", 2); // 윈도우에서 밀어내 메인 영역 진입 여부를 판정하게 함
+
+        assertNotNull(cache.get("popular"));
+        assertEquals(1, stat(cache, "evictions"));
+        assertEquals(100, cache.size());
+    }
+}
@@ -0,0 +1,177 @@
+package util.web;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import util.db.ReactionEngine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 가상 스레드 요청 처리 중 캐리어 스레드 고정(pinning) 감지
+ * - JFR jdk.VirtualThreadPinned 이벤트를 임계값 0으로 기록하고, 스택에 애플리케이션 코드가 있는 이벤트만 골라 냄
+ * - 요청 경로(RequestRouter, 응답 캐시, ReactionEngine 캐시 잠금)를 가상 스레드 1000개로 동시에 실행해도 고정이 없어야 함
+ */
+class VirtualThreadPinningTest {
+
+    private static final int THREADS = 1000;
+    private static final String[] APP_PACKAGES = {
+            "util.", "presentation.", "business.", "repository.", "dev.earlydreamer." };
+
+    /**
+     * 클래스 초기화 중 블로킹 (JDK 24 이후에도 캐리어를 고정하는 경우, 감지기 자체 확인용)
+     */
+    private static final class BlockingInit {
+        static final long VALUE = sleep(50);
+    }
+
+    private static long sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return millis;
+    }
+
+    @Test
+    @DisplayName("클래스 초기화 안에서 블로킹하면 고정 이벤트가 잡힘")
+    void detectsPinningInClassInitializer() throws Exception {
+        List<RecordedEvent> pinned = recordPinned(() -> {
+            Thread thread = Thread.ofVirtual().start(() -> assertEquals(50, BlockingInit.VALUE));
+            thread.join();
+        });
+
+        assertFalse(pinned.isEmpty(), "감지기가 고정 이벤트를 기록하지 못함");
+    }
+
+    @Test
+    @DisplayName("가상 스레드 1000개로 요청 경로를 동시에 실행해도 캐리어가 고정되지 않음")
+    void requestPathDoesNotPin() throws Exception {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", "success");
+        RequestRouter router = new RequestRouter("pinning");
+        router.getJson("/list", (req, res) -> {
+            // JDBC 대기 대신 잠깐 블로킹 + 추천 캐시 조각 잠금
+            sleep(2);
+            ReactionEngine.getStats();
+            return result;
+        }).getJsonCached("/view", ResponseCache.Board.FREEBOARD, (req, res) -> {
+            sleep(2);
+            return result;
+        });
+
+        // 클래스 초기화를 기다리는 동안의 고정은 요청 처리와 무관하므로 기록 전에 한 번씩 실행해 둠
+        MockHttpServletRequest warmup = request("/view");
+        warmup.setParameter("id", "0");
+        router.handle(request("/list"), new MockHttpServletResponse());
+        router.handle(warmup, new MockHttpServletResponse());
+
+        List<RecordedEvent> pinned = recordPinned(() -> {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> handled = new ArrayList<>(THREADS);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < THREADS; i++) {
+                    MockHttpServletRequest request = request(i % 2 == 0 ? "/list" : "/view");
+                    request.setParameter("id", String.valueOf(i % 10));
+                    handled.add(executor.submit(() -> {
+                        start.await();
+                        return router.handle(request, new MockHttpServletResponse());
+                    }));
+                }
+                start.countDown();
+                for (Future<Boolean> future : handled) {
+                    assertTrue(future.get(60, TimeUnit.SECONDS));
+                }
+            }
+        });
+
+        assertTrue(pinned.isEmpty(), () -> "캐리어 고정 발생:\n" + describe(pinned));
+    }
+
+    private static MockHttpServletRequest request(String pathInfo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/freeboard.do" + pathInfo);
+        request.setServletPath("/freeboard.do");
+        request.setPathInfo(pathInfo);
+        return request;
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        void run() throws Exception;
+    }
+
+    /**
+     * 작업을 실행하는 동안 JFR로 고정 이벤트를 기록하고, 애플리케이션 코드에서 발생한 것만 반환
+     */
+    private static List<RecordedEvent> recordPinned(Workload workload) throws Exception {
+        Path file = Files.createTempFile("pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            workload.run();
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> pinned = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (inApplicationCode(event)) {
+                    pinned.add(event);
+                }
+            }
+            return pinned;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean inApplicationCode(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            for (String prefix : APP_PACKAGES) {
+                if (type.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String describe(List<RecordedEvent> events) {
+        StringBuilder sb = new StringBuilder();
+        for (RecordedEvent event : events) {
+            sb.append(event.getDuration().toMillis()).append("ms\n");
+            for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                sb.append("    at ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber()).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+}